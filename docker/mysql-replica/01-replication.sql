@@ -0,0 +1,11 @@
+-- 복제 DB 컨테이너를 처음 만들 때 한 번 실행된다. (docker-entrypoint-initdb.d)
+-- 원본의 GTID 위치를 기준으로 따라가므로(SOURCE_AUTO_POSITION) 바이너리 로그 파일/위치를 맞출 필요가 없다.
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = 'admin',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+
+START REPLICA;
@@ -0,0 +1,28 @@
+package com.sw.remittanceservice.account.entity;
+
+import com.sw.remittanceservice.account.entity.enums.AccountStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+
+@State(Scope.Thread)
+public class AccountBenchmark {
+
+    private Account account;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        account = new Account(1L, "account-no", 1_000_000L, AccountStatus.ACTIVE, now, now);
+    }
+
+    @Benchmark
+    public Account withdraw() {
+        return account.withdraw(1_000L);
+    }
+
+    @Benchmark
+    public Account deposit() {
+        return account.deposit(1_000L);
+    }
+}
@@ -0,0 +1,54 @@
+package com.sw.remittanceservice.account.entity;
+
+import com.sw.remittanceservice.account.dto.TransactionResponse;
+import com.sw.remittanceservice.account.dto.TransferResponse;
+import com.sw.remittanceservice.account.entity.enums.AccountStatus;
+import com.sw.remittanceservice.account.entity.enums.TransactionType;
+import com.sw.remittanceservice.account.usecase.policy.dto.FeeResponse;
+import com.sw.remittanceservice.account.usecase.policy.dto.enums.FeePolicyType;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+
+@State(Scope.Thread)
+public class TransactionBenchmark {
+
+    private Account account;
+
+    private FeeResponse feeResponse;
+
+    private Transaction transaction;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        account = new Account(1L, "account-no", 1_000_000L, AccountStatus.ACTIVE, now, now);
+        feeResponse = new FeeResponse(FeePolicyType.DEFAULT, 0.01, 100L, now);
+        transaction = Transaction.createTransferWithdraw(account, "target-account-no", "tx-request-id", 10_000L, feeResponse);
+    }
+
+    @Benchmark
+    public Transaction create() {
+        return Transaction.create(account, "tx-request-id", 10_000L, TransactionType.DEPOSIT);
+    }
+
+    @Benchmark
+    public Transaction createTransferWithdraw() {
+        return Transaction.createTransferWithdraw(account, "target-account-no", "tx-request-id", 10_000L, feeResponse);
+    }
+
+    @Benchmark
+    public Transaction createTransferDeposit() {
+        return Transaction.createTransferDeposit(account, "source-account-no", "tx-request-id", 10_000L);
+    }
+
+    @Benchmark
+    public TransactionResponse transactionResponseFrom() {
+        return TransactionResponse.from(transaction);
+    }
+
+    @Benchmark
+    public TransferResponse transferResponseFrom() {
+        return TransferResponse.from(transaction);
+    }
+}
@@ -0,0 +1,42 @@
+package com.sw.remittanceservice.account.usecase;
+
+import com.sw.remittanceservice.account.dto.TransactionResponse;
+import com.sw.remittanceservice.account.dto.TransferResponse;
+import com.sw.remittanceservice.support.UseCaseFixture;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 저장소/Redis를 메모리 대역으로 바꾼 상태의 유스케이스 처리량과 할당량을 측정한다.
+ * 트랜잭션 프록시, DB, 네트워크 비용은 포함하지 않는다.
+ * instrumented=true/false 결과 차이가 구간 타이머/결과 카운터의 비용이다.
+ */
+@State(Scope.Thread)
+public class UseCaseBenchmark {
+
+    @Param({"true", "false"})
+    private boolean instrumented;
+
+    private UseCaseFixture fixture;
+
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        fixture = new UseCaseFixture(instrumented);
+    }
+
+    @Benchmark
+    public TransactionResponse deposit() {
+        return fixture.depositUseCase.execute(UseCaseFixture.TO_ACCOUNT_NO, 1_000L, "deposit-" + sequence++);
+    }
+
+    @Benchmark
+    public TransactionResponse withdraw() {
+        return fixture.withdrawUseCase.execute(UseCaseFixture.FROM_ACCOUNT_NO, 1_000L, "withdraw-" + sequence++);
+    }
+
+    @Benchmark
+    public TransferResponse transfer() {
+        return fixture.transferUseCase.execute(UseCaseFixture.FROM_ACCOUNT_NO, UseCaseFixture.TO_ACCOUNT_NO, 1_000L, "transfer-" + sequence++);
+    }
+}
@@ -0,0 +1,89 @@
+package com.sw.remittanceservice.account.usecase.policy;
+
+import com.sw.remittanceservice.account.usecase.policy.dto.FeeRequest;
+import com.sw.remittanceservice.account.usecase.policy.dto.FeeResponse;
+import com.sw.remittanceservice.account.usecase.policy.dto.enums.FeePolicyType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * calculate: 기동 시 만든 분 단위 일정표 조회 + 정수 수수료 계산
+ * calculateWithRules: DB 수수료 규칙(전체 규칙 금액 구간/시간대 + 계좌별 규칙)을 먼저 본 뒤 계산
+ * calculatorScan: 계산기 목록을 매번 순회하며 applicable 로 고르는 이전 방식 (비교 기준)
+ */
+@State(Scope.Thread)
+public class FeeCalculatorFinderBenchmark {
+
+    private FeeCalculatorFinder feeCalculatorFinder;
+
+    private FeeCalculatorFinder ruleFeeCalculatorFinder;
+
+    private List<FeeCalculator> calculators;
+
+    private FeeRequest request;
+
+    private FeeRequest accountRequest;
+
+    @Setup
+    public void setUp() {
+        calculators = List.of(new NightFeeCalculator(), new DefaultFeeCalculator());
+        feeCalculatorFinder = new FeeCalculatorFinder(calculators, storeOf(FeeRuleSet.EMPTY), Clock.systemDefaultZone());
+        request = new FeeRequest(10_000L);
+
+        List<FeeRuleSet.Rule> rules = new ArrayList<>();
+        long[] tierBounds = {0L, 100_000L, 1_000_000L, 10_000_000L, Long.MAX_VALUE};
+        for (int i = 0; i < tierBounds.length - 1; i++) {
+            rules.add(new FeeRuleSet.Rule(i + 1, i, null, tierBounds[i], tierBounds[i + 1], null, true, false, 10_000L - i * 1_000L));
+        }
+        rules.add(new FeeRuleSet.Rule(100, 0, null, 0L, Long.MAX_VALUE, new FeeWindow(LocalTime.of(23, 0), LocalTime.of(6, 0)), true, true, 20_000L));
+        for (long accountId = 1; accountId <= 1_000; accountId++) {
+            rules.add(new FeeRuleSet.Rule(1_000 + accountId, 0, accountId, 1_000_000L, Long.MAX_VALUE, null, true, true, 5_000L));
+        }
+        ruleFeeCalculatorFinder = new FeeCalculatorFinder(
+                calculators,
+                storeOf(FeeRuleSet.compile(rules, List.of(LocalDate.of(2026, 1, 1)))),
+                Clock.systemDefaultZone()
+        );
+        accountRequest = new FeeRequest(10_000L, 500L);
+    }
+
+    @Benchmark
+    public FeeResponse calculate() {
+        return feeCalculatorFinder.calculate(request);
+    }
+
+    @Benchmark
+    public FeeResponse calculateWithRules() {
+        return ruleFeeCalculatorFinder.calculate(accountRequest);
+    }
+
+    @Benchmark
+    public FeeResponse calculatorScan() {
+        FeeCalculator defaultCalc = null;
+        for (FeeCalculator c : calculators) {
+            if (c.type() == FeePolicyType.DEFAULT) {
+                defaultCalc = c;
+                continue;
+            }
+            if (c.applicable(request)) {
+                return c.calculate(request);
+            }
+        }
+        return defaultCalc.calculate(request);
+    }
+
+    private static FeeRuleStore storeOf(FeeRuleSet ruleSet) {
+        return new FeeRuleStore(null, null, new FeeRuleProperties(), new SimpleMeterRegistry()) {
+            @Override
+            public FeeRuleSet current() {
+                return ruleSet;
+            }
+        };
+    }
+}
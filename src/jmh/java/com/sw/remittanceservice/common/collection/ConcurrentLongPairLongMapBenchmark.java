@@ -0,0 +1,131 @@
+package com.sw.remittanceservice.common.collection;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * accountNo → accountId 캐시의 메모리 사용량을 박싱 맵(ConcurrentHashMap&lt;String, Long&gt;)과 비교한다.
+ * build는 맵을 채운 전후의 힙 사용량 차이를 엔트리당 바이트(retainedBytesPerEntry)로 기록하고,
+ * get은 채워진 맵의 조회 처리량을 측정한다.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g", "-XX:+UseSerialGC"})
+public class ConcurrentLongPairLongMapBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int entryCount;
+
+    @Param({"PRIMITIVE", "BOXED"})
+    public String mapType;
+
+    private String[] accountNos;
+
+    private long[] hiBits;
+
+    private long[] loBits;
+
+    private ConcurrentLongPairLongMap primitiveMap;
+
+    private Map<String, Long> boxedMap;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long retainedBytesPerEntry;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        accountNos = new String[entryCount];
+        hiBits = new long[entryCount];
+        loBits = new long[entryCount];
+        for (int i = 0; i < entryCount; i++) {
+            UUID uuid = new UUID(random.nextLong(), random.nextLong());
+            accountNos[i] = uuid.toString();
+            hiBits[i] = uuid.getMostSignificantBits();
+            loBits[i] = uuid.getLeastSignificantBits();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void fill() {
+        primitiveMap = null;
+        boxedMap = null;
+        if ("PRIMITIVE".equals(mapType)) {
+            primitiveMap = buildPrimitive();
+        } else {
+            boxedMap = buildBoxed();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public Object build(Footprint footprint) {
+        primitiveMap = null;
+        boxedMap = null;
+
+        long before = usedHeap();
+        Object map = "PRIMITIVE".equals(mapType) ? buildPrimitive() : buildBoxed();
+        long after = usedHeap();
+
+        footprint.retainedBytesPerEntry = (after - before) / entryCount;
+        return map;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long get(LookupCursor cursor) {
+        int index = cursor.next(entryCount);
+        if (primitiveMap != null) {
+            return primitiveMap.get(hiBits[index], loBits[index]);
+        }
+        return boxedMap.get(accountNos[index]);
+    }
+
+    @State(Scope.Thread)
+    public static class LookupCursor {
+        private int index;
+
+        int next(int bound) {
+            index = (index + 7919) % bound;
+            return index;
+        }
+    }
+
+    private ConcurrentLongPairLongMap buildPrimitive() {
+        ConcurrentLongPairLongMap map = new ConcurrentLongPairLongMap(64, entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            map.putIfAbsent(hiBits[i], loBits[i], i + 1000L);
+        }
+        return map;
+    }
+
+    /**
+     * 운영에서는 요청마다 별도의 계좌번호 문자열이 키로 들어오므로 키 문자열도 새로 만들어 함께 측정한다.
+     */
+    private Map<String, Long> buildBoxed() {
+        Map<String, Long> map = new ConcurrentHashMap<>();
+        for (int i = 0; i < entryCount; i++) {
+            map.putIfAbsent(new String(accountNos[i].toCharArray()), i + 1000L);
+        }
+        return map;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,25 @@
+package com.sw.remittanceservice.common.id;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 아이디 발급 비용. 스레드가 많을수록 같은 AtomicLong에 CAS가 몰리는 정도를 본다.
+ * (insert 배치로 줄어드는 DB 왕복 비용과 비교하면 무시할 수준이어야 한다)
+ */
+@State(Scope.Benchmark)
+public class TsidGeneratorBenchmark {
+
+    private final TsidGenerator generator = TsidGenerator.forNode(0);
+
+    @Benchmark
+    @Threads(1)
+    public long nextId() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long nextIdContended() {
+        return generator.nextId();
+    }
+}
@@ -0,0 +1,53 @@
+package com.sw.remittanceservice.support;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 저장소 대역. Spring Data 저장소 인터페이스를 동적 프록시로 구현하고,
+ * 벤치마크가 사용하는 메서드만 메서드 이름 기준으로 등록해 메모리에서 응답한다.
+ */
+public final class InMemoryRepository<T> {
+
+    private final Class<T> repositoryType;
+
+    private final Map<String, Function<Object[], Object>> handlers = new HashMap<>();
+
+    private InMemoryRepository(Class<T> repositoryType) {
+        this.repositoryType = repositoryType;
+    }
+
+    public static <T> InMemoryRepository<T> of(Class<T> repositoryType) {
+        return new InMemoryRepository<>(repositoryType);
+    }
+
+    public InMemoryRepository<T> on(String methodName, Function<Object[], Object> handler) {
+        handlers.put(methodName, handler);
+        return this;
+    }
+
+    public T build() {
+        Map<String, Function<Object[], Object>> registered = Map.copyOf(handlers);
+        Object proxy = Proxy.newProxyInstance(
+                repositoryType.getClassLoader(),
+                new Class<?>[]{repositoryType},
+                (self, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "hashCode" -> System.identityHashCode(self);
+                            case "equals" -> self == args[0];
+                            default -> repositoryType.getSimpleName() + "(in-memory)";
+                        };
+                    }
+                    Function<Object[], Object> handler = registered.get(method.getName());
+                    if (handler == null) {
+                        throw new UnsupportedOperationException(repositoryType.getSimpleName() + "." + method.getName());
+                    }
+                    return handler.apply(args);
+                }
+        );
+        return repositoryType.cast(proxy);
+    }
+}
@@ -0,0 +1,217 @@
+package com.sw.remittanceservice.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.entity.AccountDailyLimitUsage;
+import com.sw.remittanceservice.account.entity.AccountLimitSetting;
+import com.sw.remittanceservice.account.entity.enums.AccountStatus;
+import com.sw.remittanceservice.account.repository.*;
+import com.sw.remittanceservice.account.service.AccountBalanceSlotService;
+import com.sw.remittanceservice.account.service.AccountIdResolver;
+import com.sw.remittanceservice.account.service.AccountIdResolverProperties;
+import com.sw.remittanceservice.account.service.AccountLimitSettingCache;
+import com.sw.remittanceservice.account.service.AccountLimitSettingCacheProperties;
+import com.sw.remittanceservice.account.service.DailyLimitCounter;
+import com.sw.remittanceservice.account.service.DailyLimitProperties;
+import com.sw.remittanceservice.account.service.OutboxEventRecorder;
+import com.sw.remittanceservice.account.service.TransactionCountProperties;
+import com.sw.remittanceservice.account.service.TransactionCounter;
+import com.sw.remittanceservice.account.usecase.BalanceUpdateProperties;
+import com.sw.remittanceservice.account.usecase.DepositUseCase;
+import com.sw.remittanceservice.account.usecase.TransferUseCase;
+import com.sw.remittanceservice.account.usecase.WithdrawUseCase;
+import com.sw.remittanceservice.account.usecase.idempotency.IdempotencyProperties;
+import com.sw.remittanceservice.account.usecase.idempotency.RedisIdempotencyStore;
+import com.sw.remittanceservice.account.usecase.idempotency.TransactionIdempotencyManager;
+import com.sw.remittanceservice.account.usecase.metrics.UseCaseMetrics;
+import com.sw.remittanceservice.account.usecase.metrics.UseCaseMetricsProperties;
+import com.sw.remittanceservice.account.usecase.policy.DefaultFeeCalculator;
+import com.sw.remittanceservice.account.usecase.policy.FeeCalculatorFinder;
+import com.sw.remittanceservice.account.usecase.policy.FeeRuleProperties;
+import com.sw.remittanceservice.account.usecase.policy.FeeRuleStore;
+import com.sw.remittanceservice.account.usecase.policy.NightFeeCalculator;
+import com.sw.remittanceservice.common.id.TsidGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 저장소와 Redis를 메모리 대역으로 바꾼 유스케이스 묶음.
+ * DB/네트워크 비용을 뺀 JVM 내부 처리 비용만 측정하기 위해 사용한다.
+ */
+public final class UseCaseFixture {
+
+    public static final String FROM_ACCOUNT_NO = "5f0c6f3e-1b7a-4c2d-9e8f-0a1b2c3d4e5f";
+    public static final String TO_ACCOUNT_NO = "8d2e4a6c-3f5b-4e7d-a1c9-b0d2e4f6a8c0";
+
+    private static final long INITIAL_BALANCE = Long.MAX_VALUE / 4;
+    private static final long UNLIMITED = Long.MAX_VALUE / 4;
+
+    private final Map<String, Account> accountsByNo = new HashMap<>();
+    private final Map<Long, Account> accountsById = new HashMap<>();
+    private final Map<Long, AccountDailyLimitUsage> usages = new HashMap<>();
+
+    public final DepositUseCase depositUseCase;
+    public final WithdrawUseCase withdrawUseCase;
+    public final TransferUseCase transferUseCase;
+
+    public UseCaseFixture() {
+        this(true);
+    }
+
+    /**
+     * @param instrumented 유스케이스 구간 타이머/결과 카운터 기록 여부. 계측 비용 비교에 사용한다.
+     */
+    public UseCaseFixture(boolean instrumented) {
+        LocalDateTime now = LocalDateTime.now();
+        store(new Account(1L, FROM_ACCOUNT_NO, INITIAL_BALANCE, AccountStatus.ACTIVE, now, now));
+        store(new Account(2L, TO_ACCOUNT_NO, INITIAL_BALANCE, AccountStatus.ACTIVE, now, now));
+
+        AccountRepository accountRepository = InMemoryRepository.of(AccountRepository.class)
+                .on("findLockedByAccountId", args -> Optional.ofNullable(accountsById.get((Long) args[0])))
+                .on("findSharedLockedByAccountId", args -> Optional.ofNullable(accountsById.get((Long) args[0])))
+                .on("findIdByAccountNo", args -> Optional.ofNullable(accountsByNo.get((String) args[0])).map(Account::getAccountId))
+                .on("findAllBalanceShardedAccountNo", args -> List.of())
+                .on("save", args -> store((Account) args[0]))
+                .build();
+
+        TransactionRepository transactionRepository = InMemoryRepository.of(TransactionRepository.class)
+                .on("save", args -> args[0])
+                .on("saveAll", args -> args[0])
+                .on("findByAccountIdAndTransactionRequestId", args -> Optional.empty())
+                .build();
+
+        AccountLimitSettingRepository accountLimitSettingRepository = InMemoryRepository.of(AccountLimitSettingRepository.class)
+                .on("findByAccountId", args -> Optional.of(new AccountLimitSetting(null, (Long) args[0], UNLIMITED, UNLIMITED, now, now)))
+                .build();
+
+        AccountDailyLimitUsageRepository accountDailyLimitUsageRepository = InMemoryRepository.of(AccountDailyLimitUsageRepository.class)
+                .on("findLockedByAccountIdAndLimitDate", args -> Optional.ofNullable(usages.get((Long) args[0])))
+                .on("save", args -> {
+                    AccountDailyLimitUsage usage = (AccountDailyLimitUsage) args[0];
+                    usages.put(usage.getAccountId(), usage);
+                    return usage;
+                })
+                .build();
+
+        AccountBalanceSlotRepository accountBalanceSlotRepository = InMemoryRepository.of(AccountBalanceSlotRepository.class)
+                .build();
+
+        TransactionRedisRepository transactionRedisRepository = new TransactionRedisRepository(null, new SimpleMeterRegistry()) {
+            @Override
+            public String claimOrRead(String transactionRequestId, Duration pendingTtl) {
+                return null;
+            }
+
+            @Override
+            public void saveResponse(String transactionRequestId, String response, Duration responseTtl) {
+            }
+        };
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        TransactionIdempotencyManager transactionIdempotencyManager = new TransactionIdempotencyManager(
+                new RedisIdempotencyStore(transactionRedisRepository),
+                objectMapper,
+                new IdempotencyProperties()
+        );
+
+        AccountIdResolver accountIdResolver = new AccountIdResolver(accountRepository, new AccountIdResolverProperties());
+        AccountBalanceSlotService accountBalanceSlotService = new AccountBalanceSlotService(accountRepository, accountBalanceSlotRepository, accountIdResolver);
+        AccountLimitSettingCache accountLimitSettingCache = new AccountLimitSettingCache(
+                accountLimitSettingRepository,
+                null,
+                new AccountLimitSettingCacheProperties(),
+                new SimpleMeterRegistry()
+        );
+        BalanceUpdateProperties balanceUpdateProperties = new BalanceUpdateProperties();
+        DailyLimitProperties dailyLimitProperties = new DailyLimitProperties();
+        TsidGenerator tsidGenerator = TsidGenerator.forNode(0);
+        DailyLimitCounter dailyLimitCounter = new DailyLimitCounter(null, accountDailyLimitUsageRepository, dailyLimitProperties, tsidGenerator);
+        OutboxEventRepository outboxEventRepository = InMemoryRepository.of(OutboxEventRepository.class)
+                .on("save", args -> args[0])
+                .on("saveAll", args -> args[0])
+                .build();
+        OutboxEventRecorder outboxEventRecorder = new OutboxEventRecorder(outboxEventRepository, objectMapper);
+        AccountTransactionCountRepository accountTransactionCountRepository = InMemoryRepository.of(AccountTransactionCountRepository.class)
+                .on("addToStripe", args -> 1)
+                .build();
+        TransactionCounter transactionCounter = new TransactionCounter(accountTransactionCountRepository, new TransactionCountProperties(), tsidGenerator);
+        // DB 수수료 규칙은 적재하지 않아 코드로 정의한 계산기만 쓴다.
+        FeeRuleStore feeRuleStore = new FeeRuleStore(
+                InMemoryRepository.of(FeeRuleRepository.class).build(),
+                InMemoryRepository.of(FeeHolidayRepository.class).build(),
+                new FeeRuleProperties(),
+                new SimpleMeterRegistry()
+        );
+        FeeCalculatorFinder feeCalculatorFinder = new FeeCalculatorFinder(
+                List.of(new NightFeeCalculator(), new DefaultFeeCalculator()),
+                feeRuleStore,
+                Clock.systemDefaultZone()
+        );
+        UseCaseMetricsProperties useCaseMetricsProperties = new UseCaseMetricsProperties();
+        useCaseMetricsProperties.setEnabled(instrumented);
+        UseCaseMetrics useCaseMetrics = new UseCaseMetrics(new SimpleMeterRegistry(), useCaseMetricsProperties);
+
+        this.depositUseCase = new DepositUseCase(
+                accountRepository,
+                accountIdResolver,
+                transactionRepository,
+                transactionIdempotencyManager,
+                accountBalanceSlotService,
+                balanceUpdateProperties,
+                outboxEventRecorder,
+                transactionCounter,
+                useCaseMetrics,
+                TransactionOperations.withoutTransaction()
+        );
+        this.withdrawUseCase = new WithdrawUseCase(
+                accountRepository,
+                accountIdResolver,
+                transactionRepository,
+                transactionIdempotencyManager,
+                accountLimitSettingCache,
+                accountDailyLimitUsageRepository,
+                accountBalanceSlotService,
+                balanceUpdateProperties,
+                dailyLimitCounter,
+                dailyLimitProperties,
+                outboxEventRecorder,
+                tsidGenerator,
+                transactionCounter,
+                useCaseMetrics,
+                TransactionOperations.withoutTransaction()
+        );
+        this.transferUseCase = new TransferUseCase(
+                accountRepository,
+                accountIdResolver,
+                transactionRepository,
+                transactionIdempotencyManager,
+                accountLimitSettingCache,
+                accountDailyLimitUsageRepository,
+                feeCalculatorFinder,
+                accountBalanceSlotService,
+                dailyLimitCounter,
+                dailyLimitProperties,
+                outboxEventRecorder,
+                transactionCounter,
+                useCaseMetrics,
+                TransactionOperations.withoutTransaction()
+        );
+
+        usages.put(1L, AccountDailyLimitUsage.init(1L, LocalDate.now()));
+        usages.put(2L, AccountDailyLimitUsage.init(2L, LocalDate.now()));
+    }
+
+    private Account store(Account account) {
+        accountsByNo.put(account.getAccountNo(), account);
+        accountsById.put(account.getAccountId(), account);
+        return account;
+    }
+}
@@ -2,8 +2,14 @@ package com.sw.remittanceservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+@EnableScheduling
+@ConfigurationPropertiesScan
+// R2DBC는 조회 전용이다. R2DBC 트랜잭션 매니저가 먼저 등록되면 JPA 트랜잭션 매니저가 생성되지 않으므로 제외한다.
+@SpringBootApplication(exclude = R2dbcTransactionManagerAutoConfiguration.class)
 public class RemittanceServiceApplication {
 
     public static void main(String[] args) {
@@ -1,13 +1,20 @@
 package com.sw.remittanceservice.account.controller;
 
 import com.sw.remittanceservice.account.dto.*;
+import com.sw.remittanceservice.account.service.AccountBalanceSlotService;
 import com.sw.remittanceservice.account.service.AccountService;
-import com.sw.remittanceservice.account.usecase.DepositUseCase;
+import com.sw.remittanceservice.account.service.ReactiveAccountService;
+import com.sw.remittanceservice.account.usecase.DepositBatcher;
+import com.sw.remittanceservice.account.usecase.TransferBatchUseCase;
 import com.sw.remittanceservice.account.usecase.TransferUseCase;
 import com.sw.remittanceservice.account.usecase.WithdrawUseCase;
+import com.sw.remittanceservice.account.usecase.dto.TransferCommand;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -15,16 +22,22 @@ public class AccountController {
 
     private final AccountService accountService;
 
-    private final DepositUseCase depositUseCase;
+    private final ReactiveAccountService reactiveAccountService;
+
+    private final AccountBalanceSlotService accountBalanceSlotService;
+
+    private final DepositBatcher depositBatcher;
 
     private final TransferUseCase transferUseCase;
 
+    private final TransferBatchUseCase transferBatchUseCase;
+
     private final WithdrawUseCase withdrawUseCase;
 
 
     @GetMapping("/api/accounts/{accountNo}")
-    public ResponseEntity<AccountResponse> read(@PathVariable String accountNo) {
-        return ResponseEntity.ok(accountService.read(accountNo));
+    public Mono<ResponseEntity<AccountResponse>> read(@PathVariable String accountNo) {
+        return reactiveAccountService.read(accountNo).map(ResponseEntity::ok);
     }
 
     @PostMapping("/api/accounts")
@@ -39,6 +52,24 @@ public class AccountController {
     }
 
 
+    @PutMapping("/api/accounts/{accountNo}/limits")
+    public ResponseEntity<Void> changeLimit(
+            @PathVariable String accountNo,
+            @RequestBody AccountLimitRequest request
+    ) {
+        accountService.changeLimit(accountNo, request.dailyWithdrawLimit(), request.dailyTransferLimit());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/api/accounts/{accountNo}/balance-slots")
+    public ResponseEntity<Void> shardBalance(
+            @PathVariable String accountNo,
+            @RequestBody BalanceSlotRequest request
+    ) {
+        accountBalanceSlotService.enable(accountNo, request.slotCount());
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/api/accounts/{accountNo}/withdraw")
     public ResponseEntity<TransactionResponse> withdraw(
             @PathVariable String accountNo,
@@ -52,7 +83,7 @@ public class AccountController {
             @PathVariable String accountNo,
             @RequestBody AccountAmountRequest request)
     {
-        return ResponseEntity.ok(depositUseCase.execute(accountNo, request.amount(), request.transactionRequestId()));
+        return ResponseEntity.ok(depositBatcher.execute(accountNo, request.amount(), request.transactionRequestId()));
     }
 
 
@@ -61,4 +92,12 @@ public class AccountController {
         return ResponseEntity.ok(transferUseCase.execute(request.fromAccountNo(), request.toAccountNo(), request.amount(), request.transactionRequestId()));
     }
 
+    @PostMapping("/api/transfers/batch")
+    public ResponseEntity<TransferBatchResponse> transferBatch(@RequestBody TransferBatchRequest request) {
+        List<TransferCommand> commands = request.transfers() == null ? null : request.transfers().stream()
+                .map(transfer -> transfer == null ? null : new TransferCommand(transfer.fromAccountNo(), transfer.toAccountNo(), transfer.amount(), transfer.transactionRequestId()))
+                .toList();
+        return ResponseEntity.ok(TransferBatchResponse.of(transferBatchUseCase.execute(commands)));
+    }
+
 }
@@ -0,0 +1,38 @@
+package com.sw.remittanceservice.account.controller;
+
+import com.sw.remittanceservice.account.dto.StatementProgressResponse;
+import com.sw.remittanceservice.account.dto.StatementRunStartResponse;
+import com.sw.remittanceservice.account.service.StatementJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+
+@RestController
+@RequiredArgsConstructor
+public class StatementController {
+
+    private final StatementJob statementJob;
+
+    /**
+     * 해당 월 명세서 생성(또는 중단된 곳부터 재개)을 시작하고 실행 아이디를 202로 응답한다. 작업이 끝날 때까지 기다리지 않는다.
+     */
+    @PostMapping("/api/statements/{statementMonth}")
+    public ResponseEntity<StatementRunStartResponse> run(@PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth statementMonth) {
+        String runId = statementJob.start(statementMonth);
+        return ResponseEntity.accepted().body(new StatementRunStartResponse(statementMonth.toString(), runId));
+    }
+
+    /**
+     * 파티션 체크포인트 기준 진행 상황
+     */
+    @GetMapping("/api/statements/{statementMonth}")
+    public ResponseEntity<StatementProgressResponse> progress(@PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth statementMonth) {
+        return ResponseEntity.ok(statementJob.progress(statementMonth));
+    }
+}
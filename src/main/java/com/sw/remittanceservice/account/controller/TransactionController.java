@@ -1,26 +1,82 @@
 package com.sw.remittanceservice.account.controller;
 
 import com.sw.remittanceservice.account.dto.TransactionPageResponse;
-import com.sw.remittanceservice.account.service.TransactionService;
+import com.sw.remittanceservice.account.dto.TransactionScrollResponse;
+import com.sw.remittanceservice.account.service.ReactiveTransactionService;
+import com.sw.remittanceservice.account.service.TransactionExportFormat;
+import com.sw.remittanceservice.account.service.TransactionExportService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.util.concurrent.Callable;
+
+/**
+ * 조회 요청은 R2DBC 기반 논블로킹 경로로 처리한다. Mono를 반환하면 DB 응답을 기다리는 동안 요청 스레드를 반납한다.
+ */
 @RequiredArgsConstructor
 @RestController
 public class TransactionController {
 
-    private final TransactionService accountTransactionService;
+    private final ReactiveTransactionService reactiveTransactionService;
+
+    private final TransactionExportService transactionExportService;
 
     @GetMapping("/api/accounts/{accountNo}/transactions")
-    public ResponseEntity<TransactionPageResponse> readAll(
+    public Mono<ResponseEntity<TransactionPageResponse>> readAll(
             @PathVariable String accountNo,
             @RequestParam("page") Long page,
             @RequestParam("pageSize") Long pageSize
     ) {
-        return ResponseEntity.ok(accountTransactionService.readAll(accountNo, page, pageSize));
+        return reactiveTransactionService.readAll(accountNo, page, pageSize).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/api/accounts/{accountNo}/transactions/infinite-scroll")
+    public Mono<ResponseEntity<TransactionScrollResponse>> readAllInfiniteScroll(
+            @PathVariable String accountNo,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam("pageSize") Long pageSize
+    ) {
+        return reactiveTransactionService.readAllInfiniteScroll(accountNo, cursor, pageSize).map(ResponseEntity::ok);
+    }
+
+    /**
+     * 기간 내 거래 전체를 파일로 내려준다. 건수 제한이 없으므로 JDBC 커서로 읽은 행을 바로 응답 본문에 흘려 쓴다.
+     */
+    @GetMapping("/api/accounts/{accountNo}/transactions/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String accountNo,
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            NativeWebRequest webRequest
+    ) {
+        TransactionExportFormat exportFormat = TransactionExportFormat.from(format);
+        TransactionExportService.Export export = transactionExportService.prepare(accountNo, from, to, exportFormat);
+        // 응답 본문이 실행되지 못하고 요청이 끝나도(시간 초과, 연결 끊김, 실행 거부) 내보내기 자리를 반납한다.
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(export, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                export.release();
+            }
+        });
+
+        String filename = "transactions-" + from + "-" + to + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, exportFormat.getContentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(export::writeTo);
     }
 }
@@ -0,0 +1,4 @@
+package com.sw.remittanceservice.account.dto;
+
+public record AccountLimitRequest(Long dailyWithdrawLimit, Long dailyTransferLimit) {
+}
@@ -10,9 +10,13 @@ public record AccountResponse(
         Long dailyTransferLimit
 ) {
     public static AccountResponse from(Account entity, Long dailyWithdrawLimit, Long dailyTransferLimit) {
+        return from(entity, entity.getBalance(), dailyWithdrawLimit, dailyTransferLimit);
+    }
+
+    public static AccountResponse from(Account entity, Long balance, Long dailyWithdrawLimit, Long dailyTransferLimit) {
         return new AccountResponse(
                 entity.getAccountNo(),
-                entity.getBalance(),
+                balance,
                 entity.getAccountStatus().name(),
                 dailyWithdrawLimit,
                 dailyTransferLimit
@@ -0,0 +1,4 @@
+package com.sw.remittanceservice.account.dto;
+
+public record BalanceSlotRequest(Integer slotCount) {
+}
@@ -0,0 +1,15 @@
+package com.sw.remittanceservice.account.dto;
+
+/**
+ * 계좌 하나의 행 락 대기 요약. 대기 시간 단위는 밀리초이며 백분위는 히스토그램 구간 상한이다.
+ * totalWaitMillis 는 최대 overestimateMillis 만큼 과대 추정돼 있을 수 있다.
+ */
+public record LockContentionEntry(
+        Long accountId,
+        long acquisitions,
+        double totalWaitMillis,
+        double overestimateMillis,
+        double p50WaitMillis,
+        double p99WaitMillis
+) {
+}
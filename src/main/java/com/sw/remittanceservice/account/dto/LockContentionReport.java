@@ -0,0 +1,10 @@
+package com.sw.remittanceservice.account.dto;
+
+import java.util.List;
+
+public record LockContentionReport(
+        long windowSeconds,
+        List<LockContentionEntry> account,
+        List<LockContentionEntry> dailyLimit
+) {
+}
@@ -0,0 +1,28 @@
+package com.sw.remittanceservice.account.dto;
+
+import com.sw.remittanceservice.account.entity.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 싱크로 전달되는 아웃박스 이벤트. eventId는 중복 발행 시 수신 측에서 중복 제거에 사용한다.
+ */
+public record OutboxMessage(
+        Long eventId,
+        String eventType,
+        Long accountId,
+        Long transactionId,
+        String payload,
+        LocalDateTime createdAt
+) {
+    public static OutboxMessage from(OutboxEvent entity) {
+        return new OutboxMessage(
+                entity.getOutboxEventId(),
+                entity.getEventType().name(),
+                entity.getAccountId(),
+                entity.getTransactionId(),
+                entity.getPayload(),
+                entity.getCreatedAt()
+        );
+    }
+}
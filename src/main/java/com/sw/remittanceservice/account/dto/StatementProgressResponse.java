@@ -0,0 +1,16 @@
+package com.sw.remittanceservice.account.dto;
+
+import java.util.List;
+
+/**
+ * 월별 명세서 생성 진행 상황. 파티션 체크포인트에서 읽는다. 아직 한 번도 실행하지 않은 월이면 partitionCount 가 0이다.
+ */
+public record StatementProgressResponse(
+        String statementMonth,
+        int partitionCount,
+        int completedPartitionCount,
+        long accountCount,
+        List<String> runningRunIds,
+        boolean completed
+) {
+}
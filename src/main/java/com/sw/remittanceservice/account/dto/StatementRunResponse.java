@@ -0,0 +1,12 @@
+package com.sw.remittanceservice.account.dto;
+
+public record StatementRunResponse(
+        String statementMonth,
+        int partitionCount,
+        int workerCount,
+        long accountCount,
+        long elapsedMillis,
+        long accountsPerSecond,
+        int skippedPartitionCount
+) {
+}
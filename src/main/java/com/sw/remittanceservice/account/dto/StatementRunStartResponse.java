@@ -0,0 +1,10 @@
+package com.sw.remittanceservice.account.dto;
+
+/**
+ * 명세서 생성 시작 응답. 진행 상황은 GET /api/statements/{statementMonth} 로 확인하고, runningRunIds 에 runId 가 있으면 처리 중이다.
+ */
+public record StatementRunStartResponse(
+        String statementMonth,
+        String runId
+) {
+}
@@ -0,0 +1,40 @@
+package com.sw.remittanceservice.account.dto;
+
+import com.sw.remittanceservice.account.entity.Transaction;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 거래내역 무한 스크롤 커서. (created_at, transaction_id)를 클라이언트가 해석하지 않는 문자열로 인코딩한다.
+ */
+public record TransactionCursor(LocalDateTime createdAt, Long transactionId) {
+
+    private static final String DELIMITER = "|";
+
+    public static TransactionCursor from(Transaction entity) {
+        return new TransactionCursor(entity.getCreatedAt(), entity.getTransactionId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + transactionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new TransactionCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, cursor);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.sw.remittanceservice.account.dto;
+
+import com.sw.remittanceservice.account.entity.Transaction;
+
+import java.time.LocalDateTime;
+
+public record TransactionEventPayload(
+        Long transactionId,
+        String transactionRequestId,
+        Long accountId,
+        String transactionType,
+        Long amount,
+        Long fee,
+        Double feeRate,
+        String targetAccountNo,
+        Long balanceAfterTransaction,
+        LocalDateTime createdAt
+) {
+    public static TransactionEventPayload from(Transaction entity) {
+        return new TransactionEventPayload(
+                entity.getTransactionId(),
+                entity.getTransactionRequestId(),
+                entity.getAccountId(),
+                entity.getTransactionType().name(),
+                entity.getAmount(),
+                entity.getFee(),
+                entity.getFeeRate(),
+                entity.getTargetAccountNo(),
+                entity.getBalanceAfterTransaction(),
+                entity.getCreatedAt()
+        );
+    }
+}
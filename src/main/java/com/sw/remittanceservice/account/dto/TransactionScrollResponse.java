@@ -0,0 +1,9 @@
+package com.sw.remittanceservice.account.dto;
+
+import java.util.List;
+
+public record TransactionScrollResponse(List<TransactionResponse> transactions, String nextCursor, boolean hasNext) {
+    public static TransactionScrollResponse of(List<TransactionResponse> transactions, String nextCursor, boolean hasNext) {
+        return new TransactionScrollResponse(transactions, nextCursor, hasNext);
+    }
+}
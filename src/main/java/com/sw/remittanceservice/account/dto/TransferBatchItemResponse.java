@@ -0,0 +1,22 @@
+package com.sw.remittanceservice.account.dto;
+
+import com.sw.remittanceservice.common.exception.ErrorType;
+
+/**
+ * 묶음 이체의 건별 결과. 성공이면 transfer, 실패면 errorType/message가 채워진다.
+ */
+public record TransferBatchItemResponse(
+        String transactionRequestId,
+        boolean success,
+        TransferResponse transfer,
+        String errorType,
+        String message
+) {
+    public static TransferBatchItemResponse success(String transactionRequestId, TransferResponse transfer) {
+        return new TransferBatchItemResponse(transactionRequestId, true, transfer, null, null);
+    }
+
+    public static TransferBatchItemResponse failure(String transactionRequestId, ErrorType errorType) {
+        return new TransferBatchItemResponse(transactionRequestId, false, null, errorType.name(), errorType.getMessage());
+    }
+}
@@ -0,0 +1,6 @@
+package com.sw.remittanceservice.account.dto;
+
+import java.util.List;
+
+public record TransferBatchRequest(List<TransferRequest> transfers) {
+}
@@ -0,0 +1,14 @@
+package com.sw.remittanceservice.account.dto;
+
+import java.util.List;
+
+public record TransferBatchResponse(
+        int successCount,
+        int failureCount,
+        List<TransferBatchItemResponse> results
+) {
+    public static TransferBatchResponse of(List<TransferBatchItemResponse> results) {
+        int successCount = (int) results.stream().filter(TransferBatchItemResponse::success).count();
+        return new TransferBatchResponse(successCount, results.size() - successCount, results);
+    }
+}
@@ -3,6 +3,7 @@ package com.sw.remittanceservice.account.entity;
 import com.sw.remittanceservice.account.entity.enums.AccountStatus;
 import com.sw.remittanceservice.common.exception.CoreException;
 import com.sw.remittanceservice.common.exception.ErrorType;
+import com.sw.remittanceservice.common.id.TsidGenerated;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -17,17 +18,25 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
-@Table(name = "account")
+@Table(
+        name = "account",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_account_no", columnNames = {"account_no"})
+        },
+        indexes = {
+                @Index(name = "idx_account_balance_slot_count", columnList = "balance_slot_count")
+        }
+)
 public class Account {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     @Column(name = "account_id")
     @Comment("계좌 아이디")
     private Long accountId;
 
-    @Column(name = "account_no", nullable = false)
-    @Comment("계좌 번호")
+    @Column(name = "account_no", nullable = false, length = 36)
+    @Comment("계좌 번호 (숫자 14자리, 기존 계좌는 UUID)")
     private String accountNo;
 
     @Column(name = "balance", nullable = false)
@@ -47,6 +56,13 @@ public class Account {
     @Comment("수정일시")
     private LocalDateTime updatedAt;
 
+    @Column(name = "balance_slot_count", nullable = false)
+    @Comment("잔액 분할 슬롯 수 (0이면 단일 잔액)")
+    private int balanceSlotCount;
+
+    public Account(Long accountId, String accountNo, Long balance, AccountStatus accountStatus, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(accountId, accountNo, balance, accountStatus, createdAt, updatedAt, 0);
+    }
 
     public Account withdraw(Long amount) {
 
@@ -58,7 +74,7 @@ public class Account {
             throw new CoreException(ErrorType.INSUFFICIENT_BALANCE, amount);
         }
 
-        return new Account(accountId, accountNo, balance - amount, accountStatus, createdAt, LocalDateTime.now());
+        return new Account(accountId, accountNo, balance - amount, accountStatus, createdAt, LocalDateTime.now(), balanceSlotCount);
     }
 
     public Account deposit(Long amount) {
@@ -67,7 +83,17 @@ public class Account {
             throw new CoreException(ErrorType.INVALID_REQUEST, amount);
         }
 
-        return new Account(accountId, accountNo, balance + amount, accountStatus, createdAt, LocalDateTime.now());
+        return new Account(accountId, accountNo, balance + amount, accountStatus, createdAt, LocalDateTime.now(), balanceSlotCount);
+    }
+
+    /**
+     * 슬롯에 분산된 잔액을 본 잔액으로 합친다.
+     */
+    public Account absorbSlotBalance(long slotBalance) {
+        if (slotBalance == 0) {
+            return this;
+        }
+        return new Account(accountId, accountNo, balance + slotBalance, accountStatus, createdAt, LocalDateTime.now(), balanceSlotCount);
     }
 
 
@@ -82,6 +108,18 @@ public class Account {
         this.updatedAt = LocalDateTime.now();
     }
 
+    public void shardBalance(int balanceSlotCount) {
+        if (balanceSlotCount < this.balanceSlotCount) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, balanceSlotCount);
+        }
+        this.balanceSlotCount = balanceSlotCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isBalanceSharded() {
+        return balanceSlotCount > 0;
+    }
+
     public void validateActive() {
         if (this.accountStatus == AccountStatus.CLOSED) {
             throw new CoreException(ErrorType.ACCOUNT_NOT_ACTIVE, this.accountNo);
@@ -0,0 +1,71 @@
+package com.sw.remittanceservice.account.entity;
+
+import com.sw.remittanceservice.common.id.TsidGenerated;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(
+        name = "account_balance_slot",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_account_slot", columnNames = {"account_id", "slot_no"})
+        }
+)
+public class AccountBalanceSlot {
+
+    @Id
+    @TsidGenerated
+    @Column(name = "account_balance_slot_id")
+    @Comment("잔액 슬롯 아이디")
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    @Comment("계좌 아이디")
+    private Long accountId;
+
+    @Column(name = "slot_no", nullable = false)
+    @Comment("슬롯 번호")
+    private Integer slotNo;
+
+    @Column(name = "balance", nullable = false)
+    @Comment("슬롯 잔액")
+    private Long balance;
+
+    @Column(name = "created_at", nullable = false)
+    @Comment("생성일시")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    @Comment("수정일시")
+    private LocalDateTime updatedAt;
+
+    public static AccountBalanceSlot init(Long accountId, int slotNo) {
+        LocalDateTime now = LocalDateTime.now();
+        return new AccountBalanceSlot(null, accountId, slotNo, 0L, now, now);
+    }
+
+    public void deposit(long amount) {
+        this.balance += amount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 슬롯 잔액을 모두 비우고 비운 금액을 반환한다.
+     */
+    public long drain() {
+        long drained = this.balance;
+        this.balance = 0L;
+        this.updatedAt = LocalDateTime.now();
+        return drained;
+    }
+}
@@ -1,5 +1,6 @@
 package com.sw.remittanceservice.account.entity;
 
+import com.sw.remittanceservice.common.id.TsidGenerated;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -24,7 +25,7 @@ import java.time.LocalDateTime;
 public class AccountDailyLimitUsage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     @Column(name = "account_daily_limit_usage_id")
     @Comment("계좌 한도 아이디")
     private Long id;
@@ -1,5 +1,8 @@
 package com.sw.remittanceservice.account.entity;
 
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import com.sw.remittanceservice.common.id.TsidGenerated;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -18,7 +21,7 @@ import java.time.LocalDateTime;
 public class AccountLimitSetting {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     @Column(name = "account_limit_setting_id")
     @Comment("계좌 한도 아이디")
     private Long accountLimitSettingId;
@@ -56,6 +59,14 @@ public class AccountLimitSetting {
     }
 
     public void change(Long dailyWithdrawLimit, Long dailyTransferLimit) {
+        if (dailyWithdrawLimit == null || dailyWithdrawLimit <= 0) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, dailyWithdrawLimit);
+        }
+
+        if (dailyTransferLimit == null || dailyTransferLimit <= 0) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, dailyTransferLimit);
+        }
+
         this.dailyWithdrawLimit = dailyWithdrawLimit;
         this.dailyTransferLimit = dailyTransferLimit;
         this.updatedAt = LocalDateTime.now();
@@ -0,0 +1,44 @@
+package com.sw.remittanceservice.account.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌번호 본문 발급 시퀀스(단일 행). 노드는 여기서 번호 구간을 통째로 예약한 뒤 메모리에서 하나씩 나눠 준다.
+ */
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(name = "account_no_sequence")
+public class AccountNoSequence {
+
+    @Id
+    @Column(name = "account_no_sequence_id")
+    @Comment("시퀀스 아이디")
+    private Long accountNoSequenceId;
+
+    @Column(name = "next_value", nullable = false)
+    @Comment("다음에 예약할 계좌번호 본문")
+    private Long nextValue;
+
+    @Column(name = "updated_at", nullable = false)
+    @Comment("수정일시")
+    private LocalDateTime updatedAt;
+
+    /**
+     * [nextValue, nextValue + size) 구간을 예약하고 시작값을 반환한다.
+     */
+    public long reserve(int size) {
+        long start = this.nextValue;
+        this.nextValue = start + size;
+        this.updatedAt = LocalDateTime.now();
+        return start;
+    }
+}
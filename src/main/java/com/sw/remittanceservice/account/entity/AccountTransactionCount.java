@@ -0,0 +1,53 @@
+package com.sw.remittanceservice.account.entity;
+
+import com.sw.remittanceservice.common.id.TsidGenerated;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌별 거래 건수 카운터. 핫 계좌의 거래가 한 행에 몰리지 않도록 계좌마다 여러 스트라이프로 나누어 누적하고, 조회할 때 합친다.
+ */
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(
+        name = "account_transaction_count",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_account_stripe", columnNames = {"account_id", "stripe_no"})
+        }
+)
+public class AccountTransactionCount {
+
+    @Id
+    @TsidGenerated
+    @Column(name = "account_transaction_count_id")
+    @Comment("거래 건수 카운터 아이디")
+    private Long accountTransactionCountId;
+
+    @Column(name = "account_id", nullable = false)
+    @Comment("계좌 아이디")
+    private Long accountId;
+
+    @Column(name = "stripe_no", nullable = false)
+    @Comment("스트라이프 번호")
+    private Integer stripeNo;
+
+    @Column(name = "transaction_count", nullable = false)
+    @Comment("누적 거래 건수")
+    private Long transactionCount;
+
+    @Column(name = "updated_at", nullable = false)
+    @Comment("수정일시")
+    private LocalDateTime updatedAt;
+
+    public static AccountTransactionCount init(Long accountId, int stripeNo) {
+        return new AccountTransactionCount(null, accountId, stripeNo, 0L, LocalDateTime.now());
+    }
+}
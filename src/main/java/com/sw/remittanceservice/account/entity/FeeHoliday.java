@@ -0,0 +1,41 @@
+package com.sw.remittanceservice.account.entity;
+
+import com.sw.remittanceservice.common.id.TsidGenerated;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDate;
+
+/**
+ * 수수료 규칙에서 휴일로 보는 날짜. 토/일요일은 등록하지 않아도 휴일로 본다.
+ */
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(
+        name = "fee_holiday",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_holiday_date", columnNames = {"holiday_date"})
+        }
+)
+public class FeeHoliday {
+
+    @Id
+    @TsidGenerated
+    @Column(name = "fee_holiday_id")
+    @Comment("휴일 아이디")
+    private Long feeHolidayId;
+
+    @Column(name = "holiday_date", nullable = false)
+    @Comment("휴일")
+    private LocalDate holidayDate;
+
+    @Column(name = "name")
+    @Comment("휴일 이름")
+    private String name;
+}
@@ -0,0 +1,78 @@
+package com.sw.remittanceservice.account.entity;
+
+import com.sw.remittanceservice.common.id.TsidGenerated;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * DB로 관리하는 수수료 규칙. 조건(계좌, 금액 구간, 시간대, 평일/휴일)이 모두 맞는 규칙 중 우선순위가 가장 높은 규칙의 율을 적용한다.
+ * 비어 있는 조건은 제한이 없다는 뜻이다. 어떤 규칙도 맞지 않으면 코드로 정의한 수수료 계산기(FeeCalculator)를 따른다.
+ */
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(name = "fee_rule")
+public class FeeRule {
+
+    @Id
+    @TsidGenerated
+    @Column(name = "fee_rule_id")
+    @Comment("수수료 규칙 아이디")
+    private Long feeRuleId;
+
+    @Column(name = "priority", nullable = false)
+    @Comment("우선순위 (작을수록 먼저 적용)")
+    private Integer priority;
+
+    @Column(name = "account_id")
+    @Comment("계좌별 규칙이면 출금 계좌 아이디, 전체 규칙이면 null")
+    private Long accountId;
+
+    @Column(name = "min_amount")
+    @Comment("적용 최소 금액 (포함)")
+    private Long minAmount;
+
+    @Column(name = "max_amount")
+    @Comment("적용 최대 금액 (미포함)")
+    private Long maxAmount;
+
+    @Column(name = "window_start")
+    @Comment("적용 시작 시각 (분 단위, 포함)")
+    private LocalTime windowStart;
+
+    @Column(name = "window_end")
+    @Comment("적용 종료 시각 (분 단위, 미포함). 시작보다 이르면 자정을 넘는 구간")
+    private LocalTime windowEnd;
+
+    @Column(name = "apply_on_weekday", nullable = false)
+    @Comment("평일 적용 여부")
+    private Boolean applyOnWeekday;
+
+    @Column(name = "apply_on_holiday", nullable = false)
+    @Comment("주말/공휴일 적용 여부")
+    private Boolean applyOnHoliday;
+
+    @Column(name = "rate_ppm", nullable = false)
+    @Comment("수수료율 (백만분율, 1% = 10000)")
+    private Long ratePpm;
+
+    @Column(name = "enabled", nullable = false)
+    @Comment("사용 여부")
+    private Boolean enabled;
+
+    @Column(name = "created_at", nullable = false)
+    @Comment("생성일시")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    @Comment("수정일시")
+    private LocalDateTime updatedAt;
+}
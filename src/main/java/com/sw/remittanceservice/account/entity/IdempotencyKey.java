@@ -0,0 +1,59 @@
+package com.sw.remittanceservice.account.entity;
+
+import com.sw.remittanceservice.account.entity.enums.IdempotencyStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * transactionRequestId 단위 멱등성 키. 선점(PENDING)과 응답 저장(SUCCESS)을 거래와 같은 DB 트랜잭션에서 기록하므로,
+ * 거래가 커밋되면 응답도 함께 남고 롤백되면 선점도 함께 사라진다.
+ * 행 읽기/쓰기는 IdempotencyKeyRepository(JDBC)가 담당하며, 이 엔티티는 테이블 정의용이다.
+ */
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(
+        name = "idempotency_key",
+        indexes = {
+                @Index(name = "idx_expires_at", columnList = "expires_at")
+        }
+)
+public class IdempotencyKey {
+
+    @Id
+    @Column(name = "transaction_request_id")
+    @Comment("거래 요청 식별자")
+    private String transactionRequestId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Comment("처리 상태 (PENDING: 처리 중, SUCCESS: 완료, FAILED: 처리하지 못해 다시 선점 가능)")
+    private IdempotencyStatus status;
+
+    @Column(name = "claim_token", nullable = false, length = 36)
+    @Comment("마지막으로 선점한 요청의 토큰")
+    private String claimToken;
+
+    @Column(name = "response", length = 2000)
+    @Comment("완료 응답(JSON)")
+    private String response;
+
+    @Column(name = "expires_at", nullable = false)
+    @Comment("만료일시. PENDING 이면 다른 요청이 다시 선점할 수 있는 시각, 그 외에는 삭제 대상이 되는 시각")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    @Comment("생성일시")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    @Comment("수정일시")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,70 @@
+package com.sw.remittanceservice.account.entity;
+
+import com.sw.remittanceservice.account.entity.enums.OutboxEventType;
+import com.sw.remittanceservice.account.entity.enums.TransactionType;
+import com.sw.remittanceservice.common.id.TsidGenerated;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래 이벤트 아웃박스. 거래(Transaction)와 같은 DB 트랜잭션에서 저장되고, 릴레이가 외부로 발행한 뒤 삭제한다.
+ */
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(name = "outbox_event")
+public class OutboxEvent {
+
+    @Id
+    @TsidGenerated
+    @Column(name = "outbox_event_id")
+    @Comment("이벤트 아이디")
+    private Long outboxEventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    @Comment("이벤트 유형")
+    private OutboxEventType eventType;
+
+    @Column(name = "account_id", nullable = false)
+    @Comment("계좌 아이디 (발행 파티션 키)")
+    private Long accountId;
+
+    @Column(name = "transaction_id", nullable = false)
+    @Comment("거래 아이디")
+    private Long transactionId;
+
+    @Column(name = "payload", nullable = false, length = 2000)
+    @Comment("이벤트 본문(JSON)")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    @Comment("생성일시")
+    private LocalDateTime createdAt;
+
+    public static OutboxEvent of(Transaction transaction, String payload) {
+        return new OutboxEvent(
+                null,
+                typeOf(transaction),
+                transaction.getAccountId(),
+                transaction.getTransactionId(),
+                payload,
+                LocalDateTime.now()
+        );
+    }
+
+    private static OutboxEventType typeOf(Transaction transaction) {
+        boolean transfer = transaction.getTargetAccountNo() != null;
+        if (transaction.getTransactionType() == TransactionType.WITHDRAW) {
+            return transfer ? OutboxEventType.TRANSFER_OUT : OutboxEventType.WITHDRAW;
+        }
+        return transfer ? OutboxEventType.TRANSFER_IN : OutboxEventType.DEPOSIT;
+    }
+}
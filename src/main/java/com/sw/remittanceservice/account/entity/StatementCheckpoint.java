@@ -0,0 +1,120 @@
+package com.sw.remittanceservice.account.entity;
+
+import com.sw.remittanceservice.common.id.TsidGenerated;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월별 거래명세서 생성 작업의 파티션별 진행 상태.
+ * 파티션은 account_id 구간 (rangeStart, rangeEnd] 이고, 중단된 작업은 lastAccountId 다음 계좌부터, 명세서 파일은 fileOffset 위치부터 이어 쓴다.
+ * 파티션을 처리하는 실행은 leaseOwner 로 선점하고 처리하는 동안 주기적으로 leaseExpiresAt 을 늘린다. 같은 월을 동시에 실행해도 한 파티션은 한 실행만 처리한다.
+ * 선점과 진행 기록은 version 으로 충돌을 막으므로, 선점이 만료되어 다른 실행이 가져간 파티션은 이전 실행이 더 기록하지 못한다.
+ */
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(
+        name = "statement_checkpoint",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_statement_month_partition", columnNames = {"statement_month", "partition_no"})
+        }
+)
+public class StatementCheckpoint {
+
+    @Id
+    @TsidGenerated
+    @Column(name = "statement_checkpoint_id")
+    @Comment("체크포인트 아이디")
+    private Long statementCheckpointId;
+
+    @Column(name = "statement_month", nullable = false, length = 7)
+    @Comment("명세서 대상 월(yyyy-MM)")
+    private String statementMonth;
+
+    @Column(name = "partition_no", nullable = false)
+    @Comment("파티션 번호")
+    private Integer partitionNo;
+
+    @Column(name = "range_start", nullable = false)
+    @Comment("파티션 시작 계좌 아이디(제외)")
+    private Long rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    @Comment("파티션 끝 계좌 아이디(포함)")
+    private Long rangeEnd;
+
+    @Column(name = "last_account_id", nullable = false)
+    @Comment("마지막으로 명세서를 쓴 계좌 아이디")
+    private Long lastAccountId;
+
+    @Column(name = "account_count", nullable = false)
+    @Comment("명세서를 쓴 계좌 수")
+    private Long accountCount;
+
+    @Column(name = "file_offset", nullable = false)
+    @Comment("체크포인트 시점의 명세서 파일 크기(byte)")
+    private Long fileOffset;
+
+    @Column(name = "completed", nullable = false)
+    @Comment("파티션 완료 여부")
+    private Boolean completed;
+
+    @Column(name = "lease_owner", length = 36)
+    @Comment("파티션을 처리 중인 실행 아이디")
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    @Comment("선점 만료일시. 지나면 다른 실행이 파티션을 가져갈 수 있다")
+    private LocalDateTime leaseExpiresAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    @Comment("버전(선점/진행 기록 충돌 확인)")
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false)
+    @Comment("수정일시")
+    private LocalDateTime updatedAt;
+
+    public static StatementCheckpoint init(String statementMonth, int partitionNo, long rangeStart, long rangeEnd) {
+        return new StatementCheckpoint(null, statementMonth, partitionNo, rangeStart, rangeEnd, rangeStart, 0L, 0L, false, null, null, null, LocalDateTime.now());
+    }
+
+    /**
+     * 끝나지 않았고 다른 실행이 선점하고 있지 않으면 true
+     */
+    public boolean isClaimable(LocalDateTime now) {
+        return !completed && (leaseOwner == null || !leaseExpiresAt.isAfter(now));
+    }
+
+    public void lease(String owner, LocalDateTime expiresAt) {
+        this.leaseOwner = owner;
+        this.leaseExpiresAt = expiresAt;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void release() {
+        lease(null, null);
+    }
+
+    public void advance(long lastAccountId, long accountCount, long fileOffset, LocalDateTime leaseExpiresAt) {
+        this.lastAccountId = lastAccountId;
+        this.accountCount = accountCount;
+        this.fileOffset = fileOffset;
+        this.leaseExpiresAt = leaseExpiresAt;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete(long lastAccountId, long accountCount, long fileOffset) {
+        advance(lastAccountId, accountCount, fileOffset, null);
+        this.leaseOwner = null;
+        this.completed = true;
+    }
+}
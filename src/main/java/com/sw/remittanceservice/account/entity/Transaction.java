@@ -4,6 +4,7 @@ import com.sw.remittanceservice.account.entity.enums.TransactionStatus;
 import com.sw.remittanceservice.account.entity.enums.TransactionType;
 import com.sw.remittanceservice.account.usecase.policy.dto.FeeResponse;
 import com.sw.remittanceservice.account.usecase.policy.dto.enums.FeePolicyType;
+import com.sw.remittanceservice.common.id.TsidGenerated;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -20,12 +21,15 @@ import java.time.LocalDateTime;
 @Table(name = "transaction",
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_account_transaction_request", columnNames = {"account_id", "transaction_request_id"})
+        },
+        indexes = {
+                @Index(name = "idx_account_created_at", columnList = "account_id, created_at, transaction_id")
         }
 )
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     @Column(name = "transaction_id")
     @Comment("거래 아이디")
     private Long transactionId;
@@ -73,8 +77,8 @@ public class Transaction {
     @Comment("상대방 계좌번호")
     private String targetAccountNo;
 
-    @Column(name = "balance_after_transaction", nullable = false)
-    @Comment("거래 후 잔액")
+    @Column(name = "balance_after_transaction")
+    @Comment("거래 후 잔액. 분할 계좌 입금은 다른 슬롯의 동시 입금을 볼 수 없어 null")
     private Long balanceAfterTransaction;
 
     @Column(name = "created_at", nullable = false)
@@ -82,9 +86,13 @@ public class Transaction {
     private LocalDateTime createdAt;
 
     public static Transaction create(Account account, String transactionRequestId, Long amount, TransactionType transactionType) {
+        return create(account.getAccountId(), account.getBalance(), transactionRequestId, amount, transactionType);
+    }
+
+    public static Transaction create(Long accountId, Long balanceAfterTransaction, String transactionRequestId, Long amount, TransactionType transactionType) {
         return new Transaction(
                 null,
-                account.getAccountId(),
+                accountId,
                 transactionRequestId,
                 transactionType,
                 TransactionStatus.SUCCESS,
@@ -94,7 +102,7 @@ public class Transaction {
                 null,
                 null,
                 null,
-                account.getBalance(),
+                balanceAfterTransaction,
                 LocalDateTime.now()
         );
     }
@@ -0,0 +1,7 @@
+package com.sw.remittanceservice.account.entity.enums;
+
+public enum IdempotencyStatus {
+    PENDING,
+    SUCCESS,
+    FAILED,
+}
@@ -0,0 +1,5 @@
+package com.sw.remittanceservice.account.entity.enums;
+
+public enum OutboxEventType {
+    DEPOSIT, WITHDRAW, TRANSFER_OUT, TRANSFER_IN
+}
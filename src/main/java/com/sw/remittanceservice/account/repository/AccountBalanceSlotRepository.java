@@ -0,0 +1,22 @@
+package com.sw.remittanceservice.account.repository;
+
+import com.sw.remittanceservice.account.entity.AccountBalanceSlot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AccountBalanceSlotRepository extends JpaRepository<AccountBalanceSlot, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<AccountBalanceSlot> findLockedByAccountIdAndSlotNo(Long accountId, Integer slotNo);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<AccountBalanceSlot> findLockedByAccountIdOrderBySlotNo(Long accountId);
+
+    @Query("select coalesce(sum(s.balance), 0) from AccountBalanceSlot s where s.accountId = :accountId")
+    Long sumBalanceByAccountId(@Param("accountId") Long accountId);
+}
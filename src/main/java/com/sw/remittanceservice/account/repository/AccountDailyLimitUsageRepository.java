@@ -7,8 +7,10 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface AccountDailyLimitUsageRepository extends JpaRepository<AccountDailyLimitUsage, Long> {
@@ -28,4 +30,50 @@ public interface AccountDailyLimitUsageRepository extends JpaRepository<AccountD
             @Param("limitDate") Long limitDate,
             @Param("withdrawUsed") Long withdrawUsed
     );
+
+    @Query(
+            value = "update account_daily_limit_usage set withdraw_used = withdraw_used + :amount, updated_at = :now " +
+                    "where account_id = :accountId and limit_date = :limitDate and withdraw_used + :amount <= :withdrawLimit",
+            nativeQuery = true
+    )
+    @Modifying
+    int addWithdrawUsedWithinLimit(
+            @Param("accountId") Long accountId,
+            @Param("limitDate") LocalDate limitDate,
+            @Param("amount") Long amount,
+            @Param("withdrawLimit") Long withdrawLimit,
+            @Param("now") LocalDateTime now
+    );
+
+    @Query(
+            value = "insert ignore into account_daily_limit_usage " +
+                    "(account_daily_limit_usage_id, account_id, limit_date, withdraw_used, transfer_used, created_at, updated_at) " +
+                    "values (:id, :accountId, :limitDate, 0, 0, :now, :now)",
+            nativeQuery = true
+    )
+    @Modifying
+    int insertIgnore(
+            @Param("id") Long id,
+            @Param("accountId") Long accountId,
+            @Param("limitDate") LocalDate limitDate,
+            @Param("now") LocalDateTime now
+    );
+
+    @Query(
+            value = "insert into account_daily_limit_usage " +
+                    "(account_daily_limit_usage_id, account_id, limit_date, withdraw_used, transfer_used, created_at, updated_at) " +
+                    "values (:id, :accountId, :limitDate, :withdrawUsed, :transferUsed, :now, :now) " +
+                    "on duplicate key update withdraw_used = greatest(withdraw_used, :withdrawUsed), transfer_used = greatest(transfer_used, :transferUsed), updated_at = :now",
+            nativeQuery = true
+    )
+    @Modifying
+    @Transactional
+    int upsertUsed(
+            @Param("id") Long id,
+            @Param("accountId") Long accountId,
+            @Param("limitDate") LocalDate limitDate,
+            @Param("withdrawUsed") Long withdrawUsed,
+            @Param("transferUsed") Long transferUsed,
+            @Param("now") LocalDateTime now
+    );
 }
@@ -0,0 +1,30 @@
+package com.sw.remittanceservice.account.repository;
+
+import com.sw.remittanceservice.account.entity.AccountNoSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface AccountNoSequenceRepository extends JpaRepository<AccountNoSequence, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<AccountNoSequence> findLockedByAccountNoSequenceId(Long accountNoSequenceId);
+
+    @Query(
+            value = "insert ignore into account_no_sequence (account_no_sequence_id, next_value, updated_at) " +
+                    "values (:id, :nextValue, :now)",
+            nativeQuery = true
+    )
+    @Modifying
+    int insertIgnore(
+            @Param("id") Long id,
+            @Param("nextValue") Long nextValue,
+            @Param("now") LocalDateTime now
+    );
+}
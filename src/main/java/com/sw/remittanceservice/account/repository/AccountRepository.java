@@ -4,21 +4,68 @@ import com.sw.remittanceservice.account.entity.Account;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    Optional<Account> findLockedByAccountNo(String accountNo);
+    Optional<Account> findLockedByAccountId(Long accountId);
 
+    /**
+     * PK 오름차순으로 잠근다. 여러 계좌를 잠그는 호출끼리 항상 같은 순서로 락을 잡도록 정렬을 쿼리에 둔다.
+     */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    Optional<Account> findLockedByAccountId(Long accountId);
+    @Query("select a from Account a where a.accountId in :accountIds order by a.accountId")
+    List<Account> findAllLockedByAccountIdIn(@Param("accountIds") Collection<Long> accountIds);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    Optional<Account> findSharedLockedByAccountId(Long accountId);
 
     Optional<Account> findByAccountNo(String accountNo);
 
     @Query("select a.accountId from Account a where a.accountNo = :accountNo")
     Optional<Long> findIdByAccountNo(@Param("accountNo") String accountNo);
+
+    @Query("select a.accountNo from Account a where a.balanceSlotCount > 0")
+    List<String> findAllBalanceShardedAccountNo();
+
+    @Query("select a.balance from Account a where a.accountId = :accountId")
+    Optional<Long> findBalanceByAccountId(@Param("accountId") Long accountId);
+
+    /**
+     * 분할 계좌는 갱신하지 않는다. 잔액이 슬롯에 나뉘어 있어 본 잔액만으로는 잔액 조건도, 거래 후 잔액도 판단할 수 없다.
+     */
+    @Query(
+            value = "update account set balance = balance - :amount, updated_at = :now " +
+                    "where account_id = :accountId and balance >= :amount and account_status = 'ACTIVE' and balance_slot_count = 0",
+            nativeQuery = true
+    )
+    @Modifying
+    int withdrawIfSufficient(
+            @Param("accountId") Long accountId,
+            @Param("amount") Long amount,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 분할 계좌는 갱신하지 않는다. 거래 후 잔액에 슬롯 합산이 필요하다.
+     */
+    @Query(
+            value = "update account set balance = balance + :amount, updated_at = :now " +
+                    "where account_id = :accountId and account_status = 'ACTIVE' and balance_slot_count = 0",
+            nativeQuery = true
+    )
+    @Modifying
+    int depositIfActive(
+            @Param("accountId") Long accountId,
+            @Param("amount") Long amount,
+            @Param("now") LocalDateTime now
+    );
 }
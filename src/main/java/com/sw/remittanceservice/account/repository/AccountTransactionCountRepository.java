@@ -0,0 +1,47 @@
+package com.sw.remittanceservice.account.repository;
+
+import com.sw.remittanceservice.account.entity.AccountTransactionCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface AccountTransactionCountRepository extends JpaRepository<AccountTransactionCount, Long> {
+
+    @Query(
+            value = "update account_transaction_count set transaction_count = transaction_count + :delta, updated_at = :now " +
+                    "where account_id = :accountId and stripe_no = :stripeNo",
+            nativeQuery = true
+    )
+    @Modifying
+    int addToStripe(
+            @Param("accountId") Long accountId,
+            @Param("stripeNo") Integer stripeNo,
+            @Param("delta") Long delta,
+            @Param("now") LocalDateTime now
+    );
+
+    @Query(
+            value = "insert into account_transaction_count " +
+                    "(account_transaction_count_id, account_id, stripe_no, transaction_count, updated_at) " +
+                    "values (:id, :accountId, :stripeNo, :delta, :now) " +
+                    "on duplicate key update transaction_count = transaction_count + :delta, updated_at = :now",
+            nativeQuery = true
+    )
+    @Modifying
+    int upsert(
+            @Param("id") Long id,
+            @Param("accountId") Long accountId,
+            @Param("stripeNo") Integer stripeNo,
+            @Param("delta") Long delta,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 스트라이프 합계. 카운터 행이 하나도 없으면 null
+     */
+    @Query("select sum(c.transactionCount) from AccountTransactionCount c where c.accountId = :accountId")
+    Long sumByAccountId(@Param("accountId") Long accountId);
+}
@@ -0,0 +1,194 @@
+package com.sw.remittanceservice.account.repository;
+
+import com.sw.remittanceservice.account.entity.AccountDailyLimitUsage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class DailyLimitRedisRepository {
+
+    public static final long CACHE_MISS = -1L;
+
+    public static final long LIMIT_EXCEEDED = -2L;
+
+    public static final String WITHDRAW_FIELD = "withdraw";
+
+    public static final String TRANSFER_FIELD = "transfer";
+
+    private static final String USAGE_KEY_PREFIX = "daily-limit-usage::";
+
+    private static final String USAGE_KEY_FORMAT = USAGE_KEY_PREFIX + "%d::%s";
+
+    private static final String DIRTY_KEY = "daily-limit-usage-dirty";
+
+    private static final String PROCESSING_KEY = "daily-limit-usage-processing";
+
+    private static final String MEMBER_DELIMITER = "|";
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 키가 없으면 -1, used + amount > limit 이면 -2, 아니면 누적 후 값을 반환하고 write-back 대상으로 표시한다.
+    private static final RedisScript<Long> INCREMENT_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local amount = tonumber(ARGV[2])
+            local used = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            if used + amount > tonumber(ARGV[3]) then
+                return -2
+            end
+            redis.call('SADD', KEYS[2], ARGV[4])
+            return redis.call('HINCRBY', KEYS[1], ARGV[1], amount)
+            """, Long.class);
+
+    // 키가 만료된 뒤에는 보상하지 않는다. (다음 캐시 미스 때 DB 값으로 다시 채워진다)
+    private static final RedisScript<Long> DECREMENT_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('HINCRBY', KEYS[1], ARGV[1], -tonumber(ARGV[2]))
+            redis.call('SADD', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // 이미 채워진 값은 덮어쓰지 않는다.
+    private static final RedisScript<Long> SEED_SCRIPT = RedisScript.of("""
+            redis.call('HSETNX', KEYS[1], 'withdraw', ARGV[1])
+            redis.call('HSETNX', KEYS[1], 'transfer', ARGV[2])
+            redis.call('EXPIREAT', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // 오래 처리 중인 항목(반영 전에 노드가 중단된 경우)을 대상으로 되돌린 뒤, 대상을 최대 ARGV[1]개 꺼내 누적값을 읽는다.
+    // 꺼낸 항목은 처리 중(점수 = 꺼낸 시각)으로 옮겨, DB 반영을 확인(acknowledge)하기 전까지 표시가 사라지지 않게 한다.
+    // 누적값 키는 항목으로 만들기 때문에 KEYS 로 넘기지 않는다. (단일 Redis 기준)
+    private static final RedisScript<List> POP_DIRTY_SCRIPT = RedisScript.of("""
+            local stale = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[3])
+            for _, member in ipairs(stale) do
+                redis.call('SADD', KEYS[1], member)
+                redis.call('ZREM', KEYS[2], member)
+            end
+            local result = {}
+            for _, member in ipairs(redis.call('SPOP', KEYS[1], ARGV[1])) do
+                local delimiter = string.find(member, '|', 1, true)
+                local key = ARGV[4] .. string.sub(member, 1, delimiter - 1) .. '::' .. string.sub(member, delimiter + 1)
+                local values = redis.call('HMGET', key, 'withdraw', 'transfer')
+                if values[1] and values[2] then
+                    redis.call('ZADD', KEYS[2], ARGV[2], member)
+                    table.insert(result, member)
+                    table.insert(result, values[1])
+                    table.insert(result, values[2])
+                end
+            end
+            return result
+            """, List.class);
+
+    // 그 사이 다른 노드가 같은 항목을 다시 꺼냈으면(점수가 다르면) 그 노드의 처리 중 표시는 남겨 둔다.
+    private static final RedisScript<Long> ACKNOWLEDGE_SCRIPT = RedisScript.of("""
+            if tonumber(redis.call('ZSCORE', KEYS[1], ARGV[1])) == tonumber(ARGV[2]) then
+                return redis.call('ZREM', KEYS[1], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    private String generateKey(Long accountId, LocalDate limitDate) {
+        return USAGE_KEY_FORMAT.formatted(accountId, limitDate);
+    }
+
+    private String generateMember(Long accountId, LocalDate limitDate) {
+        return accountId + MEMBER_DELIMITER + limitDate;
+    }
+
+    public long increment(Long accountId, LocalDate limitDate, String field, long amount, long limit) {
+        return redisTemplate.execute(
+                INCREMENT_SCRIPT,
+                List.of(generateKey(accountId, limitDate), DIRTY_KEY),
+                field,
+                String.valueOf(amount),
+                String.valueOf(limit),
+                generateMember(accountId, limitDate)
+        );
+    }
+
+    public void decrement(Long accountId, LocalDate limitDate, String field, long amount) {
+        redisTemplate.execute(
+                DECREMENT_SCRIPT,
+                List.of(generateKey(accountId, limitDate), DIRTY_KEY),
+                field,
+                String.valueOf(amount),
+                generateMember(accountId, limitDate)
+        );
+    }
+
+    public void seed(Long accountId, LocalDate limitDate, long withdrawUsed, long transferUsed, Instant expireAt) {
+        redisTemplate.execute(
+                SEED_SCRIPT,
+                List.of(generateKey(accountId, limitDate)),
+                String.valueOf(withdrawUsed),
+                String.valueOf(transferUsed),
+                String.valueOf(expireAt.getEpochSecond())
+        );
+    }
+
+    public void markDirty(AccountDailyLimitUsage usage) {
+        redisTemplate.opsForSet().add(DIRTY_KEY, generateMember(usage.getAccountId(), usage.getLimitDate()));
+    }
+
+    /**
+     * write-back 대상을 최대 count개 꺼내 현재 누적값을 읽는다. 꺼내기와 읽기는 스크립트 한 번으로 처리하고, 그 사이 만료된 키는 건너뛴다.
+     * 꺼낸 항목은 {@link #acknowledge}로 확인할 때까지 처리 중으로 남고, staleBefore 이전에 꺼낸 항목은 다시 대상으로 돌아간다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<AccountDailyLimitUsage> popDirtyUsages(long count, long claimedAt, long staleBefore) {
+        List<String> values = (List<String>) redisTemplate.execute(
+                POP_DIRTY_SCRIPT,
+                List.of(DIRTY_KEY, PROCESSING_KEY),
+                String.valueOf(count),
+                String.valueOf(claimedAt),
+                String.valueOf(staleBefore),
+                USAGE_KEY_PREFIX
+        );
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<AccountDailyLimitUsage> usages = new ArrayList<>(values.size() / 3);
+        for (int i = 0; i < values.size(); i += 3) {
+            String member = values.get(i);
+            int delimiterIndex = member.indexOf(MEMBER_DELIMITER);
+
+            usages.add(new AccountDailyLimitUsage(
+                    null,
+                    Long.valueOf(member.substring(0, delimiterIndex)),
+                    LocalDate.parse(member.substring(delimiterIndex + 1)),
+                    Long.valueOf(values.get(i + 1)),
+                    Long.valueOf(values.get(i + 2)),
+                    now,
+                    now
+            ));
+        }
+        return usages;
+    }
+
+    /**
+     * DB에 반영한 항목의 처리 중 표시를 지운다.
+     */
+    public void acknowledge(AccountDailyLimitUsage usage, long claimedAt) {
+        redisTemplate.execute(
+                ACKNOWLEDGE_SCRIPT,
+                List.of(PROCESSING_KEY),
+                generateMember(usage.getAccountId(), usage.getLimitDate()),
+                String.valueOf(claimedAt)
+        );
+    }
+}
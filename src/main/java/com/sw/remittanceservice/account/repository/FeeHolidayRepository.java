@@ -0,0 +1,7 @@
+package com.sw.remittanceservice.account.repository;
+
+import com.sw.remittanceservice.account.entity.FeeHoliday;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface FeeHolidayRepository extends JpaRepository<FeeHoliday, Long> {
+}
@@ -0,0 +1,11 @@
+package com.sw.remittanceservice.account.repository;
+
+import com.sw.remittanceservice.account.entity.FeeRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface FeeRuleRepository extends JpaRepository<FeeRule, Long> {
+
+    List<FeeRule> findAllByEnabledTrue();
+}
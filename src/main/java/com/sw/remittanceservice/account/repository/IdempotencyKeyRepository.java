@@ -0,0 +1,111 @@
+package com.sw.remittanceservice.account.repository;
+
+import com.sw.remittanceservice.account.entity.enums.IdempotencyStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * idempotency_key 읽기/쓰기. 여러 키를 다루는 쿼리는 키 개수와 상관없이 한 번에 보낸다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class IdempotencyKeyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Row(String transactionRequestId, IdempotencyStatus status, String claimToken, String response) {
+    }
+
+    /**
+     * 없는 키만 PENDING으로 넣고 넣은 행 수를 반환한다.
+     * 다른 트랜잭션이 넣고 아직 커밋하지 않은 키는 그 트랜잭션이 끝날 때까지 기다린다.
+     */
+    public int insertPending(List<String> transactionRequestIds, String claimToken, LocalDateTime expiresAt, LocalDateTime now) {
+        String values = String.join(", ", Collections.nCopies(transactionRequestIds.size(), "(?, 'PENDING', ?, ?, ?, ?)"));
+
+        List<Object> args = new ArrayList<>(transactionRequestIds.size() * 5);
+        for (String transactionRequestId : transactionRequestIds) {
+            args.add(transactionRequestId);
+            args.add(claimToken);
+            args.add(Timestamp.valueOf(expiresAt));
+            args.add(Timestamp.valueOf(now));
+            args.add(Timestamp.valueOf(now));
+        }
+
+        return jdbcTemplate.update(
+                "insert ignore into idempotency_key (transaction_request_id, status, claim_token, expires_at, created_at, updated_at) values " + values,
+                args.toArray()
+        );
+    }
+
+    /**
+     * 실패했거나(FAILED) 처리 중 만료된(PENDING) 키를 다시 선점한다.
+     */
+    public int reclaim(List<String> transactionRequestIds, String claimToken, LocalDateTime expiresAt, LocalDateTime now) {
+        List<Object> args = new ArrayList<>(transactionRequestIds.size() + 4);
+        args.add(claimToken);
+        args.add(Timestamp.valueOf(expiresAt));
+        args.add(Timestamp.valueOf(now));
+        args.addAll(transactionRequestIds);
+        args.add(Timestamp.valueOf(now));
+
+        return jdbcTemplate.update(
+                """
+                        update idempotency_key
+                        set status = 'PENDING', claim_token = ?, response = null, expires_at = ?, updated_at = ?
+                        where transaction_request_id in (%s)
+                          and (status = 'FAILED' or (status = 'PENDING' and expires_at < ?))
+                        """.formatted(placeholders(transactionRequestIds.size())),
+                args.toArray()
+        );
+    }
+
+    /**
+     * 트랜잭션 안에서 여러 번 호출돼도 스냅샷이 아닌 최신 커밋 값을 읽도록 잠금 읽기(FOR SHARE)로 조회한다.
+     */
+    public List<Row> findAll(List<String> transactionRequestIds) {
+        return jdbcTemplate.query(
+                "select transaction_request_id, status, claim_token, response from idempotency_key where transaction_request_id in (%s) for share"
+                        .formatted(placeholders(transactionRequestIds.size())),
+                (rs, rowNum) -> new Row(
+                        rs.getString("transaction_request_id"),
+                        IdempotencyStatus.valueOf(rs.getString("status")),
+                        rs.getString("claim_token"),
+                        rs.getString("response")
+                ),
+                transactionRequestIds.toArray()
+        );
+    }
+
+    public int complete(String transactionRequestId, String response, LocalDateTime expiresAt, LocalDateTime now) {
+        return jdbcTemplate.update(
+                "update idempotency_key set status = 'SUCCESS', response = ?, expires_at = ?, updated_at = ? where transaction_request_id = ?",
+                response, Timestamp.valueOf(expiresAt), Timestamp.valueOf(now), transactionRequestId
+        );
+    }
+
+    public int fail(String transactionRequestId, LocalDateTime now) {
+        return jdbcTemplate.update(
+                "update idempotency_key set status = 'FAILED', updated_at = ? where transaction_request_id = ? and status = 'PENDING'",
+                Timestamp.valueOf(now), transactionRequestId
+        );
+    }
+
+    /**
+     * 만료된 키를 최대 limit건 지운다. idx_expires_at 범위만 읽는다.
+     */
+    public int deleteExpired(LocalDateTime now, int limit) {
+        return jdbcTemplate.update("delete from idempotency_key where expires_at < ? limit ?", Timestamp.valueOf(now), limit);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,25 @@
+package com.sw.remittanceservice.account.repository;
+
+import com.sw.remittanceservice.account.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 가장 오래된 이벤트부터 limit건을 잠근다. 다른 노드가 잠근 행은 건너뛰므로(SKIP LOCKED) 여러 노드가 서로 다른 묶음을 동시에 발행한다.
+     */
+    @Query(
+            value = """
+                    select * from outbox_event
+                    order by outbox_event_id
+                    limit :limit
+                    for update skip locked
+                    """,
+            nativeQuery = true
+    )
+    List<OutboxEvent> findPendingForUpdateSkipLocked(@Param("limit") int limit);
+}
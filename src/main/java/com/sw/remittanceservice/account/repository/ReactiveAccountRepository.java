@@ -0,0 +1,49 @@
+package com.sw.remittanceservice.account.repository;
+
+import com.sw.remittanceservice.account.dto.AccountResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * 조회 전용 R2DBC 저장소. JDBC 커넥션 풀과 분리된 R2DBC 커넥션 풀을 사용한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ReactiveAccountRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Long> findIdByAccountNo(String accountNo) {
+        return databaseClient.sql("select account_id from account where account_no = :accountNo")
+                .bind("accountNo", accountNo)
+                .map((row, metadata) -> row.get("account_id", Long.class))
+                .one();
+    }
+
+    /**
+     * 계좌, 한도 설정, 분할 슬롯 잔액 합계를 한 번에 조회한다. 한도 설정이 없으면 한도 값은 null이다.
+     */
+    public Mono<AccountResponse> findResponseByAccountId(Long accountId) {
+        return databaseClient.sql("""
+                        select a.account_no,
+                               cast(a.balance + coalesce((select sum(s.balance) from account_balance_slot s where s.account_id = a.account_id), 0) as signed) as balance,
+                               a.account_status,
+                               l.daily_withdraw_limit,
+                               l.daily_transfer_limit
+                        from account a
+                        left join account_limit_setting l on l.account_id = a.account_id
+                        where a.account_id = :accountId
+                        """)
+                .bind("accountId", accountId)
+                .map((row, metadata) -> new AccountResponse(
+                        row.get("account_no", String.class),
+                        row.get("balance", Long.class),
+                        row.get("account_status", String.class),
+                        row.get("daily_withdraw_limit", Long.class),
+                        row.get("daily_transfer_limit", Long.class)
+                ))
+                .one();
+    }
+}
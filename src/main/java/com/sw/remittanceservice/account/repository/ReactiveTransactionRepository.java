@@ -0,0 +1,154 @@
+package com.sw.remittanceservice.account.repository;
+
+import com.sw.remittanceservice.account.entity.Transaction;
+import com.sw.remittanceservice.account.entity.enums.TransactionStatus;
+import com.sw.remittanceservice.account.entity.enums.TransactionType;
+import com.sw.remittanceservice.account.usecase.policy.dto.enums.FeePolicyType;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래내역 조회 전용 R2DBC 저장소. 거래내역 목록/건수 쿼리는 여기에만 둔다.
+ * 목록은 지연 조인(deferred join)으로 읽는다. 내부 쿼리는 idx_account_created_at (account_id, created_at, transaction_id)만 읽어
+ * 페이지에 해당하는 PK를 고르고(커버링, filesort 없음), 바깥 쿼리는 고른 PK로만 본 테이블 행을 읽는다.
+ * 조회 결과는 영속성 컨텍스트와 무관한 {@link Transaction} 값 객체로 매핑한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ReactiveTransactionRepository {
+
+    private static final String COLUMNS = """
+            select at.transaction_id,
+                   at.account_id,
+                   at.transaction_request_id,
+                   at.transaction_type,
+                   at.transaction_status,
+                   at.amount,
+                   at.fee_policy_type,
+                   at.fee,
+                   at.fee_rate,
+                   at.fee_applied_at,
+                   at.target_account_no,
+                   at.balance_after_transaction,
+                   at.created_at
+            """;
+
+    /**
+     * 실행 계획 검사(TransactionHistoryQueryPlanTest)가 같은 쿼리를 EXPLAIN 하도록 상수로 둔다.
+     */
+    static final String FIND_ALL_BY_ACCOUNT_ID_SQL = COLUMNS + """
+            from (
+               select transaction_id, created_at from transaction
+               where account_id = :accountId
+               order by created_at desc, transaction_id desc
+               limit :limit offset :offset
+            ) t join transaction at on at.transaction_id = t.transaction_id
+            order by t.created_at desc, t.transaction_id desc
+            """;
+
+    static final String FIND_ALL_INFINITE_SCROLL_FIRST_SQL = COLUMNS + """
+            from (
+               select transaction_id, created_at from transaction
+               where account_id = :accountId
+               order by created_at desc, transaction_id desc
+               limit :limit
+            ) t join transaction at on at.transaction_id = t.transaction_id
+            order by t.created_at desc, t.transaction_id desc
+            """;
+
+    static final String FIND_ALL_INFINITE_SCROLL_NEXT_SQL = COLUMNS + """
+            from (
+               select transaction_id, created_at from transaction
+               where account_id = :accountId
+                 and (created_at < :lastCreatedAt
+                      or (created_at = :lastCreatedAt and transaction_id < :lastTransactionId))
+               order by created_at desc, transaction_id desc
+               limit :limit
+            ) t join transaction at on at.transaction_id = t.transaction_id
+            order by t.created_at desc, t.transaction_id desc
+            """;
+
+    static final String COUNT_SQL = """
+            select count(*) as cnt
+            from (
+                select 1 from transaction where account_id = :accountId limit :limit
+            ) t
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<Transaction> findAllByAccountId(Long accountId, Long offset, Long limit) {
+        return databaseClient.sql(FIND_ALL_BY_ACCOUNT_ID_SQL)
+                .bind("accountId", accountId)
+                .bind("offset", offset)
+                .bind("limit", limit)
+                .map(ReactiveTransactionRepository::toTransaction)
+                .all();
+    }
+
+    public Flux<Transaction> findAllInfiniteScroll(Long accountId, Long limit) {
+        return databaseClient.sql(FIND_ALL_INFINITE_SCROLL_FIRST_SQL)
+                .bind("accountId", accountId)
+                .bind("limit", limit)
+                .map(ReactiveTransactionRepository::toTransaction)
+                .all();
+    }
+
+    public Flux<Transaction> findAllInfiniteScroll(Long accountId, LocalDateTime lastCreatedAt, Long lastTransactionId, Long limit) {
+        return databaseClient.sql(FIND_ALL_INFINITE_SCROLL_NEXT_SQL)
+                .bind("accountId", accountId)
+                .bind("lastCreatedAt", lastCreatedAt)
+                .bind("lastTransactionId", lastTransactionId)
+                .bind("limit", limit)
+                .map(ReactiveTransactionRepository::toTransaction)
+                .all();
+    }
+
+    /**
+     * account_transaction_count 스트라이프 합계. 카운터 행이 없는 계좌는 비어 있다.
+     */
+    public Mono<Long> countMaintained(Long accountId) {
+        return databaseClient.sql("""
+                        select count(*) as stripes, cast(coalesce(sum(transaction_count), 0) as signed) as cnt
+                        from account_transaction_count
+                        where account_id = :accountId
+                        """)
+                .bind("accountId", accountId)
+                .map((row, metadata) -> row.get("stripes", Long.class) > 0 ? row.get("cnt", Long.class) : -1L)
+                .one()
+                .filter(count -> count >= 0);
+    }
+
+    public Mono<Long> count(Long accountId, Long limit) {
+        return databaseClient.sql(COUNT_SQL)
+                .bind("accountId", accountId)
+                .bind("limit", limit)
+                .map((row, metadata) -> row.get("cnt", Long.class))
+                .one();
+    }
+
+    private static Transaction toTransaction(Readable row) {
+        String feePolicyType = row.get("fee_policy_type", String.class);
+        return new Transaction(
+                row.get("transaction_id", Long.class),
+                row.get("account_id", Long.class),
+                row.get("transaction_request_id", String.class),
+                TransactionType.valueOf(row.get("transaction_type", String.class)),
+                TransactionStatus.valueOf(row.get("transaction_status", String.class)),
+                row.get("amount", Long.class),
+                feePolicyType == null ? null : FeePolicyType.valueOf(feePolicyType),
+                row.get("fee", Long.class),
+                row.get("fee_rate", Double.class),
+                row.get("fee_applied_at", LocalDateTime.class),
+                row.get("target_account_no", String.class),
+                row.get("balance_after_transaction", Long.class),
+                row.get("created_at", LocalDateTime.class)
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.sw.remittanceservice.account.repository;
+
+import com.sw.remittanceservice.account.entity.StatementCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface StatementCheckpointRepository extends JpaRepository<StatementCheckpoint, Long> {
+
+    List<StatementCheckpoint> findAllByStatementMonthOrderByPartitionNo(String statementMonth);
+
+    @Query("select c.version from StatementCheckpoint c where c.statementCheckpointId = :statementCheckpointId")
+    Optional<Long> findVersionById(@Param("statementCheckpointId") Long statementCheckpointId);
+
+    /**
+     * 선점한 실행이 그대로일 때만 선점 만료일시를 늘린다. version 은 올리지 않으므로 처리 중인 실행의 진행 기록과 충돌하지 않는다.
+     */
+    @Query(
+            "update StatementCheckpoint c set c.leaseExpiresAt = :leaseExpiresAt " +
+                    "where c.statementCheckpointId = :statementCheckpointId and c.leaseOwner = :leaseOwner and c.completed = false"
+    )
+    @Modifying
+    @Transactional
+    int extendLease(
+            @Param("statementCheckpointId") Long statementCheckpointId,
+            @Param("leaseOwner") String leaseOwner,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt
+    );
+}
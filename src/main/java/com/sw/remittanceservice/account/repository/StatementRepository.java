@@ -0,0 +1,145 @@
+package com.sw.remittanceservice.account.repository;
+
+import com.sw.remittanceservice.account.entity.enums.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 월별 거래명세서 생성용 조회. 모든 조회는 PK 또는 idx_account_created_at 에서 keyset 으로 읽으며, 한 번에 가져오는 행 수를 제한한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class StatementRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record AccountRow(Long accountId, String accountNo) {
+    }
+
+    public record TransactionRow(
+            Long transactionId,
+            TransactionType transactionType,
+            Long amount,
+            Long fee,
+            Long balanceAfterTransaction,
+            LocalDateTime createdAt
+    ) {
+    }
+
+    public long countAccounts() {
+        Long count = jdbcTemplate.queryForObject("select count(*) from account", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * account_id 오름차순에서 offset 번째 계좌 아이디. 파티션 경계를 정할 때 쓴다.
+     */
+    public Optional<Long> findAccountIdAt(long offset) {
+        return jdbcTemplate.queryForList("select account_id from account order by account_id limit 1 offset ?", Long.class, offset)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * (afterAccountId, toAccountId] 구간의 계좌를 아이디 순으로 limit건
+     */
+    public List<AccountRow> findAccounts(long afterAccountId, long toAccountId, int limit) {
+        return jdbcTemplate.query(
+                """
+                        select account_id, account_no
+                        from account
+                        where account_id > ? and account_id <= ?
+                        order by account_id
+                        limit ?
+                        """,
+                (rs, rowNum) -> new AccountRow(rs.getLong("account_id"), rs.getString("account_no")),
+                afterAccountId, toAccountId, limit
+        );
+    }
+
+    /**
+     * before 직전 잔액. 거래 후 잔액이 남은 마지막 거래의 값에, 그 뒤의 거래 후 잔액이 없는 거래(분할 계좌 입금)의 금액을 더한다.
+     * 그 전에 거래가 없으면 비어 있다.
+     */
+    public Optional<Long> findBalanceBefore(Long accountId, LocalDateTime before) {
+        Optional<TransactionRow> known = jdbcTemplate.query(
+                """
+                        select transaction_id, transaction_type, amount, fee, balance_after_transaction, created_at
+                        from transaction
+                        where account_id = ? and created_at < ? and balance_after_transaction is not null
+                        order by created_at desc, transaction_id desc
+                        limit 1
+                        """,
+                StatementRepository::toTransactionRow,
+                accountId, Timestamp.valueOf(before)
+        ).stream().findFirst();
+
+        LocalDateTime afterCreatedAt = known.map(TransactionRow::createdAt).orElse(LocalDateTime.of(1970, 1, 1, 0, 0));
+        long afterTransactionId = known.map(TransactionRow::transactionId).orElse(Long.MIN_VALUE);
+        List<Long> unknownDeposits = jdbcTemplate.query(
+                """
+                        select count(*), coalesce(sum(amount), 0)
+                        from transaction
+                        where account_id = ?
+                          and created_at < ?
+                          and (created_at > ? or (created_at = ? and transaction_id > ?))
+                          and balance_after_transaction is null
+                        """,
+                (rs, rowNum) -> rs.getLong(1) == 0 ? null : rs.getLong(2),
+                accountId, Timestamp.valueOf(before), Timestamp.valueOf(afterCreatedAt), Timestamp.valueOf(afterCreatedAt), afterTransactionId
+        );
+        Long unknownDepositAmount = unknownDeposits.isEmpty() ? null : unknownDeposits.getFirst();
+
+        if (known.isEmpty() && unknownDepositAmount == null) {
+            return Optional.empty();
+        }
+        return Optional.of(known.map(TransactionRow::balanceAfterTransaction).orElse(0L) + (unknownDepositAmount == null ? 0L : unknownDepositAmount));
+    }
+
+    /**
+     * [from, to) 구간에서 (afterCreatedAt, afterTransactionId) 다음 거래를 오래된 순으로 limit건. 첫 페이지는 after 값을 null 로 준다.
+     */
+    public List<TransactionRow> findTransactions(
+            Long accountId,
+            LocalDateTime from,
+            LocalDateTime to,
+            LocalDateTime afterCreatedAt,
+            Long afterTransactionId,
+            int limit
+    ) {
+        LocalDateTime cursorCreatedAt = afterCreatedAt == null ? from : afterCreatedAt;
+        long cursorTransactionId = afterTransactionId == null ? Long.MIN_VALUE : afterTransactionId;
+        return jdbcTemplate.query(
+                """
+                        select transaction_id, transaction_type, amount, fee, balance_after_transaction, created_at
+                        from transaction
+                        where account_id = ?
+                          and created_at < ?
+                          and (created_at > ? or (created_at = ? and transaction_id > ?))
+                        order by created_at, transaction_id
+                        limit ?
+                        """,
+                StatementRepository::toTransactionRow,
+                accountId, Timestamp.valueOf(to), Timestamp.valueOf(cursorCreatedAt), Timestamp.valueOf(cursorCreatedAt), cursorTransactionId, limit
+        );
+    }
+
+    private static TransactionRow toTransactionRow(ResultSet rs, int rowNum) throws SQLException {
+        return new TransactionRow(
+                rs.getLong("transaction_id"),
+                TransactionType.valueOf(rs.getString("transaction_type")),
+                rs.getLong("amount"),
+                rs.getObject("fee", Long.class),
+                rs.getObject("balance_after_transaction", Long.class),
+                rs.getObject("created_at", LocalDateTime.class)
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.sw.remittanceservice.account.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 거래내역 내보내기 전용 저장소. 결과를 모아 두지 않고 한 행씩 핸들러에 넘긴다.
+ * MySQL 드라이버는 forward-only/read-only 문장에 fetchSize = Integer.MIN_VALUE 를 주면 결과를 한 행씩 스트리밍한다.
+ * (양수 fetchSize 는 useCursorFetch=true 가 필요하고, 그러면 모든 문장이 서버 측 prepared statement 로 바뀐다)
+ */
+@RequiredArgsConstructor
+@Repository
+public class TransactionExportRepository {
+
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private static final String SQL = """
+            select transaction_id,
+                   transaction_request_id,
+                   transaction_type,
+                   transaction_status,
+                   amount,
+                   fee_policy_type,
+                   fee,
+                   fee_rate,
+                   target_account_no,
+                   balance_after_transaction,
+                   created_at
+            from transaction
+            where account_id = ?
+              and created_at >= ?
+              and created_at < ?
+            order by created_at, transaction_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * [from, to) 구간의 거래를 idx_account_created_at 순서(오래된 순)대로 넘긴다.
+     */
+    public void streamAll(Long accountId, LocalDateTime from, LocalDateTime to, RowCallbackHandler rowCallbackHandler) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(STREAMING_FETCH_SIZE);
+                    statement.setLong(1, accountId);
+                    statement.setTimestamp(2, Timestamp.valueOf(from));
+                    statement.setTimestamp(3, Timestamp.valueOf(to));
+                    return statement;
+                },
+                rowCallbackHandler
+        );
+    }
+}
@@ -1,29 +1,139 @@
 package com.sw.remittanceservice.account.repository;
 
 import com.sw.remittanceservice.account.entity.enums.TransactionStatus;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Repository
-@RequiredArgsConstructor
 public class TransactionRedisRepository {
 
     private final StringRedisTemplate redisTemplate;
 
+    private final Timer claimTimer;
+
+    private final Timer claimAllTimer;
+
+    private final Timer saveResponseTimer;
+
+    private final Timer releaseTimer;
+
     private static final String TRANSACTION_REQUEST_ID_KEY_FORMAT = "transaction-request-id-lock::%s";
 
+    public static final String PENDING = TransactionStatus.PENDING.name();
+
+    // 키가 없으면 PENDING으로 선점하고 nil, 있으면 저장된 값(PENDING 또는 직렬화된 응답)을 반환한다.
+    private static final RedisScript<String> CLAIM_OR_READ_SCRIPT = RedisScript.of("""
+            local value = redis.call('GET', KEYS[1])
+            if value then
+                return value
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return false
+            """, String.class);
+
+    // 여러 키를 한 번에 조회 또는 선점한다. 선점한 키는 빈 문자열로 표시한다. (Lua 테이블은 nil을 담을 수 없다)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_OR_READ_ALL_SCRIPT = RedisScript.of("""
+            local result = {}
+            for i, key in ipairs(KEYS) do
+                local value = redis.call('GET', key)
+                if value then
+                    result[i] = value
+                else
+                    redis.call('SET', key, ARGV[1], 'PX', ARGV[2])
+                    result[i] = ''
+                end
+            end
+            return result
+            """, List.class);
+
+    public TransactionRedisRepository(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.claimTimer = commandTimer(meterRegistry, "claim");
+        this.claimAllTimer = commandTimer(meterRegistry, "claim_all");
+        this.saveResponseTimer = commandTimer(meterRegistry, "save_response");
+        this.releaseTimer = commandTimer(meterRegistry, "release");
+    }
+
+    private static Timer commandTimer(MeterRegistry meterRegistry, String command) {
+        return Timer.builder("remittance.idempotency.redis")
+                .description("멱등성 키 Redis 명령 왕복 시간")
+                .tag("command", command)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(50_000))
+                .maximumExpectedValue(Duration.ofSeconds(2))
+                .register(meterRegistry);
+    }
 
     private String generateKey(String transactionRequestId) {
         return TRANSACTION_REQUEST_ID_KEY_FORMAT.formatted(transactionRequestId);
     }
 
-    public boolean tryLock(String transactionRequestId, long ttlSeconds) {
-        String key = generateKey(transactionRequestId);
-        return Boolean.TRUE.equals(
-                redisTemplate.opsForValue().setIfAbsent(key, TransactionStatus.PENDING.name(), Duration.ofSeconds(ttlSeconds))
-        );
+    /**
+     * 요청을 선점하면 null, 이미 선점된 요청이면 저장된 값을 반환한다. (Redis 1회 왕복)
+     */
+    public String claimOrRead(String transactionRequestId, Duration pendingTtl) {
+        long startedAt = System.nanoTime();
+        try {
+            return redisTemplate.execute(
+                    CLAIM_OR_READ_SCRIPT,
+                    List.of(generateKey(transactionRequestId)),
+                    PENDING,
+                    String.valueOf(pendingTtl.toMillis())
+            );
+        } finally {
+            claimTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * {@link #claimOrRead}를 여러 요청에 대해 Redis 1회 왕복으로 수행한다. 결과는 요청 순서와 같고, 선점한 요청은 null이다.
+     */
+    public List<String> claimOrReadAll(List<String> transactionRequestIds, Duration pendingTtl) {
+        long startedAt = System.nanoTime();
+        List<?> values;
+        try {
+            values = redisTemplate.execute(
+                    CLAIM_OR_READ_ALL_SCRIPT,
+                    transactionRequestIds.stream().map(this::generateKey).toList(),
+                    PENDING,
+                    String.valueOf(pendingTtl.toMillis())
+            );
+        } finally {
+            claimAllTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        List<String> result = new ArrayList<>(transactionRequestIds.size());
+        for (Object value : values) {
+            String stored = (String) value;
+            result.add(stored == null || stored.isEmpty() ? null : stored);
+        }
+        return result;
+    }
+
+    public void saveResponse(String transactionRequestId, String response, Duration responseTtl) {
+        long startedAt = System.nanoTime();
+        try {
+            redisTemplate.opsForValue().set(generateKey(transactionRequestId), response, responseTtl);
+        } finally {
+            saveResponseTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void release(String transactionRequestId) {
+        long startedAt = System.nanoTime();
+        try {
+            redisTemplate.delete(generateKey(transactionRequestId));
+        } finally {
+            releaseTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
     }
 }
@@ -0,0 +1,97 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.entity.AccountBalanceSlot;
+import com.sw.remittanceservice.account.repository.AccountBalanceSlotRepository;
+import com.sw.remittanceservice.account.repository.AccountRepository;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 입금이 몰리는 계좌(핫 계좌)의 잔액을 여러 슬롯으로 나누어 관리한다.
+ * 입금은 임의의 슬롯 하나에만 락을 잡고, 출금/이체는 계좌 락을 잡은 상태에서 슬롯 잔액을 본 잔액으로 합친 뒤 처리한다.
+ * 계좌의 실제 잔액은 account.balance + 모든 슬롯 잔액의 합이다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceSlotService {
+
+    public static final int MAX_SLOT_COUNT = 64;
+
+    private final AccountRepository accountRepository;
+
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+
+    private final AccountIdResolver accountIdResolver;
+
+    // 어느 락 경로로 시작할지 고르는 데만 쓰는 로컬 스냅샷. 최대 refresh 주기만큼 오래됐을 수 있으므로,
+    // 잔액 처리는 락을 잡은 계좌 행의 분할 여부로 다시 판단해야 한다. (분할 계좌가 일반 경로로 오면 슬롯 잔액을 합친 뒤 처리)
+    private volatile Set<String> shardedAccountNos = Set.of();
+
+    @Scheduled(fixedDelayString = "${remittance.balance-slot.refresh-interval-ms:30000}")
+    public void refresh() {
+        shardedAccountNos = Set.copyOf(accountRepository.findAllBalanceShardedAccountNo());
+    }
+
+    public boolean isSharded(String accountNo) {
+        return shardedAccountNos.contains(accountNo);
+    }
+
+    @Transactional
+    public void enable(String accountNo, Integer slotCount) {
+        if (slotCount == null || slotCount <= 0 || slotCount > MAX_SLOT_COUNT) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, slotCount);
+        }
+
+        Account account = accountIdResolver.resolve(accountNo)
+                .flatMap(accountRepository::findLockedByAccountId)
+                .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo));
+
+        account.validateActive();
+
+        for (int slotNo = account.getBalanceSlotCount(); slotNo < slotCount; slotNo++) {
+            accountBalanceSlotRepository.save(AccountBalanceSlot.init(account.getAccountId(), slotNo));
+        }
+        account.shardBalance(slotCount);
+
+        Set<String> updated = new HashSet<>(shardedAccountNos);
+        updated.add(accountNo);
+        shardedAccountNos = Set.copyOf(updated);
+    }
+
+    /**
+     * 임의의 슬롯에 입금한다. 호출자는 계좌에 공유 락(FOR SHARE)을 잡고 있어야 한다.
+     * 다른 슬롯의 동시 입금은 잠그지 않으므로 입금 후 계좌 전체 잔액은 알 수 없다. (분할 계좌 입금 거래의 거래 후 잔액은 null)
+     */
+    public void deposit(Account account, long amount) {
+        int slotNo = ThreadLocalRandom.current().nextInt(account.getBalanceSlotCount());
+
+        AccountBalanceSlot slot = accountBalanceSlotRepository.findLockedByAccountIdAndSlotNo(account.getAccountId(), slotNo)
+                .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_BALANCE_SLOT_NOT_FOUND, account.getAccountNo()));
+
+        slot.deposit(amount);
+    }
+
+    /**
+     * 모든 슬롯 잔액을 비워 본 잔액에 합친 계좌를 반환한다.
+     * 호출자는 계좌에 배타 락(FOR UPDATE)을 잡고 있어야 한다.
+     */
+    public Account consolidate(Account lockedAccount) {
+        List<AccountBalanceSlot> slots = accountBalanceSlotRepository.findLockedByAccountIdOrderBySlotNo(lockedAccount.getAccountId());
+
+        long slotBalance = 0L;
+        for (AccountBalanceSlot slot : slots) {
+            slotBalance += slot.drain();
+        }
+        return lockedAccount.absorbSlotBalance(slotBalance);
+    }
+}
@@ -0,0 +1,133 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.repository.AccountRepository;
+import com.sw.remittanceservice.common.collection.ConcurrentLongPairLongMap;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * accountNo → accountId 변환 캐시.
+ * 계좌번호와 계좌 ID의 대응은 생성 이후 바뀌지 않으므로 한 번 조회한 결과는 만료 없이 보관한다.
+ * UUID 계좌번호는 두 개의 long으로, 숫자 계좌번호({@link AccountNoAllocator})는 (0, 번호)로 인코딩해 원시 타입 맵에 저장한다.
+ * UUID.randomUUID()는 상위 64비트가 0인 값을 만들지 않으므로 두 형식의 키는 겹치지 않는다.
+ * 검증 숫자가 틀린 숫자 계좌번호는 DB를 조회하지 않고 없는 계좌로 처리하며, 그 밖의 형식은 캐시하지 않고 DB에서 조회한다.
+ */
+@Component
+public class AccountIdResolver {
+
+    private static final int UUID_LENGTH = 36;
+
+    private static final long NUMERIC_HI = 0L;
+
+    private final AccountRepository accountRepository;
+
+    private final ConcurrentLongPairLongMap accountIds;
+
+    public AccountIdResolver(AccountRepository accountRepository, AccountIdResolverProperties properties) {
+        this.accountRepository = accountRepository;
+        this.accountIds = new ConcurrentLongPairLongMap(properties.getSegmentCount(), properties.getMaxEntries());
+    }
+
+    public Optional<Long> resolve(String accountNo) {
+        if (isMistypedNumeric(accountNo)) {
+            return Optional.empty();
+        }
+        if (!isCacheable(accountNo)) {
+            return accountRepository.findIdByAccountNo(accountNo);
+        }
+
+        long hi = hiKey(accountNo);
+        long lo = loKey(accountNo);
+
+        long cached = accountIds.get(hi, lo);
+        if (cached != ConcurrentLongPairLongMap.MISSING) {
+            return Optional.of(cached);
+        }
+
+        Optional<Long> accountId = accountRepository.findIdByAccountNo(accountNo);
+        accountId.ifPresent(id -> accountIds.putIfAbsent(hi, lo, id));
+        return accountId;
+    }
+
+    /**
+     * DB를 조회하지 않고 캐시에 있는 값만 반환한다. 블로킹하면 안 되는 조회 경로({@link ReactiveAccountIdResolver})에서 사용한다.
+     */
+    public Optional<Long> findCached(String accountNo) {
+        if (!isCacheable(accountNo)) {
+            return Optional.empty();
+        }
+        long cached = accountIds.get(hiKey(accountNo), loKey(accountNo));
+        return cached == ConcurrentLongPairLongMap.MISSING ? Optional.empty() : Optional.of(cached);
+    }
+
+    /**
+     * 계좌 생성 시 호출해 첫 요청부터 DB 조회 없이 변환되도록 한다.
+     */
+    public void register(String accountNo, Long accountId) {
+        if (accountId == null || !isCacheable(accountNo)) {
+            return;
+        }
+        accountIds.putIfAbsent(hiKey(accountNo), loKey(accountNo), accountId);
+    }
+
+    public long size() {
+        return accountIds.size();
+    }
+
+    static boolean isCacheable(String accountNo) {
+        return isCanonicalUuid(accountNo) || AccountNoAllocator.isValid(accountNo);
+    }
+
+    private static boolean isMistypedNumeric(String accountNo) {
+        return AccountNoAllocator.isNumericFormat(accountNo) && !AccountNoAllocator.isValid(accountNo);
+    }
+
+    private static long hiKey(String accountNo) {
+        return accountNo.length() == UUID_LENGTH ? hiBits(accountNo) : NUMERIC_HI;
+    }
+
+    private static long loKey(String accountNo) {
+        return accountNo.length() == UUID_LENGTH ? loBits(accountNo) : Long.parseLong(accountNo);
+    }
+
+    /**
+     * UUID.toString() 형식(소문자 16진수, 8-4-4-4-12)만 허용한다.
+     * 대소문자나 자릿수가 다른 표기까지 같은 키로 접으면 DB에 저장된 문자열과 다른 계좌번호가 캐시를 통과할 수 있다.
+     */
+    static boolean isCanonicalUuid(String accountNo) {
+        if (accountNo == null || accountNo.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = accountNo.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hiBits(String uuid) {
+        long bits = parseHex(uuid, 0, 8);
+        bits = (bits << 16) | parseHex(uuid, 9, 13);
+        return (bits << 16) | parseHex(uuid, 14, 18);
+    }
+
+    private static long loBits(String uuid) {
+        long bits = parseHex(uuid, 19, 23);
+        return (bits << 48) | parseHex(uuid, 24, 36);
+    }
+
+    private static long parseHex(String value, int from, int to) {
+        long bits = 0;
+        for (int i = from; i < to; i++) {
+            bits = (bits << 4) | Character.digit(value.charAt(i), 16);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,21 @@
+package com.sw.remittanceservice.account.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "remittance.account-id-resolver")
+public class AccountIdResolverProperties {
+
+    /**
+     * 쓰기 락을 나누는 세그먼트 수
+     */
+    private int segmentCount = 64;
+
+    /**
+     * 캐시에 보관할 최대 계좌 수. 엔트리당 32~64바이트이므로 기본값 기준 최대 약 640MB를 사용한다.
+     */
+    private long maxEntries = 10_000_000;
+}
@@ -0,0 +1,121 @@
+package com.sw.remittanceservice.account.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sw.remittanceservice.account.entity.AccountLimitSetting;
+import com.sw.remittanceservice.account.repository.AccountLimitSettingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 계좌 한도 설정 로컬 캐시 (accountId 기준).
+ * 한도는 거의 바뀌지 않으므로 입출금/이체마다 하던 조회를 캐시로 대신한다.
+ * 한도를 바꾸면 커밋 이후 Redis pub/sub으로 모든 노드의 캐시를 무효화한다.
+ */
+@Component
+public class AccountLimitSettingCache {
+
+    public static final String CACHE_NAME = "account-limit-setting";
+
+    public static final String INVALIDATION_CHANNEL = "account-limit-setting-invalidation";
+
+    private final AccountLimitSettingRepository accountLimitSettingRepository;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final AsyncCache<Long, AccountLimitSetting> cache;
+
+    public AccountLimitSettingCache(
+            AccountLimitSettingRepository accountLimitSettingRepository,
+            StringRedisTemplate redisTemplate,
+            AccountLimitSettingCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.accountLimitSettingRepository = accountLimitSettingRepository;
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 설정은 여러 요청이 공유하는 영속성 컨텍스트 밖의 사본이므로 읽기 용도로만 사용한다.
+     */
+    public Optional<AccountLimitSetting> findByAccountId(Long accountId) {
+        CompletableFuture<AccountLimitSetting> loading = new CompletableFuture<>();
+        CompletableFuture<AccountLimitSetting> cached = cache.get(accountId, (key, executor) -> loading);
+
+        // DB 조회를 캐시 내부 락(synchronized) 밖, 호출 스레드에서 수행해 가상 스레드가 캐리어에 고정되지 않게 한다.
+        // 같은 키를 동시에 조회한 요청은 먼저 들어온 요청의 결과를 기다린다. 적재 중 무효화되면 결과는 캐시에 남지 않는다.
+        if (cached == loading) {
+            try {
+                loading.complete(load(accountId));
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return Optional.ofNullable(cached.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 모든 노드의 캐시에서 제거한다. 커밋 전에 지우면 다른 요청이 이전 값을 다시 적재할 수 있다.
+     */
+    public void evictAfterCommit(Long accountId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishEviction(accountId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publishEviction(accountId);
+            }
+        });
+    }
+
+    /**
+     * 이 노드의 캐시에서만 제거한다. 무효화 메시지 수신 시 호출된다.
+     */
+    public void evict(Long accountId) {
+        cache.synchronous().invalidate(accountId);
+    }
+
+    private void publishEviction(Long accountId) {
+        evict(accountId);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(accountId));
+    }
+
+    private AccountLimitSetting load(Long accountId) {
+        return accountLimitSettingRepository.findByAccountId(accountId)
+                .map(setting -> new AccountLimitSetting(
+                        setting.getAccountLimitSettingId(),
+                        setting.getAccountId(),
+                        setting.getDailyWithdrawLimit(),
+                        setting.getDailyTransferLimit(),
+                        setting.getCreatedAt(),
+                        setting.getUpdatedAt()
+                ))
+                .orElse(null);
+    }
+}
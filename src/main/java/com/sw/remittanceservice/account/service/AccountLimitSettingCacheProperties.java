@@ -0,0 +1,23 @@
+package com.sw.remittanceservice.account.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "remittance.limit-setting-cache")
+public class AccountLimitSettingCacheProperties {
+
+    /**
+     * 캐시에 보관할 최대 계좌 수
+     */
+    private long maximumSize = 100_000;
+
+    /**
+     * 적재 후 만료 시간. 무효화 메시지를 놓친 노드가 오래된 한도를 쓰는 최대 시간이다.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+}
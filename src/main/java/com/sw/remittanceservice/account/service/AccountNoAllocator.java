@@ -0,0 +1,146 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.entity.AccountNoSequence;
+import com.sw.remittanceservice.account.repository.AccountNoSequenceRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 숫자 14자리 계좌번호 발급기. 앞 13자리는 순번, 마지막 1자리는 Luhn 검증 숫자다.
+ * 순번은 account_no_sequence 에서 구간 단위로 예약해 두고 메모리에서 나눠 주므로, 계좌 생성마다 DB 왕복이 생기지 않는다.
+ * 노드마다 다른 구간을 쓰므로 번호는 전역적으로는 "대체로" 증가하고, account_no 인덱스에는 오른쪽 끝 근처로만 삽입된다.
+ * 예약 후 쓰지 못한 번호(재시작, 롤백)는 버려지며 재사용하지 않는다.
+ * 구간 예약은 별도 커넥션으로 하므로, 커넥션을 쥔 트랜잭션 안에서 부르지 않는다. (풀이 가득 차면 서로를 기다리며 멈춘다)
+ */
+@Component
+public class AccountNoAllocator {
+
+    public static final int LENGTH = 14;
+
+    static final long SEQUENCE_ID = 1L;
+
+    private static final int BODY_LENGTH = LENGTH - 1;
+
+    private static final long MAX_BODY = 9_999_999_999_999L;
+
+    private static final long FIRST_BODY = 1L;
+
+    private final AccountNoSequenceRepository accountNoSequenceRepository;
+
+    private final AccountNoProperties accountNoProperties;
+
+    private final TransactionTemplate requiresNewTransaction;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 예약한 구간 [next, end)
+     */
+    private long next;
+
+    private long end;
+
+    public AccountNoAllocator(
+            AccountNoSequenceRepository accountNoSequenceRepository,
+            AccountNoProperties accountNoProperties,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.accountNoSequenceRepository = accountNoSequenceRepository;
+        this.accountNoProperties = accountNoProperties;
+        // 계좌 생성이 롤백되어도 예약한 구간은 반영되어야 다른 노드와 겹치지 않는다.
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public String allocate() {
+        lock.lock();
+        try {
+            if (next == end) {
+                int blockSize = accountNoProperties.getBlockSize();
+                next = reserveBlock(blockSize);
+                end = next + blockSize;
+            }
+            return format(next++);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long reserveBlock(int blockSize) {
+        Long start = requiresNewTransaction.execute(status -> {
+            AccountNoSequence sequence = accountNoSequenceRepository.findLockedByAccountNoSequenceId(SEQUENCE_ID)
+                    .orElseGet(() -> {
+                        accountNoSequenceRepository.insertIgnore(SEQUENCE_ID, FIRST_BODY, LocalDateTime.now());
+                        return accountNoSequenceRepository.findLockedByAccountNoSequenceId(SEQUENCE_ID).orElseThrow();
+                    });
+            return sequence.reserve(blockSize);
+        });
+        if (start == null || start + blockSize - 1 > MAX_BODY) {
+            throw new IllegalStateException("계좌번호를 더 이상 발급할 수 없습니다: " + start);
+        }
+        return start;
+    }
+
+    /**
+     * 13자리 순번 + Luhn 검증 숫자
+     */
+    public static String format(long body) {
+        char[] digits = new char[LENGTH];
+        long value = body;
+        for (int i = BODY_LENGTH - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        digits[BODY_LENGTH] = checkDigit(digits, BODY_LENGTH);
+        return new String(digits);
+    }
+
+    /**
+     * 숫자 14자리 형식인지만 본다. 검증 숫자까지 맞는지는 {@link #isValid(String)}로 확인한다.
+     */
+    public static boolean isNumericFormat(String accountNo) {
+        if (accountNo == null || accountNo.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            char c = accountNo.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 숫자 14자리이고 검증 숫자가 맞는지 확인한다. 오타 난 계좌번호는 DB를 조회하기 전에 걸러진다.
+     */
+    public static boolean isValid(String accountNo) {
+        if (!isNumericFormat(accountNo)) {
+            return false;
+        }
+        char[] digits = accountNo.toCharArray();
+        return checkDigit(digits, BODY_LENGTH) == digits[BODY_LENGTH];
+    }
+
+    private static char checkDigit(char[] digits, int length) {
+        int sum = 0;
+        boolean doubled = true;
+        for (int i = length - 1; i >= 0; i--) {
+            int digit = digits[i] - '0';
+            if (doubled) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubled = !doubled;
+        }
+        return (char) ('0' + (10 - sum % 10) % 10);
+    }
+}
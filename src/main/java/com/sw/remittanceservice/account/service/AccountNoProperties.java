@@ -0,0 +1,16 @@
+package com.sw.remittanceservice.account.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "remittance.account-no")
+public class AccountNoProperties {
+
+    /**
+     * 한 번에 예약하는 계좌번호 수. 클수록 예약 횟수는 줄지만 재시작 시 버려지는 번호가 늘어난다.
+     */
+    private int blockSize = 1_000;
+}
@@ -8,49 +8,72 @@ import com.sw.remittanceservice.common.exception.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
-import java.util.UUID;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AccountService {
 
     private final AccountRepository accountRepository;
 
     private final AccountLimitSettingRepository accountLimitSettingRepository;
 
-    public AccountResponse read(String accountNo) {
-        Account account = accountRepository.findByAccountNo(accountNo)
-                .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo));
+    private final AccountLimitSettingCache accountLimitSettingCache;
 
-        AccountLimitSetting setting = accountLimitSettingRepository.findByAccountId(account.getAccountId())
-                .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_LIMIT_SETTING_NOT_FOUND, accountNo));
+    private final AccountIdResolver accountIdResolver;
 
-        return AccountResponse.from(account, setting.getDailyWithdrawLimit(), setting.getDailyTransferLimit());
-    }
+    private final AccountNoAllocator accountNoAllocator;
 
-    @Transactional
+    private final TransactionCounter transactionCounter;
+
+    private final TransactionOperations transactionOperations;
+
+    /**
+     * 계좌번호는 트랜잭션을 열기 전에 발급한다. 발급기가 구간을 예약할 때 커넥션을 하나 더 쓰므로,
+     * 트랜잭션 안에서 발급하면 커넥션 풀이 가득 찼을 때 커넥션을 쥔 요청끼리 서로를 기다리며 멈출 수 있다.
+     * 저장은 발급 뒤에 여는 트랜잭션에서 한다.
+     */
     public AccountResponse create() {
-        String accountNo = UUID.randomUUID().toString();
+        String accountNo = accountNoAllocator.allocate();
 
-        Account account = accountRepository.save(
-                Account.create(accountNo)
-        );
+        return transactionOperations.execute(status -> {
+            Account account = accountRepository.save(
+                    Account.create(accountNo)
+            );
 
-        AccountLimitSetting setting = accountLimitSettingRepository.save(AccountLimitSetting.defaultOf(account.getAccountId()));
+            AccountLimitSetting setting = accountLimitSettingRepository.save(AccountLimitSetting.defaultOf(account.getAccountId()));
+            transactionCounter.initialize(account.getAccountId());
 
-        return AccountResponse.from(account, setting.getDailyWithdrawLimit(), setting.getDailyTransferLimit());
+            accountIdResolver.register(account.getAccountNo(), account.getAccountId());
 
+            return AccountResponse.from(account, setting.getDailyWithdrawLimit(), setting.getDailyTransferLimit());
+        });
     }
 
     @Transactional
     public void delete(String accountNo) {
 
-        Account account = accountRepository.findLockedByAccountNo(accountNo)
+        Account account = accountIdResolver.resolve(accountNo)
+                .flatMap(accountRepository::findLockedByAccountId)
                 .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo));
 
         account.validateActive();
         account.close();
     }
+
+    @Transactional
+    public void changeLimit(String accountNo, Long dailyWithdrawLimit, Long dailyTransferLimit) {
+
+        Account account = accountIdResolver.resolve(accountNo)
+                .flatMap(accountRepository::findById)
+                .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo));
+
+        account.validateActive();
+
+        AccountLimitSetting setting = accountLimitSettingRepository.findByAccountId(account.getAccountId())
+                .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_LIMIT_SETTING_NOT_FOUND, accountNo));
+
+        setting.change(dailyWithdrawLimit, dailyTransferLimit);
+        accountLimitSettingCache.evictAfterCommit(account.getAccountId());
+    }
 }
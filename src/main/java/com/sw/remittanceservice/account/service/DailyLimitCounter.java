@@ -0,0 +1,121 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.entity.AccountDailyLimitUsage;
+import com.sw.remittanceservice.account.repository.AccountDailyLimitUsageRepository;
+import com.sw.remittanceservice.account.repository.DailyLimitRedisRepository;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import com.sw.remittanceservice.common.id.TsidGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 오늘의 출금/이체 누적액을 Redis 카운터로 관리한다.
+ * 한도 검사와 누적은 Lua 스크립트 한 번으로 처리하고, 트랜잭션이 롤백되면 누적한 만큼 되돌린다.
+ * account_daily_limit_usage는 write-back으로 갱신되는 영속 기록이며, 카운터가 없을 때(캐시 미스)만 조회한다.
+ * 여러 노드가 같은 계좌를 차례로 반영하면 늦게 읽은 값이 먼저 쓰일 수 있어 write-back 은 값을 올리기만 한다.
+ * 그래서 롤백 보상으로 카운터가 내려간 만큼은 DB에 반영되지 않는다. (DB 값은 실제 누적액 이상이므로 한도를 넘기지는 않는다)
+ */
+@Service
+@RequiredArgsConstructor
+public class DailyLimitCounter {
+
+    private final DailyLimitRedisRepository dailyLimitRedisRepository;
+
+    private final AccountDailyLimitUsageRepository accountDailyLimitUsageRepository;
+
+    private final DailyLimitProperties dailyLimitProperties;
+
+    private final TsidGenerator tsidGenerator;
+
+    public void addWithdrawUsed(Long accountId, long amount, long withdrawLimit) {
+        add(accountId, DailyLimitRedisRepository.WITHDRAW_FIELD, amount, withdrawLimit, ErrorType.EXCEED_DAILY_WITHDRAW_LIMIT);
+    }
+
+    public void addTransferUsed(Long accountId, long amount, long transferLimit) {
+        add(accountId, DailyLimitRedisRepository.TRANSFER_FIELD, amount, transferLimit, ErrorType.EXCEED_DAILY_TRANSFER_LIMIT);
+    }
+
+    @Scheduled(fixedDelayString = "${remittance.daily-limit.write-back-interval-ms:1000}")
+    public void writeBack() {
+        if (dailyLimitProperties.getStore() != DailyLimitStore.REDIS) {
+            return;
+        }
+
+        long claimedAt = System.currentTimeMillis();
+        List<AccountDailyLimitUsage> usages = dailyLimitRedisRepository.popDirtyUsages(
+                dailyLimitProperties.getWriteBackBatchSize(),
+                claimedAt,
+                claimedAt - dailyLimitProperties.getWriteBackRetryAfter().toMillis()
+        );
+        for (int i = 0; i < usages.size(); i++) {
+            AccountDailyLimitUsage usage = usages.get(i);
+            try {
+                accountDailyLimitUsageRepository.upsertUsed(
+                        tsidGenerator.nextId(),
+                        usage.getAccountId(),
+                        usage.getLimitDate(),
+                        usage.getWithdrawUsed(),
+                        usage.getTransferUsed(),
+                        usage.getUpdatedAt()
+                );
+            } catch (RuntimeException e) {
+                // 반영하지 못한 항목은 다음 주기에 다시 시도한다.
+                usages.subList(i, usages.size()).forEach(dailyLimitRedisRepository::markDirty);
+                throw e;
+            }
+            dailyLimitRedisRepository.acknowledge(usage, claimedAt);
+        }
+    }
+
+    private void add(Long accountId, String field, long amount, long limit, ErrorType exceededErrorType) {
+        LocalDate today = LocalDate.now();
+
+        long used = dailyLimitRedisRepository.increment(accountId, today, field, amount, limit);
+        if (used == DailyLimitRedisRepository.CACHE_MISS) {
+            seed(accountId, today);
+            used = dailyLimitRedisRepository.increment(accountId, today, field, amount, limit);
+        }
+
+        if (used == DailyLimitRedisRepository.LIMIT_EXCEEDED) {
+            throw new CoreException(exceededErrorType, accountId);
+        }
+
+        compensateOnRollback(accountId, today, field, amount);
+    }
+
+    private void seed(Long accountId, LocalDate today) {
+        AccountDailyLimitUsage usage = accountDailyLimitUsageRepository.findByAccountIdAndLimitDate(accountId, today)
+                .orElseGet(() -> AccountDailyLimitUsage.init(accountId, today));
+
+        Instant expireAt = today.plusDays(1)
+                .atStartOfDay(ZoneId.systemDefault())
+                .toInstant()
+                .plus(dailyLimitProperties.getExpireGrace());
+
+        dailyLimitRedisRepository.seed(accountId, today, usage.getWithdrawUsed(), usage.getTransferUsed(), expireAt);
+    }
+
+    private void compensateOnRollback(Long accountId, LocalDate today, String field, long amount) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    dailyLimitRedisRepository.decrement(accountId, today, field, amount);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.sw.remittanceservice.account.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "remittance.daily-limit")
+public class DailyLimitProperties {
+
+    /**
+     * 일 누적 한도 저장소
+     */
+    private DailyLimitStore store = DailyLimitStore.DATABASE;
+
+    /**
+     * 한 번의 write-back 주기에 DB로 반영할 최대 계좌 수
+     */
+    private int writeBackBatchSize = 500;
+
+    /**
+     * write-back 으로 꺼낸 뒤 이 시간 안에 DB 반영을 확인하지 못한 항목(노드 중단 등)은 다시 write-back 대상으로 돌린다.
+     */
+    private Duration writeBackRetryAfter = Duration.ofMinutes(1);
+
+    /**
+     * 자정 이후에도 카운터를 유지하는 시간. 전날 누적값이 DB에 반영될 수 있도록 write-back 주기보다 길어야 한다.
+     */
+    private Duration expireGrace = Duration.ofHours(1);
+}
@@ -0,0 +1,14 @@
+package com.sw.remittanceservice.account.service;
+
+public enum DailyLimitStore {
+
+    /**
+     * account_daily_limit_usage 행을 FOR UPDATE로 잠그고 누적한다.
+     */
+    DATABASE,
+
+    /**
+     * Redis 카운터로 한도를 검사/누적하고 DB에는 비동기로 반영한다.
+     */
+    REDIS
+}
@@ -0,0 +1,25 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.dto.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 같은 JVM 안의 {@code @EventListener}로 이벤트를 전달하는 기본 싱크. 테스트나 외부 브로커가 없는 환경에서 사용한다.
+ */
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "remittance.outbox.sink", havingValue = "in-process", matchIfMissing = true)
+public class InProcessOutboxEventSink implements OutboxEventSink {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        messages.forEach(applicationEventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,32 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.dto.LockContentionReport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * GET /actuator/lockcontention?limit=20 - 최근 슬라이딩 윈도 동안 행 락을 가장 오래 기다린 계좌
+ */
+@Component
+@Endpoint(id = "lockcontention")
+@RequiredArgsConstructor
+public class LockContentionEndpoint {
+
+    private final LockContentionTracker lockContentionTracker;
+
+    private final LockContentionProperties lockContentionProperties;
+
+    @ReadOperation
+    public LockContentionReport report(@Nullable Integer limit) {
+        int topN = limit == null || limit <= 0 ? lockContentionProperties.getTopN() : limit;
+
+        return new LockContentionReport(
+                lockContentionTracker.windowSeconds(),
+                lockContentionTracker.top(LockResource.ACCOUNT, topN),
+                lockContentionTracker.top(LockResource.DAILY_LIMIT, topN)
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.sw.remittanceservice.account.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "remittance.lock-contention")
+public class LockContentionProperties {
+
+    /**
+     * 행 락 획득 시간 기록 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 구간 하나에서 자원별로 추적할 최대 계좌 수. 계좌 수와 상관없이 메모리는 이 값으로 고정된다.
+     */
+    private int capacity = 512;
+
+    /**
+     * 기록 시 락 경합을 나누기 위한 스트라이프 수. 계좌는 해시로 한 스트라이프에만 들어간다.
+     */
+    private int stripeCount = 8;
+
+    /**
+     * 슬라이딩 윈도를 이루는 구간 수
+     */
+    private int windowCount = 6;
+
+    /**
+     * 구간 하나의 길이. 보고서는 최근 windowCount * windowLength 동안의 값을 합친다.
+     */
+    private Duration windowLength = Duration.ofSeconds(10);
+
+    /**
+     * 보고서에 담을 기본 계좌 수
+     */
+    private int topN = 20;
+}
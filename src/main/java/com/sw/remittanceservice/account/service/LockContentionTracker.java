@@ -0,0 +1,169 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.dto.LockContentionEntry;
+import com.sw.remittanceservice.common.collection.SpaceSavingSketch;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 행 락 획득에 걸린 시간을 계좌별로 모아 가장 오래 기다린 계좌를 찾는다.
+ * 자원(LockResource)마다 windowCount 개의 구간을 링으로 돌려 쓰고, 구간마다 Space-Saving 스케치로 상위 계좌만 남긴다.
+ * 계좌 수와 상관없이 메모리는 자원 수 * windowCount * capacity 슬롯으로 고정된다.
+ * 기록은 계좌 해시로 고른 스트라이프 하나의 락만 잡는다. (가상 스레드가 고정되지 않도록 synchronized 대신 ReentrantLock)
+ */
+@Component
+public class LockContentionTracker {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    private final LockContentionProperties lockContentionProperties;
+
+    private final Clock clock;
+
+    private final long windowMillis;
+
+    private final Stripe[][][] stripes;
+
+    public LockContentionTracker(LockContentionProperties lockContentionProperties, Clock clock) {
+        this.lockContentionProperties = lockContentionProperties;
+        this.clock = clock;
+        this.windowMillis = lockContentionProperties.getWindowLength().toMillis();
+
+        int stripeCount = Integer.highestOneBit(Math.max(1, lockContentionProperties.getStripeCount()));
+        int stripeCapacity = Math.max(1, (lockContentionProperties.getCapacity() + stripeCount - 1) / stripeCount);
+        LockResource[] resources = LockResource.values();
+        this.stripes = new Stripe[resources.length][lockContentionProperties.getWindowCount()][stripeCount];
+        for (Stripe[][] windows : stripes) {
+            for (Stripe[] window : windows) {
+                for (int i = 0; i < stripeCount; i++) {
+                    window[i] = new Stripe(stripeCapacity);
+                }
+            }
+        }
+    }
+
+    public void record(LockResource resource, long accountId, long waitNanos) {
+        if (!lockContentionProperties.isEnabled()) {
+            return;
+        }
+
+        long epoch = clock.millis() / windowMillis;
+        Stripe[] window = stripes[resource.ordinal()][(int) (epoch % stripes[resource.ordinal()].length)];
+        Stripe stripe = window[stripeIndex(accountId, window.length)];
+
+        stripe.lock.lock();
+        try {
+            if (stripe.epoch != epoch) {
+                stripe.sketch.clear();
+                stripe.epoch = epoch;
+            }
+            // 히스토그램 구간 수를 넘지 않도록 마이크로초 단위로 기록한다.
+            stripe.sketch.add(accountId, waitNanos / 1_000L);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 최근 슬라이딩 윈도 동안 락 대기 시간 합이 큰 계좌 순으로 limit 개를 반환한다.
+     */
+    public List<LockContentionEntry> top(LockResource resource, int limit) {
+        long currentEpoch = clock.millis() / windowMillis;
+        Stripe[][] windows = stripes[resource.ordinal()];
+        Map<Long, Aggregate> aggregates = new HashMap<>();
+
+        for (Stripe[] window : windows) {
+            for (Stripe stripe : window) {
+                stripe.lock.lock();
+                try {
+                    if (stripe.epoch <= currentEpoch - windows.length || stripe.epoch > currentEpoch) {
+                        continue;
+                    }
+                    SpaceSavingSketch sketch = stripe.sketch;
+                    for (int slot = 0; slot < sketch.size(); slot++) {
+                        aggregates.computeIfAbsent(sketch.keyAt(slot), key -> new Aggregate()).add(sketch, slot);
+                    }
+                } finally {
+                    stripe.lock.unlock();
+                }
+            }
+        }
+
+        List<LockContentionEntry> entries = new ArrayList<>(aggregates.size());
+        aggregates.forEach((accountId, aggregate) -> entries.add(aggregate.toEntry(accountId)));
+        entries.sort(Comparator.comparingDouble(LockContentionEntry::totalWaitMillis).reversed());
+        return entries.size() > limit ? List.copyOf(entries.subList(0, limit)) : entries;
+    }
+
+    public long windowSeconds() {
+        return windowMillis * stripes[0].length / 1_000L;
+    }
+
+    private static int stripeIndex(long accountId, int stripeCount) {
+        long h = accountId * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & (stripeCount - 1);
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final SpaceSavingSketch sketch;
+
+        private long epoch = Long.MIN_VALUE;
+
+        private Stripe(int capacity) {
+            this.sketch = new SpaceSavingSketch(capacity);
+        }
+    }
+
+    private static final class Aggregate {
+
+        private long weightMicros;
+
+        private long errorMicros;
+
+        private long count;
+
+        private final long[] buckets = new long[SpaceSavingSketch.BUCKET_COUNT];
+
+        private void add(SpaceSavingSketch sketch, int slot) {
+            weightMicros += sketch.weightAt(slot);
+            errorMicros += sketch.errorAt(slot);
+            count += sketch.countAt(slot);
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                buckets[bucket] += sketch.bucketAt(slot, bucket);
+            }
+        }
+
+        private LockContentionEntry toEntry(Long accountId) {
+            return new LockContentionEntry(
+                    accountId,
+                    count,
+                    weightMicros / MICROS_PER_MILLI,
+                    errorMicros / MICROS_PER_MILLI,
+                    percentileMicros(0.50) / MICROS_PER_MILLI,
+                    percentileMicros(0.99) / MICROS_PER_MILLI
+            );
+        }
+
+        private long percentileMicros(double percentile) {
+            long threshold = (long) Math.ceil(count * percentile);
+            long cumulative = 0L;
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                cumulative += buckets[bucket];
+                if (cumulative >= Math.max(1L, threshold)) {
+                    return SpaceSavingSketch.bucketUpperBound(bucket);
+                }
+            }
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.sw.remittanceservice.account.service;
+
+public enum LockResource {
+
+    /**
+     * account 행 (findLockedByAccountId, findSharedLockedByAccountId)
+     */
+    ACCOUNT,
+
+    /**
+     * account_daily_limit_usage 행 (findLockedByAccountIdAndLimitDate)
+     */
+    DAILY_LIMIT
+}
@@ -0,0 +1,92 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.repository.AccountBalanceSlotRepository;
+import com.sw.remittanceservice.account.repository.AccountDailyLimitUsageRepository;
+import com.sw.remittanceservice.account.repository.AccountRepository;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 계좌/잔액 슬롯/일 한도 저장소에서 행 락을 잡는 호출을 감싸 락 획득까지 걸린 시간을 {@link LockContentionTracker}에 기록한다.
+ * 잠금 조회뿐 아니라 행을 바로 갱신하는 조건부 UPDATE 도 같은 행 락을 기다리므로 함께 기록한다. (경과 시간에는 갱신 자체도 포함된다)
+ * 잔액 슬롯의 락은 계좌 잔액을 두고 다투는 것이므로 계좌(account) 자원으로 기록한다.
+ * 여러 계좌를 한 번에 잠그는 조회(묶음 이체)는 그 호출의 대기 시간을 잠근 계좌마다 기록한다.
+ * 호출하는 유스케이스마다 계측 코드를 넣지 않고, 락을 잡는 모든 경로를 한 곳에서 잡기 위해 저장소 빈을 프록시로 감싼다.
+ */
+@Component
+public class LockWaitRecordingPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<LockContentionTracker> lockContentionTracker;
+
+    public LockWaitRecordingPostProcessor(ObjectProvider<LockContentionTracker> lockContentionTracker) {
+        this.lockContentionTracker = lockContentionTracker;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof AccountRepository)
+                && !(bean instanceof AccountBalanceSlotRepository)
+                && !(bean instanceof AccountDailyLimitUsageRepository)) {
+            return bean;
+        }
+
+        LockWaitInterceptor interceptor = new LockWaitInterceptor(lockContentionTracker);
+
+        // Spring Data 저장소는 이미 AOP 프록시이므로 새로 감싸지 않고 어드바이스만 맨 앞에 추가한다.
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy();
+    }
+
+    private record LockWaitInterceptor(ObjectProvider<LockContentionTracker> lockContentionTracker) implements MethodInterceptor {
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            LockResource resource = resourceOf(invocation.getMethod().getName());
+            Object[] arguments = invocation.getArguments();
+            if (resource == null || arguments.length == 0) {
+                return invocation.proceed();
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                long waitNanos = System.nanoTime() - startedAt;
+                LockContentionTracker tracker = lockContentionTracker.getObject();
+                if (arguments[0] instanceof Long accountId) {
+                    tracker.record(resource, accountId, waitNanos);
+                } else if (arguments[0] instanceof Collection<?> accountIds) {
+                    // 여러 행을 한 번에 잠그면 어느 행에서 기다렸는지 알 수 없으므로, 한 번에 잠근 계좌 모두 그만큼 기다린 것으로 기록한다.
+                    for (Object id : accountIds) {
+                        if (id instanceof Long accountId) {
+                            tracker.record(resource, accountId, waitNanos);
+                        }
+                    }
+                }
+            }
+        }
+
+        private static LockResource resourceOf(String methodName) {
+            return switch (methodName) {
+                case "findLockedByAccountId", "findSharedLockedByAccountId", "findAllLockedByAccountIdIn",
+                     "withdrawIfSufficient", "depositIfActive",
+                     "findLockedByAccountIdAndSlotNo", "findLockedByAccountIdOrderBySlotNo" -> LockResource.ACCOUNT;
+                case "findLockedByAccountIdAndLimitDate", "addWithdrawUsedWithinLimit" -> LockResource.DAILY_LIMIT;
+                default -> null;
+            };
+        }
+    }
+}
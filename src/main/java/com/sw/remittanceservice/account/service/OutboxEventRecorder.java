@@ -0,0 +1,43 @@
+package com.sw.remittanceservice.account.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sw.remittanceservice.account.dto.TransactionEventPayload;
+import com.sw.remittanceservice.account.entity.OutboxEvent;
+import com.sw.remittanceservice.account.entity.Transaction;
+import com.sw.remittanceservice.account.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 저장된 거래마다 아웃박스 이벤트를 남긴다. 호출한 유스케이스의 트랜잭션에 참여하므로 거래와 이벤트는 함께 커밋/롤백된다.
+ */
+@RequiredArgsConstructor
+@Component
+public class OutboxEventRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final ObjectMapper objectMapper;
+
+    public void record(Transaction transaction) {
+        outboxEventRepository.save(toEvent(transaction));
+    }
+
+    public void recordAll(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        outboxEventRepository.saveAll(transactions.stream().map(this::toEvent).toList());
+    }
+
+    private OutboxEvent toEvent(Transaction transaction) {
+        try {
+            return OutboxEvent.of(transaction, objectMapper.writeValueAsString(TransactionEventPayload.from(transaction)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("거래 이벤트 직렬화 실패: " + transaction.getTransactionId(), e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.dto.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 발행 대상. 메시지 브로커 등 외부 시스템 연동은 이 인터페이스를 구현해 등록한다.
+ * 예외 없이 반환되면 발행된 것으로 보고 아웃박스에서 삭제한다. 예외가 나면 묶음 전체를 다음 주기에 다시 발행한다(at-least-once).
+ */
+public interface OutboxEventSink {
+
+    void publish(List<OutboxMessage> messages);
+}
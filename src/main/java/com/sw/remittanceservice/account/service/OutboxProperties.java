@@ -0,0 +1,31 @@
+package com.sw.remittanceservice.account.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "remittance.outbox")
+public class OutboxProperties {
+
+    /**
+     * 이 노드에서 릴레이를 실행할지 여부
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * 한 번에 잠그고 발행할 최대 이벤트 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 한 주기에 연속으로 처리할 최대 묶음 수. 밀린 이벤트가 많아도 스케줄러 스레드를 무한정 점유하지 않도록 제한한다.
+     */
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * 발행 대상: in-process(기본) 또는 직접 등록한 싱크 이름
+     */
+    private String sink = "in-process";
+}
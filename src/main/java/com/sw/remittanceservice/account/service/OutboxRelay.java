@@ -0,0 +1,101 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.dto.OutboxMessage;
+import com.sw.remittanceservice.account.entity.OutboxEvent;
+import com.sw.remittanceservice.account.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트를 묶음 단위로 싱크에 발행한다.
+ * 한 트랜잭션에서 "SKIP LOCKED로 잠금 → 발행 → 삭제"를 수행하므로 여러 노드가 동시에 실행해도 같은 이벤트를 나눠 갖지 않는다.
+ * 발행 후 커밋 전에 실패하면 다음 주기에 다시 발행된다(at-least-once).
+ */
+@Service
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final OutboxEventSink outboxEventSink;
+
+    private final OutboxProperties outboxProperties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Timer lag;
+
+    private final DistributionSummary batchSize;
+
+    private final Counter published;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxEventSink outboxEventSink,
+            OutboxProperties outboxProperties,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxEventSink = outboxEventSink;
+        this.outboxProperties = outboxProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.lag = Timer.builder("outbox.relay.lag")
+                .description("이벤트 저장부터 발행까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("outbox.relay.batch.size")
+                .description("한 번에 발행한 이벤트 수")
+                .register(meterRegistry);
+        this.published = Counter.builder("outbox.relay.published")
+                .description("발행한 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${remittance.outbox.relay-interval-ms:200}")
+    public void relay() {
+        if (!outboxProperties.isRelayEnabled()) {
+            return;
+        }
+
+        for (int i = 0; i < outboxProperties.getMaxBatchesPerRun(); i++) {
+            if (relayBatch() < outboxProperties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 한 묶음을 발행하고 발행한 이벤트 수를 반환한다.
+     */
+    public int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.findPendingForUpdateSkipLocked(outboxProperties.getBatchSize());
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            outboxEventSink.publish(events.stream().map(OutboxMessage::from).toList());
+            outboxEventRepository.deleteAllInBatch(events);
+
+            LocalDateTime publishedAt = LocalDateTime.now();
+            events.forEach(event -> lag.record(Duration.between(event.getCreatedAt(), publishedAt)));
+            return events.size();
+        });
+
+        int count = relayed == null ? 0 : relayed;
+        if (count > 0) {
+            batchSize.record(count);
+            published.increment(count);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,28 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.repository.ReactiveAccountRepository;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link AccountIdResolver}의 논블로킹 버전. 캐시를 먼저 보고, 없으면 R2DBC로 조회한 뒤 같은 캐시에 등록한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ReactiveAccountIdResolver {
+
+    private final AccountIdResolver accountIdResolver;
+
+    private final ReactiveAccountRepository reactiveAccountRepository;
+
+    public Mono<Long> resolve(String accountNo) {
+        return accountIdResolver.findCached(accountNo)
+                .map(Mono::just)
+                .orElseGet(() -> reactiveAccountRepository.findIdByAccountNo(accountNo)
+                        .doOnNext(accountId -> accountIdResolver.register(accountNo, accountId)))
+                .switchIfEmpty(Mono.error(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.dto.AccountResponse;
+import com.sw.remittanceservice.account.repository.ReactiveAccountRepository;
+import com.sw.remittanceservice.common.datasource.ReadConsistency;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 계좌 조회. R2DBC 기반이라 요청 스레드와 JDBC 커넥션을 잡지 않는다.
+ * 복제 DB 라우팅을 켜면 요청의 일관성 토큰을 Reactor Context 로 넘겨 커넥션을 고를 때 쓴다.
+ */
+@Service
+public class ReactiveAccountService {
+
+    private final ReactiveAccountRepository reactiveAccountRepository;
+
+    private final ReactiveAccountIdResolver reactiveAccountIdResolver;
+
+    private final Timer resolveTimer;
+
+    private final Timer queryTimer;
+
+    public ReactiveAccountService(
+            ReactiveAccountRepository reactiveAccountRepository,
+            ReactiveAccountIdResolver reactiveAccountIdResolver,
+            MeterRegistry meterRegistry
+    ) {
+        this.reactiveAccountRepository = reactiveAccountRepository;
+        this.reactiveAccountIdResolver = reactiveAccountIdResolver;
+        this.resolveTimer = readTimer(meterRegistry, "resolve");
+        this.queryTimer = readTimer(meterRegistry, "query");
+    }
+
+    public Mono<AccountResponse> read(String accountNo) {
+        return ReactiveTiming.timed(reactiveAccountIdResolver.resolve(accountNo), resolveTimer)
+                .flatMap(accountId -> ReactiveTiming.timed(reactiveAccountRepository.findResponseByAccountId(accountId), queryTimer))
+                .switchIfEmpty(Mono.error(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo)))
+                .flatMap(response -> response.dailyWithdrawLimit() == null
+                        ? Mono.error(new CoreException(ErrorType.ACCOUNT_LIMIT_SETTING_NOT_FOUND, accountNo))
+                        : Mono.just(response))
+                .contextWrite(ReadConsistency.context());
+    }
+
+    private static Timer readTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("remittance.account.read")
+                .description("계좌 조회 구간별 처리 시간. resolve 는 캐시에 없는 계좌번호만 DB를 읽는다")
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,22 @@
+package com.sw.remittanceservice.account.service;
+
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+final class ReactiveTiming {
+
+    private ReactiveTiming() {
+    }
+
+    /**
+     * 구독부터 종료(완료/오류/취소)까지를 잰다. Mono 를 조립하는 시점이 아니라 실제로 쿼리가 나가는 구간이다.
+     */
+    static <T> Mono<T> timed(Mono<T> source, Timer timer) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return source.doFinally(signal -> timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS));
+        });
+    }
+}
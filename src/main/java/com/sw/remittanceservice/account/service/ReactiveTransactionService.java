@@ -0,0 +1,127 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.dto.TransactionCursor;
+import com.sw.remittanceservice.account.dto.TransactionPageResponse;
+import com.sw.remittanceservice.account.dto.TransactionResponse;
+import com.sw.remittanceservice.account.dto.TransactionScrollResponse;
+import com.sw.remittanceservice.account.entity.Transaction;
+import com.sw.remittanceservice.account.repository.ReactiveTransactionRepository;
+import com.sw.remittanceservice.common.datasource.ReadConsistency;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 거래 내역 조회. R2DBC 기반이라 요청 스레드와 JDBC 커넥션을 잡지 않는다.
+ * 복제 DB 라우팅을 켜면 요청의 일관성 토큰을 Reactor Context 로 넘겨 커넥션을 고를 때 쓴다.
+ */
+@Service
+public class ReactiveTransactionService {
+
+    private final ReactiveTransactionRepository reactiveTransactionRepository;
+
+    private final ReactiveAccountIdResolver reactiveAccountIdResolver;
+
+    private final Timer pageQueryTimer;
+
+    private final Timer pageCountTimer;
+
+    private final Timer scrollQueryTimer;
+
+    private final Counter maintainedCount;
+
+    private final Counter fallbackCount;
+
+    public ReactiveTransactionService(
+            ReactiveTransactionRepository reactiveTransactionRepository,
+            ReactiveAccountIdResolver reactiveAccountIdResolver,
+            MeterRegistry meterRegistry
+    ) {
+        this.reactiveTransactionRepository = reactiveTransactionRepository;
+        this.reactiveAccountIdResolver = reactiveAccountIdResolver;
+        this.pageQueryTimer = readTimer(meterRegistry, "page", "query");
+        this.pageCountTimer = readTimer(meterRegistry, "page", "count");
+        this.scrollQueryTimer = readTimer(meterRegistry, "scroll", "query");
+        this.maintainedCount = countSourceCounter(meterRegistry, "maintained");
+        this.fallbackCount = countSourceCounter(meterRegistry, "fallback");
+    }
+
+    /**
+     * 전체 건수는 거래 저장 시 함께 유지하는 카운터에서 읽는다. 카운터가 없는 계좌만 이동 가능한 페이지 범위까지 세는 방식으로 대신한다.
+     */
+    public Mono<TransactionPageResponse> readAll(String accountNo, Long page, Long pageSize) {
+        return reactiveAccountIdResolver.resolve(accountNo)
+                .flatMap(accountId -> Mono.zip(
+                        ReactiveTiming.timed(reactiveTransactionRepository.findAllByAccountId(accountId, (page - 1) * pageSize, pageSize)
+                                .map(TransactionResponse::from)
+                                .collectList(), pageQueryTimer),
+                        ReactiveTiming.timed(reactiveTransactionRepository.countMaintained(accountId)
+                                .doOnNext(count -> maintainedCount.increment())
+                                .switchIfEmpty(Mono.defer(() -> {
+                                    fallbackCount.increment();
+                                    return reactiveTransactionRepository.count(accountId, PageLimitCalculator.calculatePageLimit(page, pageSize, 10L));
+                                })), pageCountTimer)
+                ))
+                .map(result -> TransactionPageResponse.of(result.getT1(), result.getT2()))
+                .contextWrite(ReadConsistency.context());
+    }
+
+    /**
+     * (created_at, transaction_id) 커서 기반 조회. 조회 깊이와 상관없이 인덱스에서 커서 위치부터 pageSize + 1건만 읽는다.
+     */
+    public Mono<TransactionScrollResponse> readAllInfiniteScroll(String accountNo, String cursor, Long pageSize) {
+
+        if (pageSize == null || pageSize <= 0) {
+            return Mono.error(new CoreException(ErrorType.INVALID_REQUEST, pageSize));
+        }
+
+        return Mono.defer(() -> {
+            TransactionCursor lastCursor = cursor == null || cursor.isBlank() ? null : TransactionCursor.decode(cursor);
+
+            return reactiveAccountIdResolver.resolve(accountNo)
+                    .flatMap(accountId -> ReactiveTiming.timed((lastCursor == null
+                            ? reactiveTransactionRepository.findAllInfiniteScroll(accountId, pageSize + 1)
+                            : reactiveTransactionRepository.findAllInfiniteScroll(accountId, lastCursor.createdAt(), lastCursor.transactionId(), pageSize + 1))
+                            .collectList(), scrollQueryTimer))
+                    .map(transactions -> toScrollResponse(transactions, pageSize));
+        }).contextWrite(ReadConsistency.context());
+    }
+
+    private static TransactionScrollResponse toScrollResponse(List<Transaction> transactions, Long pageSize) {
+        boolean hasNext = transactions.size() > pageSize;
+        List<Transaction> page = hasNext ? transactions.subList(0, pageSize.intValue()) : transactions;
+
+        String nextCursor = hasNext ? TransactionCursor.from(page.get(page.size() - 1)).encode() : null;
+
+        return TransactionScrollResponse.of(
+                page.stream().map(TransactionResponse::from).toList(),
+                nextCursor,
+                hasNext
+        );
+    }
+
+    private static Timer readTimer(MeterRegistry meterRegistry, String mode, String phase) {
+        return Timer.builder("remittance.transaction.read")
+                .description("거래 내역 조회 구간별 처리 시간")
+                .tag("mode", mode)
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    private static Counter countSourceCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("remittance.transaction.count.source")
+                .description("거래 내역 전체 건수를 어디서 읽었는지")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
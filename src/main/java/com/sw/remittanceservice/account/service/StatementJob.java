@@ -0,0 +1,549 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.dto.StatementProgressResponse;
+import com.sw.remittanceservice.account.dto.StatementRunResponse;
+import com.sw.remittanceservice.account.entity.StatementCheckpoint;
+import com.sw.remittanceservice.account.entity.enums.TransactionType;
+import com.sw.remittanceservice.account.repository.StatementCheckpointRepository;
+import com.sw.remittanceservice.account.repository.StatementRepository;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 월별 거래명세서를 생성한다.
+ * account_id 구간을 파티션으로 나눠 제한된 수의 워커가 병렬로 처리하고, 파티션마다 명세서 파일 하나를 쓴다.
+ * 파티션 진행 상태는 statement_checkpoint 에 남기므로, 같은 월로 다시 실행하면 끝난 파티션은 건너뛰고 중단된 파티션은 마지막 체크포인트부터 이어 쓴다.
+ * 워커는 파티션을 선점한 뒤 처리하므로, 같은 월을 동시에 실행해도(여러 노드, 수동 실행과 정기 실행) 한 파티션을 두 실행이 함께 쓰지 않는다.
+ * 선점은 체크포인트와 별개로 주기적으로 늘리고, 선점을 잃으면(다른 실행이 가져가면) 그 파티션 파일에 더 쓰지 않는다.
+ */
+@Service
+public class StatementJob implements DisposableBean {
+
+    private static final TransactionType[] TRANSACTION_TYPES = TransactionType.values();
+
+    private final StatementRepository statementRepository;
+
+    private final StatementCheckpointRepository statementCheckpointRepository;
+
+    private final StatementProperties statementProperties;
+
+    private final DataSource dataSource;
+
+    private final Counter processedAccounts;
+
+    private final Timer runTimer;
+
+    private final Counter failedRuns;
+
+    // start 로 시작한 실행마다 스레드 하나. 작업 안에서 워커 스레드를 따로 만든다.
+    private final ExecutorService runner = Executors.newCachedThreadPool(Thread.ofPlatform().name("statement-run-", 0).factory());
+
+    public StatementJob(
+            StatementRepository statementRepository,
+            StatementCheckpointRepository statementCheckpointRepository,
+            StatementProperties statementProperties,
+            DataSource dataSource,
+            MeterRegistry meterRegistry
+    ) {
+        this.statementRepository = statementRepository;
+        this.statementCheckpointRepository = statementCheckpointRepository;
+        this.statementProperties = statementProperties;
+        this.dataSource = dataSource;
+        this.processedAccounts = Counter.builder("statement.accounts")
+                .description("명세서를 쓴 계좌 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("statement.run")
+                .description("월별 명세서 생성 작업 실행 시간")
+                .register(meterRegistry);
+        this.failedRuns = Counter.builder("statement.run.failed")
+                .description("start 로 시작했다가 실패한 명세서 생성 실행 수 (다른 실행이 모든 파티션을 처리 중인 경우 포함)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 종료 시 실행 중인 작업을 중단한다. 풀지 못한 선점은 lease-timeout 이 지나면 다른 실행이 가져간다.
+     */
+    @Override
+    public void destroy() {
+        runner.shutdownNow();
+    }
+
+    /**
+     * 매월 초 지난달 명세서를 생성한다.
+     */
+    @Scheduled(cron = "${remittance.statement.cron:0 0 3 1 * *}")
+    public void runPreviousMonth() {
+        if (!statementProperties.isEnabled()) {
+            return;
+        }
+        run(YearMonth.now().minusMonths(1));
+    }
+
+    /**
+     * 명세서 생성을 별도 스레드에서 시작하고 실행 아이디를 바로 반환한다. 요청 스레드는 작업이 끝날 때까지 기다리지 않는다.
+     * 진행 상황은 {@link #progress}로, 실패는 statement.run.failed 메트릭으로 확인한다. 실패한 파티션은 다시 시작하면 체크포인트부터 이어 쓴다.
+     */
+    public String start(YearMonth statementMonth) {
+        String runId = UUID.randomUUID().toString();
+        runner.execute(() -> {
+            try {
+                run(statementMonth, runId);
+            } catch (RuntimeException e) {
+                failedRuns.increment();
+            }
+        });
+        return runId;
+    }
+
+    /**
+     * 파티션 체크포인트로 진행 상황을 만든다. 선점이 만료되지 않은 실행을 처리 중으로 본다.
+     */
+    public StatementProgressResponse progress(YearMonth statementMonth) {
+        List<StatementCheckpoint> checkpoints = statementCheckpointRepository.findAllByStatementMonthOrderByPartitionNo(statementMonth.toString());
+        LocalDateTime now = LocalDateTime.now();
+
+        int completedCount = (int) checkpoints.stream().filter(StatementCheckpoint::getCompleted).count();
+        return new StatementProgressResponse(
+                statementMonth.toString(),
+                checkpoints.size(),
+                completedCount,
+                checkpoints.stream().mapToLong(StatementCheckpoint::getAccountCount).sum(),
+                checkpoints.stream()
+                        .filter(checkpoint -> !checkpoint.isClaimable(now) && !checkpoint.getCompleted())
+                        .map(StatementCheckpoint::getLeaseOwner)
+                        .distinct()
+                        .toList(),
+                !checkpoints.isEmpty() && completedCount == checkpoints.size()
+        );
+    }
+
+    /**
+     * 다른 실행이 선점한 파티션은 건너뛴다. 남은 파티션을 모두 다른 실행이 처리하고 있으면 STATEMENT_RUN_IN_PROGRESS
+     */
+    public StatementRunResponse run(YearMonth statementMonth) {
+        return run(statementMonth, UUID.randomUUID().toString());
+    }
+
+    private StatementRunResponse run(YearMonth statementMonth, String runId) {
+        long startedAt = System.nanoTime();
+
+        List<StatementCheckpoint> checkpoints = checkpointsOf(statementMonth);
+        List<StatementCheckpoint> pending = checkpoints.stream().filter(checkpoint -> !checkpoint.getCompleted()).toList();
+        int workerCount = workerCount();
+        AtomicLong accountCount = new AtomicLong();
+        AtomicInteger skipped = new AtomicInteger();
+
+        if (!pending.isEmpty()) {
+            AtomicInteger threadNo = new AtomicInteger();
+            Set<PartitionLease> leases = ConcurrentHashMap.newKeySet();
+            long heartbeatMillis = Math.max(1, statementProperties.getLeaseTimeout().toMillis() / 3);
+            // 워커가 모두 끝난 뒤에 멈추도록 먼저 만든다. (try-with-resources 는 역순으로 닫는다)
+            try (ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+                    runnable -> new Thread(runnable, "statement-lease-heartbeat"));
+                 ExecutorService workers = Executors.newFixedThreadPool(
+                         Math.min(workerCount, pending.size()),
+                         runnable -> new Thread(runnable, "statement-worker-" + threadNo.incrementAndGet())
+                 )) {
+                heartbeat.scheduleWithFixedDelay(() -> extendLeases(runId, leases), heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+                List<Future<?>> futures = new ArrayList<>(pending.size());
+                for (StatementCheckpoint checkpoint : pending) {
+                    // 대기열에서 기다리는 동안 선점이 만료되지 않도록 처리 직전에 선점한다.
+                    futures.add(workers.submit(() -> {
+                        StatementCheckpoint latest = statementCheckpointRepository.findById(checkpoint.getStatementCheckpointId()).orElseThrow();
+                        if (latest.getCompleted()) {
+                            // 목록을 읽은 뒤 다른 실행이 끝낸 파티션
+                            return 0L;
+                        }
+                        Optional<StatementCheckpoint> claimed = claim(latest, runId);
+                        if (claimed.isEmpty()) {
+                            skipped.incrementAndGet();
+                            return 0L;
+                        }
+                        PartitionLease lease = new PartitionLease(claimed.get().getStatementCheckpointId());
+                        leases.add(lease);
+                        try {
+                            return accountCount.addAndGet(processPartition(statementMonth, claimed.get(), lease));
+                        } catch (LeaseLostException e) {
+                            // 멈춘 사이 선점이 만료되어 다른 실행이 가져간 파티션. 이어 쓰기는 그 실행이 한다.
+                            skipped.incrementAndGet();
+                            return 0L;
+                        } finally {
+                            leases.remove(lease);
+                        }
+                    }));
+                }
+                awaitAll(futures);
+            }
+            if (skipped.get() == pending.size()) {
+                throw new CoreException(ErrorType.STATEMENT_RUN_IN_PROGRESS, statementMonth);
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        runTimer.record(Duration.ofNanos(elapsedNanos));
+        return new StatementRunResponse(
+                statementMonth.toString(),
+                checkpoints.size(),
+                workerCount,
+                accountCount.get(),
+                elapsedNanos / 1_000_000,
+                elapsedNanos == 0 ? 0 : (long) (accountCount.get() / (elapsedNanos / 1_000_000_000.0)),
+                skipped.get()
+        );
+    }
+
+    /**
+     * 입출금/이체가 쓸 커넥션을 남겨 두도록 워커 수를 커넥션 풀 크기에 맞춰 줄인다.
+     */
+    int workerCount() {
+        int workerCount = Math.max(1, statementProperties.getWorkerCount());
+        try {
+            // 읽기 복제 DB 라우팅을 켜면 원본 DB 풀이 프록시 뒤에 있으므로 instanceof 대신 unwrap 한다.
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                int available = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize() - statementProperties.getReservedConnections();
+                workerCount = Math.min(workerCount, Math.max(1, available));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return workerCount;
+    }
+
+    /**
+     * 해당 월의 파티션을 읽는다. 처음 실행이면 account_id 구간을 계좌 수가 비슷하도록 나눠 저장한다.
+     * 계획 이후 추가된 계좌는 마지막 파티션에 들어간다.
+     */
+    private List<StatementCheckpoint> checkpointsOf(YearMonth statementMonth) {
+        List<StatementCheckpoint> checkpoints = statementCheckpointRepository.findAllByStatementMonthOrderByPartitionNo(statementMonth.toString());
+        if (!checkpoints.isEmpty()) {
+            return checkpoints;
+        }
+
+        long total = statementRepository.countAccounts();
+        int partitionCount = (int) Math.max(1, Math.min(statementProperties.getPartitionCount(), total));
+        List<StatementCheckpoint> planned = new ArrayList<>(partitionCount);
+        long rangeStart = 0L;
+        for (int partitionNo = 0; partitionNo < partitionCount; partitionNo++) {
+            long rangeEnd = Long.MAX_VALUE;
+            if (partitionNo < partitionCount - 1) {
+                rangeEnd = statementRepository.findAccountIdAt(total * (partitionNo + 1) / partitionCount - 1).orElse(Long.MAX_VALUE);
+            }
+            planned.add(StatementCheckpoint.init(statementMonth.toString(), partitionNo, rangeStart, rangeEnd));
+            rangeStart = rangeEnd;
+            if (rangeEnd == Long.MAX_VALUE) {
+                break;
+            }
+        }
+        try {
+            return statementCheckpointRepository.saveAll(planned);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 월을 동시에 처음 실행하면 먼저 저장한 실행의 파티션을 쓴다. (statement_month, partition_no) 유니크
+            return statementCheckpointRepository.findAllByStatementMonthOrderByPartitionNo(statementMonth.toString());
+        }
+    }
+
+    /**
+     * 선점한 실행이 없으면(또는 만료되었으면) 이 실행이 선점한다.
+     * 읽은 뒤 다른 실행이 먼저 선점하면 version 이 달라 저장에 실패하므로 건너뛴다.
+     */
+    private Optional<StatementCheckpoint> claim(StatementCheckpoint latest, String runId) {
+        if (!latest.isClaimable(LocalDateTime.now())) {
+            return Optional.empty();
+        }
+        latest.lease(runId, leaseExpiresAt());
+        try {
+            return Optional.of(statementCheckpointRepository.save(latest));
+        } catch (OptimisticLockingFailureException e) {
+            return Optional.empty();
+        }
+    }
+
+    private LocalDateTime leaseExpiresAt() {
+        return LocalDateTime.now().plus(statementProperties.getLeaseTimeout());
+    }
+
+    /**
+     * 이 실행이 처리 중인 파티션의 선점을 늘린다. 체크포인트 사이가 선점 유지 시간보다 길어도 다른 실행이 가져가지 않는다.
+     * 선점이 이미 다른 실행으로 넘어갔으면 워커가 더 쓰지 않도록 표시한다. DB 오류는 다음 주기에 다시 시도한다.
+     */
+    private void extendLeases(String runId, Set<PartitionLease> leases) {
+        for (PartitionLease lease : leases) {
+            try {
+                if (statementCheckpointRepository.extendLease(lease.statementCheckpointId, runId, leaseExpiresAt()) == 0) {
+                    lease.lost = true;
+                }
+            } catch (RuntimeException e) {
+                // 늘리지 못한 채 만료되면 워커가 sync 전 확인에서 멈춘다.
+            }
+        }
+    }
+
+    /**
+     * 파티션 하나를 처리하고 이번 실행에서 명세서를 쓴 계좌 수를 반환한다.
+     * 파일은 마지막 체크포인트의 크기로 잘라 낸 뒤 이어 쓰므로, 체크포인트 이후에 썼던 내용은 중복되지 않는다.
+     * 실패하면 선점을 풀어 바로 다시 실행할 수 있게 한다. 만료되어 다른 실행이 가져간 선점은 풀지 않는다.
+     */
+    private long processPartition(YearMonth statementMonth, StatementCheckpoint claimed, PartitionLease lease) throws IOException {
+        try {
+            return writePartition(statementMonth, claimed, lease);
+        } catch (IOException | RuntimeException e) {
+            try {
+                StatementCheckpoint latest = statementCheckpointRepository.findById(claimed.getStatementCheckpointId()).orElseThrow();
+                if (claimed.getLeaseOwner().equals(latest.getLeaseOwner())) {
+                    latest.release();
+                    statementCheckpointRepository.save(latest);
+                }
+            } catch (RuntimeException releaseFailure) {
+                e.addSuppressed(releaseFailure);
+            }
+            throw e;
+        }
+    }
+
+    private long writePartition(YearMonth statementMonth, StatementCheckpoint checkpoint, PartitionLease lease) throws IOException {
+        Path file = fileOf(statementMonth, checkpoint.getPartitionNo());
+        Files.createDirectories(file.getParent());
+
+        LocalDateTime from = statementMonth.atDay(1).atStartOfDay();
+        LocalDateTime to = statementMonth.plusMonths(1).atDay(1).atStartOfDay();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.truncate(checkpoint.getFileOffset());
+            channel.position(checkpoint.getFileOffset());
+            Writer writer = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8));
+            if (checkpoint.getFileOffset() == 0) {
+                writer.write(header());
+            }
+
+            long lastAccountId = checkpoint.getLastAccountId();
+            long accountCount = checkpoint.getAccountCount();
+            long processed = 0;
+            int sinceCheckpoint = 0;
+
+            while (true) {
+                List<StatementRepository.AccountRow> accounts = statementRepository.findAccounts(
+                        lastAccountId, checkpoint.getRangeEnd(), statementProperties.getAccountPageSize()
+                );
+                if (accounts.isEmpty()) {
+                    break;
+                }
+
+                for (StatementRepository.AccountRow account : accounts) {
+                    if (lease.lost) {
+                        throw new LeaseLostException();
+                    }
+                    writer.write(statementOf(account, statementMonth, from, to).toCsv());
+                    lastAccountId = account.accountId();
+                    accountCount++;
+                    processed++;
+
+                    if (++sinceCheckpoint >= statementProperties.getCheckpointInterval()) {
+                        checkpoint.advance(lastAccountId, accountCount, sync(writer, channel, checkpoint, lease), leaseExpiresAt());
+                        checkpoint = saveLeased(checkpoint);
+                        sinceCheckpoint = 0;
+                    }
+                }
+                processedAccounts.increment(accounts.size());
+            }
+
+            checkpoint.complete(lastAccountId, accountCount, sync(writer, channel, checkpoint, lease));
+            saveLeased(checkpoint);
+            return processed;
+        }
+    }
+
+    /**
+     * 버퍼를 비우고 디스크에 기록한 뒤 파일 크기를 반환한다. 체크포인트는 디스크에 남은 내용만 가리켜야 한다.
+     * 비우기 전에 선점이 그대로인지(version 이 이 실행이 마지막으로 기록한 값인지) 확인한다. 다른 실행이 선점하면 version 이 올라간다.
+     */
+    private long sync(Writer writer, FileChannel channel, StatementCheckpoint checkpoint, PartitionLease lease) throws IOException {
+        if (lease.lost || !statementCheckpointRepository.findVersionById(checkpoint.getStatementCheckpointId())
+                .map(checkpoint.getVersion()::equals)
+                .orElse(false)) {
+            throw new LeaseLostException();
+        }
+        writer.flush();
+        channel.force(false);
+        return channel.position();
+    }
+
+    /**
+     * 진행 기록을 저장한다. 그 사이 다른 실행이 선점했으면 version 이 달라 저장하지 못하고, 이 실행은 파티션에 더 쓰지 않는다.
+     */
+    private StatementCheckpoint saveLeased(StatementCheckpoint checkpoint) {
+        try {
+            return statementCheckpointRepository.save(checkpoint);
+        } catch (OptimisticLockingFailureException e) {
+            throw new LeaseLostException();
+        }
+    }
+
+    private AccountStatement statementOf(StatementRepository.AccountRow account, YearMonth statementMonth, LocalDateTime from, LocalDateTime to) {
+        long openingBalance = statementRepository.findBalanceBefore(account.accountId(), from).orElse(0L);
+        AccountStatement statement = new AccountStatement(account.accountNo(), statementMonth, openingBalance);
+
+        LocalDateTime afterCreatedAt = null;
+        Long afterTransactionId = null;
+        while (true) {
+            List<StatementRepository.TransactionRow> transactions = statementRepository.findTransactions(
+                    account.accountId(), from, to, afterCreatedAt, afterTransactionId, statementProperties.getTransactionPageSize()
+            );
+            transactions.forEach(statement::add);
+            if (transactions.size() < statementProperties.getTransactionPageSize()) {
+                return statement;
+            }
+            StatementRepository.TransactionRow last = transactions.getLast();
+            afterCreatedAt = last.createdAt();
+            afterTransactionId = last.transactionId();
+        }
+    }
+
+    private Path fileOf(YearMonth statementMonth, int partitionNo) {
+        return Path.of(statementProperties.getOutputDir(), statementMonth.toString(), "partition-%04d.csv".formatted(partitionNo));
+    }
+
+    private static String header() {
+        StringBuilder header = new StringBuilder("accountNo,statementMonth,openingBalance,closingBalance");
+        for (TransactionType type : TRANSACTION_TYPES) {
+            String name = type.name().toLowerCase();
+            header.append(',').append(name).append("Count").append(',').append(name).append("Amount");
+        }
+        return header.append(",feeTotal\n").toString();
+    }
+
+    private static void awaitAll(List<Future<?>> futures) {
+        RuntimeException failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("명세서 생성이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof IOException io ? new UncheckedIOException(io)
+                            : e.getCause() instanceof RuntimeException runtime ? runtime
+                            : new IllegalStateException(e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * 워커가 처리 중인 파티션. 선점 갱신 스레드가 선점을 잃은 것을 알게 되면 lost 로 표시한다.
+     */
+    private static final class PartitionLease {
+
+        private final Long statementCheckpointId;
+
+        private volatile boolean lost;
+
+        private PartitionLease(Long statementCheckpointId) {
+            this.statementCheckpointId = statementCheckpointId;
+        }
+    }
+
+    /**
+     * 처리 중인 파티션의 선점을 다른 실행에 빼앗겼다.
+     */
+    private static final class LeaseLostException extends RuntimeException {
+    }
+
+    /**
+     * 계좌 하나의 월간 집계. 거래 후 잔액은 거래 시점 순으로 들어오므로 마지막 값이 기말 잔액이다. (거래 후 잔액이 없는 입금은 금액을 더한다)
+     */
+    private static final class AccountStatement {
+
+        private final String accountNo;
+
+        private final YearMonth statementMonth;
+
+        private final long openingBalance;
+
+        private long closingBalance;
+
+        private final long[] counts = new long[TRANSACTION_TYPES.length];
+
+        private final long[] amounts = new long[TRANSACTION_TYPES.length];
+
+        private long feeTotal;
+
+        private AccountStatement(String accountNo, YearMonth statementMonth, long openingBalance) {
+            this.accountNo = accountNo;
+            this.statementMonth = statementMonth;
+            this.openingBalance = openingBalance;
+            this.closingBalance = openingBalance;
+        }
+
+        private void add(StatementRepository.TransactionRow transaction) {
+            int index = transaction.transactionType().ordinal();
+            counts[index]++;
+            amounts[index] += transaction.amount();
+            if (transaction.fee() != null) {
+                feeTotal += transaction.fee();
+            }
+            if (transaction.balanceAfterTransaction() != null) {
+                closingBalance = transaction.balanceAfterTransaction();
+            } else {
+                // 분할 계좌 입금은 거래 후 잔액이 없다. 입금만 해당하므로 직전 잔액에 금액을 더한다.
+                closingBalance += transaction.amount();
+            }
+        }
+
+        private String toCsv() {
+            StringBuilder line = new StringBuilder(128)
+                    .append(accountNo).append(',')
+                    .append(statementMonth).append(',')
+                    .append(openingBalance).append(',')
+                    .append(closingBalance);
+            for (int i = 0; i < TRANSACTION_TYPES.length; i++) {
+                line.append(',').append(counts[i]).append(',').append(amounts[i]);
+            }
+            return line.append(',').append(feeTotal).append('\n').toString();
+        }
+    }
+}
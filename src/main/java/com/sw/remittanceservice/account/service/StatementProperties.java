@@ -0,0 +1,58 @@
+package com.sw.remittanceservice.account.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "remittance.statement")
+public class StatementProperties {
+
+    /**
+     * 이 노드에서 매월 정기 생성을 실행할지 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 명세서 파일을 쓸 디렉터리. 대상 월별 하위 디렉터리에 파티션별 파일을 만든다.
+     */
+    private String outputDir = "statements";
+
+    /**
+     * account_id 구간을 나눌 파티션 수. 워커 수보다 크게 두면 늦게 끝나는 파티션이 있어도 워커가 놀지 않는다.
+     */
+    private int partitionCount = 32;
+
+    /**
+     * 동시에 처리할 파티션 수. 워커 하나가 조회 중에 JDBC 커넥션을 하나 쓴다.
+     */
+    private int workerCount = 4;
+
+    /**
+     * 워커 수와 상관없이 입출금/이체용으로 남겨 둘 커넥션 수. 워커 수는 (커넥션 풀 크기 - 이 값)을 넘지 않도록 줄여서 실행한다.
+     */
+    private int reservedConnections = 12;
+
+    /**
+     * 계좌를 한 번에 읽는 건수
+     */
+    private int accountPageSize = 500;
+
+    /**
+     * 계좌 하나의 거래를 한 번에 읽는 건수
+     */
+    private int transactionPageSize = 1000;
+
+    /**
+     * 체크포인트를 남기는 계좌 수 간격. 중단되면 최대 이만큼의 계좌를 다시 처리한다.
+     */
+    private int checkpointInterval = 200;
+
+    /**
+     * 파티션 선점 유지 시간. 처리하는 동안 이 시간의 1/3 주기로 늘린다. 실행이 멈춰 이 시간 동안 늘리지 못하면 다른 실행이 파티션을 가져갈 수 있다.
+     */
+    private Duration leaseTimeout = Duration.ofMinutes(5);
+}
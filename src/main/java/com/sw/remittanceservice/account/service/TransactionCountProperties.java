@@ -0,0 +1,16 @@
+package com.sw.remittanceservice.account.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "remittance.transaction-count")
+public class TransactionCountProperties {
+
+    /**
+     * 계좌당 카운터 스트라이프 수. 같은 계좌의 거래가 동시에 커밋될 때 카운터 행 락 경합을 이만큼 나눈다.
+     */
+    private int stripeCount = 8;
+}
@@ -0,0 +1,82 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.entity.AccountTransactionCount;
+import com.sw.remittanceservice.account.entity.Transaction;
+import com.sw.remittanceservice.account.repository.AccountTransactionCountRepository;
+import com.sw.remittanceservice.common.id.TsidGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * 계좌별 거래 건수를 유지한다. 거래를 저장한 유스케이스의 트랜잭션에 참여하므로 거래와 건수는 함께 커밋/롤백된다.
+ * 증가는 계좌의 스트라이프 중 임의의 행 하나에만 락을 잡으므로, 입금이 몰리는 계좌에서도 카운터가 새 병목이 되지 않는다.
+ * 스트라이프 행은 계좌를 만들 때 미리 만들어 두고 이후에는 update 만 한다. 없는 키에 동시에 upsert 하면 갭 락끼리 교착될 수 있기 때문이다.
+ */
+@RequiredArgsConstructor
+@Component
+public class TransactionCounter {
+
+    private final AccountTransactionCountRepository accountTransactionCountRepository;
+
+    private final TransactionCountProperties transactionCountProperties;
+
+    private final TsidGenerator tsidGenerator;
+
+    /**
+     * 새 계좌의 스트라이프 행을 만든다. 계좌 생성 트랜잭션에서 호출한다.
+     */
+    public void initialize(Long accountId) {
+        accountTransactionCountRepository.saveAll(
+                IntStream.range(0, stripeCount()).mapToObj(stripeNo -> AccountTransactionCount.init(accountId, stripeNo)).toList()
+        );
+    }
+
+    public void increment(Transaction transaction) {
+        increment(transaction.getAccountId(), 1L, LocalDateTime.now());
+    }
+
+    /**
+     * 계좌별로 모아 계좌당 한 번만 갱신한다. 여러 계좌의 카운터 행을 항상 accountId 오름차순으로 잠가 교착을 피한다.
+     */
+    public void incrementAll(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (Transaction transaction : transactions) {
+            deltas.merge(transaction.getAccountId(), 1L, Long::sum);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        deltas.forEach((accountId, delta) -> increment(accountId, delta, now));
+    }
+
+    /**
+     * 유지 중인 거래 건수. 스트라이프 행이 없는 계좌는 비어 있다.
+     * 카운터 도입 전 계좌는 배포 전에 db/migration/V2 로 기존 건수를 백필해야 한다.
+     */
+    public Optional<Long> count(Long accountId) {
+        return Optional.ofNullable(accountTransactionCountRepository.sumByAccountId(accountId));
+    }
+
+    private void increment(Long accountId, long delta, LocalDateTime now) {
+        int stripeNo = ThreadLocalRandom.current().nextInt(stripeCount());
+        if (accountTransactionCountRepository.addToStripe(accountId, stripeNo, delta, now) == 0) {
+            // 스트라이프 수를 늘린 뒤의 새 스트라이프처럼 행이 아직 없는 경우에만 만든다.
+            accountTransactionCountRepository.upsert(tsidGenerator.nextId(), accountId, stripeNo, delta, now);
+        }
+    }
+
+    private int stripeCount() {
+        return Math.max(1, transactionCountProperties.getStripeCount());
+    }
+}
@@ -0,0 +1,21 @@
+package com.sw.remittanceservice.account.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "remittance.transaction-export")
+public class TransactionExportProperties {
+
+    /**
+     * 동시에 진행할 수 있는 내보내기 수. 내보내기는 끝날 때까지 JDBC 커넥션을 하나씩 잡고 있으므로 커넥션 풀보다 충분히 작게 둔다.
+     */
+    private int maxConcurrent = 4;
+
+    /**
+     * 한 번에 내보낼 수 있는 최대 기간(일)
+     */
+    private int maxRangeDays = 366;
+}
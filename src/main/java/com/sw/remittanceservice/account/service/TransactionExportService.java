@@ -0,0 +1,254 @@
+package com.sw.remittanceservice.account.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sw.remittanceservice.account.repository.TransactionExportRepository;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 계좌의 거래내역 전체를 CSV/NDJSON으로 내보낸다.
+ * DB 결과를 한 행씩 받아 곧바로 출력 스트림에 쓰므로, 거래 수와 상관없이 힙 사용량은 쓰기 버퍼 크기 정도로 일정하다.
+ */
+@Service
+public class TransactionExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] COLUMNS = {
+            "transaction_id", "transaction_request_id", "transaction_type", "transaction_status", "amount",
+            "fee_policy_type", "fee", "fee_rate", "target_account_no", "balance_after_transaction", "created_at"
+    };
+
+    private static final String CSV_HEADER = "transactionId,transactionRequestId,transactionType,transactionStatus,amount,"
+            + "feePolicyType,fee,feeRate,targetAccountNo,balanceAfterTransaction,createdAt\n";
+
+    private final TransactionExportRepository transactionExportRepository;
+
+    private final AccountIdResolver accountIdResolver;
+
+    private final ObjectMapper objectMapper;
+
+    private final TransactionExportProperties transactionExportProperties;
+
+    private final Semaphore permits;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TransactionExportService(
+            TransactionExportRepository transactionExportRepository,
+            AccountIdResolver accountIdResolver,
+            ObjectMapper objectMapper,
+            TransactionExportProperties transactionExportProperties,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.transactionExportRepository = transactionExportRepository;
+        this.accountIdResolver = accountIdResolver;
+        this.objectMapper = objectMapper;
+        this.transactionExportProperties = transactionExportProperties;
+        this.permits = new Semaphore(transactionExportProperties.getMaxConcurrent());
+        // 읽기 전용 트랜잭션으로 묶어 읽기 복제 DB 라우팅을 켜면 원본 DB 대신 복제 DB를 읽는다.
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 요청을 검증하고 내보내기 자리를 하나 잡는다. 반환한 작업은 한 번만 실행하며, 실행이 끝나면 자리를 반납한다.
+     * 작업이 실행되지 못하고 요청이 끝날 수 있으므로(비동기 시간 초과, 연결 끊김) 호출한 쪽은 요청이 끝날 때 {@link Export#release()}를 부른다.
+     * from, to 는 모두 포함하는 날짜다.
+     */
+    public Export prepare(String accountNo, LocalDate from, LocalDate to, TransactionExportFormat format) {
+        if (from == null || to == null || from.isAfter(to)
+                || ChronoUnit.DAYS.between(from, to) >= transactionExportProperties.getMaxRangeDays()) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, from + "~" + to);
+        }
+
+        Long accountId = accountIdResolver.resolve(accountNo)
+                .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo));
+
+        if (!permits.tryAcquire()) {
+            throw new CoreException(ErrorType.EXPORT_CONCURRENCY_EXCEEDED, accountNo);
+        }
+
+        return new Export(accountId, from.atStartOfDay(), to.plusDays(1).atStartOfDay(), format);
+    }
+
+    /**
+     * 자리를 잡은 내보내기 작업. 자리는 한 번만 반납한다.
+     */
+    public final class Export {
+
+        private static final int PREPARED = 0;
+
+        private static final int RUNNING = 1;
+
+        private static final int RELEASED = 2;
+
+        private final Long accountId;
+
+        private final LocalDateTime from;
+
+        private final LocalDateTime to;
+
+        private final TransactionExportFormat format;
+
+        private final AtomicInteger state = new AtomicInteger(PREPARED);
+
+        private Export(Long accountId, LocalDateTime from, LocalDateTime to, TransactionExportFormat format) {
+            this.accountId = accountId;
+            this.from = from;
+            this.to = to;
+            this.format = format;
+        }
+
+        /**
+         * 이미 반납한 작업은 실행하지 않는다. 자리 없이 커넥션을 잡게 되기 때문이다.
+         */
+        public void writeTo(OutputStream out) throws IOException {
+            if (!state.compareAndSet(PREPARED, RUNNING)) {
+                throw new IllegalStateException("이미 실행했거나 반납한 내보내기입니다.");
+            }
+            try {
+                write(accountId, from, to, format, out);
+            } finally {
+                state.set(RELEASED);
+                permits.release();
+            }
+        }
+
+        /**
+         * 실행 전이면 자리를 반납하고 작업을 버린다. 실행 중이면 실행이 끝날 때 반납하므로 아무것도 하지 않는다.
+         */
+        public void release() {
+            if (state.compareAndSet(PREPARED, RELEASED)) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * [from, to) 구간의 거래를 오래된 순으로 쓴다.
+     */
+    public void write(Long accountId, LocalDateTime from, LocalDateTime to, TransactionExportFormat format, OutputStream out) throws IOException {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try {
+                    if (format == TransactionExportFormat.CSV) {
+                        writeCsv(accountId, from, to, out);
+                    } else {
+                        writeNdjson(accountId, from, to, out);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeCsv(Long accountId, LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        writer.write(CSV_HEADER);
+
+        transactionExportRepository.streamAll(accountId, from, to, rs -> {
+            try {
+                for (int i = 0; i < COLUMNS.length; i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writeCsvField(writer, text(rs, COLUMNS[i]));
+                }
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        writer.flush();
+    }
+
+    private void writeNdjson(Long accountId, LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        transactionExportRepository.streamAll(accountId, from, to, rs -> {
+            try {
+                generator.writeStartObject();
+                // 64비트 아이디는 JSON 숫자로 두면 JavaScript에서 정밀도를 잃으므로 문자열로 쓴다.
+                generator.writeStringField("transactionId", rs.getString("transaction_id"));
+                generator.writeStringField("transactionRequestId", rs.getString("transaction_request_id"));
+                generator.writeStringField("transactionType", rs.getString("transaction_type"));
+                generator.writeStringField("transactionStatus", rs.getString("transaction_status"));
+                writeLongField(generator, rs, "amount", "amount");
+                generator.writeStringField("feePolicyType", rs.getString("fee_policy_type"));
+                writeLongField(generator, rs, "fee", "fee");
+                double feeRate = rs.getDouble("fee_rate");
+                if (rs.wasNull()) {
+                    generator.writeNullField("feeRate");
+                } else {
+                    generator.writeNumberField("feeRate", feeRate);
+                }
+                generator.writeStringField("targetAccountNo", rs.getString("target_account_no"));
+                writeLongField(generator, rs, "balance_after_transaction", "balanceAfterTransaction");
+                generator.writeStringField("createdAt", text(rs, "created_at"));
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        generator.close();
+    }
+
+    private static String text(ResultSet rs, String column) throws SQLException {
+        if ("created_at".equals(column)) {
+            LocalDateTime createdAt = rs.getObject(column, LocalDateTime.class);
+            return createdAt == null ? null : createdAt.toString();
+        }
+        return rs.getString(column);
+    }
+
+    private static void writeLongField(JsonGenerator generator, ResultSet rs, String column, String field) throws SQLException, IOException {
+        long value = rs.getLong(column);
+        if (rs.wasNull()) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value);
+        }
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,14 @@
+package com.sw.remittanceservice.account.usecase;
+
+public enum BalanceUpdateMode {
+
+    /**
+     * SELECT ... FOR UPDATE로 계좌를 잠근 뒤 새 잔액을 계산해 저장한다.
+     */
+    PESSIMISTIC,
+
+    /**
+     * 잔액 조건을 건 UPDATE 한 문장으로 잔액을 갱신한다. 계좌 행 락은 갱신 시점부터만 잡힌다.
+     */
+    CONDITIONAL
+}
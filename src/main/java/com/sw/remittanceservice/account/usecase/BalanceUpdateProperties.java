@@ -0,0 +1,21 @@
+package com.sw.remittanceservice.account.usecase;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "remittance.balance-update")
+public class BalanceUpdateProperties {
+
+    /**
+     * 출금 잔액 갱신 방식
+     */
+    private BalanceUpdateMode withdraw = BalanceUpdateMode.PESSIMISTIC;
+
+    /**
+     * 입금 잔액 갱신 방식
+     */
+    private BalanceUpdateMode deposit = BalanceUpdateMode.PESSIMISTIC;
+}
@@ -0,0 +1,28 @@
+package com.sw.remittanceservice.account.usecase;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "remittance.deposit.batch")
+public class DepositBatchProperties {
+
+    /**
+     * 같은 계좌 입금 묶음 처리 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 첫 요청 이후 다른 요청을 모으는 최대 대기 시간
+     */
+    private Duration window = Duration.ofMillis(2);
+
+    /**
+     * 한 번에 처리할 최대 요청 수 (도달하면 대기 시간 전이라도 바로 처리)
+     */
+    private int maxSize = 64;
+}
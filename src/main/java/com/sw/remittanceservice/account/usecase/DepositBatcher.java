@@ -0,0 +1,152 @@
+package com.sw.remittanceservice.account.usecase;
+
+import com.sw.remittanceservice.account.dto.TransactionResponse;
+import com.sw.remittanceservice.account.usecase.dto.DepositBatchResult;
+import com.sw.remittanceservice.account.usecase.dto.DepositCommand;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 같은 계좌로 동시에 들어온 입금 요청을 짧은 시간 동안 모아 {@link DepositUseCase#executeBatch}로 한 번에 처리한다.
+ * 묶음을 처음 만든 요청 스레드가 대기 시간(window) 또는 최대 건수(maxSize)까지 기다린 뒤 묶음 전체를 실행하고,
+ * 나머지 요청 스레드는 자신의 결과가 채워질 때까지 기다린다.
+ */
+@RequiredArgsConstructor
+@Component
+public class DepositBatcher {
+
+    private final DepositUseCase depositUseCase;
+
+    private final DepositBatchProperties depositBatchProperties;
+
+    private final ConcurrentMap<String, DepositBatch> batches = new ConcurrentHashMap<>();
+
+    public TransactionResponse execute(String accountNo, Long amount, String transactionRequestId) {
+
+        if (!depositBatchProperties.isEnabled()) {
+            return depositUseCase.execute(accountNo, amount, transactionRequestId);
+        }
+
+        if (amount == null || amount <= 0) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, amount);
+        }
+
+        PendingDeposit pending = new PendingDeposit(new DepositCommand(amount, transactionRequestId), new CompletableFuture<>());
+
+        DepositBatch batch = batches.compute(accountNo, (key, current) -> {
+            if (current != null && current.add(pending)) {
+                return current;
+            }
+            return new DepositBatch(pending, depositBatchProperties.getMaxSize());
+        });
+
+        if (batch.isLeader(pending)) {
+            flush(accountNo, batch);
+        }
+
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void flush(String accountNo, DepositBatch batch) {
+        List<PendingDeposit> items = batch.awaitAndSeal(depositBatchProperties.getWindow().toNanos());
+        batches.remove(accountNo, batch);
+
+        try {
+            List<DepositBatchResult> results = depositUseCase.executeBatch(
+                    accountNo,
+                    items.stream().map(PendingDeposit::command).toList()
+            );
+            for (int i = 0; i < items.size(); i++) {
+                PendingDeposit item = items.get(i);
+                DepositBatchResult result = results.get(i);
+                if (result.errorType() != null) {
+                    item.result().completeExceptionally(new CoreException(result.errorType(), item.command().transactionRequestId()));
+                    continue;
+                }
+                item.result().complete(result.response());
+            }
+        } catch (RuntimeException e) {
+            items.forEach(item -> item.result().completeExceptionally(e));
+        }
+    }
+
+    private record PendingDeposit(DepositCommand command, CompletableFuture<TransactionResponse> result) {
+    }
+
+    private static final class DepositBatch {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Condition full = lock.newCondition();
+
+        private final List<PendingDeposit> items = new ArrayList<>();
+
+        private final PendingDeposit leader;
+
+        private final int maxSize;
+
+        private boolean sealed;
+
+        private DepositBatch(PendingDeposit leader, int maxSize) {
+            this.items.add(leader);
+            this.leader = leader;
+            this.maxSize = maxSize;
+        }
+
+        private boolean isLeader(PendingDeposit pending) {
+            return leader == pending;
+        }
+
+        private boolean add(PendingDeposit pending) {
+            lock.lock();
+            try {
+                if (sealed || items.size() >= maxSize) {
+                    return false;
+                }
+                items.add(pending);
+                if (items.size() >= maxSize) {
+                    full.signal();
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private List<PendingDeposit> awaitAndSeal(long windowNanos) {
+            lock.lock();
+            try {
+                long remaining = windowNanos;
+                while (items.size() < maxSize && remaining > 0) {
+                    remaining = full.awaitNanos(remaining);
+                }
+                sealed = true;
+                return List.copyOf(items);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                sealed = true;
+                return List.copyOf(items);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
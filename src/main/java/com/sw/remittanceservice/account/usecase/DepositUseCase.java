@@ -5,11 +5,30 @@ import com.sw.remittanceservice.account.entity.Account;
 import com.sw.remittanceservice.account.entity.Transaction;
 import com.sw.remittanceservice.account.entity.enums.TransactionType;
 import com.sw.remittanceservice.account.repository.*;
+import com.sw.remittanceservice.account.service.AccountBalanceSlotService;
+import com.sw.remittanceservice.account.service.AccountIdResolver;
+import com.sw.remittanceservice.account.service.OutboxEventRecorder;
+import com.sw.remittanceservice.account.service.TransactionCounter;
+import com.sw.remittanceservice.account.usecase.dto.DepositBatchResult;
+import com.sw.remittanceservice.account.usecase.dto.DepositCommand;
+import com.sw.remittanceservice.account.usecase.idempotency.TransactionIdempotencyManager;
+import com.sw.remittanceservice.account.usecase.metrics.UseCaseMetrics;
+import com.sw.remittanceservice.account.usecase.metrics.UseCasePhase;
 import com.sw.remittanceservice.common.exception.CoreException;
 import com.sw.remittanceservice.common.exception.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.sw.remittanceservice.account.usecase.metrics.UseCaseOperation.DEPOSIT;
 
 @RequiredArgsConstructor
 @Component
@@ -17,35 +36,303 @@ public class DepositUseCase {
 
     private final AccountRepository accountRepository;
 
+    private final AccountIdResolver accountIdResolver;
+
     private final TransactionRepository accountTransactionRepository;
 
-    private final TransactionRedisRepository transactionRedisRepository;
+    private final TransactionIdempotencyManager transactionIdempotencyManager;
+
+    private final AccountBalanceSlotService accountBalanceSlotService;
+
+    private final BalanceUpdateProperties balanceUpdateProperties;
 
-    @Transactional
+    private final OutboxEventRecorder outboxEventRecorder;
+
+    private final TransactionCounter transactionCounter;
+
+    private final UseCaseMetrics useCaseMetrics;
+
+    private final TransactionOperations transactionOperations;
+
+    /**
+     * 멱등성 선점은 트랜잭션 밖에서 한다. 중복 요청은 DB 커넥션을 잡지 않고 저장된 응답으로 답하고, 선점한 요청만 트랜잭션을 연다.
+     * 응답 저장은 그 트랜잭션의 커밋에 맞추고, 트랜잭션이 롤백되거나 커밋에 실패하면 선점을 풀어 재시도가 다시 처리할 수 있게 한다.
+     */
     public TransactionResponse execute(String accountNo, Long amount, String transactionRequestId) {
+        long startedAt = useCaseMetrics.start();
+        try {
+            long phaseStartedAt = useCaseMetrics.start();
+            Optional<TransactionResponse> storedResponse = claimOrGetResponse(amount, transactionRequestId);
+            useCaseMetrics.record(DEPOSIT, UseCasePhase.IDEMPOTENCY, phaseStartedAt);
+            if (storedResponse.isPresent()) {
+                useCaseMetrics.duplicate(DEPOSIT);
+                return storedResponse.get();
+            }
 
-        if (!transactionRedisRepository.tryLock(transactionRequestId, 1)) {
-            Account account = accountRepository.findByAccountNo(accountNo)
-                    .orElseThrow(()-> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo));
+            TransactionResponse response;
+            try {
+                response = transactionOperations.execute(status -> {
+                    TransactionResponse processed = deposit(accountNo, amount, transactionRequestId);
+                    transactionIdempotencyManager.complete(transactionRequestId, processed);
+                    useCaseMetrics.recordCommit(DEPOSIT);
+                    return processed;
+                });
+            } catch (RuntimeException e) {
+                transactionIdempotencyManager.abandon(transactionRequestId);
+                throw e;
+            }
 
-            Transaction transaction = accountTransactionRepository
-                    .findByAccountIdAndTransactionRequestId(account.getAccountId(), transactionRequestId)
-                    .orElse(Transaction.init(transactionRequestId, amount, TransactionType.DEPOSIT));
-            return TransactionResponse.from(transaction);
+            useCaseMetrics.success(DEPOSIT);
+            return response;
+        } catch (RuntimeException e) {
+            useCaseMetrics.failure(DEPOSIT, e);
+            throw e;
+        } finally {
+            useCaseMetrics.record(DEPOSIT, UseCasePhase.EXECUTE, startedAt);
         }
+    }
 
-        Account lockedAccount = accountRepository.findLockedByAccountNo(accountNo)
+    private TransactionResponse deposit(String accountNo, Long amount, String transactionRequestId) {
+
+        Long accountId = accountIdResolver.resolve(accountNo)
                 .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo));
 
+        if (accountBalanceSlotService.isSharded(accountNo)) {
+            // 분할 계좌는 계좌 행에 공유 락만 잡고 슬롯 하나에만 배타 락을 잡아 입금끼리 직렬화되지 않도록 한다.
+            long phaseStartedAt = useCaseMetrics.start();
+            Account sharedLockedAccount = accountRepository.findSharedLockedByAccountId(accountId)
+                    .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo));
+            useCaseMetrics.record(DEPOSIT, UseCasePhase.ACCOUNT_LOCK, phaseStartedAt);
+
+            sharedLockedAccount.validateActive();
+
+            if (sharedLockedAccount.isBalanceSharded()) {
+                phaseStartedAt = useCaseMetrics.start();
+                accountBalanceSlotService.deposit(sharedLockedAccount, amount);
+
+                // 다른 슬롯의 동시 입금이 보이지 않으므로 거래 후 잔액은 남기지 않는다.
+                Transaction transaction = accountTransactionRepository.save(
+                        Transaction.create(sharedLockedAccount.getAccountId(), null, transactionRequestId, amount, TransactionType.DEPOSIT)
+                );
+                outboxEventRecorder.record(transaction);
+                transactionCounter.increment(transaction);
+                useCaseMetrics.record(DEPOSIT, UseCasePhase.PERSIST, phaseStartedAt);
+
+                return TransactionResponse.from(transaction);
+            }
+        }
+
+        if (balanceUpdateProperties.getDeposit() == BalanceUpdateMode.CONDITIONAL) {
+            // 조건부 UPDATE 가 행 락을 잡으므로 잔액 갱신까지를 락 구간으로 본다.
+            long phaseStartedAt = useCaseMetrics.start();
+            Optional<Long> balance = depositConditionally(accountId, accountNo, amount);
+            useCaseMetrics.record(DEPOSIT, UseCasePhase.ACCOUNT_LOCK, phaseStartedAt);
+
+            if (balance.isPresent()) {
+                phaseStartedAt = useCaseMetrics.start();
+                Transaction transaction = accountTransactionRepository.save(
+                        Transaction.create(accountId, balance.get(), transactionRequestId, amount, TransactionType.DEPOSIT)
+                );
+                outboxEventRecorder.record(transaction);
+                transactionCounter.increment(transaction);
+                useCaseMetrics.record(DEPOSIT, UseCasePhase.PERSIST, phaseStartedAt);
+
+                return TransactionResponse.from(transaction);
+            }
+        }
+
+        long phaseStartedAt = useCaseMetrics.start();
+        Account lockedAccount = accountRepository.findLockedByAccountId(accountId)
+                .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo));
+        useCaseMetrics.record(DEPOSIT, UseCasePhase.ACCOUNT_LOCK, phaseStartedAt);
+
         lockedAccount.validateActive();
 
+        phaseStartedAt = useCaseMetrics.start();
+        // 분할 여부 스냅샷이 오래되면 분할 계좌도 이 경로로 온다. 락을 잡은 행으로 다시 판단해 슬롯 잔액을 합친 뒤 입금한다.
+        if (lockedAccount.isBalanceSharded()) {
+            lockedAccount = accountBalanceSlotService.consolidate(lockedAccount);
+        }
+
         Account updatedLockAccount = lockedAccount.deposit(amount);
         Account savedAccount = accountRepository.save(updatedLockAccount);
 
         Transaction transaction = accountTransactionRepository.save(
                 Transaction.create(savedAccount, transactionRequestId, amount, TransactionType.DEPOSIT)
         );
+        outboxEventRecorder.record(transaction);
+        transactionCounter.increment(transaction);
+        useCaseMetrics.record(DEPOSIT, UseCasePhase.PERSIST, phaseStartedAt);
 
         return TransactionResponse.from(transaction);
     }
+
+    /**
+     * 같은 계좌로 들어온 입금 요청들을 한 번의 락 획득과 한 번의 잔액 갱신으로 처리한다.
+     * 멱등성은 요청 단위로 판단하며, 결과는 요청 순서대로 각자의 거래 후 잔액을 담아 반환한다.
+     * 단건과 마찬가지로 선점은 트랜잭션 밖에서 하고, 트랜잭션이 실패하면 이 묶음에서 선점한 요청을 모두 푼다.
+     */
+    public List<DepositBatchResult> executeBatch(String accountNo, List<DepositCommand> commands) {
+
+        for (DepositCommand command : commands) {
+            if (command.amount() == null || command.amount() <= 0) {
+                throw new CoreException(ErrorType.INVALID_REQUEST, command.amount());
+            }
+        }
+
+        DepositBatchResult[] results = new DepositBatchResult[commands.size()];
+
+        List<Integer> claimedIndexes = claim(commands, results);
+        if (claimedIndexes.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        try {
+            transactionOperations.executeWithoutResult(status -> depositClaimed(accountNo, commands, claimedIndexes, results));
+        } catch (RuntimeException e) {
+            claimedIndexes.forEach(index -> transactionIdempotencyManager.abandon(commands.get(index).transactionRequestId()));
+            throw e;
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 묶음의 요청을 저장소 1회 왕복으로 한 번에 선점하고, 선점한 요청의 인덱스를 반환한다.
+     * 같은 묶음 안에서 거래 요청 아이디가 겹치면 첫 건만 선점하고 나머지는 실패로 채운다.
+     * (그대로 선점하면 뒤의 건이 앞의 건이 선점하며 남긴 처리 중 응답을 받아 성공으로 보인다)
+     */
+    private List<Integer> claim(List<DepositCommand> commands, DepositBatchResult[] results) {
+        List<Integer> uniqueIndexes = new ArrayList<>(commands.size());
+        Set<String> transactionRequestIds = new HashSet<>();
+        for (int i = 0; i < commands.size(); i++) {
+            if (!transactionRequestIds.add(commands.get(i).transactionRequestId())) {
+                results[i] = DepositBatchResult.failure(ErrorType.DUPLICATE_TRANSACTION_REQUEST_ID);
+                continue;
+            }
+            uniqueIndexes.add(i);
+        }
+
+        List<Optional<TransactionResponse>> storedResponses = transactionIdempotencyManager.claimAllOrGetResponses(
+                uniqueIndexes.stream().map(index -> commands.get(index).transactionRequestId()).toList(),
+                TransactionResponse.class,
+                i -> {
+                    DepositCommand command = commands.get(uniqueIndexes.get(i));
+                    return TransactionResponse.from(Transaction.init(command.transactionRequestId(), command.amount(), TransactionType.DEPOSIT));
+                }
+        );
+
+        List<Integer> claimedIndexes = new ArrayList<>(uniqueIndexes.size());
+        for (int i = 0; i < uniqueIndexes.size(); i++) {
+            Integer index = uniqueIndexes.get(i);
+            Optional<TransactionResponse> storedResponse = storedResponses.get(i);
+            if (storedResponse.isPresent()) {
+                results[index] = DepositBatchResult.success(storedResponse.get());
+                continue;
+            }
+            claimedIndexes.add(index);
+        }
+        return claimedIndexes;
+    }
+
+    private void depositClaimed(String accountNo, List<DepositCommand> commands, List<Integer> claimedIndexes, DepositBatchResult[] results) {
+
+        long totalAmount = claimedIndexes.stream()
+                .mapToLong(index -> commands.get(index).amount())
+                .sum();
+
+        Long accountId = accountIdResolver.resolve(accountNo)
+                .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo));
+
+        Long balanceBefore = null;
+        boolean sharded = false;
+
+        Account sharedLockedAccount = accountBalanceSlotService.isSharded(accountNo)
+                ? accountRepository.findSharedLockedByAccountId(accountId)
+                        .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo))
+                : null;
+
+        if (sharedLockedAccount != null && sharedLockedAccount.isBalanceSharded()) {
+            sharedLockedAccount.validateActive();
+
+            accountBalanceSlotService.deposit(sharedLockedAccount, totalAmount);
+            sharded = true;
+        } else if (balanceUpdateProperties.getDeposit() == BalanceUpdateMode.CONDITIONAL) {
+            balanceBefore = depositConditionally(accountId, accountNo, totalAmount)
+                    .map(balanceAfter -> balanceAfter - totalAmount)
+                    .orElse(null);
+        }
+
+        if (!sharded && balanceBefore == null) {
+            Account lockedAccount = accountRepository.findLockedByAccountId(accountId)
+                    .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo));
+
+            lockedAccount.validateActive();
+
+            if (lockedAccount.isBalanceSharded()) {
+                lockedAccount = accountBalanceSlotService.consolidate(lockedAccount);
+            }
+
+            balanceBefore = lockedAccount.getBalance();
+            accountRepository.save(lockedAccount.deposit(totalAmount));
+        }
+
+        // 분할 계좌는 거래 후 잔액을 남기지 않는다. (단건 입금과 같다)
+        Long balance = balanceBefore;
+
+        List<Transaction> transactions = new ArrayList<>(claimedIndexes.size());
+        for (Integer index : claimedIndexes) {
+            DepositCommand command = commands.get(index);
+            if (balance != null) {
+                balance += command.amount();
+            }
+            transactions.add(Transaction.create(accountId, balance, command.transactionRequestId(), command.amount(), TransactionType.DEPOSIT));
+        }
+
+        List<Transaction> savedTransactions = accountTransactionRepository.saveAll(transactions);
+        outboxEventRecorder.recordAll(savedTransactions);
+        transactionCounter.incrementAll(savedTransactions);
+        for (int i = 0; i < claimedIndexes.size(); i++) {
+            TransactionResponse response = TransactionResponse.from(savedTransactions.get(i));
+            transactionIdempotencyManager.complete(savedTransactions.get(i).getTransactionRequestId(), response);
+            results[claimedIndexes.get(i)] = DepositBatchResult.success(response);
+        }
+    }
+
+    /**
+     * 계좌 상태 조건을 건 UPDATE 한 문장으로 입금하고 거래 후 잔액을 반환한다.
+     * 같은 트랜잭션에서 다시 읽으므로 자신이 반영한 잔액이 보인다.
+     * 분할 계좌는 UPDATE 대상이 아니므로(거래 후 잔액에 슬롯 합산이 필요하다) empty를 반환해 비관적 락 경로로 넘긴다.
+     */
+    private Optional<Long> depositConditionally(Long accountId, String accountNo, Long amount) {
+
+        if (amount == null || amount <= 0) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, amount);
+        }
+
+        if (accountRepository.depositIfActive(accountId, amount, LocalDateTime.now()) == 0) {
+            // 실패 원인 확인용 조회. 비관적 락 경로로 넘어갈 수 있으므로 락을 잡고 최신 상태를 읽는다.
+            Account account = accountRepository.findLockedByAccountId(accountId)
+                    .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo));
+
+            account.validateActive();
+
+            if (account.isBalanceSharded()) {
+                return Optional.empty();
+            }
+            throw new CoreException(ErrorType.ACCOUNT_NOT_ACTIVE, accountNo);
+        }
+
+        return Optional.of(accountRepository.findBalanceByAccountId(accountId)
+                .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountId)));
+    }
+
+    // 중복 요청이면 Redis에 저장된 응답을 DB 조회 없이 반환한다.
+    private Optional<TransactionResponse> claimOrGetResponse(Long amount, String transactionRequestId) {
+        return transactionIdempotencyManager.claimOrGetResponse(
+                transactionRequestId,
+                TransactionResponse.class,
+                () -> TransactionResponse.from(Transaction.init(transactionRequestId, amount, TransactionType.DEPOSIT))
+        );
+    }
 }
@@ -0,0 +1,21 @@
+package com.sw.remittanceservice.account.usecase;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "remittance.transfer.batch")
+public class TransferBatchProperties {
+
+    /**
+     * 묶음 이체 한 번에 받을 수 있는 최대 건수
+     */
+    private int maxSize = 1_000;
+
+    /**
+     * 계좌 락 조회 한 번에 담는 계좌 수 (IN 절 크기)
+     */
+    private int lockChunkSize = 500;
+}
@@ -0,0 +1,309 @@
+package com.sw.remittanceservice.account.usecase;
+
+import com.sw.remittanceservice.account.dto.TransferBatchItemResponse;
+import com.sw.remittanceservice.account.dto.TransferResponse;
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.entity.AccountDailyLimitUsage;
+import com.sw.remittanceservice.account.entity.AccountLimitSetting;
+import com.sw.remittanceservice.account.entity.Transaction;
+import com.sw.remittanceservice.account.entity.enums.TransactionType;
+import com.sw.remittanceservice.account.repository.*;
+import com.sw.remittanceservice.account.service.AccountBalanceSlotService;
+import com.sw.remittanceservice.account.service.AccountIdResolver;
+import com.sw.remittanceservice.account.service.AccountLimitSettingCache;
+import com.sw.remittanceservice.account.service.DailyLimitCounter;
+import com.sw.remittanceservice.account.service.DailyLimitProperties;
+import com.sw.remittanceservice.account.service.DailyLimitStore;
+import com.sw.remittanceservice.account.service.OutboxEventRecorder;
+import com.sw.remittanceservice.account.service.TransactionCounter;
+import com.sw.remittanceservice.account.usecase.dto.TransferCommand;
+import com.sw.remittanceservice.account.usecase.idempotency.TransactionIdempotencyManager;
+import com.sw.remittanceservice.account.usecase.policy.FeeCalculatorFinder;
+import com.sw.remittanceservice.account.usecase.policy.dto.FeeRequest;
+import com.sw.remittanceservice.account.usecase.policy.dto.FeeResponse;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 여러 건의 이체를 한 트랜잭션에서 처리한다.
+ * 관련된 모든 계좌를 accountId 오름차순으로 한 번씩만 잠그고(단건 이체의 min/max 순서를 일반화), 건별로 검증/반영한다.
+ * 건별 실패(잔액 부족, 한도 초과 등)는 해당 건만 실패로 응답하고 나머지는 커밋한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class TransferBatchUseCase {
+
+    private final AccountRepository accountRepository;
+
+    private final AccountIdResolver accountIdResolver;
+
+    private final TransactionRepository accountTransactionRepository;
+
+    private final TransactionIdempotencyManager transactionIdempotencyManager;
+
+    private final AccountLimitSettingCache accountLimitSettingCache;
+
+    private final AccountDailyLimitUsageRepository accountDailyLimitUsageRepository;
+
+    private final FeeCalculatorFinder feeCalculatorFinder;
+
+    private final AccountBalanceSlotService accountBalanceSlotService;
+
+    private final DailyLimitCounter dailyLimitCounter;
+
+    private final DailyLimitProperties dailyLimitProperties;
+
+    private final TransferBatchProperties transferBatchProperties;
+
+    private final OutboxEventRecorder outboxEventRecorder;
+
+    private final TransactionCounter transactionCounter;
+
+    @Transactional
+    public List<TransferBatchItemResponse> execute(List<TransferCommand> commands) {
+
+        if (commands == null || commands.isEmpty() || commands.size() > transferBatchProperties.getMaxSize()) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, commands == null ? null : commands.size());
+        }
+
+        TransferBatchItemResponse[] results = new TransferBatchItemResponse[commands.size()];
+
+        List<Integer> claimedIndexes = claim(commands, results);
+        if (claimedIndexes.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        Map<String, Long> accountIds = resolveAccountIds(commands, claimedIndexes);
+        Map<Long, Account> accounts = lockAccounts(new TreeSet<>(accountIds.values()));
+        Map<Long, AccountDailyLimitUsage> usages = lockUsages(commands, claimedIndexes, accountIds, accounts);
+
+        // 슬롯 잔액을 합친 분할 계좌는 이체 성공 여부와 관계없이 저장해야 한다.
+        Set<Long> changedAccountIds = new HashSet<>();
+        accounts.values().stream()
+                .filter(Account::isBalanceSharded)
+                .forEach(account -> changedAccountIds.add(account.getAccountId()));
+        List<Transaction> transactions = new ArrayList<>(claimedIndexes.size() * 2);
+        Map<Integer, TransferResponse> completed = new LinkedHashMap<>();
+
+        for (Integer index : claimedIndexes) {
+            TransferCommand command = commands.get(index);
+            try {
+                Transaction withdrawTransaction = transfer(command, accountIds, accounts, usages, transactions);
+                changedAccountIds.add(withdrawTransaction.getAccountId());
+                changedAccountIds.add(accountIds.get(command.toAccountNo()));
+
+                TransferResponse response = TransferResponse.from(withdrawTransaction);
+                completed.put(index, response);
+                results[index] = TransferBatchItemResponse.success(command.transactionRequestId(), response);
+            } catch (CoreException e) {
+                transactionIdempotencyManager.abandon(command.transactionRequestId());
+                results[index] = TransferBatchItemResponse.failure(command.transactionRequestId(), e.getErrorType());
+            }
+        }
+
+        accountRepository.saveAll(changedAccountIds.stream().map(accounts::get).toList());
+        List<Transaction> savedTransactions = accountTransactionRepository.saveAll(transactions);
+        outboxEventRecorder.recordAll(savedTransactions);
+        transactionCounter.incrementAll(savedTransactions);
+
+        completed.forEach((index, response) ->
+                transactionIdempotencyManager.complete(commands.get(index).transactionRequestId(), response));
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 형식이 잘못된 건은 선점하지 않고 바로 실패로 채운다. 나머지는 Redis 1회 왕복으로 한 번에 선점한다.
+     * 같은 묶음 안에서 거래 요청 아이디가 겹치면 첫 건만 선점하고 나머지는 실패로 채운다.
+     * (그대로 선점하면 뒤의 건이 앞의 건이 선점하며 남긴 처리 중 응답을 받아 성공으로 보인다)
+     */
+    private List<Integer> claim(List<TransferCommand> commands, TransferBatchItemResponse[] results) {
+        List<Integer> validIndexes = new ArrayList<>(commands.size());
+        Set<String> transactionRequestIds = new HashSet<>();
+        for (int i = 0; i < commands.size(); i++) {
+            TransferCommand command = commands.get(i);
+            ErrorType invalid = validate(command);
+            if (invalid == null && !transactionRequestIds.add(command.transactionRequestId())) {
+                invalid = ErrorType.DUPLICATE_TRANSACTION_REQUEST_ID;
+            }
+            if (invalid != null) {
+                results[i] = TransferBatchItemResponse.failure(command == null ? null : command.transactionRequestId(), invalid);
+                continue;
+            }
+            validIndexes.add(i);
+        }
+
+        if (validIndexes.isEmpty()) {
+            return validIndexes;
+        }
+
+        List<Optional<TransferResponse>> storedResponses = transactionIdempotencyManager.claimAllOrGetResponses(
+                validIndexes.stream().map(index -> commands.get(index).transactionRequestId()).toList(),
+                TransferResponse.class,
+                i -> {
+                    TransferCommand command = commands.get(validIndexes.get(i));
+                    return TransferResponse.from(Transaction.init(command.transactionRequestId(), command.amount(), TransactionType.WITHDRAW));
+                }
+        );
+
+        List<Integer> claimedIndexes = new ArrayList<>(validIndexes.size());
+        for (int i = 0; i < validIndexes.size(); i++) {
+            Integer index = validIndexes.get(i);
+            Optional<TransferResponse> storedResponse = storedResponses.get(i);
+            if (storedResponse.isPresent()) {
+                results[index] = TransferBatchItemResponse.success(commands.get(index).transactionRequestId(), storedResponse.get());
+                continue;
+            }
+            claimedIndexes.add(index);
+        }
+        return claimedIndexes;
+    }
+
+    private ErrorType validate(TransferCommand command) {
+        if (command == null
+                || command.fromAccountNo() == null
+                || command.toAccountNo() == null
+                || command.transactionRequestId() == null
+                || command.amount() == null
+                || command.amount() <= 0) {
+            return ErrorType.INVALID_REQUEST;
+        }
+        if (command.fromAccountNo().equals(command.toAccountNo())) {
+            return ErrorType.SAME_ACCOUNT_TRANSFER;
+        }
+        return null;
+    }
+
+    private Map<String, Long> resolveAccountIds(List<TransferCommand> commands, List<Integer> claimedIndexes) {
+        Map<String, Long> accountIds = new HashMap<>();
+        for (Integer index : claimedIndexes) {
+            TransferCommand command = commands.get(index);
+            for (String accountNo : List.of(command.fromAccountNo(), command.toAccountNo())) {
+                if (!accountIds.containsKey(accountNo)) {
+                    accountIdResolver.resolve(accountNo).ifPresent(accountId -> accountIds.put(accountNo, accountId));
+                }
+            }
+        }
+        return accountIds;
+    }
+
+    /**
+     * accountId 오름차순으로 나눠 잠근다. 분할 계좌는 락을 잡은 상태에서 슬롯 잔액을 본 잔액으로 합친다.
+     */
+    private Map<Long, Account> lockAccounts(SortedSet<Long> accountIds) {
+        List<Long> sortedIds = new ArrayList<>(accountIds);
+        Map<Long, Account> accounts = new HashMap<>();
+        int chunkSize = transferBatchProperties.getLockChunkSize();
+
+        for (int from = 0; from < sortedIds.size(); from += chunkSize) {
+            List<Long> chunk = sortedIds.subList(from, Math.min(from + chunkSize, sortedIds.size()));
+            for (Account account : accountRepository.findAllLockedByAccountIdIn(chunk)) {
+                accounts.put(account.getAccountId(), account);
+            }
+        }
+
+        accounts.replaceAll((accountId, account) ->
+                account.isBalanceSharded() ? accountBalanceSlotService.consolidate(account) : account);
+        return accounts;
+    }
+
+    /**
+     * 계좌 락 이후 출금 계좌의 한도 사용량 행을 accountId 오름차순으로 잠근다. (락 순서: 계좌 → 한도)
+     */
+    private Map<Long, AccountDailyLimitUsage> lockUsages(
+            List<TransferCommand> commands,
+            List<Integer> claimedIndexes,
+            Map<String, Long> accountIds,
+            Map<Long, Account> accounts
+    ) {
+        if (dailyLimitProperties.getStore() == DailyLimitStore.REDIS) {
+            return Map.of();
+        }
+
+        SortedSet<Long> fromAccountIds = new TreeSet<>();
+        for (Integer index : claimedIndexes) {
+            Long fromAccountId = accountIds.get(commands.get(index).fromAccountNo());
+            if (fromAccountId != null && accounts.containsKey(fromAccountId)) {
+                fromAccountIds.add(fromAccountId);
+            }
+        }
+
+        LocalDate today = LocalDate.now();
+        Map<Long, AccountDailyLimitUsage> usages = new HashMap<>();
+        for (Long accountId : fromAccountIds) {
+            usages.put(accountId, accountDailyLimitUsageRepository.findLockedByAccountIdAndLimitDate(accountId, today)
+                    .orElseGet(() -> accountDailyLimitUsageRepository.save(AccountDailyLimitUsage.init(accountId, today))));
+        }
+        return usages;
+    }
+
+    /**
+     * 한 건을 반영하고 출금 거래를 반환한다. 검증이 모두 끝난 뒤에만 잔액/한도를 바꾸므로 실패한 건은 아무것도 남기지 않는다.
+     */
+    private Transaction transfer(
+            TransferCommand command,
+            Map<String, Long> accountIds,
+            Map<Long, Account> accounts,
+            Map<Long, AccountDailyLimitUsage> usages,
+            List<Transaction> transactions
+    ) {
+        Account fromAccount = findLocked(command.fromAccountNo(), accountIds, accounts);
+        Account toAccount = findLocked(command.toAccountNo(), accountIds, accounts);
+
+        fromAccount.validateActive();
+        toAccount.validateActive();
+
+        Long amount = command.amount();
+        FeeResponse feeResponse = feeCalculatorFinder.calculate(new FeeRequest(amount, fromAccount.getAccountId()));
+
+        Account updatedFromAccount = fromAccount.withdraw(amount + feeResponse.feeAmount());
+        Account updatedToAccount = toAccount.deposit(amount);
+
+        AccountLimitSetting setting = accountLimitSettingCache.findByAccountId(fromAccount.getAccountId())
+                .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_LIMIT_SETTING_NOT_FOUND, fromAccount.getAccountId()));
+
+        addTransferUsed(fromAccount.getAccountId(), amount, setting.getDailyTransferLimit(), usages);
+
+        accounts.put(updatedFromAccount.getAccountId(), updatedFromAccount);
+        accounts.put(updatedToAccount.getAccountId(), updatedToAccount);
+
+        Transaction withdrawTransaction = Transaction.createTransferWithdraw(
+                updatedFromAccount, updatedToAccount.getAccountNo(), command.transactionRequestId(), amount, feeResponse
+        );
+        transactions.add(withdrawTransaction);
+        transactions.add(Transaction.createTransferDeposit(
+                updatedToAccount, updatedFromAccount.getAccountNo(), command.transactionRequestId(), amount
+        ));
+        return withdrawTransaction;
+    }
+
+    private Account findLocked(String accountNo, Map<String, Long> accountIds, Map<Long, Account> accounts) {
+        Long accountId = accountIds.get(accountNo);
+        Account account = accountId == null ? null : accounts.get(accountId);
+        if (account == null) {
+            throw new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo);
+        }
+        return account;
+    }
+
+    private void addTransferUsed(Long accountId, Long amount, Long transferLimit, Map<Long, AccountDailyLimitUsage> usages) {
+        if (dailyLimitProperties.getStore() == DailyLimitStore.REDIS) {
+            dailyLimitCounter.addTransferUsed(accountId, amount, transferLimit);
+            return;
+        }
+
+        AccountDailyLimitUsage usage = usages.get(accountId);
+
+        if (usage.getTransferUsed() + amount > transferLimit) {
+            throw new CoreException(ErrorType.EXCEED_DAILY_TRANSFER_LIMIT, usage.getTransferUsed() + amount);
+        }
+
+        usage.addTransferUsed(amount);
+    }
+}
@@ -7,6 +7,17 @@ import com.sw.remittanceservice.account.entity.AccountLimitSetting;
 import com.sw.remittanceservice.account.entity.Transaction;
 import com.sw.remittanceservice.account.entity.enums.TransactionType;
 import com.sw.remittanceservice.account.repository.*;
+import com.sw.remittanceservice.account.service.AccountBalanceSlotService;
+import com.sw.remittanceservice.account.service.AccountIdResolver;
+import com.sw.remittanceservice.account.service.AccountLimitSettingCache;
+import com.sw.remittanceservice.account.service.DailyLimitCounter;
+import com.sw.remittanceservice.account.service.DailyLimitProperties;
+import com.sw.remittanceservice.account.service.DailyLimitStore;
+import com.sw.remittanceservice.account.service.OutboxEventRecorder;
+import com.sw.remittanceservice.account.service.TransactionCounter;
+import com.sw.remittanceservice.account.usecase.idempotency.TransactionIdempotencyManager;
+import com.sw.remittanceservice.account.usecase.metrics.UseCaseMetrics;
+import com.sw.remittanceservice.account.usecase.metrics.UseCasePhase;
 import com.sw.remittanceservice.account.usecase.policy.FeeCalculatorFinder;
 import com.sw.remittanceservice.account.usecase.policy.dto.FeeRequest;
 import com.sw.remittanceservice.account.usecase.policy.dto.FeeResponse;
@@ -14,10 +25,13 @@ import com.sw.remittanceservice.common.exception.CoreException;
 import com.sw.remittanceservice.common.exception.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 
+import static com.sw.remittanceservice.account.usecase.metrics.UseCaseOperation.TRANSFER;
 
 @RequiredArgsConstructor
 @Component
@@ -25,66 +39,117 @@ public class TransferUseCase {
 
     private final AccountRepository accountRepository;
 
+    private final AccountIdResolver accountIdResolver;
+
     private final TransactionRepository accountTransactionRepository;
 
-    private final TransactionRedisRepository transactionRedisRepository;
+    private final TransactionIdempotencyManager transactionIdempotencyManager;
 
-    private final AccountLimitSettingRepository accountLimitSettingRepository;
+    private final AccountLimitSettingCache accountLimitSettingCache;
 
     private final AccountDailyLimitUsageRepository accountDailyLimitUsageRepository;
 
     private final FeeCalculatorFinder feeCalculatorFinder;
 
-    @Transactional
-    public TransferResponse execute(String fromAccountNo, String toAccountNo, Long amount, String transactionRequestId) {
+    private final AccountBalanceSlotService accountBalanceSlotService;
 
-        if (fromAccountNo.equals(toAccountNo)) {
-            throw new CoreException(ErrorType.SAME_ACCOUNT_TRANSFER, toAccountNo);
-        }
+    private final DailyLimitCounter dailyLimitCounter;
+
+    private final DailyLimitProperties dailyLimitProperties;
+
+    private final OutboxEventRecorder outboxEventRecorder;
+
+    private final TransactionCounter transactionCounter;
+
+    private final UseCaseMetrics useCaseMetrics;
 
-        if (!transactionRedisRepository.tryLock(transactionRequestId, 1)) {
-            Account account = accountRepository.findByAccountNo(fromAccountNo).orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, fromAccountNo));
+    private final TransactionOperations transactionOperations;
 
-            Transaction transaction = accountTransactionRepository
-                    .findByAccountIdAndTransactionRequestId(account.getAccountId(), transactionRequestId)
-                    .orElse(Transaction.init(transactionRequestId, amount, TransactionType.WITHDRAW));
-            return TransferResponse.from(transaction);
+    /**
+     * 멱등성 선점은 트랜잭션 밖에서 하고, 선점한 요청만 트랜잭션을 열어 처리한다. ({@link DepositUseCase#execute} 참고)
+     */
+    public TransferResponse execute(String fromAccountNo, String toAccountNo, Long amount, String transactionRequestId) {
+        long startedAt = useCaseMetrics.start();
+        try {
+            if (fromAccountNo.equals(toAccountNo)) {
+                throw new CoreException(ErrorType.SAME_ACCOUNT_TRANSFER, toAccountNo);
+            }
+
+            long phaseStartedAt = useCaseMetrics.start();
+            Optional<TransferResponse> storedResponse = transactionIdempotencyManager.claimOrGetResponse(
+                    transactionRequestId,
+                    TransferResponse.class,
+                    () -> TransferResponse.from(Transaction.init(transactionRequestId, amount, TransactionType.WITHDRAW))
+            );
+            useCaseMetrics.record(TRANSFER, UseCasePhase.IDEMPOTENCY, phaseStartedAt);
+            if (storedResponse.isPresent()) {
+                useCaseMetrics.duplicate(TRANSFER);
+                return storedResponse.get();
+            }
+
+            TransferResponse response;
+            try {
+                response = transactionOperations.execute(status -> {
+                    TransferResponse processed = transfer(fromAccountNo, toAccountNo, amount, transactionRequestId);
+                    transactionIdempotencyManager.complete(transactionRequestId, processed);
+                    useCaseMetrics.recordCommit(TRANSFER);
+                    return processed;
+                });
+            } catch (RuntimeException e) {
+                transactionIdempotencyManager.abandon(transactionRequestId);
+                throw e;
+            }
+
+            useCaseMetrics.success(TRANSFER);
+            return response;
+        } catch (RuntimeException e) {
+            useCaseMetrics.failure(TRANSFER, e);
+            throw e;
+        } finally {
+            useCaseMetrics.record(TRANSFER, UseCasePhase.EXECUTE, startedAt);
         }
+    }
 
-        Long fromAccountId = accountRepository.findIdByAccountNo(fromAccountNo)
+    private TransferResponse transfer(String fromAccountNo, String toAccountNo, Long amount, String transactionRequestId) {
+
+        Long fromAccountId = accountIdResolver.resolve(fromAccountNo)
                 .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, fromAccountNo));
 
-        Long toAccountId = accountRepository.findIdByAccountNo(toAccountNo)
+        Long toAccountId = accountIdResolver.resolve(toAccountNo)
                 .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, toAccountNo));
 
         Long firstId = Math.min(fromAccountId, toAccountId);
         Long secondId = Math.max(fromAccountId, toAccountId);
 
+        long phaseStartedAt = useCaseMetrics.start();
         Account firstLockedAccount = accountRepository.findLockedByAccountId(firstId)
                 .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, firstId));
 
         Account secondLockedAccount = accountRepository.findLockedByAccountId(secondId)
                 .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, secondId));
 
-        Account fromAccount = fromAccountId.equals(firstId) ? firstLockedAccount : secondLockedAccount;
-        Account toAccount = toAccountId.equals(firstId) ? firstLockedAccount : secondLockedAccount;
+        Account lockedFromAccount = fromAccountId.equals(firstId) ? firstLockedAccount : secondLockedAccount;
+        Account lockedToAccount = toAccountId.equals(firstId) ? firstLockedAccount : secondLockedAccount;
 
-        fromAccount.validateActive();
-        toAccount.validateActive();
+        lockedFromAccount.validateActive();
+        lockedToAccount.validateActive();
 
-        AccountDailyLimitUsage usage = getOrCreateUsage(fromAccount.getAccountId(), LocalDate.now());
-        AccountLimitSetting setting = accountLimitSettingRepository.findByAccountId(fromAccount.getAccountId())
-                .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_LIMIT_SETTING_NOT_FOUND, fromAccount.getAccountId()));
-
-        if (usage.getTransferUsed() + amount > setting.getDailyTransferLimit()) {
-            throw new CoreException(ErrorType.EXCEED_DAILY_TRANSFER_LIMIT, usage.getTransferUsed() + amount);
-        }
+        Account fromAccount = consolidateIfSharded(lockedFromAccount);
+        Account toAccount = consolidateIfSharded(lockedToAccount);
+        useCaseMetrics.record(TRANSFER, UseCasePhase.ACCOUNT_LOCK, phaseStartedAt);
 
-        FeeResponse feeResponse = feeCalculatorFinder.calculate(new FeeRequest(amount));
+        phaseStartedAt = useCaseMetrics.start();
+        AccountLimitSetting setting = accountLimitSettingCache.findByAccountId(fromAccount.getAccountId())
+                .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_LIMIT_SETTING_NOT_FOUND, fromAccount.getAccountId()));
 
+        addTransferUsed(fromAccount.getAccountId(), amount, setting.getDailyTransferLimit());
+        useCaseMetrics.record(TRANSFER, UseCasePhase.DAILY_LIMIT, phaseStartedAt);
 
-        usage.addTransferUsed(amount);
+        phaseStartedAt = useCaseMetrics.start();
+        FeeResponse feeResponse = feeCalculatorFinder.calculate(new FeeRequest(amount, fromAccount.getAccountId()));
+        useCaseMetrics.record(TRANSFER, UseCasePhase.FEE, phaseStartedAt);
 
+        phaseStartedAt = useCaseMetrics.start();
         Account updatedLockFromAccount = fromAccount.withdraw(amount + feeResponse.feeAmount());
         Account updatedLockToAccount = toAccount.deposit(amount);
 
@@ -95,13 +160,38 @@ public class TransferUseCase {
                 Transaction.createTransferWithdraw(savedFromAccount, savedToAccount.getAccountNo(), transactionRequestId, amount, feeResponse)
         );
 
-        accountTransactionRepository.save(
+        Transaction transactionToAccount = accountTransactionRepository.save(
                 Transaction.createTransferDeposit(savedToAccount, savedFromAccount.getAccountNo(), transactionRequestId, amount)
         );
 
+        List<Transaction> transactions = List.of(transactionFromAccount, transactionToAccount);
+        outboxEventRecorder.recordAll(transactions);
+        transactionCounter.incrementAll(transactions);
+        useCaseMetrics.record(TRANSFER, UseCasePhase.PERSIST, phaseStartedAt);
+
         return TransferResponse.from(transactionFromAccount);
     }
 
+    // 분할 계좌는 배타 락을 잡은 상태에서 슬롯 잔액을 본 잔액으로 합쳐 거래 후 잔액이 정확하도록 한다.
+    private Account consolidateIfSharded(Account lockedAccount) {
+        return lockedAccount.isBalanceSharded() ? accountBalanceSlotService.consolidate(lockedAccount) : lockedAccount;
+    }
+
+    private void addTransferUsed(Long accountId, Long amount, Long transferLimit) {
+        if (dailyLimitProperties.getStore() == DailyLimitStore.REDIS) {
+            dailyLimitCounter.addTransferUsed(accountId, amount, transferLimit);
+            return;
+        }
+
+        AccountDailyLimitUsage usage = getOrCreateUsage(accountId, LocalDate.now());
+
+        if (usage.getTransferUsed() + amount > transferLimit) {
+            throw new CoreException(ErrorType.EXCEED_DAILY_TRANSFER_LIMIT, usage.getTransferUsed() + amount);
+        }
+
+        usage.addTransferUsed(amount);
+    }
+
     private AccountDailyLimitUsage getOrCreateUsage(Long accountId, LocalDate today) {
         return accountDailyLimitUsageRepository.findLockedByAccountIdAndLimitDate(accountId, today)
                 .orElseGet(() -> accountDailyLimitUsageRepository.save(AccountDailyLimitUsage.init(accountId, today)));
@@ -7,13 +7,29 @@ import com.sw.remittanceservice.account.entity.AccountLimitSetting;
 import com.sw.remittanceservice.account.entity.Transaction;
 import com.sw.remittanceservice.account.entity.enums.TransactionType;
 import com.sw.remittanceservice.account.repository.*;
+import com.sw.remittanceservice.account.service.AccountBalanceSlotService;
+import com.sw.remittanceservice.account.service.AccountIdResolver;
+import com.sw.remittanceservice.account.service.AccountLimitSettingCache;
+import com.sw.remittanceservice.account.service.DailyLimitCounter;
+import com.sw.remittanceservice.account.service.DailyLimitProperties;
+import com.sw.remittanceservice.account.service.DailyLimitStore;
+import com.sw.remittanceservice.account.service.OutboxEventRecorder;
+import com.sw.remittanceservice.account.service.TransactionCounter;
+import com.sw.remittanceservice.account.usecase.idempotency.TransactionIdempotencyManager;
+import com.sw.remittanceservice.account.usecase.metrics.UseCaseMetrics;
+import com.sw.remittanceservice.account.usecase.metrics.UseCasePhase;
 import com.sw.remittanceservice.common.exception.CoreException;
 import com.sw.remittanceservice.common.exception.ErrorType;
+import com.sw.remittanceservice.common.id.TsidGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.sw.remittanceservice.account.usecase.metrics.UseCaseOperation.WITHDRAW;
 
 @RequiredArgsConstructor
 @Component
@@ -21,54 +37,207 @@ public class WithdrawUseCase {
 
     private final AccountRepository accountRepository;
 
+    private final AccountIdResolver accountIdResolver;
+
     private final TransactionRepository accountTransactionRepository;
 
-    private final TransactionRedisRepository transactionRedisRepository;
+    private final TransactionIdempotencyManager transactionIdempotencyManager;
 
-    private final AccountLimitSettingRepository accountLimitSettingRepository;
+    private final AccountLimitSettingCache accountLimitSettingCache;
 
     private final AccountDailyLimitUsageRepository accountDailyLimitUsageRepository;
 
-    @Transactional
-    public TransactionResponse execute(String accountNo, Long amount, String transactionRequestId) {
+    private final AccountBalanceSlotService accountBalanceSlotService;
+
+    private final BalanceUpdateProperties balanceUpdateProperties;
+
+    private final DailyLimitCounter dailyLimitCounter;
+
+    private final DailyLimitProperties dailyLimitProperties;
+
+    private final OutboxEventRecorder outboxEventRecorder;
+
+    private final TsidGenerator tsidGenerator;
 
-        if (!transactionRedisRepository.tryLock(transactionRequestId, 1)) {
+    private final TransactionCounter transactionCounter;
 
-            Account account = accountRepository.findByAccountNo(accountNo)
-                    .orElseThrow(()-> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo));
+    private final UseCaseMetrics useCaseMetrics;
 
-            Transaction transaction = accountTransactionRepository.findByAccountIdAndTransactionRequestId(account.getAccountId(), transactionRequestId)
-                    .orElse(Transaction.init(transactionRequestId, amount, TransactionType.WITHDRAW));
-            return TransactionResponse.from(transaction);
+    private final TransactionOperations transactionOperations;
+
+    /**
+     * 멱등성 선점은 트랜잭션 밖에서 하고, 선점한 요청만 트랜잭션을 열어 처리한다. ({@link DepositUseCase#execute} 참고)
+     */
+    public TransactionResponse execute(String accountNo, Long amount, String transactionRequestId) {
+        long startedAt = useCaseMetrics.start();
+        try {
+            long phaseStartedAt = useCaseMetrics.start();
+            Optional<TransactionResponse> storedResponse = transactionIdempotencyManager.claimOrGetResponse(
+                    transactionRequestId,
+                    TransactionResponse.class,
+                    () -> TransactionResponse.from(Transaction.init(transactionRequestId, amount, TransactionType.WITHDRAW))
+            );
+            useCaseMetrics.record(WITHDRAW, UseCasePhase.IDEMPOTENCY, phaseStartedAt);
+            if (storedResponse.isPresent()) {
+                useCaseMetrics.duplicate(WITHDRAW);
+                return storedResponse.get();
+            }
+
+            TransactionResponse response;
+            try {
+                response = transactionOperations.execute(status -> {
+                    TransactionResponse processed = withdraw(accountNo, amount, transactionRequestId);
+                    transactionIdempotencyManager.complete(transactionRequestId, processed);
+                    useCaseMetrics.recordCommit(WITHDRAW);
+                    return processed;
+                });
+            } catch (RuntimeException e) {
+                transactionIdempotencyManager.abandon(transactionRequestId);
+                throw e;
+            }
+
+            useCaseMetrics.success(WITHDRAW);
+            return response;
+        } catch (RuntimeException e) {
+            useCaseMetrics.failure(WITHDRAW, e);
+            throw e;
+        } finally {
+            useCaseMetrics.record(WITHDRAW, UseCasePhase.EXECUTE, startedAt);
         }
+    }
+
+    private TransactionResponse withdraw(String accountNo, Long amount, String transactionRequestId) {
 
-        Account lockedAccount = accountRepository.findLockedByAccountNo(accountNo)
+        if (balanceUpdateProperties.getWithdraw() == BalanceUpdateMode.CONDITIONAL && !accountBalanceSlotService.isSharded(accountNo)) {
+            Optional<TransactionResponse> response = withdrawConditionally(accountNo, amount, transactionRequestId);
+            if (response.isPresent()) {
+                return response.get();
+            }
+        }
+
+        Long accountId = accountIdResolver.resolve(accountNo)
                 .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo));
 
-        lockedAccount.validateActive();
+        long phaseStartedAt = useCaseMetrics.start();
+        Account lockedAccount = accountRepository.findLockedByAccountId(accountId)
+                .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo));
+        useCaseMetrics.record(WITHDRAW, UseCasePhase.ACCOUNT_LOCK, phaseStartedAt);
 
-        Long accountId = lockedAccount.getAccountId();
+        lockedAccount.validateActive();
 
-        AccountLimitSetting setting = accountLimitSettingRepository.findByAccountId(accountId)
+        phaseStartedAt = useCaseMetrics.start();
+        AccountLimitSetting setting = accountLimitSettingCache.findByAccountId(accountId)
                 .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_LIMIT_SETTING_NOT_FOUND, accountId));
 
-        AccountDailyLimitUsage usage = getOrCreateUsage(accountId, LocalDate.now());
+        addWithdrawUsed(accountId, amount, setting.getDailyWithdrawLimit());
+        useCaseMetrics.record(WITHDRAW, UseCasePhase.DAILY_LIMIT, phaseStartedAt);
 
-        if (usage.getWithdrawUsed() + amount > setting.getDailyWithdrawLimit()) {
-            throw new CoreException(ErrorType.EXCEED_DAILY_WITHDRAW_LIMIT, accountId);
+        phaseStartedAt = useCaseMetrics.start();
+        if (lockedAccount.isBalanceSharded()) {
+            lockedAccount = accountBalanceSlotService.consolidate(lockedAccount);
         }
 
-        usage.addWithdrawUsed(amount);
         Account updatedLockAccount = lockedAccount.withdraw(amount);
         Account savedAccount = accountRepository.save(updatedLockAccount);
 
         Transaction transaction = accountTransactionRepository.save(
                 Transaction.create(savedAccount, transactionRequestId, amount, TransactionType.WITHDRAW)
         );
+        outboxEventRecorder.record(transaction);
+        transactionCounter.increment(transaction);
+        useCaseMetrics.record(WITHDRAW, UseCasePhase.PERSIST, phaseStartedAt);
 
         return TransactionResponse.from(transaction);
     }
 
+    /**
+     * 잔액 조건을 건 UPDATE 한 문장으로 출금한다. 계좌 행 락은 UPDATE 시점부터 커밋까지만 잡힌다.
+     * 분할 계좌는 UPDATE 대상이 아니므로(슬롯 합산이 필요하다) empty를 반환해 비관적 락 경로로 넘긴다.
+     * 분할 여부 스냅샷이 오래되어 분할 계좌가 이 경로로 와도 마찬가지다.
+     */
+    private Optional<TransactionResponse> withdrawConditionally(String accountNo, Long amount, String transactionRequestId) {
+
+        if (amount == null || amount <= 0) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, amount);
+        }
+
+        Long accountId = accountIdResolver.resolve(accountNo)
+                .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo));
+
+        AccountLimitSetting setting = accountLimitSettingCache.findByAccountId(accountId)
+                .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_LIMIT_SETTING_NOT_FOUND, accountId));
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // 조건부 UPDATE 가 행 락을 잡는 지점이므로 락 대기 시간은 이 구간에 잡힌다.
+        long phaseStartedAt = useCaseMetrics.start();
+        if (accountRepository.withdrawIfSufficient(accountId, amount, now) == 0) {
+            // 실패 원인 확인용 조회. 비관적 락 경로로 넘어갈 수 있으므로 락을 잡고 최신 상태를 읽는다.
+            Account account = accountRepository.findLockedByAccountId(accountId)
+                    .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountId));
+
+            account.validateActive();
+
+            if (account.isBalanceSharded()) {
+                return Optional.empty();
+            }
+            throw new CoreException(ErrorType.INSUFFICIENT_BALANCE, amount);
+        }
+        useCaseMetrics.record(WITHDRAW, UseCasePhase.ACCOUNT_LOCK, phaseStartedAt);
+
+        phaseStartedAt = useCaseMetrics.start();
+        addWithdrawUsedWithinLimit(accountId, amount, setting.getDailyWithdrawLimit(), now);
+        useCaseMetrics.record(WITHDRAW, UseCasePhase.DAILY_LIMIT, phaseStartedAt);
+
+        phaseStartedAt = useCaseMetrics.start();
+        Long balance = accountRepository.findBalanceByAccountId(accountId)
+                .orElseThrow(() -> new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountId));
+
+        Transaction transaction = accountTransactionRepository.save(
+                Transaction.create(accountId, balance, transactionRequestId, amount, TransactionType.WITHDRAW)
+        );
+        outboxEventRecorder.record(transaction);
+        transactionCounter.increment(transaction);
+        useCaseMetrics.record(WITHDRAW, UseCasePhase.PERSIST, phaseStartedAt);
+
+        return Optional.of(TransactionResponse.from(transaction));
+    }
+
+    // 한도 행이 없으면 만든 뒤 한 번 더 시도한다. 그래도 갱신되지 않으면 한도 초과다.
+    private void addWithdrawUsedWithinLimit(Long accountId, Long amount, Long withdrawLimit, LocalDateTime now) {
+        if (dailyLimitProperties.getStore() == DailyLimitStore.REDIS) {
+            dailyLimitCounter.addWithdrawUsed(accountId, amount, withdrawLimit);
+            return;
+        }
+
+        LocalDate today = now.toLocalDate();
+
+        if (accountDailyLimitUsageRepository.addWithdrawUsedWithinLimit(accountId, today, amount, withdrawLimit, now) == 1) {
+            return;
+        }
+
+        accountDailyLimitUsageRepository.insertIgnore(tsidGenerator.nextId(), accountId, today, now);
+
+        if (accountDailyLimitUsageRepository.addWithdrawUsedWithinLimit(accountId, today, amount, withdrawLimit, now) == 0) {
+            throw new CoreException(ErrorType.EXCEED_DAILY_WITHDRAW_LIMIT, accountId);
+        }
+    }
+
+    private void addWithdrawUsed(Long accountId, Long amount, Long withdrawLimit) {
+        if (dailyLimitProperties.getStore() == DailyLimitStore.REDIS) {
+            dailyLimitCounter.addWithdrawUsed(accountId, amount, withdrawLimit);
+            return;
+        }
+
+        AccountDailyLimitUsage usage = getOrCreateUsage(accountId, LocalDate.now());
+
+        if (usage.getWithdrawUsed() + amount > withdrawLimit) {
+            throw new CoreException(ErrorType.EXCEED_DAILY_WITHDRAW_LIMIT, accountId);
+        }
+
+        usage.addWithdrawUsed(amount);
+    }
+
     private AccountDailyLimitUsage getOrCreateUsage(Long accountId, LocalDate today) {
         return accountDailyLimitUsageRepository.findLockedByAccountIdAndLimitDate(accountId, today)
                 .orElseGet(() -> accountDailyLimitUsageRepository.save(AccountDailyLimitUsage.init(accountId, today)));
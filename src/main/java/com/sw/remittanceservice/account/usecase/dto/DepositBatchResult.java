@@ -0,0 +1,18 @@
+package com.sw.remittanceservice.account.usecase.dto;
+
+import com.sw.remittanceservice.account.dto.TransactionResponse;
+import com.sw.remittanceservice.common.exception.ErrorType;
+
+/**
+ * 묶음 입금의 요청별 결과. 성공이면 response, 해당 요청만 실패했으면 errorType이 채워진다.
+ */
+public record DepositBatchResult(TransactionResponse response, ErrorType errorType) {
+
+    public static DepositBatchResult success(TransactionResponse response) {
+        return new DepositBatchResult(response, null);
+    }
+
+    public static DepositBatchResult failure(ErrorType errorType) {
+        return new DepositBatchResult(null, errorType);
+    }
+}
@@ -0,0 +1,4 @@
+package com.sw.remittanceservice.account.usecase.dto;
+
+public record DepositCommand(Long amount, String transactionRequestId) {
+}
@@ -0,0 +1,4 @@
+package com.sw.remittanceservice.account.usecase.dto;
+
+public record TransferCommand(String fromAccountNo, String toAccountNo, Long amount, String transactionRequestId) {
+}
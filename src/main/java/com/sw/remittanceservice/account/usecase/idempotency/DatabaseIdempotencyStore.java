@@ -0,0 +1,84 @@
+package com.sw.remittanceservice.account.usecase.idempotency;
+
+import com.sw.remittanceservice.account.entity.enums.IdempotencyStatus;
+import com.sw.remittanceservice.account.repository.IdempotencyKeyRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * idempotency_key 테이블로 선점과 응답을 관리한다.
+ * 선점 행과 응답은 호출한 DB 트랜잭션에서 기록되므로, 거래가 커밋되면 응답도 함께 남고 롤백되면 선점도 함께 사라진다.
+ * 같은 요청이 동시에 들어오면 나중 요청은 먼저 선점한 트랜잭션이 끝날 때까지 키 삽입에서 기다린 뒤 그 결과를 읽는다.
+ * 트랜잭션 밖에서 선점하면(단건 입금/출금/이체) 선점 행은 바로 커밋되어 같은 요청은 처리 중(PENDING)으로 읽고, 처리에 실패하면 호출자가 {@link #release}로 푼다.
+ * 완료 응답은 durable-ttl 동안 남으므로 재시도 간격과 상관없이 중복 요청을 막는다.
+ */
+@RequiredArgsConstructor
+public class DatabaseIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private final IdempotencyProperties idempotencyProperties;
+
+    private final Clock clock;
+
+    @Override
+    public String claimOrRead(String transactionRequestId, Duration pendingTtl) {
+        return claimOrReadAll(List.of(transactionRequestId), pendingTtl).get(0);
+    }
+
+    @Override
+    public List<String> claimOrReadAll(List<String> transactionRequestIds, Duration pendingTtl) {
+        // 여러 트랜잭션이 겹치는 키를 선점할 때 교착되지 않도록 항상 같은 순서로 넣는다.
+        List<String> keys = transactionRequestIds.stream().distinct().sorted().toList();
+        String claimToken = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime expiresAt = now.plus(pendingTtl);
+
+        Map<String, IdempotencyKeyRepository.Row> rows = null;
+        if (idempotencyKeyRepository.insertPending(keys, claimToken, expiresAt, now) < keys.size()) {
+            idempotencyKeyRepository.reclaim(keys, claimToken, expiresAt, now);
+            rows = new HashMap<>();
+            for (IdempotencyKeyRepository.Row row : idempotencyKeyRepository.findAll(keys)) {
+                rows.put(row.transactionRequestId(), row);
+            }
+        }
+
+        // 한 묶음 안에 같은 요청이 여러 번 있으면 처음 것만 선점하고 나머지는 처리 중으로 본다.
+        Set<String> claimed = new HashSet<>();
+        List<String> result = new ArrayList<>(transactionRequestIds.size());
+        for (String transactionRequestId : transactionRequestIds) {
+            String stored = rows == null ? null : storedValue(rows.get(transactionRequestId), claimToken);
+            if (stored == null && !claimed.add(transactionRequestId)) {
+                stored = PENDING;
+            }
+            result.add(stored);
+        }
+        return result;
+    }
+
+    @Override
+    public void saveResponse(String transactionRequestId, String response, Duration responseTtl) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        idempotencyKeyRepository.complete(transactionRequestId, response, now.plus(idempotencyProperties.getDurableTtl()), now);
+    }
+
+    @Override
+    public void release(String transactionRequestId) {
+        idempotencyKeyRepository.fail(transactionRequestId, LocalDateTime.now(clock));
+    }
+
+    private static String storedValue(IdempotencyKeyRepository.Row row, String claimToken) {
+        if (row == null) {
+            // 읽기 직전에 만료 정리로 지워진 경우. 재시도하면 다시 선점할 수 있다.
+            return PENDING;
+        }
+        if (row.claimToken().equals(claimToken)) {
+            return null;
+        }
+        return row.status() == IdempotencyStatus.SUCCESS ? row.response() : PENDING;
+    }
+}
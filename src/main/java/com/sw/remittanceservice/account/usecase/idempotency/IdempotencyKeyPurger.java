@@ -0,0 +1,37 @@
+package com.sw.remittanceservice.account.usecase.idempotency;
+
+import com.sw.remittanceservice.account.repository.IdempotencyKeyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 idempotency_key 행을 주기적으로 지운다. 한 번에 purge-batch-size건씩 지워 긴 락을 잡지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyPurger {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private final IdempotencyProperties idempotencyProperties;
+
+    private final Clock clock;
+
+    @Scheduled(fixedDelayString = "${remittance.idempotency.purge-interval-ms:60000}")
+    public void purge() {
+        if (idempotencyProperties.getStore() == IdempotencyStoreType.REDIS) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        int batchSize = idempotencyProperties.getPurgeBatchSize();
+        int deleted;
+        do {
+            deleted = idempotencyKeyRepository.deleteExpired(now, batchSize);
+        } while (deleted == batchSize);
+    }
+}
@@ -0,0 +1,48 @@
+package com.sw.remittanceservice.account.usecase.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "remittance.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * 선점/응답 저장소
+     */
+    private IdempotencyStoreType store = IdempotencyStoreType.REDIS;
+
+    /**
+     * 처리 중(PENDING) 선점 키 유지 시간. 트랜잭션 최대 처리 시간보다 길어야 한다.
+     */
+    private Duration pendingTtl = Duration.ofSeconds(10);
+
+    /**
+     * 처리 완료된 응답 보관 시간
+     */
+    private Duration responseTtl = Duration.ofHours(24);
+
+    /**
+     * DB(idempotency_key)에 완료 응답을 보관하는 시간. 이 기간 안의 재시도는 Redis에 응답이 없어도 중복으로 처리된다.
+     */
+    private Duration durableTtl = Duration.ofDays(7);
+
+    /**
+     * 만료된 idempotency_key 행을 한 번에 지우는 최대 건수
+     */
+    private int purgeBatchSize = 1000;
+
+    /**
+     * 중복 요청이 처리 중인 원 요청의 완료를 기다리는 최대 시간
+     */
+    private Duration inFlightWait = Duration.ofMillis(500);
+
+    /**
+     * 처리 중인 원 요청 완료 여부 확인 간격
+     */
+    private Duration pollInterval = Duration.ofMillis(20);
+}
@@ -0,0 +1,32 @@
+package com.sw.remittanceservice.account.usecase.idempotency;
+
+import com.sw.remittanceservice.account.entity.enums.TransactionStatus;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * transactionRequestId 선점/응답 저장소.
+ * 트랜잭션 안에서 호출되면 결과는 트랜잭션을 따른다. 저장한 응답은 커밋된 뒤에만 보이고, 롤백되면 선점이 풀린다.
+ */
+public interface IdempotencyStore {
+
+    String PENDING = TransactionStatus.PENDING.name();
+
+    /**
+     * 요청을 선점하면 null, 이미 선점된 요청이면 저장된 값({@link #PENDING} 또는 직렬화된 응답)을 반환한다.
+     */
+    String claimOrRead(String transactionRequestId, Duration pendingTtl);
+
+    /**
+     * {@link #claimOrRead}를 여러 요청에 대해 한 번에 수행한다. 결과는 요청 순서와 같고, 선점한 요청은 null이다.
+     */
+    List<String> claimOrReadAll(List<String> transactionRequestIds, Duration pendingTtl);
+
+    void saveResponse(String transactionRequestId, String response, Duration responseTtl);
+
+    /**
+     * 선점했지만 처리하지 못한 요청을 트랜잭션이 커밋되더라도 다시 선점할 수 있게 한다.
+     */
+    void release(String transactionRequestId);
+}
@@ -0,0 +1,16 @@
+package com.sw.remittanceservice.account.usecase.idempotency;
+
+public enum IdempotencyStoreType {
+    /**
+     * Redis만 사용. 응답은 response-ttl 동안만 남고 Redis 장애/유실 시 중복 요청을 막지 못한다.
+     */
+    REDIS,
+    /**
+     * DB(idempotency_key)만 사용. Redis 없이 동작한다.
+     */
+    DATABASE,
+    /**
+     * Redis를 앞단 캐시로 두고 DB에 영속 기록. 중복 요청은 대부분 Redis에서 응답하고, Redis에 없으면 DB가 판단한다.
+     */
+    TIERED
+}
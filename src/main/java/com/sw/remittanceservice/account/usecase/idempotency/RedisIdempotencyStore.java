@@ -0,0 +1,98 @@
+package com.sw.remittanceservice.account.usecase.idempotency;
+
+import com.sw.remittanceservice.account.repository.TransactionRedisRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 키(transaction-request-id-lock::{id}) 하나로 선점과 응답을 관리한다.
+ * Redis는 DB 트랜잭션에 참여하지 않으므로, 응답은 커밋 이후에 저장하고 롤백되면 선점 키를 지운다.
+ */
+@RequiredArgsConstructor
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private final TransactionRedisRepository transactionRedisRepository;
+
+    @Override
+    public String claimOrRead(String transactionRequestId, Duration pendingTtl) {
+        String stored = transactionRedisRepository.claimOrRead(transactionRequestId, pendingTtl);
+        if (stored == null) {
+            releaseOnRollback(transactionRequestId);
+        }
+        return stored;
+    }
+
+    @Override
+    public List<String> claimOrReadAll(List<String> transactionRequestIds, Duration pendingTtl) {
+        List<String> storedValues = transactionRedisRepository.claimOrReadAll(transactionRequestIds, pendingTtl);
+        for (int i = 0; i < storedValues.size(); i++) {
+            if (storedValues.get(i) == null) {
+                releaseOnRollback(transactionRequestIds.get(i));
+            }
+        }
+        return storedValues;
+    }
+
+    @Override
+    public void saveResponse(String transactionRequestId, String response, Duration responseTtl) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionRedisRepository.saveResponse(transactionRequestId, response, responseTtl);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                transactionRedisRepository.saveResponse(transactionRequestId, response, responseTtl);
+            }
+        });
+    }
+
+    @Override
+    public void release(String transactionRequestId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionRedisRepository.release(transactionRequestId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                transactionRedisRepository.release(transactionRequestId);
+            }
+        });
+    }
+
+    /**
+     * 이미 커밋된 응답을 트랜잭션과 상관없이 바로 캐시한다.
+     */
+    void cache(String transactionRequestId, String response, Duration responseTtl) {
+        transactionRedisRepository.saveResponse(transactionRequestId, response, responseTtl);
+    }
+
+    /**
+     * 선점 키를 트랜잭션과 상관없이 바로 지운다.
+     */
+    void evict(String transactionRequestId) {
+        transactionRedisRepository.release(transactionRequestId);
+    }
+
+    private void releaseOnRollback(String transactionRequestId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    transactionRedisRepository.release(transactionRequestId);
+                }
+            }
+        });
+    }
+}
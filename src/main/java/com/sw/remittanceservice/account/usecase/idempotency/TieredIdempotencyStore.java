@@ -0,0 +1,86 @@
+package com.sw.remittanceservice.account.usecase.idempotency;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis를 앞단 캐시로, DB를 영속 기록으로 사용한다.
+ * Redis에 값이 있으면 DB에 접근하지 않고 답하고, Redis에서 선점한 요청만 DB에서 다시 선점한다.
+ * Redis 키가 만료/유실된 뒤의 재시도는 DB에 남은 응답으로 답하고, 그 응답을 Redis에 다시 채운다.
+ */
+@RequiredArgsConstructor
+public class TieredIdempotencyStore implements IdempotencyStore {
+
+    private final RedisIdempotencyStore redisIdempotencyStore;
+
+    private final DatabaseIdempotencyStore databaseIdempotencyStore;
+
+    private final IdempotencyProperties idempotencyProperties;
+
+    @Override
+    public String claimOrRead(String transactionRequestId, Duration pendingTtl) {
+        String cached = redisIdempotencyStore.claimOrRead(transactionRequestId, pendingTtl);
+        if (cached != null) {
+            return cached;
+        }
+
+        String stored = databaseIdempotencyStore.claimOrRead(transactionRequestId, pendingTtl);
+        if (stored != null) {
+            refill(transactionRequestId, stored);
+        }
+        return stored;
+    }
+
+    @Override
+    public List<String> claimOrReadAll(List<String> transactionRequestIds, Duration pendingTtl) {
+        List<String> result = new ArrayList<>(redisIdempotencyStore.claimOrReadAll(transactionRequestIds, pendingTtl));
+
+        List<Integer> claimedIndexes = new ArrayList<>();
+        List<String> claimedIds = new ArrayList<>();
+        for (int i = 0; i < result.size(); i++) {
+            if (result.get(i) == null) {
+                claimedIndexes.add(i);
+                claimedIds.add(transactionRequestIds.get(i));
+            }
+        }
+        if (claimedIds.isEmpty()) {
+            return result;
+        }
+
+        List<String> storedValues = databaseIdempotencyStore.claimOrReadAll(claimedIds, pendingTtl);
+        for (int i = 0; i < storedValues.size(); i++) {
+            String stored = storedValues.get(i);
+            if (stored != null) {
+                refill(claimedIds.get(i), stored);
+                result.set(claimedIndexes.get(i), stored);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void saveResponse(String transactionRequestId, String response, Duration responseTtl) {
+        databaseIdempotencyStore.saveResponse(transactionRequestId, response, responseTtl);
+        redisIdempotencyStore.saveResponse(transactionRequestId, response, responseTtl);
+    }
+
+    @Override
+    public void release(String transactionRequestId) {
+        databaseIdempotencyStore.release(transactionRequestId);
+        redisIdempotencyStore.release(transactionRequestId);
+    }
+
+    /**
+     * Redis에서는 선점했지만 DB에 기록이 있는 요청. 완료된 응답이면 Redis에 채우고, 처리 중이면 Redis 선점을 바로 푼다.
+     */
+    private void refill(String transactionRequestId, String stored) {
+        if (PENDING.equals(stored)) {
+            redisIdempotencyStore.evict(transactionRequestId);
+        } else {
+            redisIdempotencyStore.cache(transactionRequestId, stored, idempotencyProperties.getResponseTtl());
+        }
+    }
+}
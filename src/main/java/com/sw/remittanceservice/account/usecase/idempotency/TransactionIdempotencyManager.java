@@ -0,0 +1,116 @@
+package com.sw.remittanceservice.account.usecase.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * transactionRequestId 단위 멱등성 처리.
+ * 원 요청은 최종 응답을 저장소({@link IdempotencyStore})에 저장하고, 중복 요청은 저장된 응답을 돌려받는다.
+ * 응답은 커밋된 뒤에만 보이고, 원 요청이 실패하면 선점이 풀려 재시도가 다시 처리될 수 있다.
+ */
+@RequiredArgsConstructor
+@Component
+public class TransactionIdempotencyManager {
+
+    private final IdempotencyStore idempotencyStore;
+
+    private final ObjectMapper objectMapper;
+
+    private final IdempotencyProperties idempotencyProperties;
+
+    /**
+     * 요청을 선점하면 empty를 반환한다. 호출자는 요청을 처리한 뒤 {@link #complete}를 호출해야 한다.
+     * 이미 선점된 요청이면 저장된 응답을 반환하고, 원 요청이 처리 중이면 inFlightWait 동안 완료를 기다린 뒤에도
+     * 끝나지 않은 경우 pendingResponse를 반환한다.
+     */
+    public <T> Optional<T> claimOrGetResponse(String transactionRequestId, Class<T> responseType, Supplier<T> pendingResponse) {
+        long deadline = System.nanoTime() + idempotencyProperties.getInFlightWait().toNanos();
+
+        while (true) {
+            String stored = idempotencyStore.claimOrRead(transactionRequestId, idempotencyProperties.getPendingTtl());
+
+            if (stored == null) {
+                return Optional.empty();
+            }
+
+            if (!IdempotencyStore.PENDING.equals(stored)) {
+                return Optional.of(deserialize(stored, responseType));
+            }
+
+            if (System.nanoTime() >= deadline || !sleep()) {
+                return Optional.of(pendingResponse.get());
+            }
+        }
+    }
+
+    /**
+     * 여러 요청을 한 번에 선점한다. 결과는 요청 순서와 같고, 선점한 요청은 empty다.
+     * 묶음 처리는 다른 요청을 기다리지 않으므로 처리 중(PENDING)인 요청은 바로 pendingResponse를 반환한다.
+     */
+    public <T> List<Optional<T>> claimAllOrGetResponses(List<String> transactionRequestIds, Class<T> responseType, IntFunction<T> pendingResponse) {
+        List<String> storedValues = idempotencyStore.claimOrReadAll(transactionRequestIds, idempotencyProperties.getPendingTtl());
+
+        List<Optional<T>> responses = new ArrayList<>(storedValues.size());
+        for (int i = 0; i < storedValues.size(); i++) {
+            String stored = storedValues.get(i);
+
+            if (stored == null) {
+                responses.add(Optional.empty());
+            } else if (IdempotencyStore.PENDING.equals(stored)) {
+                responses.add(Optional.of(pendingResponse.apply(i)));
+            } else {
+                responses.add(Optional.of(deserialize(stored, responseType)));
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * 선점했지만 처리하지 못한 요청을 다시 선점할 수 있게 한다.
+     * 묶음 처리에서 일부 요청만 실패하고 트랜잭션은 커밋되는 경우, 트랜잭션 밖에서 선점한 요청의 처리 트랜잭션이 실패한 경우에 사용한다.
+     */
+    public void abandon(String transactionRequestId) {
+        idempotencyStore.release(transactionRequestId);
+    }
+
+    /**
+     * 처리 결과를 저장한다. 트랜잭션 안이면 커밋되지 않은 응답은 노출되지 않는다.
+     */
+    public void complete(String transactionRequestId, Object response) {
+        idempotencyStore.saveResponse(transactionRequestId, serialize(response), idempotencyProperties.getResponseTtl());
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(idempotencyProperties.getPollInterval().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private String serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 응답 직렬화 실패", e);
+        }
+    }
+
+    private <T> T deserialize(String stored, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(stored, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 응답 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.sw.remittanceservice.account.usecase.metrics;
+
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입금/출금/이체 핫 패스 계측.
+ * 미터는 (operation, phase), (operation, outcome, error_type) 조합마다 생성 시점에 미리 등록해 두고 배열로 찾으므로,
+ * 요청마다 태그 객체를 만들거나 레지스트리를 조회하지 않는다. 태그 값은 모두 enum 이라 카디널리티가 고정이다.
+ */
+@Component
+public class UseCaseMetrics {
+
+    public static final String PHASE_TIMER = "remittance.usecase.phase";
+
+    public static final String OUTCOME_COUNTER = "remittance.usecase.outcome";
+
+    private static final String NO_ERROR = "none";
+
+    private static final String UNEXPECTED_ERROR = "UNEXPECTED";
+
+    private static final ErrorType[] ERROR_TYPES = ErrorType.values();
+
+    private final boolean enabled;
+
+    private final Timer[][] phaseTimers;
+
+    private final Counter[] successCounters;
+
+    private final Counter[] duplicateCounters;
+
+    private final Counter[][] errorCounters;
+
+    private final Counter[] unexpectedCounters;
+
+    public UseCaseMetrics(MeterRegistry meterRegistry, UseCaseMetricsProperties useCaseMetricsProperties) {
+        this.enabled = useCaseMetricsProperties.isEnabled();
+
+        UseCaseOperation[] operations = UseCaseOperation.values();
+        UseCasePhase[] phases = UseCasePhase.values();
+        this.phaseTimers = new Timer[operations.length][phases.length];
+        this.successCounters = new Counter[operations.length];
+        this.duplicateCounters = new Counter[operations.length];
+        this.errorCounters = new Counter[operations.length][ERROR_TYPES.length];
+        this.unexpectedCounters = new Counter[operations.length];
+
+        for (UseCaseOperation operation : operations) {
+            int o = operation.ordinal();
+            for (UseCasePhase phase : phases) {
+                phaseTimers[o][phase.ordinal()] = Timer.builder(PHASE_TIMER)
+                        .description("유스케이스 구간별 처리 시간")
+                        .tag("operation", operation.getTagValue())
+                        .tag("phase", phase.getTagValue())
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(100_000))
+                        .maximumExpectedValue(Duration.ofSeconds(10))
+                        .register(meterRegistry);
+            }
+            successCounters[o] = outcomeCounter(meterRegistry, operation, "success", NO_ERROR);
+            duplicateCounters[o] = outcomeCounter(meterRegistry, operation, "duplicate", NO_ERROR);
+            unexpectedCounters[o] = outcomeCounter(meterRegistry, operation, "error", UNEXPECTED_ERROR);
+            for (ErrorType errorType : ERROR_TYPES) {
+                errorCounters[o][errorType.ordinal()] = outcomeCounter(meterRegistry, operation, "error", errorType.name());
+            }
+        }
+    }
+
+    /**
+     * 구간 시작 시각. 계측을 끄면 시계를 읽지 않는다.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void record(UseCaseOperation operation, UseCasePhase phase, long startedAt) {
+        if (!enabled) {
+            return;
+        }
+        phaseTimers[operation.ordinal()][phase.ordinal()].record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋 시간을 기록하도록 등록한다. 커밋된 경우에만 기록한다.
+     */
+    public void recordCommit(UseCaseOperation operation) {
+        if (!enabled || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long commitStartedAt;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitStartedAt = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED && commitStartedAt != 0L) {
+                    record(operation, UseCasePhase.COMMIT, commitStartedAt);
+                }
+            }
+        });
+    }
+
+    public void success(UseCaseOperation operation) {
+        if (enabled) {
+            successCounters[operation.ordinal()].increment();
+        }
+    }
+
+    /**
+     * 이미 처리됐거나 처리 중인 요청이라 저장된(또는 처리 중) 응답을 돌려준 경우
+     */
+    public void duplicate(UseCaseOperation operation) {
+        if (enabled) {
+            duplicateCounters[operation.ordinal()].increment();
+        }
+    }
+
+    public void failure(UseCaseOperation operation, Throwable throwable) {
+        if (!enabled) {
+            return;
+        }
+        if (throwable instanceof CoreException coreException) {
+            errorCounters[operation.ordinal()][coreException.getErrorType().ordinal()].increment();
+            return;
+        }
+        unexpectedCounters[operation.ordinal()].increment();
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, UseCaseOperation operation, String outcome, String errorType) {
+        return Counter.builder(OUTCOME_COUNTER)
+                .description("유스케이스 결과별 요청 수")
+                .tag("operation", operation.getTagValue())
+                .tag("outcome", outcome)
+                .tag("error_type", errorType)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,16 @@
+package com.sw.remittanceservice.account.usecase.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "remittance.metrics.use-case")
+public class UseCaseMetricsProperties {
+
+    /**
+     * 입금/출금/이체 구간별 타이머와 결과 카운터 기록 여부
+     */
+    private boolean enabled = true;
+}
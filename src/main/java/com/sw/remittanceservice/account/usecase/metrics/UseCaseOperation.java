@@ -0,0 +1,14 @@
+package com.sw.remittanceservice.account.usecase.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum UseCaseOperation {
+    DEPOSIT("deposit"),
+    WITHDRAW("withdraw"),
+    TRANSFER("transfer");
+
+    private final String tagValue;
+}
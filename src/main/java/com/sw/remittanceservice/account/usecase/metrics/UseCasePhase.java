@@ -0,0 +1,42 @@
+package com.sw.remittanceservice.account.usecase.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유스케이스 처리 구간. 한 요청에서 모든 구간을 거치지는 않는다. (예: 중복 요청은 idempotency 뒤에 끝난다)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UseCasePhase {
+    /**
+     * Redis 멱등성 키 선점(또는 저장된 응답 조회)
+     */
+    IDEMPOTENCY("idempotency"),
+    /**
+     * 계좌 행 락 획득(findLockedByAccountId 등)
+     */
+    ACCOUNT_LOCK("account_lock"),
+    /**
+     * 일 한도 검사/누적(Redis 카운터 또는 account_daily_limit_usage 락)
+     */
+    DAILY_LIMIT("daily_limit"),
+    /**
+     * 수수료 정책 선택/계산
+     */
+    FEE("fee"),
+    /**
+     * 잔액/거래/아웃박스/거래 건수 저장
+     */
+    PERSIST("persist"),
+    /**
+     * 트랜잭션 커밋
+     */
+    COMMIT("commit"),
+    /**
+     * 유스케이스 메서드 전체(멱등성 선점부터 커밋까지)
+     */
+    EXECUTE("execute");
+
+    private final String tagValue;
+}
@@ -6,18 +6,29 @@ import com.sw.remittanceservice.account.usecase.policy.dto.enums.FeePolicyType;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 
 @Component
 public class DefaultFeeCalculator implements FeeCalculator {
 
-    private static final double RATE = 0.01;
+    private static final long RATE_PPM = 10_000L; // 1%
 
     @Override
     public FeePolicyType type() {
         return FeePolicyType.DEFAULT;
     }
 
+    @Override
+    public List<FeeWindow> windows() {
+        return List.of();
+    }
+
+    @Override
+    public long ratePpm() {
+        return RATE_PPM;
+    }
+
     @Override
     public boolean applicable(FeeRequest request) {
         return true;
@@ -25,7 +36,7 @@ public class DefaultFeeCalculator implements FeeCalculator {
 
     @Override
     public FeeResponse calculate(FeeRequest request) {
-        long fee = (long) (request.amount() * RATE);
-        return new FeeResponse(FeePolicyType.DEFAULT, RATE, fee, LocalDateTime.now());
+        long fee = FeeRates.fee(request.amount(), RATE_PPM);
+        return new FeeResponse(FeePolicyType.DEFAULT, FeeRates.toRate(RATE_PPM), fee, LocalDateTime.now());
     }
 }
@@ -4,10 +4,22 @@ import com.sw.remittanceservice.account.usecase.policy.dto.FeeRequest;
 import com.sw.remittanceservice.account.usecase.policy.dto.FeeResponse;
 import com.sw.remittanceservice.account.usecase.policy.dto.enums.FeePolicyType;
 
+import java.util.List;
+
 public interface FeeCalculator {
 
     FeePolicyType type();
 
+    /**
+     * 정책이 적용되는 시간대. DEFAULT 정책은 다른 정책이 적용되지 않는 나머지 시간대 전체에 적용되므로 비워 둔다.
+     */
+    List<FeeWindow> windows();
+
+    /**
+     * 수수료율 (백만분율, 1% = 10_000)
+     */
+    long ratePpm();
+
     boolean applicable(FeeRequest request);
 
     FeeResponse calculate(FeeRequest request);
@@ -5,35 +5,46 @@ import com.sw.remittanceservice.account.usecase.policy.dto.FeeResponse;
 import com.sw.remittanceservice.account.usecase.policy.dto.enums.FeePolicyType;
 import com.sw.remittanceservice.common.exception.CoreException;
 import com.sw.remittanceservice.common.exception.ErrorType;
-import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 기동 시 수수료 계산기들을 {@link FeeSchedule}로 한 번 펼쳐 두고, 요청마다 시계 1회 조회와 배열 조회로 정책을 고른다.
+ * DB 수수료 규칙({@link FeeRuleStore})이 맞으면 그 율을 먼저 적용하고, 맞는 규칙이 없으면 코드로 정의한 계산기를 따른다.
+ * 수수료는 정수(백만분율) 연산으로 계산한다.
+ */
 @Primary
-@RequiredArgsConstructor
 @Component
 public class FeeCalculatorFinder {
 
-    private final List<FeeCalculator> calculators;
+    private final FeeSchedule feeSchedule;
+
+    private final FeeRuleStore feeRuleStore;
+
+    private final Clock clock;
+
+    public FeeCalculatorFinder(List<FeeCalculator> calculators, FeeRuleStore feeRuleStore, Clock clock) {
+        this.feeSchedule = FeeSchedule.compile(calculators);
+        this.feeRuleStore = feeRuleStore;
+        this.clock = clock;
+    }
 
     public FeeResponse calculate(FeeRequest request) {
-        FeeCalculator defaultCalc = null;
-
-        for (FeeCalculator c : calculators) {
-            if (c.type() == FeePolicyType.DEFAULT) {
-                defaultCalc = c;
-                continue;
-            }
-            if (c.applicable(request)) {
-                return c.calculate(request);
-            }
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        FeeRuleSet.Rule rule = feeRuleStore.current().match(request.accountId(), request.amount(), now);
+        if (rule != null) {
+            return new FeeResponse(FeePolicyType.RULE, rule.rate(), rule.fee(request.amount()), now);
         }
 
-        if (defaultCalc == null) {
+        FeeSchedule.FeePolicy policy = feeSchedule.policyAt(now.getHour() * 60 + now.getMinute());
+        if (policy == null) {
             throw new CoreException(ErrorType.CALCULATOR_NOT_FOUND, request);
         }
-        return defaultCalc.calculate(request);
+        return new FeeResponse(policy.type(), policy.rate(), policy.fee(request.amount()), now);
     }
 }
@@ -0,0 +1,27 @@
+package com.sw.remittanceservice.account.usecase.policy;
+
+/**
+ * 수수료율은 백만분율(ppm) 정수로 다룬다. 1% = 10_000 ppm.
+ * 금액 * 율 계산을 double 없이 정수로 하고, 소수점 이하는 버린다.
+ */
+public final class FeeRates {
+
+    public static final long PPM = 1_000_000L;
+
+    private FeeRates() {
+    }
+
+    /**
+     * floor(amount * ratePpm / 1,000,000). 금액을 백만 단위로 나눠 곱하므로 long 범위 금액에서도 넘치지 않는다.
+     */
+    public static long fee(long amount, long ratePpm) {
+        return (amount / PPM) * ratePpm + (amount % PPM) * ratePpm / PPM;
+    }
+
+    /**
+     * 응답에 싣는 소수 수수료율 (10_000 ppm -> 0.01)
+     */
+    public static double toRate(long ratePpm) {
+        return ratePpm / (double) PPM;
+    }
+}
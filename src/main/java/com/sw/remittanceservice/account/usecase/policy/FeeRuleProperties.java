@@ -0,0 +1,16 @@
+package com.sw.remittanceservice.account.usecase.policy;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "remittance.fee-rule")
+public class FeeRuleProperties {
+
+    /**
+     * DB 수수료 규칙 사용 여부. 끄면 코드로 정의한 수수료 계산기만 사용한다.
+     */
+    private boolean enabled = true;
+}
@@ -0,0 +1,210 @@
+package com.sw.remittanceservice.account.usecase.policy;
+
+import com.sw.remittanceservice.common.collection.ConcurrentLongPairLongMap;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * DB 수수료 규칙을 조회용으로 펼친 불변 구조.
+ * 전체 규칙은 (평일/휴일) x (하루 중 분) 배열로 금액 구간표를 가리키고, 금액 구간표는 이진 탐색으로 규칙을 찾는다.
+ * 같은 규칙 조합을 쓰는 분들은 금액 구간표 하나를 공유하므로 크기는 규칙 조합 수에 비례한다.
+ * 계좌별 규칙은 계좌 아이디 → 규칙 묶음 인덱스를 원시 타입 맵에 두고, 묶음 안에서 우선순위 순으로 조건을 확인한다.
+ * 조회는 객체를 만들지 않는다.
+ */
+public final class FeeRuleSet {
+
+    public static final FeeRuleSet EMPTY = compile(List.of(), List.of());
+
+    private static final int WEEKDAY = 0;
+
+    private static final int HOLIDAY = 1;
+
+    private static final long ACCOUNT_KEY_HI = 0L;
+
+    private static final Comparator<Rule> PRIORITY_ORDER = Comparator.comparingInt(Rule::priority).thenComparingLong(Rule::feeRuleId);
+
+    private final long[] holidayEpochDays;
+
+    private final AmountTiers[][] globalTiers;
+
+    private final ConcurrentLongPairLongMap accountRuleIndexes;
+
+    private final Rule[][] accountRules;
+
+    private final int ruleCount;
+
+    private FeeRuleSet(long[] holidayEpochDays, AmountTiers[][] globalTiers, ConcurrentLongPairLongMap accountRuleIndexes, Rule[][] accountRules, int ruleCount) {
+        this.holidayEpochDays = holidayEpochDays;
+        this.globalTiers = globalTiers;
+        this.accountRuleIndexes = accountRuleIndexes;
+        this.accountRules = accountRules;
+        this.ruleCount = ruleCount;
+    }
+
+    public static FeeRuleSet compile(List<Rule> rules, Collection<LocalDate> holidays) {
+        long[] holidayEpochDays = holidays.stream().mapToLong(LocalDate::toEpochDay).sorted().distinct().toArray();
+
+        List<Rule> globalRules = new ArrayList<>();
+        Map<Long, List<Rule>> rulesByAccount = new TreeMap<>();
+        for (Rule rule : rules) {
+            if (rule.accountId() == null) {
+                globalRules.add(rule);
+            } else {
+                rulesByAccount.computeIfAbsent(rule.accountId(), id -> new ArrayList<>()).add(rule);
+            }
+        }
+        globalRules.sort(PRIORITY_ORDER);
+
+        AmountTiers[][] globalTiers = new AmountTiers[2][FeeSchedule.MINUTES_PER_DAY];
+        Map<List<Rule>, AmountTiers> shared = new HashMap<>();
+        for (int dayKind : new int[]{WEEKDAY, HOLIDAY}) {
+            for (int minute = 0; minute < FeeSchedule.MINUTES_PER_DAY; minute++) {
+                List<Rule> candidates = new ArrayList<>();
+                for (Rule rule : globalRules) {
+                    if (rule.appliesOn(dayKind) && rule.covers(minute)) {
+                        candidates.add(rule);
+                    }
+                }
+                globalTiers[dayKind][minute] = candidates.isEmpty() ? null : shared.computeIfAbsent(candidates, AmountTiers::build);
+            }
+        }
+
+        // 컴파일 후에는 읽기만 하므로 세그먼트 하나로 충분하다.
+        ConcurrentLongPairLongMap accountRuleIndexes = new ConcurrentLongPairLongMap(1, Math.max(1, rulesByAccount.size()));
+        Rule[][] accountRules = new Rule[rulesByAccount.size()][];
+        int index = 0;
+        for (Map.Entry<Long, List<Rule>> entry : rulesByAccount.entrySet()) {
+            List<Rule> accountRuleList = new ArrayList<>(entry.getValue());
+            accountRuleList.sort(PRIORITY_ORDER);
+            accountRules[index] = accountRuleList.toArray(Rule[]::new);
+            accountRuleIndexes.putIfAbsent(ACCOUNT_KEY_HI, entry.getKey(), index + 1L);
+            index++;
+        }
+
+        return new FeeRuleSet(holidayEpochDays, globalTiers, accountRuleIndexes, accountRules, rules.size());
+    }
+
+    /**
+     * 요청에 적용할 규칙. 계좌별 규칙이 전체 규칙보다 먼저다. 맞는 규칙이 없으면 null.
+     */
+    public Rule match(Long accountId, long amount, LocalDateTime now) {
+        if (ruleCount == 0) {
+            return null;
+        }
+
+        int dayKind = isHoliday(now.toLocalDate()) ? HOLIDAY : WEEKDAY;
+        int minute = now.getHour() * 60 + now.getMinute();
+
+        if (accountId != null && accountRules.length > 0) {
+            long index = accountRuleIndexes.get(ACCOUNT_KEY_HI, accountId);
+            if (index != ConcurrentLongPairLongMap.MISSING) {
+                for (Rule rule : accountRules[(int) index - 1]) {
+                    if (rule.appliesOn(dayKind) && rule.covers(minute) && rule.covers(amount)) {
+                        return rule;
+                    }
+                }
+            }
+        }
+
+        AmountTiers tiers = globalTiers[dayKind][minute];
+        return tiers == null ? null : tiers.find(amount);
+    }
+
+    public int size() {
+        return ruleCount;
+    }
+
+    private boolean isHoliday(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+            return true;
+        }
+        return holidayEpochDays.length > 0 && Arrays.binarySearch(holidayEpochDays, date.toEpochDay()) >= 0;
+    }
+
+    /**
+     * 펼쳐진 규칙 하나. 금액 구간은 [minAmount, maxAmount), window 가 null 이면 하루 종일 적용한다.
+     */
+    public record Rule(
+            long feeRuleId,
+            int priority,
+            Long accountId,
+            long minAmount,
+            long maxAmount,
+            FeeWindow window,
+            boolean weekday,
+            boolean holiday,
+            long ratePpm
+    ) {
+
+        public long fee(long amount) {
+            return FeeRates.fee(amount, ratePpm);
+        }
+
+        public double rate() {
+            return FeeRates.toRate(ratePpm);
+        }
+
+        boolean appliesOn(int dayKind) {
+            return dayKind == HOLIDAY ? holiday : weekday;
+        }
+
+        boolean covers(int minuteOfDay) {
+            return window == null || window.contains(minuteOfDay);
+        }
+
+        boolean covers(long amount) {
+            return amount >= minAmount && amount < maxAmount;
+        }
+    }
+
+    /**
+     * 금액 구간표. lowerBounds[i] 이상 lowerBounds[i + 1] 미만이면 rules[i] (null 이면 규칙 없음).
+     */
+    private record AmountTiers(long[] lowerBounds, Rule[] rules) {
+
+        /**
+         * 후보 규칙(우선순위 순)의 금액 경계로 구간을 나누고, 구간마다 가장 먼저 맞는 규칙을 정한다. 이웃한 같은 규칙 구간은 합친다.
+         */
+        static AmountTiers build(List<Rule> candidates) {
+            TreeSet<Long> boundaries = new TreeSet<>();
+            boundaries.add(Long.MIN_VALUE);
+            for (Rule rule : candidates) {
+                boundaries.add(rule.minAmount());
+                if (rule.maxAmount() != Long.MAX_VALUE) {
+                    boundaries.add(rule.maxAmount());
+                }
+            }
+
+            List<Long> lowerBounds = new ArrayList<>();
+            List<Rule> rules = new ArrayList<>();
+            for (long boundary : boundaries) {
+                Rule matched = null;
+                for (Rule rule : candidates) {
+                    if (rule.covers(boundary)) {
+                        matched = rule;
+                        break;
+                    }
+                }
+                if (!rules.isEmpty() && rules.get(rules.size() - 1) == matched) {
+                    continue;
+                }
+                lowerBounds.add(boundary);
+                rules.add(matched);
+            }
+
+            return new AmountTiers(lowerBounds.stream().mapToLong(Long::longValue).toArray(), rules.toArray(Rule[]::new));
+        }
+
+        Rule find(long amount) {
+            int index = Arrays.binarySearch(lowerBounds, amount);
+            if (index < 0) {
+                index = -index - 2;
+            }
+            return rules[index];
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.sw.remittanceservice.account.usecase.policy;
+
+import com.sw.remittanceservice.account.entity.FeeHoliday;
+import com.sw.remittanceservice.account.entity.FeeRule;
+import com.sw.remittanceservice.account.repository.FeeHolidayRepository;
+import com.sw.remittanceservice.account.repository.FeeRuleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DB 수수료 규칙(fee_rule, fee_holiday)을 주기적으로 읽어 {@link FeeRuleSet}으로 컴파일하고, 참조 하나를 바꿔 끼운다.
+ * 이체는 참조를 한 번 읽은 규칙 묶음으로 끝까지 계산하므로 교체 중에도 막히지 않는다.
+ * 규칙이 바뀌지 않았으면 다시 컴파일하지 않고, 잘못된 규칙이 있으면 교체하지 않고 기존 규칙을 유지한다.
+ * 기동 직후 적재도 같으므로 잘못된 규칙 하나 때문에 기동이 실패하지 않는다. (기동 직후라면 규칙 없이 코드 정책만 쓴다)
+ */
+@Component
+public class FeeRuleStore {
+
+    private final FeeRuleRepository feeRuleRepository;
+
+    private final FeeHolidayRepository feeHolidayRepository;
+
+    private final FeeRuleProperties feeRuleProperties;
+
+    private final AtomicReference<FeeRuleSet> current = new AtomicReference<>(FeeRuleSet.EMPTY);
+
+    // 기동 직후 적재와 주기 적재가 겹치지 않게 한다.
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    // 마지막으로 컴파일한 원본. refreshLock 안에서만 읽고 쓴다.
+    private List<FeeRuleSet.Rule> loadedRules = List.of();
+
+    private List<LocalDate> loadedHolidays = List.of();
+
+    private final Counter invalidRefreshes;
+
+    public FeeRuleStore(
+            FeeRuleRepository feeRuleRepository,
+            FeeHolidayRepository feeHolidayRepository,
+            FeeRuleProperties feeRuleProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.feeRuleRepository = feeRuleRepository;
+        this.feeHolidayRepository = feeHolidayRepository;
+        this.feeRuleProperties = feeRuleProperties;
+        this.invalidRefreshes = Counter.builder("remittance.fee-rule.invalid")
+                .description("잘못된 규칙이 있어 교체하지 않고 기존 규칙을 유지한 횟수. 규칙을 고칠 때까지 적재 주기마다 늘어난다")
+                .register(meterRegistry);
+    }
+
+    public FeeRuleSet current() {
+        return current.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${remittance.fee-rule.refresh-interval-ms:5000}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            reload();
+        } catch (IllegalArgumentException e) {
+            // 잘못된 규칙. 마지막으로 컴파일한 원본도 그대로 두어 다음 주기에 다시 검사한다.
+            invalidRefreshes.increment();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void reload() {
+        if (!feeRuleProperties.isEnabled()) {
+            current.set(FeeRuleSet.EMPTY);
+            loadedRules = List.of();
+            loadedHolidays = List.of();
+            return;
+        }
+
+        List<FeeRuleSet.Rule> rules = feeRuleRepository.findAllByEnabledTrue().stream()
+                .map(FeeRuleStore::toRule)
+                .toList();
+        List<LocalDate> holidays = feeHolidayRepository.findAll().stream()
+                .map(FeeHoliday::getHolidayDate)
+                .sorted()
+                .toList();
+
+        if (rules.equals(loadedRules) && holidays.equals(loadedHolidays)) {
+            return;
+        }
+
+        current.set(FeeRuleSet.compile(rules, holidays));
+        loadedRules = rules;
+        loadedHolidays = holidays;
+    }
+
+    private static FeeRuleSet.Rule toRule(FeeRule feeRule) {
+        if (feeRule.getRatePpm() < 0) {
+            throw new IllegalArgumentException("수수료율은 음수일 수 없습니다. feeRuleId=" + feeRule.getFeeRuleId());
+        }
+        if (feeRule.getMinAmount() != null && feeRule.getMaxAmount() != null && feeRule.getMaxAmount() <= feeRule.getMinAmount()) {
+            // 금액 구간 [min, max) 가 비어 있다.
+            throw new IllegalArgumentException("최대 금액은 최소 금액보다 커야 합니다. feeRuleId=" + feeRule.getFeeRuleId());
+        }
+
+        FeeWindow window = null;
+        if (feeRule.getWindowStart() != null && feeRule.getWindowEnd() != null) {
+            window = new FeeWindow(feeRule.getWindowStart(), feeRule.getWindowEnd());
+        }
+
+        return new FeeRuleSet.Rule(
+                feeRule.getFeeRuleId(),
+                feeRule.getPriority(),
+                feeRule.getAccountId(),
+                feeRule.getMinAmount() == null ? Long.MIN_VALUE : feeRule.getMinAmount(),
+                feeRule.getMaxAmount() == null ? Long.MAX_VALUE : feeRule.getMaxAmount(),
+                window,
+                feeRule.getApplyOnWeekday(),
+                feeRule.getApplyOnHoliday(),
+                feeRule.getRatePpm()
+        );
+    }
+}
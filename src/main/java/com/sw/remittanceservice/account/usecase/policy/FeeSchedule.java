@@ -0,0 +1,75 @@
+package com.sw.remittanceservice.account.usecase.policy;
+
+import com.sw.remittanceservice.account.usecase.policy.dto.enums.FeePolicyType;
+
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 등록된 수수료 계산기를 하루 1,440분 배열로 펼친 불변 일정표. 조회는 분 단위 인덱스 한 번이다.
+ * 여러 정책의 시간대가 겹치면 목록에서 앞선 정책이 이긴다. (기존 순차 탐색과 같은 우선순위)
+ * DEFAULT 정책이 없으면 어떤 정책도 적용되지 않는 분은 null 로 남는다.
+ */
+public final class FeeSchedule {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final FeePolicy[] byMinute;
+
+    private FeeSchedule(FeePolicy[] byMinute) {
+        this.byMinute = byMinute;
+    }
+
+    public static FeeSchedule compile(List<? extends FeeCalculator> calculators) {
+        FeePolicy defaultPolicy = null;
+        for (FeeCalculator calculator : calculators) {
+            if (calculator.type() == FeePolicyType.DEFAULT) {
+                defaultPolicy = FeePolicy.of(calculator);
+                break;
+            }
+        }
+
+        FeePolicy[] byMinute = new FeePolicy[MINUTES_PER_DAY];
+        for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+            LocalTime time = LocalTime.of(minute / 60, minute % 60);
+            byMinute[minute] = defaultPolicy;
+            for (FeeCalculator calculator : calculators) {
+                if (calculator.type() != FeePolicyType.DEFAULT && covers(calculator, time)) {
+                    byMinute[minute] = FeePolicy.of(calculator);
+                    break;
+                }
+            }
+        }
+        return new FeeSchedule(byMinute);
+    }
+
+    /**
+     * 하루 중 분(0 ~ 1439)에 적용되는 정책. 없으면 null.
+     */
+    public FeePolicy policyAt(int minuteOfDay) {
+        return byMinute[minuteOfDay];
+    }
+
+    private static boolean covers(FeeCalculator calculator, LocalTime time) {
+        for (FeeWindow window : calculator.windows()) {
+            if (window.contains(time)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 일정표 칸 하나. 응답에 싣는 소수 수수료율은 미리 계산해 둔다.
+     */
+    public record FeePolicy(FeePolicyType type, long ratePpm, double rate) {
+
+        static FeePolicy of(FeeCalculator calculator) {
+            return new FeePolicy(calculator.type(), calculator.ratePpm(), FeeRates.toRate(calculator.ratePpm()));
+        }
+
+        public long fee(long amount) {
+            return FeeRates.fee(amount, ratePpm);
+        }
+    }
+}
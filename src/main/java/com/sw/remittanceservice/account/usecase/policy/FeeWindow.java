@@ -0,0 +1,38 @@
+package com.sw.remittanceservice.account.usecase.policy;
+
+import java.time.LocalTime;
+
+/**
+ * 수수료 정책이 적용되는 하루 중 시간대 [start, end). start 가 end 보다 늦으면 자정을 넘는 구간이다. (예: 23:00 ~ 06:00)
+ * 일정표를 분 단위 배열로 만들기 때문에 경계는 분 단위여야 한다.
+ */
+public record FeeWindow(LocalTime start, LocalTime end) {
+
+    public FeeWindow {
+        if (start.getSecond() != 0 || start.getNano() != 0 || end.getSecond() != 0 || end.getNano() != 0) {
+            throw new IllegalArgumentException("수수료 시간대 경계는 분 단위여야 합니다. " + start + " ~ " + end);
+        }
+        if (start.equals(end)) {
+            throw new IllegalArgumentException("수수료 시간대의 시작과 끝이 같습니다. " + start);
+        }
+    }
+
+    public boolean contains(LocalTime time) {
+        if (start.isBefore(end)) {
+            return !time.isBefore(start) && time.isBefore(end);
+        }
+        return !time.isBefore(start) || time.isBefore(end);
+    }
+
+    /**
+     * 하루 중 분(0 ~ 1439)이 시간대에 속하는지. 경계가 분 단위이므로 {@link #contains(LocalTime)}와 같은 결과다.
+     */
+    public boolean contains(int minuteOfDay) {
+        int startMinute = start.getHour() * 60 + start.getMinute();
+        int endMinute = end.getHour() * 60 + end.getMinute();
+        if (startMinute < endMinute) {
+            return minuteOfDay >= startMinute && minuteOfDay < endMinute;
+        }
+        return minuteOfDay >= startMinute || minuteOfDay < endMinute;
+    }
+}
@@ -7,19 +7,30 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
 @Component
 public class NightFeeCalculator implements FeeCalculator {
 
-    private static final double RATE = 0.02;
-    private static final LocalTime NIGHT_START = LocalTime.of(23, 0);
-    private static final LocalTime NIGHT_END = LocalTime.of(6, 0);
+    private static final long RATE_PPM = 20_000L; // 2%
+    // 23:00 이후이거나 06:00 이전인 경우 (밤 11시 ~ 새벽 6시)
+    private static final FeeWindow NIGHT = new FeeWindow(LocalTime.of(23, 0), LocalTime.of(6, 0));
 
     @Override
     public FeePolicyType type() {
         return FeePolicyType.NIGHT;
     }
 
+    @Override
+    public List<FeeWindow> windows() {
+        return List.of(NIGHT);
+    }
+
+    @Override
+    public long ratePpm() {
+        return RATE_PPM;
+    }
+
     @Override
     public boolean applicable(FeeRequest request) {
         return isNight(LocalTime.now());
@@ -27,12 +38,11 @@ public class NightFeeCalculator implements FeeCalculator {
 
     @Override
     public FeeResponse calculate(FeeRequest request) {
-        long fee = (long) (request.amount() * RATE);
-        return new FeeResponse(FeePolicyType.NIGHT, RATE, fee, LocalDateTime.now());
+        long fee = FeeRates.fee(request.amount(), RATE_PPM);
+        return new FeeResponse(FeePolicyType.NIGHT, FeeRates.toRate(RATE_PPM), fee, LocalDateTime.now());
     }
 
     public boolean isNight(LocalTime time) {
-        // 23:00 이후이거나 06:00 이전인 경우 (밤 11시 ~ 새벽 6시)
-        return !time.isBefore(NIGHT_START) || time.isBefore(NIGHT_END);
+        return NIGHT.contains(time);
     }
 }
@@ -1,4 +1,11 @@
 package com.sw.remittanceservice.account.usecase.policy.dto;
 
-public record FeeRequest(long amount) {
+/**
+ * @param accountId 출금 계좌 아이디. 계좌별 수수료 규칙을 찾을 때 쓰며, 없으면 전체 규칙만 본다.
+ */
+public record FeeRequest(long amount, Long accountId) {
+
+    public FeeRequest(long amount) {
+        this(amount, null);
+    }
 }
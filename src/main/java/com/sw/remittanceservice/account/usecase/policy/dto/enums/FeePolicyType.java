@@ -2,5 +2,9 @@ package com.sw.remittanceservice.account.usecase.policy.dto.enums;
 
 public enum FeePolicyType {
     NIGHT,
-    DEFAULT
+    DEFAULT,
+    /**
+     * DB 수수료 규칙(fee_rule)으로 정한 율
+     */
+    RULE
 }
@@ -0,0 +1,187 @@
+package com.sw.remittanceservice.common.collection;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * (long, long) 키 → long 값 오픈 어드레싱 해시맵.
+ * 키/값을 하나의 long[]에 [hi, lo, value] 순으로 연속 저장해 박싱 객체 없이 슬롯당 24바이트, 적재율을 감안하면 엔트리당 32~64바이트만 사용한다.
+ * 세그먼트 단위 StampedLock으로 쓰기를 직렬화하고, 읽기는 낙관적 읽기로 락 없이 처리한다.
+ * 값 0은 빈 슬롯을 뜻하므로 저장할 수 없다. 삭제는 지원하지 않는다.
+ */
+public final class ConcurrentLongPairLongMap {
+
+    public static final long MISSING = 0L;
+
+    private static final int SLOT_WIDTH = 3;
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+
+    private final Segment[] segments;
+
+    private final int segmentShift;
+
+    private final long maxSegmentSize;
+
+    /**
+     * @param segmentCount 세그먼트 수. 2의 거듭제곱으로 올림한다.
+     * @param maxEntries   최대 엔트리 수. 가득 차면 더 이상 저장하지 않는다.
+     */
+    public ConcurrentLongPairLongMap(int segmentCount, long maxEntries) {
+        if (segmentCount <= 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException("segmentCount와 maxEntries는 양수여야 합니다.");
+        }
+        int count = Integer.highestOneBit(segmentCount - 1) << 1;
+        count = Math.max(count, 1);
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(MIN_SEGMENT_CAPACITY);
+        }
+        this.segmentShift = 64 - Integer.numberOfTrailingZeros(count);
+        this.maxSegmentSize = Math.max(1, maxEntries / count);
+    }
+
+    /**
+     * 키에 대응하는 값. 없으면 {@link #MISSING}을 반환한다.
+     */
+    public long get(long hi, long lo) {
+        long hash = hash(hi, lo);
+        return segmentFor(hash).get(hi, lo, hash);
+    }
+
+    /**
+     * 키가 없을 때만 저장한다. 이미 있거나 최대 엔트리 수에 도달했으면 저장하지 않고 false를 반환한다.
+     */
+    public boolean putIfAbsent(long hi, long lo, long value) {
+        if (value == MISSING) {
+            throw new IllegalArgumentException("0은 저장할 수 없습니다.");
+        }
+        long hash = hash(hi, lo);
+        return segmentFor(hash).putIfAbsent(hi, lo, value, hash, maxSegmentSize);
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(long hash) {
+        return segments.length == 1 ? segments[0] : segments[(int) (hash >>> segmentShift)];
+    }
+
+    private static long hash(long hi, long lo) {
+        long h = hi * 0x9E3779B97F4A7C15L + lo;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Segment {
+
+        private final StampedLock lock = new StampedLock();
+
+        private volatile long[] table;
+
+        private int size;
+
+        private Segment(int capacity) {
+            this.table = new long[capacity * SLOT_WIDTH];
+        }
+
+        private long get(long hi, long lo, long hash) {
+            long stamp = lock.tryOptimisticRead();
+            long value = find(table, hi, lo, hash);
+            if (lock.validate(stamp)) {
+                return value;
+            }
+
+            stamp = lock.readLock();
+            try {
+                return find(table, hi, lo, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private boolean putIfAbsent(long hi, long lo, long value, long hash, long maxSize) {
+            long stamp = lock.writeLock();
+            try {
+                if (find(table, hi, lo, hash) != MISSING) {
+                    return false;
+                }
+                if (size >= maxSize) {
+                    return false;
+                }
+                int capacity = table.length / SLOT_WIDTH;
+                if (size + 1 > capacity * LOAD_FACTOR) {
+                    table = resize(table, capacity << 1);
+                }
+                insert(table, hi, lo, value, hash);
+                size++;
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private int size() {
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * 낙관적 읽기 중에는 다른 스레드가 배열을 고치고 있을 수 있으므로 탐색 횟수를 용량으로 제한한다.
+         */
+        private static long find(long[] table, long hi, long lo, long hash) {
+            int capacity = table.length / SLOT_WIDTH;
+            int mask = capacity - 1;
+            int index = (int) hash & mask;
+            for (int probe = 0; probe < capacity; probe++) {
+                int offset = index * SLOT_WIDTH;
+                long value = table[offset + 2];
+                if (value == MISSING) {
+                    return MISSING;
+                }
+                if (table[offset] == hi && table[offset + 1] == lo) {
+                    return value;
+                }
+                index = (index + 1) & mask;
+            }
+            return MISSING;
+        }
+
+        private static void insert(long[] table, long hi, long lo, long value, long hash) {
+            int mask = table.length / SLOT_WIDTH - 1;
+            int index = (int) hash & mask;
+            while (table[index * SLOT_WIDTH + 2] != MISSING) {
+                index = (index + 1) & mask;
+            }
+            int offset = index * SLOT_WIDTH;
+            table[offset] = hi;
+            table[offset + 1] = lo;
+            table[offset + 2] = value;
+        }
+
+        private static long[] resize(long[] table, int newCapacity) {
+            long[] resized = new long[newCapacity * SLOT_WIDTH];
+            for (int offset = 0; offset < table.length; offset += SLOT_WIDTH) {
+                long value = table[offset + 2];
+                if (value != MISSING) {
+                    insert(resized, table[offset], table[offset + 1], value, hash(table[offset], table[offset + 1]));
+                }
+            }
+            return resized;
+        }
+    }
+}
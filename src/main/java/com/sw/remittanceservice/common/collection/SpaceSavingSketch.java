@@ -0,0 +1,131 @@
+package com.sw.remittanceservice.common.collection;
+
+import java.util.Arrays;
+
+/**
+ * long 키에 대한 가중치 Space-Saving 상위 키(heavy hitters) 스케치.
+ * 용량만큼의 슬롯만 유지하고, 슬롯이 가득 찬 상태에서 새 키가 들어오면 가중치가 가장 작은 슬롯을 넘겨받아 (그 가중치 + 새 값)에서 시작한다.
+ * 그래서 가중치는 실제보다 클 수 있고, 그 상한을 error 로 함께 보관한다. 실제 가중치 합이 최소 슬롯 가중치보다 큰 키는 항상 남아 있다.
+ * 슬롯마다 값 분포를 2의 거듭제곱 구간 히스토그램으로 기록한다. 메모리는 용량에만 비례한다.
+ * 스레드 안전하지 않으므로 호출자가 동기화한다.
+ */
+public final class SpaceSavingSketch {
+
+    public static final int BUCKET_COUNT = 32;
+
+    private final long[] keys;
+
+    private final long[] weights;
+
+    private final long[] errors;
+
+    private final long[] counts;
+
+    private final int[] buckets;
+
+    private int size;
+
+    public SpaceSavingSketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 양수여야 합니다.");
+        }
+        this.keys = new long[capacity];
+        this.weights = new long[capacity];
+        this.errors = new long[capacity];
+        this.counts = new long[capacity];
+        this.buckets = new int[capacity * BUCKET_COUNT];
+    }
+
+    /**
+     * 키에 값 하나를 더한다. 가중치에는 값을, 히스토그램에는 값이 속한 구간을 1 더한다. 음수 값은 0으로 본다.
+     */
+    public void add(long key, long value) {
+        long weight = Math.max(0L, value);
+
+        int slot = indexOf(key);
+        if (slot < 0) {
+            if (size < keys.length) {
+                slot = size++;
+                errors[slot] = 0L;
+                weights[slot] = 0L;
+            } else {
+                slot = minWeightSlot();
+                errors[slot] = weights[slot];
+            }
+            keys[slot] = key;
+            counts[slot] = 0L;
+            Arrays.fill(buckets, slot * BUCKET_COUNT, (slot + 1) * BUCKET_COUNT, 0);
+        }
+
+        weights[slot] += weight;
+        counts[slot]++;
+        buckets[slot * BUCKET_COUNT + bucketOf(weight)]++;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long keyAt(int slot) {
+        return keys[slot];
+    }
+
+    /**
+     * 슬롯의 가중치 합. 넘겨받은 슬롯이면 {@link #errorAt} 만큼 과대 추정돼 있을 수 있다.
+     */
+    public long weightAt(int slot) {
+        return weights[slot];
+    }
+
+    public long errorAt(int slot) {
+        return errors[slot];
+    }
+
+    /**
+     * 키가 슬롯을 차지한 뒤 더해진 값의 개수
+     */
+    public long countAt(int slot) {
+        return counts[slot];
+    }
+
+    public int bucketAt(int slot, int bucket) {
+        return buckets[slot * BUCKET_COUNT + bucket];
+    }
+
+    /**
+     * 값이 속하는 구간. 구간 b 는 [2^(b-1), 2^b) 이며 0 은 구간 0 이다.
+     */
+    public static int bucketOf(long value) {
+        return Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(value));
+    }
+
+    /**
+     * 구간에 속한 값의 상한(미포함)
+     */
+    public static long bucketUpperBound(int bucket) {
+        return 1L << bucket;
+    }
+
+    private int indexOf(long key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int minWeightSlot() {
+        int min = 0;
+        for (int i = 1; i < size; i++) {
+            if (weights[i] < weights[min]) {
+                min = i;
+            }
+        }
+        return min;
+    }
+}
@@ -0,0 +1,29 @@
+package com.sw.remittanceservice.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * R2DBC ConnectionFactory 가 있으면 DataSourceAutoConfiguration 이 물러나(@ConditionalOnMissingBean(ConnectionFactory)) JPA/JdbcTemplate 이 쓸 DataSource 가 없다.
+ * 그래서 JDBC 커넥션 풀은 spring.datasource, spring.datasource.hikari 로 직접 만든다.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.sw.remittanceservice.common.config;
+
+import com.sw.remittanceservice.common.id.IdProperties;
+import com.sw.remittanceservice.common.id.TsidGenerator;
+import com.sw.remittanceservice.common.id.TsidIdentifierGenerator;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public TsidGenerator tsidGenerator(IdProperties idProperties) {
+        return TsidGenerator.forNode(idProperties.getNodeId());
+    }
+
+    // 엔티티 식별자 생성기는 Hibernate가 만들므로 노드 번호를 Hibernate 설정으로 넘긴다.
+    @Bean
+    public HibernatePropertiesCustomizer tsidNodeIdCustomizer(IdProperties idProperties) {
+        return properties -> properties.put(TsidIdentifierGenerator.NODE_ID_SETTING, idProperties.getNodeId());
+    }
+}
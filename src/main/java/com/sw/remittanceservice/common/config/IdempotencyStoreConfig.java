@@ -0,0 +1,32 @@
+package com.sw.remittanceservice.common.config;
+
+import com.sw.remittanceservice.account.repository.IdempotencyKeyRepository;
+import com.sw.remittanceservice.account.repository.TransactionRedisRepository;
+import com.sw.remittanceservice.account.usecase.idempotency.*;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class IdempotencyStoreConfig {
+
+    // 배포마다 remittance.idempotency.store 로 저장소를 고른다.
+    @Bean
+    public IdempotencyStore idempotencyStore(
+            IdempotencyProperties idempotencyProperties,
+            TransactionRedisRepository transactionRedisRepository,
+            IdempotencyKeyRepository idempotencyKeyRepository,
+            Clock clock
+    ) {
+        return switch (idempotencyProperties.getStore()) {
+            case REDIS -> new RedisIdempotencyStore(transactionRedisRepository);
+            case DATABASE -> new DatabaseIdempotencyStore(idempotencyKeyRepository, idempotencyProperties, clock);
+            case TIERED -> new TieredIdempotencyStore(
+                    new RedisIdempotencyStore(transactionRedisRepository),
+                    new DatabaseIdempotencyStore(idempotencyKeyRepository, idempotencyProperties, clock),
+                    idempotencyProperties
+            );
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package com.sw.remittanceservice.common.config;
+
+import com.sw.remittanceservice.common.datasource.ReadReplicaProperties;
+import com.sw.remittanceservice.common.datasource.ReplicaRoutingConnectionFactory;
+import com.sw.remittanceservice.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * remittance.read-replica.enabled 면 {@link DataSourceConfig}의 원본 DB 풀 위에 읽기 전용 트랜잭션을 복제 DB로 보내는 라우팅 데이터소스를 기본 데이터소스로 둔다.
+ * R2DBC 조회도 같은 기준으로 복제 DB에 보내는 라우팅 ConnectionFactory 를 둔다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "remittance.read-replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            ReadReplicaProperties readReplicaProperties,
+            MeterRegistry meterRegistry
+    ) {
+        List<ReadReplicaProperties.Replica> replicas = readReplicaProperties.getReplicas();
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            ReadReplicaProperties.Replica replica = replicas.get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : primaryDataSource.getUsername());
+            dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primaryDataSource.getPassword());
+            dataSource.setDriverClassName(primaryDataSource.getDriverClassName());
+            dataSource.setMaximumPoolSize(readReplicaProperties.getMaximumPoolSize());
+            dataSource.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            // 라우팅이 잘못되어 쓰기가 복제 DB로 가더라도 반영되지 않고 실패하게 한다.
+            dataSource.setReadOnly(true);
+            // 빈으로 등록하지 않는 풀이라 Hikari 지표를 직접 연결한다. (hikaricp.connections{pool=replica-N})
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            dataSources.put("replica-" + i, dataSource);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, dataSources, readReplicaProperties.getCheckTimeout(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * 이 빈이 있으면 R2dbcAutoConfiguration 의 커넥션 풀은 만들어지지 않으므로 원본 DB 풀도 spring.r2dbc 로 직접 만든다.
+     * 복제 DB 풀은 원본 DB 풀과 같은 spring.r2dbc.pool 설정을 쓴다.
+     */
+    @Bean
+    public ReplicaRoutingConnectionFactory connectionFactory(
+            R2dbcProperties r2dbcProperties,
+            ReadReplicaProperties readReplicaProperties,
+            ReplicaRoutingDataSource replicaRoutingDataSource,
+            MeterRegistry meterRegistry
+    ) {
+        ConnectionPool primary = connectionPool("primary", r2dbcProperties.getUrl(), r2dbcProperties.getUsername(), r2dbcProperties.getPassword(),
+                r2dbcProperties.getPool(), meterRegistry);
+
+        List<ReadReplicaProperties.Replica> replicas = readReplicaProperties.getReplicas();
+        Map<String, ConnectionFactory> connectionFactories = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            ReadReplicaProperties.Replica replica = replicas.get(i);
+            if (replica.getR2dbcUrl() == null || replica.getR2dbcUrl().isBlank()) {
+                throw new IllegalStateException("remittance.read-replica.replicas[" + i + "].r2dbc-url is empty");
+            }
+            String name = "replica-" + i;
+            connectionFactories.put(name, connectionPool(name, replica.getR2dbcUrl(),
+                    replica.getUsername() != null ? replica.getUsername() : r2dbcProperties.getUsername(),
+                    replica.getPassword() != null ? replica.getPassword() : r2dbcProperties.getPassword(),
+                    r2dbcProperties.getPool(), meterRegistry));
+        }
+        return new ReplicaRoutingConnectionFactory(primary, connectionFactories, replicaRoutingDataSource);
+    }
+
+    private static ConnectionPool connectionPool(String name, String url, String username, String password,
+                                                 R2dbcProperties.Pool pool, MeterRegistry meterRegistry) {
+        ConnectionFactory connectionFactory = ConnectionFactoryBuilder.withUrl(url)
+                .username(username)
+                .password(password)
+                .build();
+
+        ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration.builder(connectionFactory).name(name);
+        PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+        map.from(pool.getInitialSize()).to(builder::initialSize);
+        map.from(pool.getMaxSize()).to(builder::maxSize);
+        map.from(pool.getMinIdle()).to(builder::minIdle);
+        map.from(pool.getMaxIdleTime()).to(builder::maxIdleTime);
+        map.from(pool.getMaxLifeTime()).to(builder::maxLifeTime);
+        map.from(pool.getMaxAcquireTime()).to(builder::maxAcquireTime);
+        map.from(pool.getMaxCreateConnectionTime()).to(builder::maxCreateConnectionTime);
+        map.from(pool.getMaxValidationTime()).to(builder::maxValidationTime);
+        map.from(pool.getValidationQuery()).to(builder::validationQuery);
+        map.from(pool.getValidationDepth()).to(builder::validationDepth);
+
+        ConnectionPool connectionPool = new ConnectionPool(builder.build());
+        // 빈으로 등록하지 않는 풀이라 풀 지표를 직접 연결한다. (r2dbc.pool.*{name=primary|replica-N})
+        new ConnectionPoolMetrics(connectionPool, name, Tags.empty()).bindTo(meterRegistry);
+        return connectionPool;
+    }
+}
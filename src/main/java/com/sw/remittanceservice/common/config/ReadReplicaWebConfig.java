@@ -0,0 +1,26 @@
+package com.sw.remittanceservice.common.config;
+
+import com.sw.remittanceservice.common.datasource.ConsistencyTokenInterceptor;
+import com.sw.remittanceservice.common.datasource.ReadConsistency;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(name = "remittance.read-replica.enabled", havingValue = "true")
+public class ReadReplicaWebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConsistencyTokenInterceptor());
+    }
+
+    // StreamingResponseBody 처럼 요청 스레드를 떠나 이어지는 조회도 요청의 일관성 토큰을 따르도록 넘겨준다.
+    @Bean
+    public TaskDecorator readConsistencyTaskDecorator() {
+        return ReadConsistency::propagate;
+    }
+}
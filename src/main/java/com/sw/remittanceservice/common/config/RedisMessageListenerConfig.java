@@ -0,0 +1,38 @@
+package com.sw.remittanceservice.common.config;
+
+import com.sw.remittanceservice.account.service.AccountLimitSettingCache;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+@Configuration
+public class RedisMessageListenerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            AccountLimitSettingCache accountLimitSettingCache,
+            Environment environment
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        // spring.threads.virtual.enabled 는 리스너 컨테이너에 자동 적용되지 않으므로 직접 지정한다.
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("redis-listener-");
+            executor.setVirtualThreads(true);
+            container.setTaskExecutor(executor);
+        }
+        container.addMessageListener(
+                (message, pattern) -> accountLimitSettingCache.evict(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(AccountLimitSettingCache.INVALIDATION_CHANNEL)
+        );
+        return container;
+    }
+}
@@ -0,0 +1,57 @@
+package com.sw.remittanceservice.common.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.sql.SQLException;
+
+/**
+ * 토큰을 요청한({@link ReadConsistency#REQUEST_HEADER}) 쓰기가 성공하면, 응답에 커밋 직후 원본 DB의 GTID 위치를 일관성 토큰으로 붙인다.
+ * 클라이언트가 다음 조회에 이 토큰을 보내면 자기가 쓴 내용을 적용한 복제 DB나 원본 DB에서 읽는다.
+ * 위치 조회는 원본 DB를 한 번 더 읽으므로, 바로 이어서 읽을 일이 없는 쓰기에는 하지 않는다.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "remittance.read-replica.enabled", havingValue = "true")
+public class ConsistencyTokenAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    private final ReadReplicaProperties readReplicaProperties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return readReplicaProperties.isConsistencyToken();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!request.getHeaders().containsKey(ReadConsistency.REQUEST_HEADER)) {
+            return body;
+        }
+        if (HttpMethod.GET.equals(request.getMethod()) || HttpMethod.HEAD.equals(request.getMethod())) {
+            return body;
+        }
+        if (response instanceof ServletServerHttpResponse servletResponse && servletResponse.getServletResponse().getStatus() >= 400) {
+            return body;
+        }
+
+        try {
+            response.getHeaders().set(ReadConsistency.HEADER, ReadConsistency.encode(replicaRoutingDataSource.primaryPosition()));
+        } catch (SQLException e) {
+            // 토큰 없이 응답한다. 클라이언트의 다음 조회는 복제 지연만큼 이전 값을 볼 수 있다.
+        }
+        return body;
+    }
+}
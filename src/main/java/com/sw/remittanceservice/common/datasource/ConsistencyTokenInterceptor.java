@@ -0,0 +1,30 @@
+package com.sw.remittanceservice.common.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 요청 헤더의 일관성 토큰을 읽어, 이 요청의 읽기 전용 트랜잭션이 토큰 위치까지 적용한 복제 DB(없으면 원본 DB)를 쓰도록 한다.
+ */
+public class ConsistencyTokenInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String token = request.getHeader(ReadConsistency.HEADER);
+        if (token != null && !token.isBlank()) {
+            ReadConsistency.require(ReadConsistency.decode(token));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReadConsistency.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadConsistency.clear();
+    }
+}
@@ -0,0 +1,138 @@
+package com.sw.remittanceservice.common.datasource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * MySQL GTID 집합(@@global.gtid_executed).
+ * "uuid:1-10:12,uuid2:1-5" 형식(8.3 이후의 태그 "uuid:tag:1-5" 포함)을 읽고, 다른 집합을 모두 포함하는지 판단한다.
+ */
+public final class GtidSet {
+
+    public static final GtidSet EMPTY = new GtidSet(Map.of());
+
+    // 소스(uuid 또는 uuid:tag) -> 정렬, 병합된 구간을 [start, end, start, end, ...] 로 이어 붙인 배열
+    private final Map<String, long[]> intervals;
+
+    private GtidSet(Map<String, long[]> intervals) {
+        this.intervals = intervals;
+    }
+
+    /**
+     * 형식이 잘못되었으면 IllegalArgumentException
+     */
+    public static GtidSet parse(String text) {
+        if (text == null || text.isBlank()) {
+            return EMPTY;
+        }
+
+        Map<String, List<long[]>> ranges = new HashMap<>();
+        for (String member : text.split(",")) {
+            String[] parts = member.strip().split(":");
+            if (parts.length < 2) {
+                if (parts[0].isEmpty()) {
+                    continue;
+                }
+                throw new IllegalArgumentException(member);
+            }
+
+            String uuid = parts[0].strip().toLowerCase(Locale.ROOT);
+            String source = uuid;
+            for (int i = 1; i < parts.length; i++) {
+                String part = parts[i].strip();
+                if (part.isEmpty()) {
+                    throw new IllegalArgumentException(member);
+                }
+                if (!Character.isDigit(part.charAt(0))) {
+                    source = uuid + ":" + part.toLowerCase(Locale.ROOT);
+                    continue;
+                }
+
+                int dash = part.indexOf('-');
+                long start = Long.parseLong(dash < 0 ? part : part.substring(0, dash));
+                long end = dash < 0 ? start : Long.parseLong(part.substring(dash + 1));
+                if (start < 1 || end < start) {
+                    throw new IllegalArgumentException(member);
+                }
+                ranges.computeIfAbsent(source, key -> new ArrayList<>()).add(new long[]{start, end});
+            }
+        }
+
+        Map<String, long[]> intervals = new HashMap<>(ranges.size() * 2);
+        ranges.forEach((source, list) -> intervals.put(source, merge(list)));
+        return new GtidSet(intervals);
+    }
+
+    private static long[] merge(List<long[]> ranges) {
+        ranges.sort(Comparator.comparingLong(range -> range[0]));
+        long[] merged = new long[ranges.size() * 2];
+        int size = 0;
+        for (long[] range : ranges) {
+            if (size > 0 && range[0] <= merged[size - 1] + 1) {
+                merged[size - 1] = Math.max(merged[size - 1], range[1]);
+            } else {
+                merged[size++] = range[0];
+                merged[size++] = range[1];
+            }
+        }
+        return Arrays.copyOf(merged, size);
+    }
+
+    /**
+     * other 의 모든 트랜잭션이 이 집합에 있는지. 복제 DB가 요청이 요구한 위치까지 적용했는지 판단하는 데 쓴다.
+     */
+    public boolean contains(GtidSet other) {
+        for (Map.Entry<String, long[]> entry : other.intervals.entrySet()) {
+            long[] mine = intervals.get(entry.getKey());
+            if (mine == null || !covers(mine, entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 두 배열 모두 정렬, 병합되어 있으므로 한 번씩만 훑는다.
+    private static boolean covers(long[] mine, long[] theirs) {
+        int i = 0;
+        for (int j = 0; j < theirs.length; j += 2) {
+            while (i < mine.length && mine[i + 1] < theirs[j]) {
+                i += 2;
+            }
+            if (i == mine.length || mine[i] > theirs[j] || mine[i + 1] < theirs[j + 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return intervals.isEmpty();
+    }
+
+    /**
+     * MySQL과 같은 형식으로 쓴다. 소스는 정렬해 같은 집합이면 같은 문자열이 나온다.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        new TreeMap<>(intervals).forEach((source, ranges) -> {
+            if (!sb.isEmpty()) {
+                sb.append(',');
+            }
+            sb.append(source);
+            for (int i = 0; i < ranges.length; i += 2) {
+                sb.append(':').append(ranges[i]);
+                if (ranges[i + 1] != ranges[i]) {
+                    sb.append('-').append(ranges[i + 1]);
+                }
+            }
+        });
+        return sb.toString();
+    }
+}
@@ -0,0 +1,85 @@
+package com.sw.remittanceservice.common.datasource;
+
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 요청이 요구하는 읽기 위치(쓰기 직후 받은 일관성 토큰).
+ * 요청 스레드에 두고, 라우팅 데이터소스가 복제 DB를 고를 때 이 위치까지 적용한 복제 DB만 쓴다.
+ */
+public final class ReadConsistency {
+
+    public static final String HEADER = "X-Consistency-Token";
+
+    /**
+     * 쓰기 요청이 응답에 일관성 토큰을 받고 싶을 때 보내는 헤더. 값은 보지 않는다.
+     */
+    public static final String REQUEST_HEADER = "X-Consistency-Token-Request";
+
+    private static final ThreadLocal<GtidSet> REQUIRED = new ThreadLocal<>();
+
+    private ReadConsistency() {
+    }
+
+    public static void require(GtidSet position) {
+        REQUIRED.set(position);
+    }
+
+    public static GtidSet required() {
+        GtidSet position = REQUIRED.get();
+        return position == null ? GtidSet.EMPTY : position;
+    }
+
+    /**
+     * 현재 스레드의 읽기 위치를 Reactor Context 로 옮긴다. R2DBC 조회는 요청 스레드 밖에서 커넥션을 고르므로 조립 시점(요청 스레드)에 담아 둔다.
+     */
+    public static Context context() {
+        GtidSet position = REQUIRED.get();
+        return position == null ? Context.empty() : Context.of(GtidSet.class, position);
+    }
+
+    public static GtidSet required(ContextView context) {
+        return context.getOrDefault(GtidSet.class, GtidSet.EMPTY);
+    }
+
+    public static void clear() {
+        REQUIRED.remove();
+    }
+
+    /**
+     * 현재 스레드의 읽기 위치를 다른 스레드에서 이어 쓰도록 감싼다. (StreamingResponseBody 등 비동기 응답)
+     */
+    public static Runnable propagate(Runnable task) {
+        GtidSet position = REQUIRED.get();
+        return () -> {
+            GtidSet previous = REQUIRED.get();
+            REQUIRED.set(position);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    REQUIRED.remove();
+                } else {
+                    REQUIRED.set(previous);
+                }
+            }
+        };
+    }
+
+    public static String encode(GtidSet position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static GtidSet decode(String token) {
+        try {
+            return GtidSet.parse(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, token);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.sw.remittanceservice.common.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "remittance.read-replica")
+public class ReadReplicaProperties {
+
+    /**
+     * true 면 읽기 전용 트랜잭션을 복제 DB로 보낸다. false 면 모든 작업이 spring.datasource 하나를 쓴다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 복제 DB 목록. 계정을 비워 두면 spring.datasource(JDBC), spring.r2dbc(R2DBC) 계정을 쓴다.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 복제 DB마다 여는 커넥션 풀 크기
+     */
+    private int maximumPoolSize = 20;
+
+    /**
+     * 상태 확인(GTID 위치 조회) 제한 시간. 넘기면 그 복제 DB는 다음 확인 때까지 라우팅에서 빠진다.
+     */
+    private Duration checkTimeout = Duration.ofSeconds(1);
+
+    /**
+     * 쓰기 응답에 일관성 토큰(X-Consistency-Token)을 붙일 수 있게 할지.
+     * 켜 두어도 X-Consistency-Token-Request 헤더를 보낸 쓰기 요청에만 붙이므로, 원본 DB 위치 조회는 토큰을 요청한 쓰기에서만 한 번 늘어난다.
+     */
+    private boolean consistencyToken = true;
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+
+        /**
+         * 같은 복제 DB의 R2DBC 주소. 계좌/거래내역 조회(R2DBC)도 복제 DB로 보내므로 비워 둘 수 없다.
+         */
+        private String r2dbcUrl;
+
+        private String username;
+
+        private String password;
+    }
+}
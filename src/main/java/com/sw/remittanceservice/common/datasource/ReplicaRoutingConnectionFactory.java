@@ -0,0 +1,55 @@
+package com.sw.remittanceservice.common.datasource;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * R2DBC 조회(계좌/거래내역 조회)를 복제 DB로 보낸다. R2DBC 경로는 조회 전용이라 읽기 전용 트랜잭션 여부는 보지 않는다.
+ * 복제 DB 선택은 {@link ReplicaRoutingDataSource#selectReplica}에 맡겨 JDBC 경로와 같은 상태 확인, 일관성 토큰 기준을 쓴다.
+ * 토큰은 요청 스레드가 아닌 곳에서 커넥션을 고르므로 Reactor Context({@link ReadConsistency#context()})로 받는다.
+ */
+public class ReplicaRoutingConnectionFactory extends AbstractRoutingConnectionFactory implements DisposableBean {
+
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    private final Map<String, ConnectionFactory> targets;
+
+    /**
+     * replicas 의 이름은 {@link ReplicaRoutingDataSource}에 넘긴 복제 DB 이름과 같아야 한다.
+     */
+    public ReplicaRoutingConnectionFactory(ConnectionFactory primary, Map<String, ConnectionFactory> replicas, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        this.replicaRoutingDataSource = replicaRoutingDataSource;
+
+        Map<String, ConnectionFactory> targets = new HashMap<>(replicas);
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primary);
+        this.targets = Map.copyOf(targets);
+
+        setTargetConnectionFactories(new HashMap<>(this.targets));
+        setDefaultTargetConnectionFactory(primary);
+        // 이름이 맞지 않으면 원본 DB로 조용히 가지 않고 실패하게 한다.
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> Mono.just(replicaRoutingDataSource.selectReplica(ReadConsistency.required(context))));
+    }
+
+    /**
+     * 원본, 복제 DB 커넥션 풀을 모두 닫는다. 빈으로 등록하지 않은 풀이라 여기서 닫는다.
+     */
+    @Override
+    public void destroy() {
+        targets.values().forEach(connectionFactory -> {
+            if (connectionFactory instanceof Disposable disposable) {
+                disposable.dispose();
+            }
+        });
+    }
+}
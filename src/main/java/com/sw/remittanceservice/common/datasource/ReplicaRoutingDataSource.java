@@ -0,0 +1,182 @@
+package com.sw.remittanceservice.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제 DB로, 그 밖의 작업은 원본 DB로 보낸다.
+ * 복제 DB는 라운드 로빈으로 고르되, 상태 확인에 실패했거나 요청이 요구하는 GTID 위치({@link ReadConsistency})를 아직 적용하지 못한 복제 DB는 건너뛴다.
+ * 고를 복제 DB가 없으면 원본 DB를 쓴다.
+ * 트랜잭션의 readOnly 속성이 정해진 뒤에 커넥션을 고르도록 LazyConnectionDataSourceProxy 로 감싸서 쓴다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private static final String POSITION_SQL = "select @@global.gtid_executed";
+
+    private final DataSource primary;
+
+    private final List<Replica> replicas;
+
+    private final int checkTimeoutSeconds;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter primaryRoutes;
+
+    private final Counter replicaRoutes;
+
+    private final Counter fallbackRoutes;
+
+    /**
+     * replicas 는 이름 -> 복제 DB. 이름은 메트릭 태그로도 쓴다.
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration checkTimeout, MeterRegistry meterRegistry) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("replicas is empty");
+        }
+        this.primary = primary;
+        this.checkTimeoutSeconds = (int) Math.max(1, checkTimeout.toSeconds());
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        List<Replica> nodes = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            nodes.add(replica);
+            targets.put(name, dataSource);
+            Gauge.builder("remittance.datasource.replica.healthy", replica, node -> node.healthy ? 1 : 0)
+                    .description("복제 DB가 라우팅 대상인지(1) 아닌지(0)")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+        this.replicas = List.copyOf(nodes);
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.primaryRoutes = routeCounter(meterRegistry, "primary");
+        this.replicaRoutes = routeCounter(meterRegistry, "replica");
+        this.fallbackRoutes = routeCounter(meterRegistry, "fallback");
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        checkReplicas();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+
+        return selectReplica(ReadConsistency.required());
+    }
+
+    /**
+     * required 위치까지 적용한 정상 복제 DB 중 하나를 라운드 로빈으로 고른다. 없으면 PRIMARY.
+     * R2DBC 조회({@link ReplicaRoutingConnectionFactory})도 같은 상태와 순번으로 고른다.
+     */
+    public String selectReplica(GtidSet required) {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            // 스냅샷은 마지막 확인 시점 기준이라 실제보다 뒤처져 있을 수는 있어도 앞서 있지는 않다. 포함하면 실제로도 적용된 것이다.
+            if (replica.healthy && replica.executed.contains(required)) {
+                replicaRoutes.increment();
+                return replica.name;
+            }
+        }
+
+        fallbackRoutes.increment();
+        return PRIMARY;
+    }
+
+    /**
+     * 복제 DB마다 적용한 GTID 집합을 읽어 둔다. 읽지 못하면 다음 확인 때까지 라우팅에서 뺀다.
+     */
+    @Scheduled(fixedDelayString = "${remittance.read-replica.health-check-interval-ms:1000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try {
+                replica.executed = GtidSet.parse(queryPosition(replica.dataSource));
+                replica.healthy = true;
+            } catch (SQLException | RuntimeException e) {
+                replica.healthy = false;
+            }
+        }
+    }
+
+    /**
+     * 원본 DB가 지금까지 커밋한 GTID 집합. 쓰기 직후 읽기가 기다려야 할 위치(일관성 토큰)로 쓴다.
+     */
+    public GtidSet primaryPosition() throws SQLException {
+        return GtidSet.parse(queryPosition(primary));
+    }
+
+    private String queryPosition(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(checkTimeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(POSITION_SQL)) {
+                return resultSet.next() ? resultSet.getString(1) : null;
+            }
+        }
+    }
+
+    /**
+     * 복제 DB 커넥션 풀을 닫는다. 원본 DB 풀은 따로 등록된 빈이 닫는다.
+     */
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("remittance.datasource.route")
+                .description("커넥션을 어느 DB에서 가져왔는지. fallback 은 읽기 전용이지만 쓸 수 있는 복제 DB가 없어 원본 DB를 쓴 경우")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    private static final class Replica {
+
+        private final String name;
+
+        private final DataSource dataSource;
+
+        private volatile boolean healthy;
+
+        private volatile GtidSet executed = GtidSet.EMPTY;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
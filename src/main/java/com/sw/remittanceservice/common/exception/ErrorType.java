@@ -11,12 +11,16 @@ public enum ErrorType {
     TX_NOT_FOUND(ErrorCode.NOT_FOUND, "트랜잭션을 찾을 수 없습니다."),
     ACCOUNT_NOT_FOUND(ErrorCode.NOT_FOUND, "계좌을 찾을 수 없습니다."),
     ACCOUNT_LIMIT_SETTING_NOT_FOUND(ErrorCode.NOT_FOUND, "계좌 한도 설정을 찾을 수 없습니다."),
+    ACCOUNT_BALANCE_SLOT_NOT_FOUND(ErrorCode.NOT_FOUND, "계좌 잔액 슬롯을 찾을 수 없습니다."),
     INVALID_REQUEST(ErrorCode.BAD_REQUEST, "요청 값이 올바르지 않습니다."),
     SAME_ACCOUNT_TRANSFER(ErrorCode.BAD_REQUEST, "출금계좌와 동일한 계좌입니다."),
+    DUPLICATE_TRANSACTION_REQUEST_ID(ErrorCode.BAD_REQUEST, "같은 묶음에 중복된 거래 요청 아이디가 있습니다."),
     INSUFFICIENT_BALANCE(ErrorCode.BAD_REQUEST, "잔액이 부족합니다."),
     EXCEED_DAILY_WITHDRAW_LIMIT(ErrorCode.BAD_REQUEST, "일일 출금 한도 초과했습니다."),
     EXCEED_DAILY_TRANSFER_LIMIT(ErrorCode.BAD_REQUEST, "일일 이체 한도 초과했습니다."),
-    CALCULATOR_NOT_FOUND(ErrorCode.NOT_FOUND, "수수료 계산기를 찾을 수 없습니다.");
+    CALCULATOR_NOT_FOUND(ErrorCode.NOT_FOUND, "수수료 계산기를 찾을 수 없습니다."),
+    EXPORT_CONCURRENCY_EXCEEDED(ErrorCode.TOO_MANY_REQUESTS, "진행 중인 거래내역 내보내기가 많습니다. 잠시 후 다시 시도해 주세요."),
+    STATEMENT_RUN_IN_PROGRESS(ErrorCode.CONFLICT, "같은 월의 명세서를 다른 실행이 생성하고 있습니다.");
 
     private final ErrorCode errorCode;
     private final String message;
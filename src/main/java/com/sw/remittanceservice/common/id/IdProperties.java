@@ -0,0 +1,16 @@
+package com.sw.remittanceservice.common.id;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "remittance.id")
+public class IdProperties {
+
+    /**
+     * 아이디에 들어가는 노드 번호(0~1023). 동시에 떠 있는 인스턴스끼리 겹치지 않아야 한다.
+     */
+    private int nodeId = 0;
+}
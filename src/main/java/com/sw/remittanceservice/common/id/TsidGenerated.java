@@ -0,0 +1,18 @@
+package com.sw.remittanceservice.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 식별자를 {@link TsidGenerator}로 persist 시점에 채운다.
+ * IDENTITY와 달리 insert 전에 아이디가 정해지므로 Hibernate가 insert를 JDBC 배치로 묶을 수 있다.
+ */
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TsidGenerated {
+}
@@ -0,0 +1,81 @@
+package com.sw.remittanceservice.common.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순으로 정렬되는 64비트 아이디 생성기.
+ * [부호 1 | 에포크 이후 밀리초 41 | 노드 10 | 시퀀스 12] 로 구성되어, 같은 노드가 만든 아이디는 생성 순서대로 증가한다.
+ * (밀리초, 시퀀스)를 하나의 AtomicLong으로 CAS 갱신하므로 락이 없고, 가상 스레드를 고정시키지 않는다.
+ * 시계가 뒤로 가거나 한 밀리초에 시퀀스를 다 쓰면 기다리지 않고 마지막 시각을 1ms씩 앞당겨 단조 증가를 유지한다.
+ */
+public final class TsidGenerator {
+
+    public static final long EPOCH_MILLIS = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+    public static final int NODE_BITS = 10;
+
+    public static final int SEQUENCE_BITS = 12;
+
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final AtomicReferenceArray<TsidGenerator> NODES = new AtomicReferenceArray<>(MAX_NODE_ID + 1);
+
+    private final long nodeBits;
+
+    private final LongSupplier clock;
+
+    /**
+     * (에포크 이후 밀리초 << SEQUENCE_BITS) | 시퀀스. 마지막으로 발급한 값이다.
+     */
+    private final AtomicLong last = new AtomicLong();
+
+    TsidGenerator(int nodeId, LongSupplier clock) {
+        checkNodeId(nodeId);
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    /**
+     * 노드별로 하나의 생성기를 공유한다. Hibernate 식별자 생성기와 네이티브 insert 가 같은 시퀀스를 쓰도록 하기 위함이다.
+     */
+    public static TsidGenerator forNode(int nodeId) {
+        checkNodeId(nodeId);
+        TsidGenerator generator = NODES.get(nodeId);
+        if (generator != null) {
+            return generator;
+        }
+        NODES.compareAndSet(nodeId, null, new TsidGenerator(nodeId, System::currentTimeMillis));
+        return NODES.get(nodeId);
+    }
+
+    public long nextId() {
+        long now = clock.getAsLong() - EPOCH_MILLIS;
+        while (true) {
+            long prev = last.get();
+            // 시각이 앞서면 시퀀스 0부터, 아니면 +1 (시퀀스가 넘치면 밀리초 자리로 올라간다)
+            long next = now > (prev >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : prev + 1;
+            if (last.compareAndSet(prev, next)) {
+                return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    private static void checkNodeId(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId는 0~" + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+    }
+
+    public static long epochMillisOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    public static int nodeIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+}
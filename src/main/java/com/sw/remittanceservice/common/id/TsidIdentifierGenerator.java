@@ -0,0 +1,39 @@
+package com.sw.remittanceservice.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+public class TsidIdentifierGenerator implements BeforeExecutionGenerator {
+
+    /**
+     * Hibernate 설정 키. IdGeneratorConfig가 remittance.id.node-id 값으로 채운다.
+     */
+    public static final String NODE_ID_SETTING = "remittance.id.node-id";
+
+    private final TsidGenerator tsidGenerator;
+
+    public TsidIdentifierGenerator(TsidGenerated config, Member member, CustomIdGeneratorCreationContext context) {
+        Integer nodeId = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSetting(NODE_ID_SETTING, StandardConverters.INTEGER, 0);
+        this.tsidGenerator = TsidGenerator.forNode(nodeId);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return tsidGenerator.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,7 @@
+-- 거래내역 조회(페이지 번호/무한 스크롤/건수)용 커버링 인덱스.
+-- 내부 쿼리는 (account_id, created_at, transaction_id)만 읽으므로 이 인덱스만 역방향으로 스캔하고 정렬(filesort)하지 않는다.
+-- ddl-auto 로 만든 개발 DB 에는 이미 있으며, 기존 운영 테이블에만 적용한다. (온라인 DDL, 쓰기 차단 없음)
+ALTER TABLE transaction
+    ADD INDEX idx_account_created_at (account_id, created_at, transaction_id),
+    ALGORITHM = INPLACE,
+    LOCK = NONE;
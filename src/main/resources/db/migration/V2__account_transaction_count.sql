@@ -0,0 +1,22 @@
+-- 계좌별 거래 건수 카운터(스트라이프). ddl-auto 로 만든 개발 DB 에는 이미 있으며, 기존 운영 DB 에만 적용한다.
+-- 배포 전에 실행해야 한다. 카운터 행이 있는 계좌는 카운터 값을 전체 건수로 응답하므로, 백필 없이 배포하면 기존 거래가 빠진 건수가 된다.
+CREATE TABLE IF NOT EXISTS account_transaction_count
+(
+    account_transaction_count_id BIGINT   NOT NULL COMMENT '거래 건수 카운터 아이디',
+    account_id                   BIGINT   NOT NULL COMMENT '계좌 아이디',
+    stripe_no                    INT      NOT NULL COMMENT '스트라이프 번호',
+    transaction_count            BIGINT   NOT NULL COMMENT '누적 거래 건수',
+    updated_at                   DATETIME(6) NOT NULL COMMENT '수정일시',
+    PRIMARY KEY (account_transaction_count_id),
+    UNIQUE KEY uk_account_stripe (account_id, stripe_no)
+);
+
+-- 기존 건수는 스트라이프 0에만 넣는다. 나머지 스트라이프는 첫 증가 때 애플리케이션이 만들므로 stripe-count 와 상관없다.
+-- 아이디는 애플리케이션이 만드는 TSID(양수)와 겹치지 않도록 음수 구간을 쓴다.
+INSERT IGNORE INTO account_transaction_count (account_transaction_count_id, account_id, stripe_no, transaction_count, updated_at)
+SELECT -ROW_NUMBER() OVER (ORDER BY a.account_id),
+       a.account_id,
+       0,
+       (SELECT COUNT(*) FROM transaction t WHERE t.account_id = a.account_id),
+       NOW(6)
+FROM account a;
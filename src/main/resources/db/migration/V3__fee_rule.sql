@@ -0,0 +1,31 @@
+-- DB 수수료 규칙과 휴일. ddl-auto 로 만든 개발 DB 에는 이미 있으며, 기존 운영 DB 에만 적용한다.
+CREATE TABLE IF NOT EXISTS fee_rule
+(
+    fee_rule_id      BIGINT      NOT NULL COMMENT '수수료 규칙 아이디',
+    priority         INT         NOT NULL COMMENT '우선순위 (작을수록 먼저 적용)',
+    account_id       BIGINT      NULL COMMENT '계좌별 규칙이면 출금 계좌 아이디, 전체 규칙이면 null',
+    min_amount       BIGINT      NULL COMMENT '적용 최소 금액 (포함)',
+    max_amount       BIGINT      NULL COMMENT '적용 최대 금액 (미포함)',
+    window_start     TIME        NULL COMMENT '적용 시작 시각 (분 단위, 포함)',
+    window_end       TIME        NULL COMMENT '적용 종료 시각 (분 단위, 미포함). 시작보다 이르면 자정을 넘는 구간',
+    apply_on_weekday BIT         NOT NULL COMMENT '평일 적용 여부',
+    apply_on_holiday BIT         NOT NULL COMMENT '주말/공휴일 적용 여부',
+    rate_ppm         BIGINT      NOT NULL COMMENT '수수료율 (백만분율, 1% = 10000)',
+    enabled          BIT         NOT NULL COMMENT '사용 여부',
+    created_at       DATETIME(6) NOT NULL COMMENT '생성일시',
+    updated_at       DATETIME(6) NOT NULL COMMENT '수정일시',
+    PRIMARY KEY (fee_rule_id)
+);
+
+CREATE TABLE IF NOT EXISTS fee_holiday
+(
+    fee_holiday_id BIGINT       NOT NULL COMMENT '휴일 아이디',
+    holiday_date   DATE         NOT NULL COMMENT '휴일',
+    name           VARCHAR(255) NULL COMMENT '휴일 이름',
+    PRIMARY KEY (fee_holiday_id),
+    UNIQUE KEY uk_holiday_date (holiday_date)
+);
+
+-- 적용된 수수료 정책 타입에 RULE 이 추가됐다. ddl-auto 가 ENUM 으로 만든 컬럼이면 값 목록을 넓힌다.
+ALTER TABLE transaction
+    MODIFY fee_policy_type ENUM ('NIGHT', 'DEFAULT', 'RULE') NULL COMMENT '적용된 수수료 정책 타입';
@@ -0,0 +1,13 @@
+-- transactionRequestId 단위 멱등성 키. ddl-auto 로 만든 개발 DB 에는 이미 있으며, 기존 운영 DB 에만 적용한다.
+CREATE TABLE IF NOT EXISTS idempotency_key
+(
+    transaction_request_id VARCHAR(255)                         NOT NULL COMMENT '거래 요청 식별자',
+    status                 ENUM ('PENDING', 'SUCCESS', 'FAILED') NOT NULL COMMENT '처리 상태 (PENDING: 처리 중, SUCCESS: 완료, FAILED: 처리하지 못해 다시 선점 가능)',
+    claim_token            VARCHAR(36)                          NOT NULL COMMENT '마지막으로 선점한 요청의 토큰',
+    response               VARCHAR(2000)                        NULL COMMENT '완료 응답(JSON)',
+    expires_at             DATETIME(6)                          NOT NULL COMMENT '만료일시. PENDING 이면 다른 요청이 다시 선점할 수 있는 시각, 그 외에는 삭제 대상이 되는 시각',
+    created_at             DATETIME(6)                          NOT NULL COMMENT '생성일시',
+    updated_at             DATETIME(6)                          NOT NULL COMMENT '수정일시',
+    PRIMARY KEY (transaction_request_id),
+    KEY idx_expires_at (expires_at)
+);
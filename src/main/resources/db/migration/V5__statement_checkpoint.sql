@@ -0,0 +1,19 @@
+-- 월별 명세서 파티션 체크포인트와 선점(같은 월 동시 실행 방지). ddl-auto 로 만든 개발 DB 에는 이미 있으며, 기존 운영 DB 에만 적용한다.
+CREATE TABLE IF NOT EXISTS statement_checkpoint
+(
+    statement_checkpoint_id BIGINT      NOT NULL COMMENT '체크포인트 아이디',
+    statement_month         VARCHAR(7)  NOT NULL COMMENT '명세서 대상 월(yyyy-MM)',
+    partition_no            INT         NOT NULL COMMENT '파티션 번호',
+    range_start             BIGINT      NOT NULL COMMENT '파티션 시작 계좌 아이디(제외)',
+    range_end               BIGINT      NOT NULL COMMENT '파티션 끝 계좌 아이디(포함)',
+    last_account_id         BIGINT      NOT NULL COMMENT '마지막으로 명세서를 쓴 계좌 아이디',
+    account_count           BIGINT      NOT NULL COMMENT '명세서를 쓴 계좌 수',
+    file_offset             BIGINT      NOT NULL COMMENT '체크포인트 시점의 명세서 파일 크기(byte)',
+    completed               BIT         NOT NULL COMMENT '파티션 완료 여부',
+    lease_owner             VARCHAR(36) NULL COMMENT '파티션을 처리 중인 실행 아이디',
+    lease_expires_at        DATETIME(6) NULL COMMENT '선점 만료일시. 지나면 다른 실행이 파티션을 가져갈 수 있다',
+    version                 BIGINT      NOT NULL DEFAULT 0 COMMENT '버전(선점/진행 기록 충돌 확인)',
+    updated_at              DATETIME(6) NOT NULL COMMENT '수정일시',
+    PRIMARY KEY (statement_checkpoint_id),
+    UNIQUE KEY uk_statement_month_partition (statement_month, partition_no)
+);
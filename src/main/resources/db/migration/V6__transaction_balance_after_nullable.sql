@@ -0,0 +1,4 @@
+-- 분할 계좌 입금은 다른 슬롯의 동시 입금을 볼 수 없어 거래 후 잔액을 남기지 않는다(null).
+-- ddl-auto 로 만든 개발 DB 에는 이미 있으며, 기존 운영 DB 에만 적용한다.
+ALTER TABLE transaction
+    MODIFY COLUMN balance_after_transaction BIGINT NULL COMMENT '거래 후 잔액. 분할 계좌 입금은 다른 슬롯의 동시 입금을 볼 수 없어 null';
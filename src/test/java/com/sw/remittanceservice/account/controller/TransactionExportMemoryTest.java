@@ -0,0 +1,163 @@
+package com.sw.remittanceservice.account.controller;
+
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.repository.AccountRepository;
+import com.sw.remittanceservice.common.id.TsidGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작은 힙(./gradlew memoryTest, -Xmx256m)에서 수백만 건의 거래내역을 HTTP로 내보내도
+ * 힙 사용량이 거래 수에 비례해 늘지 않는지 확인한다.
+ * 행 수는 -Dbench.export.rows 로 바꿀 수 있다.
+ */
+@Tag("memory")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class TransactionExportMemoryTest {
+
+    private static final int ROWS = Integer.getInteger("bench.export.rows", 3_000_000);
+
+    private static final int INSERT_CHUNK_SIZE = 5_000;
+
+    /**
+     * 결과를 메모리에 모으면 행당 수백 바이트 이상이 필요하다. 스트리밍이면 GC 후 남는 힙이 이 한도 안에서 끝나야 한다.
+     */
+    private static final long MAX_HEAP_GROWTH_BYTES = 64L * 1024 * 1024;
+
+    private static final String INSERT_SQL = """
+            insert into transaction (transaction_id, account_id, transaction_request_id, transaction_type, transaction_status,
+                                     amount, fee, target_account_no, balance_after_transaction, created_at)
+            values (?, ?, ?, 'DEPOSIT', 'SUCCESS', 1000, 0, null, ?, ?)
+            """;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TsidGenerator tsidGenerator;
+
+    @Test
+    @DisplayName("메모리: 수백만 건을 CSV로 내보내는 동안 힙 사용량이 일정하다")
+    void export_millions_of_rows_with_flat_heap() throws Exception {
+        // Given
+        Account account = accountRepository.save(Account.create(UUID.randomUUID().toString()));
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        seed(account.getAccountId(), base);
+
+        // 사용 중인 힙은 아직 수거되지 않은 garbage 를 포함하므로, GC 직후 남은 힙(살아 있는 객체)을 비교한다.
+        System.gc();
+        long baselineHeap = liveHeap();
+        AtomicLong peakHeap = new AtomicLong(baselineHeap);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(
+                () -> peakHeap.accumulateAndGet(liveHeap(), Math::max),
+                0, 10, TimeUnit.MILLISECONDS
+        );
+
+        HttpClient httpClient = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                        + "/api/accounts/" + account.getAccountNo() + "/transactions/export?format=csv&from=2026-01-01&to=2026-12-31"))
+                .timeout(Duration.ofMinutes(10))
+                .GET()
+                .build();
+
+        // When
+        long startedAt = System.nanoTime();
+        long lineCount = 0;
+        long byteCount = 0;
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineCount++;
+                byteCount += line.length() + 1;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        sampler.shutdownNow();
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(lineCount).isEqualTo(ROWS + 1L);
+
+        long heapGrowth = peakHeap.get() - baselineHeap;
+
+        System.out.println("========================================");
+        System.out.println("[TRANSACTION_EXPORT_MEMORY_BENCH]");
+        System.out.println("- rows=" + ROWS);
+        System.out.println("- bytes=" + byteCount);
+        System.out.println("- elapsedMs=" + elapsedNanos / 1_000_000);
+        System.out.println("- rowsPerSec=" + (long) (ROWS / (elapsedNanos / 1_000_000_000.0)));
+        System.out.println("- maxHeapMb=" + Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        System.out.println("- baselineLiveHeapMb=" + baselineHeap / (1024 * 1024));
+        System.out.println("- peakLiveHeapMb=" + peakHeap.get() / (1024 * 1024));
+        System.out.println("========================================");
+
+        assertThat(heapGrowth).isLessThan(MAX_HEAP_GROWTH_BYTES);
+    }
+
+    private static long liveHeap() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getCollectionUsage() != null) {
+                used += pool.getCollectionUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    private void seed(Long accountId, LocalDateTime base) {
+        List<Object[]> chunk = new ArrayList<>(INSERT_CHUNK_SIZE);
+        for (int i = 0; i < ROWS; i++) {
+            chunk.add(new Object[]{
+                    tsidGenerator.nextId(),
+                    accountId,
+                    "export-" + accountId + "-" + i,
+                    1_000L * (i + 1),
+                    Timestamp.valueOf(base.plusSeconds(i % 31_000_000))
+            });
+            if (chunk.size() == INSERT_CHUNK_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, chunk);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.sw.remittanceservice.account.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sw.remittanceservice.account.dto.TransferRequest;
+import com.sw.remittanceservice.account.dto.TransferResponse;
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.entity.AccountLimitSetting;
+import com.sw.remittanceservice.account.entity.enums.AccountStatus;
+import com.sw.remittanceservice.account.repository.AccountLimitSettingRepository;
+import com.sw.remittanceservice.account.repository.AccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 소수의 계좌에 이체가 몰리는 상황에서 Tomcat 요청 스레드 모델(플랫폼/가상)별 POST /api/transfers 처리량과 지연을 비교한다.
+ * 동시 클라이언트 수만큼 소켓을 열므로 ulimit -n 이 충분해야 한다. (./gradlew loadTest)
+ */
+@Tag("load")
+abstract class TransferThreadModelLoadTest {
+
+    private static final int HOT_ACCOUNT_COUNT = 10;
+
+    private static final long INITIAL_BALANCE = 1_000_000_000L;
+
+    private static final long AMOUNT = 1_000L;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountLimitSettingRepository accountLimitSettingRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.threads.virtual.enabled=false")
+    static class PlatformThreadTest extends TransferThreadModelLoadTest {
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.threads.virtual.enabled=true")
+    static class VirtualThreadTest extends TransferThreadModelLoadTest {
+    }
+
+    @ParameterizedTest(name = "clients={0}")
+    @ValueSource(ints = {1_000, 5_000, 10_000})
+    @DisplayName("부하: 경합 계좌 집합에 대한 동시 이체 처리량/지연을 측정하고, 전체 잔액은 수수료만큼만 줄어든다")
+    void concurrent_transfer_load(int clientCount) throws Exception {
+        List<Account> accounts = createHotAccounts();
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        long[] latencies = new long[clientCount];
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failureCount = new AtomicInteger();
+        AtomicLong feeSum = new AtomicLong();
+        CountDownLatch ready = new CountDownLatch(clientCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(clientCount);
+
+        // 클라이언트 쪽 스레드 수가 결과를 제한하지 않도록 클라이언트는 항상 가상 스레드로 띄운다.
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < clientCount; i++) {
+            int index = i;
+            clients.submit(() -> {
+                try {
+                    HttpRequest request = transferRequest(accounts);
+                    ready.countDown();
+                    start.await();
+
+                    long startedAt = System.nanoTime();
+                    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                    latencies[index] = System.nanoTime() - startedAt;
+
+                    if (response.statusCode() == 200) {
+                        feeSum.addAndGet(objectMapper.readValue(response.body(), TransferResponse.class).fee());
+                        successCount.incrementAndGet();
+                    } else {
+                        failureCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    failureCount.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        clients.close();
+
+        long balanceSum = accounts.stream()
+                .map(account -> accountRepository.findById(account.getAccountId()).orElseThrow())
+                .mapToLong(Account::getBalance)
+                .sum();
+
+        assertThat(successCount.get() + failureCount.get()).isEqualTo(clientCount);
+        assertThat(successCount.get()).isPositive();
+        assertThat(balanceSum + feeSum.get()).isEqualTo(INITIAL_BALANCE * HOT_ACCOUNT_COUNT);
+
+        long[] sorted = Arrays.stream(latencies).filter(latency -> latency > 0).sorted().toArray();
+
+        System.out.println("========================================");
+        System.out.println("[TRANSFER_THREAD_MODEL_BENCH]");
+        System.out.println("- model=" + (this instanceof VirtualThreadTest ? "VIRTUAL" : "PLATFORM"));
+        System.out.println("- clients=" + clientCount);
+        System.out.println("- hotAccounts=" + HOT_ACCOUNT_COUNT);
+        System.out.println("- success=" + successCount.get());
+        System.out.println("- failure=" + failureCount.get());
+        System.out.println("- elapsedMs=" + elapsedNanos / 1_000_000);
+        System.out.println("- tps=" + (long) (successCount.get() / (elapsedNanos / 1_000_000_000.0)));
+        System.out.println("- p50Ms=" + percentile(sorted, 0.50) / 1_000_000);
+        System.out.println("- p99Ms=" + percentile(sorted, 0.99) / 1_000_000);
+        System.out.println("========================================");
+    }
+
+    private List<Account> createHotAccounts() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Account> accounts = new ArrayList<>(HOT_ACCOUNT_COUNT);
+        for (int i = 0; i < HOT_ACCOUNT_COUNT; i++) {
+            Account saved = accountRepository.save(
+                    new Account(null, UUID.randomUUID().toString(), INITIAL_BALANCE, AccountStatus.ACTIVE, now, now)
+            );
+            accountLimitSettingRepository.save(
+                    new AccountLimitSetting(null, saved.getAccountId(), INITIAL_BALANCE, INITIAL_BALANCE, now, now)
+            );
+            accounts.add(saved);
+        }
+        return accounts;
+    }
+
+    private HttpRequest transferRequest(List<Account> accounts) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int from = random.nextInt(HOT_ACCOUNT_COUNT);
+        int to = (from + 1 + random.nextInt(HOT_ACCOUNT_COUNT - 1)) % HOT_ACCOUNT_COUNT;
+
+        TransferRequest body = new TransferRequest(
+                accounts.get(from).getAccountNo(),
+                accounts.get(to).getAccountNo(),
+                AMOUNT,
+                UUID.randomUUID().toString()
+        );
+
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/transfers"))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+}
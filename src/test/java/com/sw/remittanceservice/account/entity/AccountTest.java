@@ -135,4 +135,32 @@ public class AccountTest {
         assertEquals(ErrorType.ACCOUNT_NOT_ACTIVE, e.getErrorType());
     }
 
+    @Test
+    @DisplayName("잔액 분할 - 슬롯 잔액을 본 잔액으로 합친다")
+    void absorbSlotBalance_success() {
+        // Given
+        account.shardBalance(4);
+
+        // When
+        Account absorbed = account.absorbSlotBalance(5000L);
+
+        // Then
+        assertEquals(15000L, absorbed.getBalance());
+        assertEquals(4, absorbed.getBalanceSlotCount());
+        assertTrue(absorbed.isBalanceSharded());
+    }
+
+    @Test
+    @DisplayName("잔액 분할 실패 - 슬롯 수를 줄이려는 경우 예외 발생")
+    void shardBalance_failure_decrease() {
+        // Given
+        account.shardBalance(4);
+
+        // When & Then
+        CoreException e = assertThrows(CoreException.class, () -> account.shardBalance(2));
+
+        assertEquals(ErrorType.INVALID_REQUEST, e.getErrorType());
+        assertEquals(4, account.getBalanceSlotCount());
+    }
+
 }
@@ -0,0 +1,144 @@
+package com.sw.remittanceservice.account.repository;
+
+import com.sw.remittanceservice.account.service.AccountNoAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * account 테이블과 같은 구조(account_no 유니크 인덱스)의 벤치 테이블에 수백만 건을 넣으며
+ * 계좌번호 형식(UUID / 숫자 14자리)별 insert 처리량, 인덱스 크기, 단건 조회 지연을 비교한다.
+ * 행 수는 -Dbench.account.rows 로 바꿀 수 있다. (./gradlew loadTest)
+ */
+@Tag("load")
+@SpringBootTest
+public class AccountNoFormatLoadTest {
+
+    private static final String TABLE = "bench_account_no";
+
+    private static final int ROW_COUNT = Integer.getInteger("bench.account.rows", 3_000_000);
+
+    private static final int INSERT_CHUNK = 10_000;
+
+    private static final int LOOKUP_COUNT = 100_000;
+
+    /**
+     * 숫자 계좌번호는 노드 4대가 1,000개씩 구간을 예약해 번갈아 발급하는 상황을 흉내 낸다.
+     */
+    private static final int NODE_COUNT = 4;
+
+    private static final int BLOCK_SIZE = 1_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    enum Format {
+        UUID, NUMERIC
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop table if exists " + TABLE);
+    }
+
+    @ParameterizedTest(name = "format={0}")
+    @EnumSource(Format.class)
+    @DisplayName("부하: 계좌번호 형식별 대량 insert 처리량과 account_no 단건 조회 지연을 측정한다")
+    void insert_and_lookup_by_account_no_format(Format format) {
+        jdbcTemplate.execute("drop table if exists " + TABLE);
+        jdbcTemplate.execute("create table " + TABLE + " (" +
+                "account_id bigint not null primary key, " +
+                "account_no varchar(36) not null, " +
+                "balance bigint not null, " +
+                "created_at datetime(6) not null, " +
+                "unique key uk_account_no (account_no))");
+
+        Random random = new Random(42);
+        String[] accountNos = new String[ROW_COUNT];
+        for (int i = 0; i < ROW_COUNT; i++) {
+            accountNos[i] = format == Format.UUID
+                    ? new UUID(random.nextLong(), random.nextLong()).toString()
+                    : AccountNoAllocator.format(numericBody(i));
+        }
+
+        // insert: PK는 운영과 같이 증가하는 값이고, 계좌번호 형식만 다르다.
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long[] chunkNanos = new long[ROW_COUNT / INSERT_CHUNK + 1];
+        long insertStartedAt = System.nanoTime();
+        for (int from = 0, chunk = 0; from < ROW_COUNT; from += INSERT_CHUNK, chunk++) {
+            List<Object[]> rows = new ArrayList<>(INSERT_CHUNK);
+            for (int i = from; i < Math.min(from + INSERT_CHUNK, ROW_COUNT); i++) {
+                rows.add(new Object[]{i + 1L, accountNos[i], 0L, now});
+            }
+            long chunkStartedAt = System.nanoTime();
+            jdbcTemplate.batchUpdate("insert into " + TABLE + " (account_id, account_no, balance, created_at) values (?, ?, ?, ?)", rows);
+            chunkNanos[chunk] = System.nanoTime() - chunkStartedAt;
+        }
+        long insertNanos = System.nanoTime() - insertStartedAt;
+
+        jdbcTemplate.execute("analyze table " + TABLE);
+        Long indexBytes = jdbcTemplate.queryForObject(
+                "select index_length from information_schema.tables where table_schema = database() and table_name = ?",
+                Long.class,
+                TABLE
+        );
+
+        // lookup: 이미 있는 계좌번호를 무작위로 단건 조회
+        long[] lookupNanos = new long[LOOKUP_COUNT];
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            String accountNo = accountNos[random.nextInt(ROW_COUNT)];
+            long startedAt = System.nanoTime();
+            Long accountId = jdbcTemplate.queryForObject("select account_id from " + TABLE + " where account_no = ?", Long.class, accountNo);
+            lookupNanos[i] = System.nanoTime() - startedAt;
+            assertThat(accountId).isNotNull();
+        }
+        Arrays.sort(lookupNanos);
+
+        Long rowCount = jdbcTemplate.queryForObject("select count(*) from " + TABLE, Long.class);
+        assertThat(rowCount).isEqualTo((long) ROW_COUNT);
+
+        int chunkCount = (ROW_COUNT + INSERT_CHUNK - 1) / INSERT_CHUNK;
+        int tailChunks = Math.max(1, chunkCount / 10);
+        long tailNanos = 0;
+        for (int i = chunkCount - tailChunks; i < chunkCount; i++) {
+            tailNanos += chunkNanos[i];
+        }
+
+        System.out.println("========================================");
+        System.out.println("[ACCOUNT_NO_FORMAT_BENCH]");
+        System.out.println("- format=" + format);
+        System.out.println("- rows=" + ROW_COUNT);
+        System.out.println("- insertRowsPerSec=" + (long) (ROW_COUNT / (insertNanos / 1_000_000_000.0)));
+        System.out.println("- insertRowsPerSecLast10%=" + (long) ((long) tailChunks * INSERT_CHUNK / (tailNanos / 1_000_000_000.0)));
+        System.out.println("- accountNoIndexMb=" + (indexBytes == null ? 0 : indexBytes / (1024 * 1024)));
+        System.out.println("- lookupP50Us=" + lookupNanos[LOOKUP_COUNT / 2] / 1_000);
+        System.out.println("- lookupP99Us=" + lookupNanos[(int) (LOOKUP_COUNT * 0.99)] / 1_000);
+        System.out.println("========================================");
+    }
+
+    /**
+     * i번째 발급 번호. 노드들이 구간을 차례로 예약하고, 같은 시각에는 각 노드가 자기 구간에서 하나씩 발급한다.
+     */
+    private static long numericBody(int i) {
+        int round = i / (NODE_COUNT * BLOCK_SIZE);
+        int offsetInRound = i % (NODE_COUNT * BLOCK_SIZE);
+        int node = offsetInRound % NODE_COUNT;
+        int offsetInBlock = offsetInRound / NODE_COUNT;
+        return 1L + ((long) round * NODE_COUNT + node) * BLOCK_SIZE + offsetInBlock;
+    }
+}
@@ -0,0 +1,88 @@
+package com.sw.remittanceservice.account.repository;
+
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.entity.Transaction;
+import com.sw.remittanceservice.account.entity.enums.AccountStatus;
+import com.sw.remittanceservice.account.entity.enums.TransactionType;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("load")
+@SpringBootTest
+public class TransactionBulkInsertThroughputTest {
+
+    private static final int ROW_COUNT = 10_000;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * jdbcBatchSize=1 은 IDENTITY 를 쓰던 때처럼 insert 를 한 건씩 보내는 경우다.
+     */
+    @ParameterizedTest(name = "jdbcBatchSize={0}")
+    @ValueSource(ints = {1, 500})
+    @DisplayName("벌크 insert: JDBC 배치 크기별 거래 저장 처리량을 비교하고, transaction_id 순서는 생성 순서와 같다")
+    void bulk_insert_transactions(int jdbcBatchSize) {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Account account = accountRepository.save(
+                new Account(null, UUID.randomUUID().toString(), 0L, AccountStatus.ACTIVE, now, now)
+        );
+        List<Transaction> transactions = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            transactions.add(Transaction.create(account.getAccountId(), (long) i, "bulk-" + i, 1L, TransactionType.DEPOSIT));
+        }
+
+        // When
+        long startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            transactionRepository.saveAll(transactions);
+        });
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        // Then
+        List<String> requestIdsInIdOrder = entityManager.createQuery(
+                        "select t.transactionRequestId from Transaction t where t.accountId = :accountId order by t.transactionId",
+                        String.class
+                )
+                .setParameter("accountId", account.getAccountId())
+                .getResultList();
+
+        assertThat(requestIdsInIdOrder).hasSize(ROW_COUNT);
+        assertThat(requestIdsInIdOrder).containsExactlyElementsOf(
+                transactions.stream().map(Transaction::getTransactionRequestId).toList()
+        );
+
+        System.out.println("========================================");
+        System.out.println("[TRANSACTION_BULK_INSERT_BENCH]");
+        System.out.println("- jdbcBatchSize=" + jdbcBatchSize);
+        System.out.println("- rows=" + ROW_COUNT);
+        System.out.println("- elapsedMs=" + elapsedNanos / 1_000_000);
+        System.out.println("- rowsPerSec=" + (long) (ROW_COUNT / (elapsedNanos / 1_000_000_000.0)));
+        System.out.println("========================================");
+    }
+}
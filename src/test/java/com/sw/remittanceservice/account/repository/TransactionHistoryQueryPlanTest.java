@@ -0,0 +1,159 @@
+package com.sw.remittanceservice.account.repository;
+
+import com.sw.remittanceservice.account.entity.Transaction;
+import com.sw.remittanceservice.account.entity.enums.TransactionStatus;
+import com.sw.remittanceservice.account.entity.enums.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래내역 조회 쿼리({@link ReactiveTransactionRepository})의 실행 계획을 검사한다.
+ * transaction 테이블을 읽는 단계는 idx_account_created_at 만으로(커버링) 처리되고 filesort 가 없어야 하며,
+ * 본 테이블 행은 PK(eq_ref)로만 읽어야 한다. 바깥 정렬은 페이지 크기만큼의 파생 테이블 정렬이라 허용한다.
+ */
+@SpringBootTest
+public class TransactionHistoryQueryPlanTest {
+
+    private static final String HISTORY_INDEX = "idx_account_created_at";
+
+    private static final int TARGET_ROWS = 5_000;
+
+    private static final int OTHER_ACCOUNTS = 50;
+
+    private static final int OTHER_ROWS_PER_ACCOUNT = 200;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private Long accountId;
+
+    @BeforeEach
+    void setUp() {
+        accountId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+        List<Transaction> transactions = new ArrayList<>(TARGET_ROWS + OTHER_ACCOUNTS * OTHER_ROWS_PER_ACCOUNT);
+        for (int i = 0; i < TARGET_ROWS; i++) {
+            transactions.add(transaction(accountId, i));
+        }
+        for (int a = 1; a <= OTHER_ACCOUNTS; a++) {
+            for (int i = 0; i < OTHER_ROWS_PER_ACCOUNT; i++) {
+                transactions.add(transaction(accountId - a, i));
+            }
+        }
+        transactionRepository.saveAll(transactions);
+        namedParameterJdbcTemplate.getJdbcTemplate().execute("analyze table transaction");
+    }
+
+    @Test
+    @DisplayName("실행 계획: 페이지 번호 조회는 인덱스만 역방향으로 읽고 filesort 하지 않는다")
+    void find_all_by_account_id_uses_covering_index() {
+        List<Map<String, Object>> plan = explain(
+                ReactiveTransactionRepository.FIND_ALL_BY_ACCOUNT_ID_SQL,
+                Map.of("accountId", accountId, "offset", 1_000L, "limit", 20L)
+        );
+
+        assertHistoryPlan(plan);
+    }
+
+    @Test
+    @DisplayName("실행 계획: 무한 스크롤 첫 페이지는 인덱스만 역방향으로 읽고 filesort 하지 않는다")
+    void find_all_infinite_scroll_first_page_uses_covering_index() {
+        List<Map<String, Object>> plan = explain(
+                ReactiveTransactionRepository.FIND_ALL_INFINITE_SCROLL_FIRST_SQL,
+                Map.of("accountId", accountId, "limit", 20L)
+        );
+
+        assertHistoryPlan(plan);
+    }
+
+    @Test
+    @DisplayName("실행 계획: 무한 스크롤 다음 페이지는 커서 위치부터 인덱스 범위로 읽고 filesort 하지 않는다")
+    void find_all_infinite_scroll_next_page_uses_covering_index() {
+        List<Map<String, Object>> plan = explain(
+                ReactiveTransactionRepository.FIND_ALL_INFINITE_SCROLL_NEXT_SQL,
+                Map.of("accountId", accountId, "lastCreatedAt", base.plusSeconds(TARGET_ROWS / 2), "lastTransactionId", Long.MAX_VALUE, "limit", 20L)
+        );
+
+        assertHistoryPlan(plan);
+        assertThat(transactionAccess(plan).get("type")).isEqualTo("range");
+    }
+
+    @Test
+    @DisplayName("실행 계획: 건수 조회는 인덱스만 읽는다")
+    void count_uses_covering_index() {
+        List<Map<String, Object>> plan = explain(
+                ReactiveTransactionRepository.COUNT_SQL,
+                Map.of("accountId", accountId, "limit", 1_000L)
+        );
+
+        Map<String, Object> access = transactionAccess(plan);
+        assertThat(access.get("type")).isEqualTo("ref");
+        assertThat(extra(access)).contains("Using index");
+    }
+
+    private void assertHistoryPlan(List<Map<String, Object>> plan) {
+        Map<String, Object> access = transactionAccess(plan);
+        assertThat(access.get("key")).isEqualTo(HISTORY_INDEX);
+        assertThat(extra(access)).contains("Using index").doesNotContain("Using filesort").doesNotContain("Using temporary");
+
+        Map<String, Object> lookup = plan.stream()
+                .filter(row -> "at".equals(row.get("table")))
+                .findFirst()
+                .orElseThrow();
+        assertThat(lookup.get("type")).isEqualTo("eq_ref");
+        assertThat(lookup.get("key")).isEqualTo("PRIMARY");
+    }
+
+    /**
+     * 파생 테이블(내부 쿼리)에서 transaction 테이블을 읽는 단계
+     */
+    private Map<String, Object> transactionAccess(List<Map<String, Object>> plan) {
+        return plan.stream()
+                .filter(row -> "transaction".equals(row.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("transaction 테이블 접근 단계가 없습니다: " + plan));
+    }
+
+    private static String extra(Map<String, Object> row) {
+        Object extra = row.get("Extra");
+        return extra == null ? "" : extra.toString();
+    }
+
+    private List<Map<String, Object>> explain(String sql, Map<String, Object> params) {
+        return namedParameterJdbcTemplate.queryForList("explain " + sql, params);
+    }
+
+    private Transaction transaction(Long accountId, int seq) {
+        return new Transaction(
+                null,
+                accountId,
+                "plan-" + accountId + "-" + seq,
+                TransactionType.DEPOSIT,
+                TransactionStatus.SUCCESS,
+                1_000L,
+                null,
+                0L,
+                null,
+                null,
+                null,
+                1_000L * (seq + 1),
+                base.plusSeconds(seq)
+        );
+    }
+}
@@ -0,0 +1,93 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.entity.AccountBalanceSlot;
+import com.sw.remittanceservice.account.entity.enums.AccountStatus;
+import com.sw.remittanceservice.account.repository.AccountBalanceSlotRepository;
+import com.sw.remittanceservice.account.repository.AccountRepository;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountBalanceSlotServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountIdResolver accountIdResolver;
+
+    @Mock
+    private AccountBalanceSlotRepository accountBalanceSlotRepository;
+
+    @InjectMocks
+    private AccountBalanceSlotService accountBalanceSlotService;
+
+    @Test
+    @DisplayName("잔액 분할 - 슬롯을 생성하고 분할 계좌로 등록한다")
+    void enable_success() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        Account account = new Account(1L, accountNo, 0L, AccountStatus.ACTIVE, now, now);
+
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(1L));
+        given(accountRepository.findLockedByAccountId(1L)).willReturn(Optional.of(account));
+
+        // When
+        accountBalanceSlotService.enable(accountNo, 4);
+
+        // Then
+        assertThat(account.getBalanceSlotCount()).isEqualTo(4);
+        assertThat(accountBalanceSlotService.isSharded(accountNo)).isTrue();
+        verify(accountBalanceSlotRepository, times(4)).save(any(AccountBalanceSlot.class));
+    }
+
+    @Test
+    @DisplayName("잔액 분할 실패 - 허용 범위를 벗어난 슬롯 수")
+    void enable_fail_invalid_slot_count() {
+        // When & Then
+        CoreException e = assertThrows(CoreException.class,
+                () -> accountBalanceSlotService.enable(UUID.randomUUID().toString(), AccountBalanceSlotService.MAX_SLOT_COUNT + 1));
+
+        assertThat(e.getErrorType()).isEqualTo(ErrorType.INVALID_REQUEST);
+        verify(accountRepository, never()).findLockedByAccountId(any());
+    }
+
+    @Test
+    @DisplayName("슬롯 합치기 - 모든 슬롯 잔액을 비우고 본 잔액에 더한다")
+    void consolidate_success() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        Account account = new Account(1L, UUID.randomUUID().toString(), 1_000L, AccountStatus.ACTIVE, now, now, 2);
+        AccountBalanceSlot slot0 = new AccountBalanceSlot(10L, 1L, 0, 3_000L, now, now);
+        AccountBalanceSlot slot1 = new AccountBalanceSlot(11L, 1L, 1, 6_000L, now, now);
+
+        given(accountBalanceSlotRepository.findLockedByAccountIdOrderBySlotNo(1L)).willReturn(List.of(slot0, slot1));
+
+        // When
+        Account consolidated = accountBalanceSlotService.consolidate(account);
+
+        // Then
+        assertThat(consolidated.getBalance()).isEqualTo(10_000L);
+        assertThat(slot0.getBalance()).isZero();
+        assertThat(slot1.getBalance()).isZero();
+    }
+}
@@ -0,0 +1,147 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountIdResolverTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private AccountIdResolver accountIdResolver;
+
+    @BeforeEach
+    void setUp() {
+        accountIdResolver = new AccountIdResolver(accountRepository, new AccountIdResolverProperties());
+    }
+
+    @Test
+    @DisplayName("처음 조회한 계좌번호는 DB에서 읽고 이후에는 캐시에서 반환한다")
+    void resolve_loads_once() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        given(accountRepository.findIdByAccountNo(accountNo)).willReturn(Optional.of(7L));
+
+        // When
+        Optional<Long> first = accountIdResolver.resolve(accountNo);
+        Optional<Long> second = accountIdResolver.resolve(accountNo);
+
+        // Then
+        assertThat(first).contains(7L);
+        assertThat(second).contains(7L);
+        assertThat(accountIdResolver.size()).isEqualTo(1);
+        verify(accountRepository, times(1)).findIdByAccountNo(accountNo);
+    }
+
+    @Test
+    @DisplayName("계좌 생성 시 등록한 계좌번호는 DB 조회 없이 변환한다")
+    void resolve_registered_without_db() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        accountIdResolver.register(accountNo, 3L);
+
+        // When
+        Optional<Long> accountId = accountIdResolver.resolve(accountNo);
+
+        // Then
+        assertThat(accountId).contains(3L);
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    @DisplayName("없는 계좌번호는 캐시하지 않는다")
+    void resolve_does_not_cache_missing_account() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        given(accountRepository.findIdByAccountNo(accountNo)).willReturn(Optional.empty());
+
+        // When
+        accountIdResolver.resolve(accountNo);
+        Optional<Long> accountId = accountIdResolver.resolve(accountNo);
+
+        // Then
+        assertThat(accountId).isEmpty();
+        assertThat(accountIdResolver.size()).isZero();
+        verify(accountRepository, times(2)).findIdByAccountNo(accountNo);
+    }
+
+    @Test
+    @DisplayName("UUID 형식이 아니거나 대문자 표기인 계좌번호는 캐시를 거치지 않고 DB에서 조회한다")
+    void resolve_non_canonical_account_no_from_db() {
+        // Given
+        String upperCase = UUID.randomUUID().toString().toUpperCase();
+        String notUuid = "not-a-uuid";
+        given(accountRepository.findIdByAccountNo(upperCase)).willReturn(Optional.of(1L));
+        given(accountRepository.findIdByAccountNo(notUuid)).willReturn(Optional.of(2L));
+
+        // When
+        accountIdResolver.resolve(upperCase);
+        accountIdResolver.resolve(upperCase);
+        Optional<Long> accountId = accountIdResolver.resolve(notUuid);
+
+        // Then
+        assertThat(accountId).contains(2L);
+        assertThat(accountIdResolver.size()).isZero();
+        verify(accountRepository, times(2)).findIdByAccountNo(upperCase);
+    }
+
+    @Test
+    @DisplayName("계좌번호가 다르면 다른 ID로 변환된다")
+    void resolve_distinguishes_account_no() {
+        // Given
+        UUID uuid = UUID.randomUUID();
+        String accountNo = uuid.toString();
+        String otherAccountNo = new UUID(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits() ^ 1).toString();
+        accountIdResolver.register(accountNo, 1L);
+        accountIdResolver.register(otherAccountNo, 2L);
+
+        // When & Then
+        assertThat(accountIdResolver.resolve(accountNo)).contains(1L);
+        assertThat(accountIdResolver.resolve(otherAccountNo)).contains(2L);
+    }
+
+    @Test
+    @DisplayName("숫자 계좌번호도 캐시에 등록하고, UUID 계좌번호와 키가 겹치지 않는다")
+    void resolve_numeric_account_no_cached() {
+        // Given
+        String numeric = AccountNoAllocator.format(1L);
+        String uuid = new UUID(0x1000L, 1L).toString();
+        accountIdResolver.register(numeric, 1L);
+        accountIdResolver.register(uuid, 2L);
+
+        // When & Then
+        assertThat(accountIdResolver.resolve(numeric)).contains(1L);
+        assertThat(accountIdResolver.findCached(numeric)).contains(1L);
+        assertThat(accountIdResolver.resolve(uuid)).contains(2L);
+        assertThat(accountIdResolver.size()).isEqualTo(2);
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    @DisplayName("검증 숫자가 틀린 숫자 계좌번호는 DB를 조회하지 않고 없는 계좌로 처리한다")
+    void resolve_mistyped_numeric_account_no_without_db() {
+        // Given
+        String accountNo = AccountNoAllocator.format(1L);
+        String mistyped = accountNo.substring(0, 13) + (char) ('0' + (accountNo.charAt(13) - '0' + 1) % 10);
+
+        // When
+        Optional<Long> accountId = accountIdResolver.resolve(mistyped);
+
+        // Then
+        assertThat(accountId).isEmpty();
+        verifyNoInteractions(accountRepository);
+    }
+}
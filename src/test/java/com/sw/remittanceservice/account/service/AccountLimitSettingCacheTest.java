@@ -0,0 +1,134 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.entity.AccountLimitSetting;
+import com.sw.remittanceservice.account.repository.AccountLimitSettingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountLimitSettingCacheTest {
+
+    @Mock
+    private AccountLimitSettingRepository accountLimitSettingRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AccountLimitSettingCache accountLimitSettingCache;
+
+    private final Long accountId = 1L;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        accountLimitSettingCache = new AccountLimitSettingCache(
+                accountLimitSettingRepository,
+                redisTemplate,
+                new AccountLimitSettingCacheProperties(),
+                meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("한도 조회 - 두 번째 조회부터는 DB를 조회하지 않고 적중/미스 지표를 남긴다")
+    void find_by_account_id_cached() {
+        // Given
+        given(accountLimitSettingRepository.findByAccountId(accountId))
+                .willReturn(Optional.of(new AccountLimitSetting(1L, accountId, 1_000_000L, 3_000_000L, now, now)));
+
+        // When
+        accountLimitSettingCache.findByAccountId(accountId);
+        Optional<AccountLimitSetting> cached = accountLimitSettingCache.findByAccountId(accountId);
+
+        // Then
+        assertThat(cached).isPresent();
+        assertThat(cached.get().getDailyWithdrawLimit()).isEqualTo(1_000_000L);
+        verify(accountLimitSettingRepository, times(1)).findByAccountId(accountId);
+
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("한도 조회 - 설정이 없으면 캐시하지 않는다")
+    void find_by_account_id_not_found_not_cached() {
+        // Given
+        given(accountLimitSettingRepository.findByAccountId(accountId)).willReturn(Optional.empty());
+
+        // When
+        accountLimitSettingCache.findByAccountId(accountId);
+        Optional<AccountLimitSetting> result = accountLimitSettingCache.findByAccountId(accountId);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(accountLimitSettingRepository, times(2)).findByAccountId(accountId);
+    }
+
+    @Test
+    @DisplayName("한도 조회 - 적재 중에 무효화되면 읽어 둔 이전 값을 캐시에 남기지 않는다")
+    void find_by_account_id_evicted_while_loading_not_cached() {
+        // Given
+        given(accountLimitSettingRepository.findByAccountId(accountId)).willAnswer(invocation -> {
+            accountLimitSettingCache.evict(accountId);
+            return Optional.of(new AccountLimitSetting(1L, accountId, 1_000_000L, 3_000_000L, now, now));
+        });
+
+        // When
+        Optional<AccountLimitSetting> loaded = accountLimitSettingCache.findByAccountId(accountId);
+        accountLimitSettingCache.findByAccountId(accountId);
+
+        // Then
+        assertThat(loaded).isPresent();
+        verify(accountLimitSettingRepository, times(2)).findByAccountId(accountId);
+    }
+
+    @Test
+    @DisplayName("한도 무효화 - 커밋 이후에 로컬 캐시를 지우고 다른 노드에 무효화 메시지를 보낸다")
+    void evict_after_commit() {
+        // Given
+        given(accountLimitSettingRepository.findByAccountId(accountId))
+                .willReturn(Optional.of(new AccountLimitSetting(1L, accountId, 1_000_000L, 3_000_000L, now, now)));
+        accountLimitSettingCache.findByAccountId(accountId);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        accountLimitSettingCache.evictAfterCommit(accountId);
+
+        // Then
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(redisTemplate, times(1)).convertAndSend(AccountLimitSettingCache.INVALIDATION_CHANNEL, String.valueOf(accountId));
+
+        accountLimitSettingCache.findByAccountId(accountId);
+        verify(accountLimitSettingRepository, times(2)).findByAccountId(accountId);
+    }
+}
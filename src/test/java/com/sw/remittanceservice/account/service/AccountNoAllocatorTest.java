@@ -0,0 +1,140 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.entity.AccountNoSequence;
+import com.sw.remittanceservice.account.repository.AccountNoSequenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountNoAllocatorTest {
+
+    @Mock
+    private AccountNoSequenceRepository accountNoSequenceRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final AccountNoProperties accountNoProperties = new AccountNoProperties();
+
+    private AccountNoAllocator accountNoAllocator;
+
+    @BeforeEach
+    void setUp() {
+        accountNoAllocator = new AccountNoAllocator(accountNoSequenceRepository, accountNoProperties, transactionManager);
+    }
+
+    @Test
+    @DisplayName("계좌번호 형식 - 13자리 순번 뒤에 Luhn 검증 숫자가 붙는다")
+    void format_appends_luhn_check_digit() {
+        assertThat(AccountNoAllocator.format(1L)).isEqualTo("00000000000018");
+        assertThat(AccountNoAllocator.format(7_992_739_871L)).isEqualTo("00079927398713");
+        assertThat(AccountNoAllocator.isValid("00079927398713")).isTrue();
+    }
+
+    @Test
+    @DisplayName("계좌번호 검증 - 숫자 하나만 틀려도 검증에 실패한다")
+    void is_valid_detects_typo() {
+        String accountNo = AccountNoAllocator.format(1_234_567_890L);
+
+        assertThat(AccountNoAllocator.isValid(accountNo)).isTrue();
+        for (int i = 0; i < AccountNoAllocator.LENGTH; i++) {
+            char original = accountNo.charAt(i);
+            char typo = (char) ('0' + (original - '0' + 1) % 10);
+            assertThat(AccountNoAllocator.isValid(accountNo.substring(0, i) + typo + accountNo.substring(i + 1))).isFalse();
+        }
+        assertThat(AccountNoAllocator.isValid("0000000000001")).isFalse();
+        assertThat(AccountNoAllocator.isValid("0000000000001a")).isFalse();
+        assertThat(AccountNoAllocator.isValid(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("계좌번호 발급 - 구간을 한 번 예약하면 구간 크기만큼 DB 조회 없이 연속된 번호를 발급한다")
+    void allocate_reserves_block_once() {
+        // Given
+        accountNoProperties.setBlockSize(3);
+        AccountNoSequence sequence = new AccountNoSequence(AccountNoAllocator.SEQUENCE_ID, 100L, LocalDateTime.now());
+        given(accountNoSequenceRepository.findLockedByAccountNoSequenceId(AccountNoAllocator.SEQUENCE_ID))
+                .willReturn(Optional.of(sequence));
+
+        // When
+        List<String> accountNos = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            accountNos.add(accountNoAllocator.allocate());
+        }
+
+        // Then
+        assertThat(accountNos).containsExactly(
+                AccountNoAllocator.format(100L),
+                AccountNoAllocator.format(101L),
+                AccountNoAllocator.format(102L),
+                AccountNoAllocator.format(103L)
+        );
+        assertThat(sequence.getNextValue()).isEqualTo(106L);
+        verify(accountNoSequenceRepository, times(2)).findLockedByAccountNoSequenceId(AccountNoAllocator.SEQUENCE_ID);
+        verify(accountNoSequenceRepository, never()).insertIgnore(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("계좌번호 발급 - 시퀀스 행이 없으면 만들고 첫 번호부터 발급한다")
+    void allocate_initializes_sequence() {
+        // Given
+        given(accountNoSequenceRepository.findLockedByAccountNoSequenceId(AccountNoAllocator.SEQUENCE_ID))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(new AccountNoSequence(AccountNoAllocator.SEQUENCE_ID, 1L, LocalDateTime.now())));
+
+        // When
+        String accountNo = accountNoAllocator.allocate();
+
+        // Then
+        assertThat(accountNo).isEqualTo("00000000000018");
+        verify(accountNoSequenceRepository).insertIgnore(eq(AccountNoAllocator.SEQUENCE_ID), eq(1L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("계좌번호 발급 - 여러 스레드가 동시에 발급해도 중복되지 않는다")
+    void allocate_unique_under_concurrency() throws Exception {
+        // Given
+        accountNoProperties.setBlockSize(100);
+        AccountNoSequence sequence = new AccountNoSequence(AccountNoAllocator.SEQUENCE_ID, 1L, LocalDateTime.now());
+        given(accountNoSequenceRepository.findLockedByAccountNoSequenceId(AccountNoAllocator.SEQUENCE_ID))
+                .willReturn(Optional.of(sequence));
+        int threadCount = 8;
+        int perThread = 1_000;
+        Set<String> accountNos = ConcurrentHashMap.newKeySet();
+
+        // When
+        try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+            for (int t = 0; t < threadCount; t++) {
+                executorService.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        accountNos.add(accountNoAllocator.allocate());
+                    }
+                });
+            }
+        }
+
+        // Then
+        assertThat(accountNos).hasSize(threadCount * perThread);
+        assertThat(accountNos).allMatch(AccountNoAllocator::isValid);
+    }
+}
@@ -39,6 +39,7 @@ class AccountServiceIntegrationTest {
         // Then
         assertThat(response).isNotNull();
         assertThat(response.accountNo()).isNotNull();
+        assertThat(AccountNoAllocator.isValid(response.accountNo())).isTrue();
         assertThat(response.balance()).isEqualTo(0L);
         assertThat(response.accountStatus()).isEqualTo(AccountStatus.ACTIVE.name());
         assertThat(response.dailyWithdrawLimit()).isEqualTo(1_000_000L);
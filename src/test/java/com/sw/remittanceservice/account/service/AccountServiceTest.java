@@ -13,7 +13,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -31,9 +33,24 @@ class AccountServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private AccountIdResolver accountIdResolver;
+
     @Mock
     private AccountLimitSettingRepository accountLimitSettingRepository;
 
+    @Mock
+    private AccountLimitSettingCache accountLimitSettingCache;
+
+    @Mock
+    private AccountNoAllocator accountNoAllocator;
+
+    @Mock
+    private TransactionCounter transactionCounter;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
     @InjectMocks
     private AccountService accountService;
 
@@ -44,9 +61,10 @@ class AccountServiceTest {
 
         // Given
         LocalDateTime now = LocalDateTime.of(2025, 12, 30, 0, 0);
+        String accountNo = "00000000000018";
         Account savedAccount = new Account(
                 1L,
-                UUID.randomUUID().toString(),
+                accountNo,
                 0L,
                 AccountStatus.ACTIVE,
                 now,
@@ -61,6 +79,7 @@ class AccountServiceTest {
                 now,
                 now
         );
+        given(accountNoAllocator.allocate()).willReturn(accountNo);
         given(accountRepository.save(any(Account.class)))
                 .willReturn(savedAccount);
 
@@ -77,104 +96,27 @@ class AccountServiceTest {
         assertThat(response.dailyWithdrawLimit()).isEqualTo(1_000_000L);
         assertThat(response.dailyTransferLimit()).isEqualTo(3_000_000L);
 
-        verify(accountRepository, times(1)).save(any(Account.class));
+        assertThat(response.accountNo()).isEqualTo(accountNo);
+        verify(accountRepository, times(1)).save(argThat(account -> accountNo.equals(account.getAccountNo())));
         verify(accountLimitSettingRepository, times(1)).save(any(AccountLimitSetting.class));
+        verify(accountIdResolver, times(1)).register(response.accountNo(), 1L);
     }
 
 
-    @Test
-    @DisplayName("계좌 조회 성공")
-    void read_account_success() {
-
-        // Given
-        Long accountId = 1L;
-        String accountNo = UUID.randomUUID().toString();
-
-        LocalDateTime now = LocalDateTime.of(2025, 12, 30, 0, 0);
-        Account savedAccount = new Account(
-                accountId,
-                accountNo,
-                10_000L,
-                AccountStatus.ACTIVE,
-                now,
-                now
-        );
-
-        AccountLimitSetting savedSetting = new AccountLimitSetting(
-                1L,
-                accountId,
-                1_000_000L,
-                3_000_000L,
-                now,
-                now
-        );
-        given(accountRepository.findByAccountNo(accountNo)).willReturn(Optional.of(savedAccount));
-        given(accountLimitSettingRepository.findByAccountId(accountId)).willReturn(Optional.of(savedSetting));
-
-
-        // When
-        AccountResponse response = accountService.read(accountNo);
-
-        // Then
-        assertThat(response.balance()).isEqualTo(10_000L);
-        assertThat(response.accountStatus()).isEqualTo(AccountStatus.ACTIVE.name());
-        assertThat(response.dailyWithdrawLimit()).isEqualTo(1_000_000L);
-        assertThat(response.dailyTransferLimit()).isEqualTo(3_000_000L);
-
-        verify(accountRepository, times(1)).findByAccountNo(accountNo);
-        verify(accountLimitSettingRepository, times(1)).findByAccountId(accountId);
-    }
-
-    @Test
-    @DisplayName("계좌 조회 실패 - 계좌 없음")
-    void read_account_fail_account_not_found() {
-        // Given
-        String accountNo = UUID.randomUUID().toString();
-        given(accountRepository.findByAccountNo(accountNo)).willReturn(Optional.empty());
-
-
-        // When/Then
-        CoreException e = assertThrows(CoreException.class, () -> accountService.read(accountNo));
-
-        assertThat(e.getErrorType()).isEqualTo(ErrorType.ACCOUNT_NOT_FOUND);
-        verify(accountRepository, times(1)).findByAccountNo(accountNo);
-        verify(accountLimitSettingRepository, never()).findByAccountId(any());
-    }
-
-    @Test
-    @DisplayName("계좌 조회 실패 - 한도 설정 없음")
-    void read_account_fail_limit_setting_not_found() {
-        // Given
-        String accountNo = UUID.randomUUID().toString();
-        Long accountId = 1L;
-
-        Account account = mock(Account.class);
-        given(account.getAccountId()).willReturn(accountId);
-
-        given(accountRepository.findByAccountNo(accountNo)).willReturn(Optional.of(account));
-        given(accountLimitSettingRepository.findByAccountId(accountId)).willReturn(Optional.empty());
-
-        // When/Then
-        CoreException e = assertThrows(CoreException.class, () -> accountService.read(accountNo));
-
-        assertThat(e.getErrorType()).isEqualTo(ErrorType.ACCOUNT_LIMIT_SETTING_NOT_FOUND);
-        verify(accountRepository, times(1)).findByAccountNo(accountNo);
-        verify(accountLimitSettingRepository, times(1)).findByAccountId(accountId);
-    }
-
     @Test
     @DisplayName("계좌 삭제 성공")
     void delete_account_success() {
         // Given
         String accountNo = UUID.randomUUID().toString();
         Account account = mock(Account.class);
-        given(accountRepository.findLockedByAccountNo(accountNo)).willReturn(Optional.of(account));
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(1L));
+        given(accountRepository.findLockedByAccountId(1L)).willReturn(Optional.of(account));
 
         // When
         accountService.delete(accountNo);
 
         // Then
-        verify(accountRepository, times(1)).findLockedByAccountNo(accountNo);
+        verify(accountRepository, times(1)).findLockedByAccountId(any());
         verify(account, times(1)).close();
     }
 
@@ -184,13 +126,13 @@ class AccountServiceTest {
         // Given
         String accountNo = UUID.randomUUID().toString();
         Account account = mock(Account.class);
-        given(accountRepository.findLockedByAccountNo(accountNo)).willReturn(Optional.empty());
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.empty());
 
         // When/Then
         CoreException e = assertThrows(CoreException.class, () -> accountService.delete(accountNo));
         assertThat(e.getErrorType()).isEqualTo(ErrorType.ACCOUNT_NOT_FOUND);
 
-        verify(accountRepository, times(1)).findLockedByAccountNo(accountNo);
+        verify(accountRepository, never()).findLockedByAccountId(any());
         verify(account, never()).close();
     }
 
@@ -210,12 +152,57 @@ class AccountServiceTest {
                 now
         );
 
-        given(accountRepository.findLockedByAccountNo(accountNo)).willReturn(Optional.of(account));
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.findLockedByAccountId(accountId)).willReturn(Optional.of(account));
 
         // When & Then
         CoreException e = assertThrows(CoreException.class, () -> accountService.delete(accountNo));
         assertThat(e.getErrorType()).isEqualTo(ErrorType.ACCOUNT_NOT_ACTIVE);
 
-        verify(accountRepository, times(1)).findLockedByAccountNo(accountNo);
+        verify(accountRepository, times(1)).findLockedByAccountId(any());
+    }
+
+    @Test
+    @DisplayName("한도 변경 성공 - 커밋 이후 한도 캐시를 무효화한다")
+    void change_limit_success() {
+        // Given
+        Long accountId = 1L;
+        String accountNo = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.of(2025, 12, 30, 0, 0);
+        Account account = new Account(accountId, accountNo, 10_000L, AccountStatus.ACTIVE, now, now);
+        AccountLimitSetting setting = new AccountLimitSetting(1L, accountId, 1_000_000L, 3_000_000L, now, now);
+
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.findById(accountId)).willReturn(Optional.of(account));
+        given(accountLimitSettingRepository.findByAccountId(accountId)).willReturn(Optional.of(setting));
+
+        // When
+        accountService.changeLimit(accountNo, 500_000L, 2_000_000L);
+
+        // Then
+        assertThat(setting.getDailyWithdrawLimit()).isEqualTo(500_000L);
+        assertThat(setting.getDailyTransferLimit()).isEqualTo(2_000_000L);
+        verify(accountLimitSettingCache, times(1)).evictAfterCommit(accountId);
+    }
+
+    @Test
+    @DisplayName("한도 변경 실패 - 한도가 0 이하이면 예외 발생")
+    void change_limit_fail_invalid_limit() {
+        // Given
+        Long accountId = 1L;
+        String accountNo = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.of(2025, 12, 30, 0, 0);
+        Account account = new Account(accountId, accountNo, 10_000L, AccountStatus.ACTIVE, now, now);
+        AccountLimitSetting setting = new AccountLimitSetting(1L, accountId, 1_000_000L, 3_000_000L, now, now);
+
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.findById(accountId)).willReturn(Optional.of(account));
+        given(accountLimitSettingRepository.findByAccountId(accountId)).willReturn(Optional.of(setting));
+
+        // When & Then
+        CoreException e = assertThrows(CoreException.class, () -> accountService.changeLimit(accountNo, 0L, 2_000_000L));
+        assertThat(e.getErrorType()).isEqualTo(ErrorType.INVALID_REQUEST);
+
+        verify(accountLimitSettingCache, never()).evictAfterCommit(any());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,174 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.entity.AccountDailyLimitUsage;
+import com.sw.remittanceservice.account.repository.AccountDailyLimitUsageRepository;
+import com.sw.remittanceservice.account.repository.DailyLimitRedisRepository;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import com.sw.remittanceservice.common.id.TsidGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DailyLimitCounterTest {
+
+    @Mock
+    private DailyLimitRedisRepository dailyLimitRedisRepository;
+
+    @Mock
+    private AccountDailyLimitUsageRepository accountDailyLimitUsageRepository;
+
+    @Spy
+    private DailyLimitProperties dailyLimitProperties = new DailyLimitProperties();
+
+    @Mock
+    private TsidGenerator tsidGenerator;
+
+    @InjectMocks
+    private DailyLimitCounter dailyLimitCounter;
+
+    private final Long accountId = 1L;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("한도 누적 - 카운터가 있으면 DB를 조회하지 않는다")
+    void add_withdraw_used_cache_hit() {
+        // Given
+        given(dailyLimitRedisRepository.increment(accountId, LocalDate.now(), DailyLimitRedisRepository.WITHDRAW_FIELD, 10_000L, 100_000L))
+                .willReturn(10_000L);
+
+        // When
+        dailyLimitCounter.addWithdrawUsed(accountId, 10_000L, 100_000L);
+
+        // Then
+        verifyNoInteractions(accountDailyLimitUsageRepository);
+    }
+
+    @Test
+    @DisplayName("한도 누적 - 카운터가 없으면 DB 누적값으로 채운 뒤 다시 누적한다")
+    void add_transfer_used_cache_miss_seeds_from_database() {
+        // Given
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        AccountDailyLimitUsage usage = new AccountDailyLimitUsage(10L, accountId, today, 3_000L, 5_000L, now, now);
+
+        given(dailyLimitRedisRepository.increment(accountId, today, DailyLimitRedisRepository.TRANSFER_FIELD, 10_000L, 100_000L))
+                .willReturn(DailyLimitRedisRepository.CACHE_MISS, 15_000L);
+        given(accountDailyLimitUsageRepository.findByAccountIdAndLimitDate(accountId, today)).willReturn(Optional.of(usage));
+
+        // When
+        dailyLimitCounter.addTransferUsed(accountId, 10_000L, 100_000L);
+
+        // Then
+        verify(dailyLimitRedisRepository).seed(eq(accountId), eq(today), eq(3_000L), eq(5_000L), any(Instant.class));
+        verify(dailyLimitRedisRepository, times(2)).increment(accountId, today, DailyLimitRedisRepository.TRANSFER_FIELD, 10_000L, 100_000L);
+    }
+
+    @Test
+    @DisplayName("한도 누적 실패 - 한도를 넘으면 예외가 발생한다")
+    void add_withdraw_used_limit_exceeded() {
+        // Given
+        given(dailyLimitRedisRepository.increment(accountId, LocalDate.now(), DailyLimitRedisRepository.WITHDRAW_FIELD, 10_000L, 100_000L))
+                .willReturn(DailyLimitRedisRepository.LIMIT_EXCEEDED);
+
+        // When & Then
+        CoreException e = assertThrows(CoreException.class,
+                () -> dailyLimitCounter.addWithdrawUsed(accountId, 10_000L, 100_000L));
+
+        assertThat(e.getErrorType()).isEqualTo(ErrorType.EXCEED_DAILY_WITHDRAW_LIMIT);
+    }
+
+    @Test
+    @DisplayName("롤백 - 누적한 금액만큼 카운터를 되돌린다")
+    void compensate_on_rollback() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        given(dailyLimitRedisRepository.increment(accountId, LocalDate.now(), DailyLimitRedisRepository.WITHDRAW_FIELD, 10_000L, 100_000L))
+                .willReturn(10_000L);
+
+        // When
+        dailyLimitCounter.addWithdrawUsed(accountId, 10_000L, 100_000L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        verify(dailyLimitRedisRepository).decrement(accountId, LocalDate.now(), DailyLimitRedisRepository.WITHDRAW_FIELD, 10_000L);
+    }
+
+    @Test
+    @DisplayName("write-back - 변경된 누적값을 DB에 반영한다")
+    void write_back() {
+        // Given
+        dailyLimitProperties.setStore(DailyLimitStore.REDIS);
+        LocalDateTime now = LocalDateTime.now();
+        AccountDailyLimitUsage usage = new AccountDailyLimitUsage(null, accountId, LocalDate.now(), 10_000L, 0L, now, now);
+
+        given(dailyLimitRedisRepository.popDirtyUsages(anyLong(), anyLong(), anyLong())).willReturn(List.of(usage));
+        given(tsidGenerator.nextId()).willReturn(100L);
+
+        // When
+        dailyLimitCounter.writeBack();
+
+        // Then
+        verify(accountDailyLimitUsageRepository).upsertUsed(100L, accountId, usage.getLimitDate(), 10_000L, 0L, now);
+        verify(dailyLimitRedisRepository).acknowledge(eq(usage), anyLong());
+    }
+
+    @Test
+    @DisplayName("write-back 실패 - 반영하지 못한 항목은 다시 write-back 대상으로 표시한다")
+    void write_back_failure_marks_dirty_again() {
+        // Given
+        dailyLimitProperties.setStore(DailyLimitStore.REDIS);
+        LocalDateTime now = LocalDateTime.now();
+        AccountDailyLimitUsage usage = new AccountDailyLimitUsage(null, accountId, LocalDate.now(), 10_000L, 0L, now, now);
+
+        given(dailyLimitRedisRepository.popDirtyUsages(anyLong(), anyLong(), anyLong())).willReturn(List.of(usage));
+        given(tsidGenerator.nextId()).willReturn(100L);
+        willThrow(new IllegalStateException()).given(accountDailyLimitUsageRepository)
+                .upsertUsed(100L, accountId, usage.getLimitDate(), 10_000L, 0L, now);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> dailyLimitCounter.writeBack());
+        verify(dailyLimitRedisRepository).markDirty(usage);
+        verify(dailyLimitRedisRepository, never()).acknowledge(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("write-back - DB 한도 저장소 모드에서는 아무것도 하지 않는다")
+    void write_back_skipped_in_database_mode() {
+        // When
+        dailyLimitCounter.writeBack();
+
+        // Then
+        verifyNoInteractions(dailyLimitRedisRepository, accountDailyLimitUsageRepository);
+    }
+}
@@ -0,0 +1,146 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.dto.LockContentionEntry;
+import com.sw.remittanceservice.account.dto.LockContentionReport;
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.repository.AccountDailyLimitUsageRepository;
+import com.sw.remittanceservice.account.repository.AccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class LockContentionIntegrationTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountDailyLimitUsageRepository accountDailyLimitUsageRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private LockContentionEndpoint lockContentionEndpoint;
+
+    @Test
+    @DisplayName("락 경합 - 다른 트랜잭션이 잡은 계좌 행을 기다린 시간이 계좌별로 집계돼 엔드포인트에 노출된다")
+    void lock_wait_is_reported() throws Exception {
+        // Given
+        Account account = accountRepository.save(Account.create(UUID.randomUUID().toString()));
+        CountDownLatch locked = new CountDownLatch(1);
+
+        // When
+        try (ExecutorService executorService = Executors.newFixedThreadPool(2)) {
+            Future<?> holder = executorService.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                accountRepository.findLockedByAccountId(account.getAccountId()).orElseThrow();
+                locked.countDown();
+                sleep(300);
+            }));
+            locked.await();
+            transactionTemplate.executeWithoutResult(status -> {
+                accountRepository.findLockedByAccountId(account.getAccountId()).orElseThrow();
+                accountDailyLimitUsageRepository.findLockedByAccountIdAndLimitDate(account.getAccountId(), LocalDate.now());
+            });
+            holder.get();
+        }
+
+        // Then
+        LockContentionReport report = lockContentionEndpoint.report(1_000);
+        LockContentionEntry entry = report.account().stream()
+                .filter(e -> e.accountId().equals(account.getAccountId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(entry.acquisitions()).isEqualTo(2L);
+        assertThat(entry.totalWaitMillis()).isGreaterThanOrEqualTo(200.0);
+        assertThat(report.dailyLimit()).extracting(LockContentionEntry::accountId).contains(account.getAccountId());
+    }
+
+    @Test
+    @DisplayName("락 경합 - 여러 계좌를 한 번에 잠글 때 기다린 시간은 함께 잠근 계좌마다 기록된다")
+    void batch_lock_wait_is_reported_per_account() throws Exception {
+        // Given
+        Account first = accountRepository.save(Account.create(UUID.randomUUID().toString()));
+        Account second = accountRepository.save(Account.create(UUID.randomUUID().toString()));
+        CountDownLatch locked = new CountDownLatch(1);
+
+        // When
+        try (ExecutorService executorService = Executors.newFixedThreadPool(2)) {
+            Future<?> holder = executorService.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                accountRepository.findLockedByAccountId(second.getAccountId()).orElseThrow();
+                locked.countDown();
+                sleep(300);
+            }));
+            locked.await();
+            transactionTemplate.executeWithoutResult(status ->
+                    accountRepository.findAllLockedByAccountIdIn(List.of(first.getAccountId(), second.getAccountId())));
+            holder.get();
+        }
+
+        // Then
+        List<LockContentionEntry> entries = lockContentionEndpoint.report(1_000).account();
+        LockContentionEntry firstEntry = entries.stream()
+                .filter(e -> e.accountId().equals(first.getAccountId()))
+                .findFirst()
+                .orElseThrow();
+        LockContentionEntry secondEntry = entries.stream()
+                .filter(e -> e.accountId().equals(second.getAccountId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(firstEntry.acquisitions()).isEqualTo(1L);
+        assertThat(firstEntry.totalWaitMillis()).isGreaterThanOrEqualTo(200.0);
+        assertThat(secondEntry.acquisitions()).isEqualTo(2L);
+        assertThat(secondEntry.totalWaitMillis()).isGreaterThanOrEqualTo(200.0);
+    }
+
+    @Test
+    @DisplayName("락 경합 - 잠금 조회 없이 조건부 UPDATE 로 행 락을 기다린 시간도 계좌별로 기록된다")
+    void conditional_update_lock_wait_is_reported() throws Exception {
+        // Given
+        Account account = accountRepository.save(Account.create(UUID.randomUUID().toString()));
+        CountDownLatch locked = new CountDownLatch(1);
+
+        // When
+        try (ExecutorService executorService = Executors.newFixedThreadPool(2)) {
+            Future<?> holder = executorService.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                accountRepository.findLockedByAccountId(account.getAccountId()).orElseThrow();
+                locked.countDown();
+                sleep(300);
+            }));
+            locked.await();
+            transactionTemplate.executeWithoutResult(status ->
+                    accountRepository.depositIfActive(account.getAccountId(), 1_000L, LocalDateTime.now()));
+            holder.get();
+        }
+
+        // Then
+        LockContentionEntry entry = lockContentionEndpoint.report(1_000).account().stream()
+                .filter(e -> e.accountId().equals(account.getAccountId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(entry.acquisitions()).isEqualTo(2L);
+        assertThat(entry.totalWaitMillis()).isGreaterThanOrEqualTo(200.0);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.dto.LockContentionEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LockContentionTrackerTest {
+
+    private final LockContentionProperties properties = new LockContentionProperties();
+
+    @Test
+    @DisplayName("락 경합 - 대기 시간 합이 큰 계좌 순으로 상위 N개와 대기 백분위를 반환한다")
+    void top_orders_by_total_wait() {
+        // Given
+        LockContentionTracker tracker = new LockContentionTracker(properties, fixedAt(0));
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            tracker.record(LockResource.ACCOUNT, 1L, Duration.ofMillis(20).toNanos());
+            tracker.record(LockResource.ACCOUNT, 2L, Duration.ofMillis(1).toNanos());
+        }
+        tracker.record(LockResource.ACCOUNT, 3L, Duration.ofMillis(5).toNanos());
+        tracker.record(LockResource.DAILY_LIMIT, 9L, Duration.ofMillis(5).toNanos());
+
+        // Then
+        List<LockContentionEntry> top = tracker.top(LockResource.ACCOUNT, 2);
+        assertThat(top).extracting(LockContentionEntry::accountId).containsExactly(1L, 2L);
+        assertThat(top.get(0).acquisitions()).isEqualTo(100L);
+        assertThat(top.get(0).totalWaitMillis()).isEqualTo(2_000.0);
+        // 20ms = 20,000us 는 [16,384us, 32,768us) 구간
+        assertThat(top.get(0).p99WaitMillis()).isEqualTo(32.768);
+        assertThat(tracker.top(LockResource.DAILY_LIMIT, 10)).extracting(LockContentionEntry::accountId).containsExactly(9L);
+    }
+
+    @Test
+    @DisplayName("락 경합 - 슬라이딩 윈도를 벗어난 구간의 기록은 보고서에서 빠진다")
+    void old_windows_expire() {
+        // Given
+        MutableClock clock = new MutableClock();
+        LockContentionTracker tracker = new LockContentionTracker(properties, clock);
+        long windowMillis = properties.getWindowLength().toMillis();
+
+        tracker.record(LockResource.ACCOUNT, 1L, Duration.ofMillis(10).toNanos());
+        clock.millis = windowMillis * (properties.getWindowCount() - 1);
+        tracker.record(LockResource.ACCOUNT, 2L, Duration.ofMillis(10).toNanos());
+
+        // When
+        List<LockContentionEntry> inWindow = tracker.top(LockResource.ACCOUNT, 10);
+        clock.millis = windowMillis * properties.getWindowCount();
+        List<LockContentionEntry> afterOneWindow = tracker.top(LockResource.ACCOUNT, 10);
+
+        // Then
+        assertThat(inWindow).extracting(LockContentionEntry::accountId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(afterOneWindow).extracting(LockContentionEntry::accountId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("락 경합 - 계좌가 아무리 많아도 추적하는 계좌 수는 용량으로 고정되고 뜨거운 계좌는 남는다")
+    void memory_is_bounded_by_capacity() {
+        // Given
+        properties.setCapacity(64);
+        LockContentionTracker tracker = new LockContentionTracker(properties, fixedAt(0));
+
+        // When
+        for (long accountId = 1; accountId <= 200_000; accountId++) {
+            tracker.record(LockResource.ACCOUNT, accountId, Duration.ofMillis(1).toNanos());
+            if (accountId % 100 == 0) {
+                tracker.record(LockResource.ACCOUNT, 0L, Duration.ofMillis(50).toNanos());
+            }
+        }
+
+        // Then
+        List<LockContentionEntry> all = tracker.top(LockResource.ACCOUNT, Integer.MAX_VALUE);
+        assertThat(all).hasSizeLessThanOrEqualTo(64);
+        assertThat(all.get(0).accountId()).isEqualTo(0L);
+    }
+
+    private static Clock fixedAt(long millis) {
+        return Clock.fixed(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private long millis;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.dto.OutboxMessage;
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.entity.AccountLimitSetting;
+import com.sw.remittanceservice.account.entity.OutboxEvent;
+import com.sw.remittanceservice.account.entity.enums.AccountStatus;
+import com.sw.remittanceservice.account.entity.enums.OutboxEventType;
+import com.sw.remittanceservice.account.repository.AccountLimitSettingRepository;
+import com.sw.remittanceservice.account.repository.AccountRepository;
+import com.sw.remittanceservice.account.repository.OutboxEventRepository;
+import com.sw.remittanceservice.account.repository.TransactionRedisRepository;
+import com.sw.remittanceservice.account.usecase.TransferUseCase;
+import com.sw.remittanceservice.account.usecase.policy.FeeCalculatorFinder;
+import com.sw.remittanceservice.account.usecase.policy.dto.FeeRequest;
+import com.sw.remittanceservice.account.usecase.policy.dto.FeeResponse;
+import com.sw.remittanceservice.account.usecase.policy.dto.enums.FeePolicyType;
+import com.sw.remittanceservice.common.exception.CoreException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 스케줄 릴레이를 끄고 relayBatch()를 직접 호출해 저장 → 발행 → 삭제 흐름을 확인한다.
+ */
+@SpringBootTest(properties = "remittance.outbox.relay-enabled=false")
+@RecordApplicationEvents
+public class OutboxRelayIntegrationTest {
+
+    @Autowired
+    private TransferUseCase transferUseCase;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountLimitSettingRepository accountLimitSettingRepository;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @MockitoBean
+    private TransactionRedisRepository transactionRedisRepository;
+
+    @MockitoBean
+    private FeeCalculatorFinder feeCalculatorFinder;
+
+    private Account from;
+
+    private Account to;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAllInBatch();
+
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        from = accountRepository.save(new Account(null, UUID.randomUUID().toString(), 500_000L, AccountStatus.ACTIVE, now, now));
+        to = accountRepository.save(new Account(null, UUID.randomUUID().toString(), 0L, AccountStatus.ACTIVE, now, now));
+        accountLimitSettingRepository.save(AccountLimitSetting.defaultOf(from.getAccountId()));
+
+        given(transactionRedisRepository.claimOrRead(any(String.class), any(Duration.class))).willReturn(null);
+        given(feeCalculatorFinder.calculate(any(FeeRequest.class)))
+                .willReturn(new FeeResponse(FeePolicyType.DEFAULT, 0.01, 1_000L, LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("아웃박스 - 이체 거래와 함께 출금/입금 이벤트가 저장되고, 릴레이가 발행한 뒤 삭제한다")
+    void transfer_records_outbox_and_relay_publishes() {
+        // Given
+        transferUseCase.execute(from.getAccountNo(), to.getAccountNo(), 100_000L, UUID.randomUUID().toString());
+
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getEventType, OutboxEvent::getAccountId)
+                .containsExactlyInAnyOrder(
+                        tuple(OutboxEventType.TRANSFER_OUT, from.getAccountId()),
+                        tuple(OutboxEventType.TRANSFER_IN, to.getAccountId())
+                );
+
+        // When
+        int relayed = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(relayed).isEqualTo(2);
+        assertThat(applicationEvents.stream(OutboxMessage.class))
+                .extracting(OutboxMessage::eventType)
+                .containsExactlyInAnyOrder(OutboxEventType.TRANSFER_OUT.name(), OutboxEventType.TRANSFER_IN.name());
+        assertThat(outboxEventRepository.count()).isZero();
+        assertThat(outboxRelay.relayBatch()).isZero();
+    }
+
+    @Test
+    @DisplayName("아웃박스 - 이체가 실패해 롤백되면 이벤트도 남지 않는다")
+    void failed_transfer_leaves_no_outbox_event() {
+        // When
+        assertThrows(CoreException.class,
+                () -> transferUseCase.execute(from.getAccountNo(), to.getAccountNo(), 1_000_000L, UUID.randomUUID().toString()));
+
+        // Then
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,147 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.dto.OutboxMessage;
+import com.sw.remittanceservice.account.entity.OutboxEvent;
+import com.sw.remittanceservice.account.entity.enums.OutboxEventType;
+import com.sw.remittanceservice.account.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxEventSink outboxEventSink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final OutboxProperties outboxProperties = new OutboxProperties();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(
+                outboxEventRepository,
+                outboxEventSink,
+                outboxProperties,
+                new TransactionTemplate(transactionManager),
+                meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("릴레이 - 잠근 이벤트를 순서대로 발행한 뒤 삭제하고 지표를 남긴다")
+    void relay_batch_publishes_and_deletes() {
+        // Given
+        List<OutboxEvent> events = List.of(event(1L), event(2L));
+        given(outboxEventRepository.findPendingForUpdateSkipLocked(outboxProperties.getBatchSize())).willReturn(events);
+
+        // When
+        int relayed = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(relayed).isEqualTo(2);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxMessage>> messages = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventSink).publish(messages.capture());
+        assertThat(messages.getValue()).extracting(OutboxMessage::eventId).containsExactly(1L, 2L);
+        verify(outboxEventRepository).deleteAllInBatch(events);
+
+        assertThat(meterRegistry.get("outbox.relay.published").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("outbox.relay.batch.size").summary().totalAmount()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("outbox.relay.lag").timer().count()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("릴레이 - 대기 중인 이벤트가 없으면 발행하지 않는다")
+    void relay_batch_empty() {
+        // Given
+        given(outboxEventRepository.findPendingForUpdateSkipLocked(anyInt())).willReturn(List.of());
+
+        // When
+        int relayed = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(relayed).isZero();
+        verifyNoInteractions(outboxEventSink);
+        verify(outboxEventRepository, never()).deleteAllInBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("릴레이 - 발행에 실패하면 이벤트를 삭제하지 않고 롤백해 다음 주기에 다시 발행한다")
+    void relay_batch_sink_failure_keeps_events() {
+        // Given
+        given(outboxEventRepository.findPendingForUpdateSkipLocked(anyInt())).willReturn(List.of(event(1L)));
+        willThrow(new IllegalStateException("sink down")).given(outboxEventSink).publish(anyList());
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> outboxRelay.relayBatch());
+        verify(outboxEventRepository, never()).deleteAllInBatch(anyList());
+        verify(transactionManager).rollback(any());
+        assertThat(meterRegistry.get("outbox.relay.published").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("릴레이 - 묶음이 가득 차 있으면 최대 묶음 수까지 이어서 발행한다")
+    void relay_drains_full_batches() {
+        // Given
+        outboxProperties.setBatchSize(2);
+        outboxProperties.setMaxBatchesPerRun(3);
+        given(outboxEventRepository.findPendingForUpdateSkipLocked(2))
+                .willReturn(List.of(event(1L), event(2L)))
+                .willReturn(List.of(event(3L), event(4L)))
+                .willReturn(List.of(event(5L)));
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verify(outboxEventSink, times(3)).publish(anyList());
+        assertThat(meterRegistry.get("outbox.relay.published").counter().count()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("릴레이 - 비활성화되어 있으면 이벤트를 조회하지 않는다")
+    void relay_disabled() {
+        // Given
+        outboxProperties.setRelayEnabled(false);
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verifyNoInteractions(outboxEventRepository, outboxEventSink);
+    }
+
+    private OutboxEvent event(Long outboxEventId) {
+        return new OutboxEvent(outboxEventId, OutboxEventType.DEPOSIT, 1L, outboxEventId, "{}", LocalDateTime.now().minusSeconds(1));
+    }
+}
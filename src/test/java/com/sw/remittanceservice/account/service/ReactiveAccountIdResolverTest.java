@@ -0,0 +1,85 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.repository.AccountRepository;
+import com.sw.remittanceservice.account.repository.ReactiveAccountRepository;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveAccountIdResolverTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private ReactiveAccountRepository reactiveAccountRepository;
+
+    private AccountIdResolver accountIdResolver;
+
+    private ReactiveAccountIdResolver reactiveAccountIdResolver;
+
+    @BeforeEach
+    void setUp() {
+        accountIdResolver = new AccountIdResolver(accountRepository, new AccountIdResolverProperties());
+        reactiveAccountIdResolver = new ReactiveAccountIdResolver(accountIdResolver, reactiveAccountRepository);
+    }
+
+    @Test
+    @DisplayName("논블로킹 변환 - 캐시에 있으면 DB를 조회하지 않는다")
+    void resolve_cached_without_db() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        accountIdResolver.register(accountNo, 3L);
+
+        // When & Then
+        StepVerifier.create(reactiveAccountIdResolver.resolve(accountNo))
+                .expectNext(3L)
+                .verifyComplete();
+        verifyNoInteractions(reactiveAccountRepository, accountRepository);
+    }
+
+    @Test
+    @DisplayName("논블로킹 변환 - 캐시에 없으면 R2DBC로 읽어 공용 캐시에 등록하고 JDBC는 사용하지 않는다")
+    void resolve_miss_loads_with_r2dbc_and_registers() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        given(reactiveAccountRepository.findIdByAccountNo(accountNo)).willReturn(Mono.just(7L));
+
+        // When & Then
+        StepVerifier.create(reactiveAccountIdResolver.resolve(accountNo))
+                .expectNext(7L)
+                .verifyComplete();
+        StepVerifier.create(reactiveAccountIdResolver.resolve(accountNo))
+                .expectNext(7L)
+                .verifyComplete();
+
+        verify(reactiveAccountRepository, times(1)).findIdByAccountNo(accountNo);
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    @DisplayName("논블로킹 변환 실패 - 없는 계좌번호면 ACCOUNT_NOT_FOUND")
+    void resolve_not_found() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        given(reactiveAccountRepository.findIdByAccountNo(accountNo)).willReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(reactiveAccountIdResolver.resolve(accountNo))
+                .expectErrorMatches(e -> e instanceof CoreException core && core.getErrorType() == ErrorType.ACCOUNT_NOT_FOUND)
+                .verify();
+    }
+}
@@ -0,0 +1,93 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.dto.AccountResponse;
+import com.sw.remittanceservice.account.entity.enums.AccountStatus;
+import com.sw.remittanceservice.account.repository.ReactiveAccountRepository;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveAccountServiceTest {
+
+    @Mock
+    private ReactiveAccountRepository reactiveAccountRepository;
+
+    @Mock
+    private ReactiveAccountIdResolver reactiveAccountIdResolver;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private ReactiveAccountService reactiveAccountService;
+
+    @Test
+    @DisplayName("계좌 조회 성공")
+    void read_account_success() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        given(reactiveAccountIdResolver.resolve(accountNo)).willReturn(Mono.just(1L));
+        given(reactiveAccountRepository.findResponseByAccountId(1L)).willReturn(Mono.just(
+                new AccountResponse(accountNo, 10_000L, AccountStatus.ACTIVE.name(), 1_000_000L, 3_000_000L)
+        ));
+
+        // When
+        AccountResponse response = reactiveAccountService.read(accountNo).block();
+
+        // Then
+        assertThat(response.balance()).isEqualTo(10_000L);
+        assertThat(response.accountStatus()).isEqualTo(AccountStatus.ACTIVE.name());
+        assertThat(response.dailyWithdrawLimit()).isEqualTo(1_000_000L);
+        assertThat(response.dailyTransferLimit()).isEqualTo(3_000_000L);
+        assertThat(meterRegistry.get("remittance.account.read").tag("phase", "query").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("계좌 조회 실패 - 계좌 없음")
+    void read_account_fail_account_not_found() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        given(reactiveAccountIdResolver.resolve(accountNo)).willReturn(Mono.error(new CoreException(ErrorType.ACCOUNT_NOT_FOUND, accountNo)));
+
+        // When & Then
+        StepVerifier.create(reactiveAccountService.read(accountNo))
+                .expectErrorMatches(e -> e instanceof CoreException coreException && coreException.getErrorType() == ErrorType.ACCOUNT_NOT_FOUND)
+                .verify();
+        verify(reactiveAccountRepository, never()).findResponseByAccountId(any());
+    }
+
+    @Test
+    @DisplayName("계좌 조회 실패 - 한도 설정 없음")
+    void read_account_fail_limit_setting_not_found() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        given(reactiveAccountIdResolver.resolve(accountNo)).willReturn(Mono.just(1L));
+        given(reactiveAccountRepository.findResponseByAccountId(1L)).willReturn(Mono.just(
+                new AccountResponse(accountNo, 10_000L, AccountStatus.ACTIVE.name(), null, null)
+        ));
+
+        // When & Then
+        StepVerifier.create(reactiveAccountService.read(accountNo))
+                .expectErrorMatches(e -> e instanceof CoreException coreException && coreException.getErrorType() == ErrorType.ACCOUNT_LIMIT_SETTING_NOT_FOUND)
+                .verify();
+    }
+}
@@ -0,0 +1,126 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.dto.AccountResponse;
+import com.sw.remittanceservice.account.dto.TransactionPageResponse;
+import com.sw.remittanceservice.account.dto.TransactionResponse;
+import com.sw.remittanceservice.account.dto.TransactionScrollResponse;
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.entity.AccountLimitSetting;
+import com.sw.remittanceservice.account.entity.Transaction;
+import com.sw.remittanceservice.account.entity.enums.TransactionStatus;
+import com.sw.remittanceservice.account.entity.enums.TransactionType;
+import com.sw.remittanceservice.account.repository.AccountLimitSettingRepository;
+import com.sw.remittanceservice.account.repository.AccountRepository;
+import com.sw.remittanceservice.account.repository.TransactionRepository;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * R2DBC는 JPA 트랜잭션과 다른 커넥션을 사용하므로 테스트 데이터는 커밋된 상태여야 한다. (@Transactional 미사용)
+ */
+@SpringBootTest
+public class ReactiveTransactionServiceIntegrationTest {
+
+    @Autowired
+    private ReactiveTransactionService reactiveTransactionService;
+
+    @Autowired
+    private ReactiveAccountService reactiveAccountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountLimitSettingRepository accountLimitSettingRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    @DisplayName("논블로킹 계좌 조회 - 잔액과 한도를 한 번에 조회한다.")
+    void read_account_success_integration() {
+        // Given
+        Account account = accountRepository.save(Account.create(UUID.randomUUID().toString()));
+        accountLimitSettingRepository.save(AccountLimitSetting.defaultOf(account.getAccountId()));
+
+        // When
+        AccountResponse response = reactiveAccountService.read(account.getAccountNo()).block();
+
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(response.accountNo()).isEqualTo(account.getAccountNo());
+        assertThat(response.balance()).isEqualTo(0L);
+        assertThat(response.accountStatus()).isEqualTo("ACTIVE");
+        assertThat(response.dailyWithdrawLimit()).isEqualTo(1_000_000L);
+        assertThat(response.dailyTransferLimit()).isEqualTo(3_000_000L);
+    }
+
+    @Test
+    @DisplayName("논블로킹 계좌 조회 실패 - 없는 계좌번호면 ACCOUNT_NOT_FOUND")
+    void read_account_not_found_integration() {
+        // When & Then
+        CoreException e = assertThrows(CoreException.class,
+                () -> reactiveAccountService.read(UUID.randomUUID().toString()).block());
+        assertThat(e.getErrorType()).isEqualTo(ErrorType.ACCOUNT_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("논블로킹 거래 내역 조회 - 페이지 단위 조회와 무한 스크롤 결과가 블로킹 조회와 같다.")
+    void read_transactions_success_integration() {
+        // Given
+        Account account = accountRepository.save(Account.create(UUID.randomUUID().toString()));
+        LocalDateTime sameCreatedAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        for (int i = 0; i < 15; i++) {
+            transactionRepository.save(new Transaction(
+                    null,
+                    account.getAccountId(),
+                    "tx-" + i,
+                    TransactionType.DEPOSIT,
+                    TransactionStatus.SUCCESS,
+                    10_000L + i,
+                    null,
+                    0L,
+                    null,
+                    null,
+                    null,
+                    10_000L + i,
+                    sameCreatedAt.plusSeconds(i % 3)
+            ));
+        }
+
+        // When
+        TransactionPageResponse page = reactiveTransactionService.readAll(account.getAccountNo(), 1L, 10L).block();
+
+        List<TransactionResponse> scrolled = new ArrayList<>();
+        String cursor = null;
+        int pageCount = 0;
+        do {
+            TransactionScrollResponse response = reactiveTransactionService.readAllInfiniteScroll(account.getAccountNo(), cursor, 4L).block();
+            scrolled.addAll(response.transactions());
+            cursor = response.nextCursor();
+            pageCount++;
+        } while (cursor != null);
+
+        // Then
+        assertThat(page.transactionCount()).isEqualTo(15L);
+        assertThat(page.transactions()).hasSize(10);
+        assertThat(page.transactions().get(0).createdAt()).isAfterOrEqualTo(page.transactions().get(9).createdAt());
+
+        assertThat(pageCount).isEqualTo(4);
+        assertThat(scrolled).hasSize(15);
+        assertThat(scrolled).extracting(TransactionResponse::amount).doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,170 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.dto.TransactionCursor;
+import com.sw.remittanceservice.account.dto.TransactionPageResponse;
+import com.sw.remittanceservice.account.dto.TransactionResponse;
+import com.sw.remittanceservice.account.dto.TransactionScrollResponse;
+import com.sw.remittanceservice.account.entity.Transaction;
+import com.sw.remittanceservice.account.entity.enums.TransactionStatus;
+import com.sw.remittanceservice.account.entity.enums.TransactionType;
+import com.sw.remittanceservice.account.repository.ReactiveTransactionRepository;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTransactionServiceTest {
+
+    @Mock
+    private ReactiveTransactionRepository reactiveTransactionRepository;
+
+    @Mock
+    private ReactiveAccountIdResolver reactiveAccountIdResolver;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private ReactiveTransactionService reactiveTransactionService;
+
+    @Test
+    @DisplayName("거래 내역 조회 - 계좌번호로 거래내역을 페이지 단위로 조회하고, 카운터가 없으면 범위 제한 count 로 건수를 센다.")
+    void readAll_success() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        Long accountId = 1L;
+        Long countLimit = PageLimitCalculator.calculatePageLimit(1L, 10L, 10L);
+
+        given(reactiveAccountIdResolver.resolve(accountNo)).willReturn(Mono.just(accountId));
+        given(reactiveTransactionRepository.findAllByAccountId(accountId, 0L, 10L))
+                .willReturn(Flux.just(transaction(101L, accountId, LocalDateTime.now()), transaction(100L, accountId, LocalDateTime.now())));
+        given(reactiveTransactionRepository.countMaintained(accountId)).willReturn(Mono.empty());
+        given(reactiveTransactionRepository.count(accountId, countLimit)).willReturn(Mono.just(2L));
+
+        // When
+        TransactionPageResponse response = reactiveTransactionService.readAll(accountNo, 1L, 10L).block();
+
+        // Then
+        assertThat(response.transactionCount()).isEqualTo(2L);
+        assertThat(response.transactions()).hasSize(2);
+        TransactionResponse first = response.transactions().get(0);
+        assertThat(first.transactionType()).isEqualTo(TransactionType.DEPOSIT.toString());
+        assertThat(first.amount()).isEqualTo(10_000L);
+        assertThat(meterRegistry.get("remittance.transaction.count.source").tag("source", "fallback").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("remittance.transaction.read").tag("mode", "page").tag("phase", "query").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 - 유지 중인 거래 건수 카운터가 있으면 건수 조회 쿼리를 실행하지 않는다.")
+    void readAll_uses_maintained_count() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        Long accountId = 1L;
+
+        given(reactiveAccountIdResolver.resolve(accountNo)).willReturn(Mono.just(accountId));
+        given(reactiveTransactionRepository.findAllByAccountId(accountId, 0L, 10L)).willReturn(Flux.just(transaction(101L, accountId, LocalDateTime.now())));
+        given(reactiveTransactionRepository.countMaintained(accountId)).willReturn(Mono.just(12_345L));
+
+        // When
+        TransactionPageResponse response = reactiveTransactionService.readAll(accountNo, 1L, 10L).block();
+
+        // Then
+        assertThat(response.transactionCount()).isEqualTo(12_345L);
+        verify(reactiveTransactionRepository, never()).count(anyLong(), anyLong());
+        assertThat(meterRegistry.get("remittance.transaction.count.source").tag("source", "maintained").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("거래 내역 무한 스크롤 - 다음 데이터가 있으면 마지막 거래 기준 커서를 반환한다.")
+    void readAllInfiniteScroll_has_next() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        Long accountId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        given(reactiveAccountIdResolver.resolve(accountNo)).willReturn(Mono.just(accountId));
+        given(reactiveTransactionRepository.findAllInfiniteScroll(accountId, 3L)).willReturn(Flux.just(
+                transaction(103L, accountId, createdAt),
+                transaction(102L, accountId, createdAt),
+                transaction(101L, accountId, createdAt)
+        ));
+
+        // When
+        TransactionScrollResponse response = reactiveTransactionService.readAllInfiniteScroll(accountNo, null, 2L).block();
+
+        // Then
+        assertThat(response.transactions()).hasSize(2);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(TransactionCursor.decode(response.nextCursor())).isEqualTo(new TransactionCursor(createdAt, 102L));
+        assertThat(meterRegistry.get("remittance.transaction.read").tag("mode", "scroll").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("거래 내역 무한 스크롤 - 커서가 있으면 커서 이후 데이터를 조회하고 마지막 페이지에는 커서가 없다.")
+    void readAllInfiniteScroll_with_cursor_last_page() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        Long accountId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+        String cursor = new TransactionCursor(createdAt, 102L).encode();
+
+        given(reactiveAccountIdResolver.resolve(accountNo)).willReturn(Mono.just(accountId));
+        given(reactiveTransactionRepository.findAllInfiniteScroll(accountId, createdAt, 102L, 3L))
+                .willReturn(Flux.just(transaction(101L, accountId, createdAt)));
+
+        // When
+        TransactionScrollResponse response = reactiveTransactionService.readAllInfiniteScroll(accountNo, cursor, 2L).block();
+
+        // Then
+        assertThat(response.transactions()).hasSize(1);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("거래 내역 무한 스크롤 - 해석할 수 없는 커서는 INVALID_REQUEST")
+    void readAllInfiniteScroll_invalid_cursor() {
+        // When & Then
+        StepVerifier.create(reactiveTransactionService.readAllInfiniteScroll(UUID.randomUUID().toString(), "not-a-cursor", 10L))
+                .expectErrorMatches(e -> e instanceof CoreException coreException && coreException.getErrorType() == ErrorType.INVALID_REQUEST)
+                .verify();
+    }
+
+    private Transaction transaction(Long transactionId, Long accountId, LocalDateTime createdAt) {
+        return new Transaction(
+                transactionId,
+                accountId,
+                "tx-" + transactionId,
+                TransactionType.DEPOSIT,
+                TransactionStatus.SUCCESS,
+                10_000L,
+                null,
+                0L,
+                null,
+                null,
+                null,
+                10_000L,
+                createdAt
+        );
+    }
+}
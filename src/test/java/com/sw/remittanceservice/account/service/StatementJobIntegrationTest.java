@@ -0,0 +1,237 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.dto.StatementProgressResponse;
+import com.sw.remittanceservice.account.dto.StatementRunResponse;
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.entity.Transaction;
+import com.sw.remittanceservice.account.entity.enums.TransactionStatus;
+import com.sw.remittanceservice.account.entity.enums.TransactionType;
+import com.sw.remittanceservice.account.repository.AccountRepository;
+import com.sw.remittanceservice.account.repository.StatementRepository;
+import com.sw.remittanceservice.account.repository.TransactionRepository;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(properties = {
+        "remittance.statement.output-dir=build/statements-test",
+        "remittance.statement.partition-count=4",
+        "remittance.statement.account-page-size=2",
+        "remittance.statement.transaction-page-size=2",
+        "remittance.statement.checkpoint-interval=1"
+})
+public class StatementJobIntegrationTest {
+
+    private static final Path OUTPUT_DIR = Path.of("build/statements-test");
+
+    @Autowired
+    private StatementJob statementJob;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @MockitoSpyBean
+    private StatementRepository statementRepository;
+
+    @Test
+    @DisplayName("월별 명세서 - 기초/기말 잔액과 거래 유형별 건수/금액, 수수료 합계를 계좌마다 한 줄씩 쓴다")
+    void run_writes_statement_per_account() throws Exception {
+        // Given
+        YearMonth month = uniqueMonth();
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        Account active = accountRepository.save(Account.create(UUID.randomUUID().toString()));
+        Account idle = accountRepository.save(Account.create(UUID.randomUUID().toString()));
+        transactionRepository.saveAll(List.of(
+                transaction(active, TransactionType.DEPOSIT, 5_000L, 0L, 5_000L, start.minusDays(1)),
+                transaction(active, TransactionType.DEPOSIT, 10_000L, 0L, 15_000L, start),
+                transaction(active, TransactionType.WITHDRAW, 1_000L, 0L, 14_000L, start.plusDays(3)),
+                transaction(active, TransactionType.WITHDRAW, 2_000L, 100L, 11_900L, start.plusDays(3)),
+                transaction(active, TransactionType.DEPOSIT, 7_000L, 0L, 18_900L, month.plusMonths(1).atDay(1).atStartOfDay())
+        ));
+
+        // When
+        StatementRunResponse result = statementJob.run(month);
+
+        // Then
+        assertThat(result.accountCount()).isEqualTo(accountRepository.count());
+        assertThat(result.partitionCount()).isPositive();
+        List<String> lines = statementLines(month);
+        assertThat(lines).contains(
+                active.getAccountNo() + "," + month + ",5000,11900,1,10000,2,3000,0,0,100",
+                idle.getAccountNo() + "," + month + ",0,0,0,0,0,0,0,0,0"
+        );
+    }
+
+    @Test
+    @DisplayName("월별 명세서 - 중간에 실패하면 다시 실행할 때 체크포인트부터 이어 쓰고, 계좌가 중복되거나 빠지지 않는다")
+    void run_resumes_from_checkpoint_after_failure() throws Exception {
+        // Given
+        YearMonth month = uniqueMonth();
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            accounts.add(accountRepository.save(Account.create(UUID.randomUUID().toString())));
+        }
+        long failAccountId = accounts.get(3).getAccountId();
+        AtomicBoolean fail = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (invocation.<Long>getArgument(0) == failAccountId && fail.getAndSet(false)) {
+                throw new IllegalStateException("명세서 생성 실패");
+            }
+            return invocation.callRealMethod();
+        }).when(statementRepository).findTransactions(anyLong(), any(), any(), any(), any(), anyInt());
+
+        // When
+        assertThrows(IllegalStateException.class, () -> statementJob.run(month));
+        StatementRunResponse resumed = statementJob.run(month);
+        StatementRunResponse again = statementJob.run(month);
+
+        // Then
+        long total = accountRepository.count();
+        assertThat(resumed.accountCount()).isPositive().isLessThan(total);
+        assertThat(again.accountCount()).isZero();
+
+        List<String> accountNos = statementLines(month).stream().map(line -> line.substring(0, line.indexOf(','))).toList();
+        assertThat(accountNos).doesNotHaveDuplicates().hasSize((int) total);
+        assertThat(accountNos).containsAll(accounts.stream().map(Account::getAccountNo).toList());
+    }
+
+    @Test
+    @DisplayName("월별 명세서 - 같은 월을 동시에 실행해도 파티션마다 한 실행만 처리해 계좌가 중복되거나 빠지지 않는다")
+    void concurrent_runs_claim_each_partition_once() throws Exception {
+        // Given
+        YearMonth month = uniqueMonth();
+        for (int i = 0; i < 6; i++) {
+            accountRepository.save(Account.create(UUID.randomUUID().toString()));
+        }
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<CompletableFuture<StatementRunResponse>> runs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            runs.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return statementJob.run(month);
+            }));
+        }
+        start.countDown();
+
+        long processed = 0;
+        for (CompletableFuture<StatementRunResponse> run : runs) {
+            try {
+                processed += run.join().accountCount();
+            } catch (CompletionException e) {
+                // 남은 파티션을 모두 다른 실행이 처리하고 있던 실행
+                assertThat(e.getCause()).isInstanceOf(CoreException.class);
+                assertThat(((CoreException) e.getCause()).getErrorType()).isEqualTo(ErrorType.STATEMENT_RUN_IN_PROGRESS);
+            }
+        }
+
+        // Then
+        long total = accountRepository.count();
+        assertThat(processed).isEqualTo(total);
+        List<String> accountNos = statementLines(month).stream().map(line -> line.substring(0, line.indexOf(','))).toList();
+        assertThat(accountNos).doesNotHaveDuplicates().hasSize((int) total);
+    }
+
+    @Test
+    @DisplayName("월별 명세서 - 시작하면 실행 아이디를 바로 반환하고, 진행 상황은 체크포인트로 확인한다")
+    void start_runs_in_background_and_reports_progress() throws Exception {
+        // Given
+        YearMonth month = uniqueMonth();
+        for (int i = 0; i < 3; i++) {
+            accountRepository.save(Account.create(UUID.randomUUID().toString()));
+        }
+        StatementProgressResponse before = statementJob.progress(month);
+
+        // When
+        String runId = statementJob.start(month);
+        StatementProgressResponse progress = statementJob.progress(month);
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!progress.completed() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            progress = statementJob.progress(month);
+        }
+
+        // Then
+        assertThat(runId).isNotBlank();
+        assertThat(before.partitionCount()).isZero();
+        assertThat(before.completed()).isFalse();
+        assertThat(progress.completed()).isTrue();
+        assertThat(progress.completedPartitionCount()).isEqualTo(progress.partitionCount());
+        assertThat(progress.accountCount()).isEqualTo(accountRepository.count());
+        assertThat(progress.runningRunIds()).isEmpty();
+        assertThat(statementLines(month)).hasSize((int) accountRepository.count());
+    }
+
+    /**
+     * 테스트마다 다른 월을 써서 이전 실행의 체크포인트/파일과 섞이지 않게 한다.
+     */
+    private static YearMonth uniqueMonth() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return YearMonth.of(random.nextInt(2100, 2900), random.nextInt(1, 13));
+    }
+
+    private static List<String> statementLines(YearMonth month) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (Stream<Path> files = Files.list(OUTPUT_DIR.resolve(month.toString()))) {
+            for (Path file : files.sorted().toList()) {
+                List<String> fileLines = Files.readAllLines(file);
+                assertThat(fileLines.getFirst()).startsWith("accountNo,statementMonth,");
+                lines.addAll(fileLines.subList(1, fileLines.size()));
+            }
+        }
+        return lines;
+    }
+
+    private static Transaction transaction(Account account, TransactionType type, long amount, long fee, long balanceAfter, LocalDateTime createdAt) {
+        return new Transaction(
+                null,
+                account.getAccountId(),
+                UUID.randomUUID().toString(),
+                type,
+                TransactionStatus.SUCCESS,
+                amount,
+                null,
+                fee,
+                null,
+                null,
+                null,
+                balanceAfter,
+                createdAt
+        );
+    }
+}
@@ -0,0 +1,137 @@
+package com.sw.remittanceservice.account.service;
+
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.entity.Transaction;
+import com.sw.remittanceservice.account.entity.enums.TransactionStatus;
+import com.sw.remittanceservice.account.entity.enums.TransactionType;
+import com.sw.remittanceservice.account.repository.AccountRepository;
+import com.sw.remittanceservice.account.repository.ReactiveTransactionRepository;
+import com.sw.remittanceservice.account.repository.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class TransactionCounterIntegrationTest {
+
+    @Autowired
+    private TransactionCounter transactionCounter;
+
+    @Autowired
+    private ReactiveTransactionService reactiveTransactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ReactiveTransactionRepository reactiveTransactionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("거래 건수 카운터 - 같은 계좌에 동시에 거래가 저장돼도 건수가 정확하고, 미리 만든 스트라이프 행만 갱신한다")
+    void concurrent_increments_are_exact_and_striped() throws Exception {
+        // Given
+        Account account = accountRepository.save(Account.create(UUID.randomUUID().toString()));
+        transactionTemplate.executeWithoutResult(status -> transactionCounter.initialize(account.getAccountId()));
+        int threadCount = 32;
+        int perThread = 20;
+
+        // When
+        try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+            for (int t = 0; t < threadCount; t++) {
+                executorService.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        transactionTemplate.executeWithoutResult(status ->
+                                transactionCounter.increment(transactionRepository.save(transaction(account, LocalDateTime.now()))));
+                    }
+                });
+            }
+        }
+
+        // Then
+        assertThat(transactionCounter.count(account.getAccountId())).hasValue((long) threadCount * perThread);
+        assertThat(transactionRepository.countByAccountId(account.getAccountId())).isEqualTo((long) threadCount * perThread);
+        Integer stripes = jdbcTemplate.queryForObject(
+                "select count(*) from account_transaction_count where account_id = ?", Integer.class, account.getAccountId()
+        );
+        assertThat(stripes).isEqualTo(new TransactionCountProperties().getStripeCount());
+    }
+
+    @Test
+    @DisplayName("거래 건수 카운터 - 거래 저장이 롤백되면 건수도 늘지 않는다")
+    void increment_rolls_back_with_transaction() {
+        // Given
+        Account account = accountRepository.save(Account.create(UUID.randomUUID().toString()));
+        transactionTemplate.executeWithoutResult(status ->
+                transactionCounter.incrementAll(transactionRepository.saveAll(List.of(
+                        transaction(account, LocalDateTime.now()),
+                        transaction(account, LocalDateTime.now())
+                ))));
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            transactionCounter.increment(transactionRepository.save(transaction(account, LocalDateTime.now())));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(transactionCounter.count(account.getAccountId())).hasValue(2L);
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 - 카운터가 있으면 이동 가능한 페이지 범위가 아니라 전체 건수를 응답한다")
+    void readAll_returns_maintained_count() {
+        // Given
+        Account account = accountRepository.save(Account.create(UUID.randomUUID().toString()));
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        for (int i = 0; i < 120; i++) {
+            int seq = i;
+            transactionTemplate.executeWithoutResult(status ->
+                    transactionCounter.increment(transactionRepository.save(transaction(account, base.plusSeconds(seq)))));
+        }
+
+        // When
+        long maintained = reactiveTransactionService.readAll(account.getAccountNo(), 1L, 10L).block().transactionCount();
+
+        // Then
+        assertThat(maintained).isEqualTo(120L);
+        assertThat(reactiveTransactionRepository.count(account.getAccountId(), PageLimitCalculator.calculatePageLimit(1L, 10L, 10L)).block()).isEqualTo(101L);
+    }
+
+    private static Transaction transaction(Account account, LocalDateTime createdAt) {
+        return new Transaction(
+                null,
+                account.getAccountId(),
+                UUID.randomUUID().toString(),
+                TransactionType.DEPOSIT,
+                TransactionStatus.SUCCESS,
+                1_000L,
+                null,
+                0L,
+                null,
+                null,
+                null,
+                1_000L,
+                createdAt
+        );
+    }
+}
@@ -0,0 +1,174 @@
+package com.sw.remittanceservice.account.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.entity.Transaction;
+import com.sw.remittanceservice.account.entity.enums.TransactionStatus;
+import com.sw.remittanceservice.account.entity.enums.TransactionType;
+import com.sw.remittanceservice.account.repository.AccountRepository;
+import com.sw.remittanceservice.account.repository.TransactionRepository;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+public class TransactionExportServiceIntegrationTest {
+
+    @Autowired
+    private TransactionExportService transactionExportService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionExportProperties transactionExportProperties;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        account = accountRepository.save(Account.create(UUID.randomUUID().toString()));
+        transactionRepository.saveAll(List.of(
+                transaction("before", LocalDateTime.of(2025, 12, 31, 23, 59, 59), null),
+                transaction("first", LocalDateTime.of(2026, 1, 1, 0, 0), null),
+                transaction("second", LocalDateTime.of(2026, 1, 15, 12, 0), "target,\"quoted\""),
+                transaction("last", LocalDateTime.of(2026, 1, 31, 23, 59, 59), null),
+                transaction("after", LocalDateTime.of(2026, 2, 1, 0, 0), null)
+        ));
+    }
+
+    @Test
+    @DisplayName("거래내역 내보내기 - CSV는 헤더와 기간 내 거래를 오래된 순으로 쓰고, 구분자가 든 값은 따옴표로 감싼다")
+    void export_csv_success_integration() throws Exception {
+        // When
+        String body = export(TransactionExportFormat.CSV);
+
+        // Then
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0)).startsWith("transactionId,transactionRequestId,");
+        assertThat(lines.get(1)).contains(",first,DEPOSIT,SUCCESS,10000,").endsWith(",2026-01-01T00:00");
+        assertThat(lines.get(2)).contains(",second,").contains(",\"target,\"\"quoted\"\"\",");
+        assertThat(lines.get(3)).contains(",last,").endsWith(",2026-01-31T23:59:59");
+    }
+
+    @Test
+    @DisplayName("거래내역 내보내기 - NDJSON은 한 줄에 거래 하나씩 쓰고, 아이디는 문자열로 쓴다")
+    void export_ndjson_success_integration() throws Exception {
+        // When
+        String body = export(TransactionExportFormat.NDJSON);
+
+        // Then
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(3);
+
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("transactionId").isTextual()).isTrue();
+        assertThat(first.get("transactionRequestId").asText()).isEqualTo("first");
+        assertThat(first.get("amount").asLong()).isEqualTo(10_000L);
+        assertThat(first.get("feeRate").isNull()).isTrue();
+        assertThat(objectMapper.readTree(lines.get(1)).get("targetAccountNo").asText()).isEqualTo("target,\"quoted\"");
+        assertThat(objectMapper.readTree(lines.get(2)).get("transactionRequestId").asText()).isEqualTo("last");
+    }
+
+    @Test
+    @DisplayName("거래내역 내보내기 실패 - 시작일이 종료일보다 늦거나 기간이 너무 길면 INVALID_REQUEST")
+    void export_fail_invalid_range() {
+        // When & Then
+        CoreException reversed = assertThrows(CoreException.class, () -> transactionExportService.prepare(
+                account.getAccountNo(), LocalDate.of(2026, 2, 1), LocalDate.of(2026, 1, 1), TransactionExportFormat.CSV
+        ));
+        CoreException tooLong = assertThrows(CoreException.class, () -> transactionExportService.prepare(
+                account.getAccountNo(), LocalDate.of(2020, 1, 1), LocalDate.of(2026, 1, 1), TransactionExportFormat.CSV
+        ));
+        assertThat(reversed.getErrorType()).isEqualTo(ErrorType.INVALID_REQUEST);
+        assertThat(tooLong.getErrorType()).isEqualTo(ErrorType.INVALID_REQUEST);
+    }
+
+    @Test
+    @DisplayName("거래내역 내보내기 실패 - 없는 계좌면 ACCOUNT_NOT_FOUND")
+    void export_fail_account_not_found() {
+        // When & Then
+        CoreException e = assertThrows(CoreException.class, () -> transactionExportService.prepare(
+                UUID.randomUUID().toString(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), TransactionExportFormat.CSV
+        ));
+        assertThat(e.getErrorType()).isEqualTo(ErrorType.ACCOUNT_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("거래내역 내보내기 - 실행하지 못하고 끝난 작업도 자리를 반납하고, 반납한 작업은 실행하지 않는다")
+    void export_release_without_running() {
+        // Given
+        List<TransactionExportService.Export> prepared = new ArrayList<>();
+        for (int i = 0; i < transactionExportProperties.getMaxConcurrent(); i++) {
+            prepared.add(prepare());
+        }
+        CoreException exceeded = assertThrows(CoreException.class, this::prepare);
+
+        // When
+        prepared.forEach(TransactionExportService.Export::release);
+        prepared.forEach(TransactionExportService.Export::release);
+
+        // Then
+        assertThat(exceeded.getErrorType()).isEqualTo(ErrorType.EXPORT_CONCURRENCY_EXCEEDED);
+        assertThrows(IllegalStateException.class, () -> prepared.getFirst().writeTo(new ByteArrayOutputStream()));
+
+        List<TransactionExportService.Export> again = new ArrayList<>();
+        for (int i = 0; i < transactionExportProperties.getMaxConcurrent(); i++) {
+            again.add(prepare());
+        }
+        assertThrows(CoreException.class, this::prepare);
+        again.forEach(TransactionExportService.Export::release);
+    }
+
+    private TransactionExportService.Export prepare() {
+        return transactionExportService.prepare(account.getAccountNo(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), TransactionExportFormat.CSV);
+    }
+
+    private String export(TransactionExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transactionExportService.prepare(account.getAccountNo(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), format)
+                .writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private Transaction transaction(String transactionRequestId, LocalDateTime createdAt, String targetAccountNo) {
+        return new Transaction(
+                null,
+                account.getAccountId(),
+                transactionRequestId,
+                TransactionType.DEPOSIT,
+                TransactionStatus.SUCCESS,
+                10_000L,
+                null,
+                0L,
+                null,
+                null,
+                targetAccountNo,
+                10_000L,
+                createdAt
+        );
+    }
+}
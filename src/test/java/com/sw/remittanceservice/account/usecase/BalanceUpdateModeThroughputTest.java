@@ -0,0 +1,115 @@
+package com.sw.remittanceservice.account.usecase;
+
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.entity.AccountLimitSetting;
+import com.sw.remittanceservice.account.entity.enums.AccountStatus;
+import com.sw.remittanceservice.account.repository.AccountLimitSettingRepository;
+import com.sw.remittanceservice.account.repository.AccountRepository;
+import com.sw.remittanceservice.account.repository.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("load")
+@SpringBootTest
+public class BalanceUpdateModeThroughputTest {
+
+    @Autowired
+    private WithdrawUseCase withdrawUseCase;
+
+    @Autowired
+    private DepositUseCase depositUseCase;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountLimitSettingRepository accountLimitSettingRepository;
+
+    @Autowired
+    private TransactionRepository accountTransactionRepository;
+
+    @Autowired
+    private BalanceUpdateProperties balanceUpdateProperties;
+
+    @AfterEach
+    void tearDown() {
+        balanceUpdateProperties.setWithdraw(BalanceUpdateMode.PESSIMISTIC);
+        balanceUpdateProperties.setDeposit(BalanceUpdateMode.PESSIMISTIC);
+    }
+
+    @ParameterizedTest(name = "mode={0}")
+    @EnumSource(BalanceUpdateMode.class)
+    @DisplayName("동시성: 잔액 갱신 방식별 동일 계좌 입출금 처리량을 비교하고 잔액은 정확하다")
+    void concurrent_withdraw_deposit_tps_by_mode(BalanceUpdateMode mode) throws Exception {
+        balanceUpdateProperties.setWithdraw(mode);
+        balanceUpdateProperties.setDeposit(mode);
+
+        int threadCount = 32;
+        int requestCount = 2_000;
+        long amount = 1_000L;
+        long initialBalance = 1_000_000L;
+
+        LocalDateTime now = LocalDateTime.now();
+        Account saved = accountRepository.save(
+                new Account(null, UUID.randomUUID().toString(), initialBalance, AccountStatus.ACTIVE, now, now)
+        );
+        accountLimitSettingRepository.save(
+                new AccountLimitSetting(null, saved.getAccountId(), 100_000_000L, 100_000_000L, now, now)
+        );
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < requestCount; i++) {
+            boolean withdraw = i % 2 == 0;
+            executorService.submit(() -> {
+                try {
+                    if (withdraw) {
+                        withdrawUseCase.execute(saved.getAccountNo(), amount, UUID.randomUUID().toString());
+                    } else {
+                        depositUseCase.execute(saved.getAccountNo(), amount, UUID.randomUUID().toString());
+                    }
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    System.err.println("Balance update failed: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executorService.shutdown();
+
+        Account result = accountRepository.findById(saved.getAccountId()).orElseThrow();
+
+        assertThat(successCount.get()).isEqualTo(requestCount);
+        assertThat(result.getBalance()).isEqualTo(initialBalance);
+        assertThat(accountTransactionRepository.countByAccountId(saved.getAccountId())).isEqualTo((long) requestCount);
+
+        System.out.println("========================================");
+        System.out.println("[BALANCE_UPDATE_MODE_BENCH]");
+        System.out.println("- mode=" + mode);
+        System.out.println("- threads=" + threadCount);
+        System.out.println("- requests=" + requestCount);
+        System.out.println("- elapsedMs=" + elapsedNanos / 1_000_000);
+        System.out.println("- tps=" + (long) (requestCount / (elapsedNanos / 1_000_000_000.0)));
+        System.out.println("========================================");
+    }
+}
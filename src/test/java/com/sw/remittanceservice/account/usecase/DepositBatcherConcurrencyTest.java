@@ -0,0 +1,82 @@
+package com.sw.remittanceservice.account.usecase;
+
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.entity.AccountLimitSetting;
+import com.sw.remittanceservice.account.entity.enums.AccountStatus;
+import com.sw.remittanceservice.account.repository.AccountLimitSettingRepository;
+import com.sw.remittanceservice.account.repository.AccountRepository;
+import com.sw.remittanceservice.account.repository.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "remittance.deposit.batch.enabled=true",
+        "remittance.deposit.batch.window=5ms",
+        "remittance.deposit.batch.max-size=32"
+})
+public class DepositBatcherConcurrencyTest {
+
+    @Autowired
+    private DepositBatcher depositBatcher;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountLimitSettingRepository accountLimitSettingRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    @DisplayName("동시성: 묶음 입금을 켜고 200건을 동시에 입금해도 잔액과 거래 내역 수가 정확하다")
+    void concurrent_batched_deposit_test() throws Exception {
+        int threadCount = 50;
+        int requestCount = 200;
+        long depositAmount = 1_000L;
+
+        LocalDateTime now = LocalDateTime.now();
+        Account account = accountRepository.save(new Account(null, UUID.randomUUID().toString(), 0L, AccountStatus.ACTIVE, now, now));
+        accountLimitSettingRepository.save(AccountLimitSetting.defaultOf(account.getAccountId()));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    depositBatcher.execute(account.getAccountNo(), depositAmount, UUID.randomUUID().toString());
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    System.err.println("Deposit failed: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        executorService.shutdown();
+
+        Account result = accountRepository.findById(account.getAccountId()).orElseThrow();
+
+        assertThat(successCount.get()).isEqualTo(requestCount);
+        assertThat(result.getBalance()).isEqualTo(requestCount * depositAmount);
+        assertThat(transactionRepository.countByAccountId(account.getAccountId())).isEqualTo(requestCount);
+
+        System.out.println("[DEPOSIT_BATCH] requests=" + requestCount + ", elapsedMs=" + elapsedMs);
+    }
+}
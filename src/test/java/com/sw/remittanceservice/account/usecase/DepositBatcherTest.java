@@ -0,0 +1,159 @@
+package com.sw.remittanceservice.account.usecase;
+
+import com.sw.remittanceservice.account.dto.TransactionResponse;
+import com.sw.remittanceservice.account.entity.Transaction;
+import com.sw.remittanceservice.account.entity.enums.TransactionType;
+import com.sw.remittanceservice.account.usecase.dto.DepositBatchResult;
+import com.sw.remittanceservice.account.usecase.dto.DepositCommand;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepositBatcherTest {
+
+    @Mock
+    private DepositUseCase depositUseCase;
+
+    private DepositBatchProperties properties;
+
+    private DepositBatcher depositBatcher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DepositBatchProperties();
+        properties.setEnabled(true);
+        properties.setWindow(Duration.ofMillis(200));
+        properties.setMaxSize(10);
+        depositBatcher = new DepositBatcher(depositUseCase, properties);
+    }
+
+    @Test
+    @DisplayName("묶음 처리 비활성화 시 단건 입금을 그대로 실행한다")
+    void execute_delegates_when_disabled() {
+        // Given
+        properties.setEnabled(false);
+        String accountNo = UUID.randomUUID().toString();
+        String transactionRequestId = UUID.randomUUID().toString();
+        TransactionResponse expected = TransactionResponse.from(Transaction.create(1L, 1_000L, transactionRequestId, 1_000L, TransactionType.DEPOSIT));
+
+        given(depositUseCase.execute(accountNo, 1_000L, transactionRequestId)).willReturn(expected);
+
+        // When
+        TransactionResponse response = depositBatcher.execute(accountNo, 1_000L, transactionRequestId);
+
+        // Then
+        assertThat(response).isEqualTo(expected);
+        verify(depositUseCase, never()).executeBatch(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 계좌 입금은 한 번의 묶음 실행으로 처리되고 각자 자신의 결과를 받는다")
+    void execute_groups_concurrent_deposits() throws Exception {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        int requestCount = properties.getMaxSize();
+
+        given(depositUseCase.executeBatch(eq(accountNo), anyList())).willAnswer(invocation -> {
+            List<DepositCommand> commands = invocation.getArgument(1);
+            long balance = 0L;
+            List<DepositBatchResult> results = new ArrayList<>();
+            for (DepositCommand command : commands) {
+                balance += command.amount();
+                results.add(DepositBatchResult.success(TransactionResponse.from(
+                        Transaction.create(1L, balance, command.transactionRequestId(), command.amount(), TransactionType.DEPOSIT))));
+            }
+            return results;
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    TransactionResponse response = depositBatcher.execute(accountNo, 1_000L, UUID.randomUUID().toString());
+                    if (response.balanceAfterTransaction() > 0) {
+                        successCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        assertThat(successCount.get()).isEqualTo(requestCount);
+        verify(depositUseCase, times(1)).executeBatch(eq(accountNo), anyList());
+    }
+
+    @Test
+    @DisplayName("묶음 실행이 실패하면 묶음에 속한 요청 모두 같은 예외를 받는다")
+    void execute_propagates_batch_failure() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        properties.setWindow(Duration.ofMillis(1));
+
+        given(depositUseCase.executeBatch(eq(accountNo), anyList()))
+                .willThrow(new CoreException(ErrorType.ACCOUNT_NOT_ACTIVE, accountNo));
+
+        // When & Then
+        CoreException e = assertThrows(CoreException.class,
+                () -> depositBatcher.execute(accountNo, 1_000L, UUID.randomUUID().toString()));
+
+        assertThat(e.getErrorType()).isEqualTo(ErrorType.ACCOUNT_NOT_ACTIVE);
+    }
+
+    @Test
+    @DisplayName("묶음에서 해당 요청만 실패하면 그 요청만 예외를 받는다")
+    void execute_propagates_item_failure() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        properties.setWindow(Duration.ofMillis(1));
+
+        given(depositUseCase.executeBatch(eq(accountNo), anyList()))
+                .willReturn(List.of(DepositBatchResult.failure(ErrorType.DUPLICATE_TRANSACTION_REQUEST_ID)));
+
+        // When & Then
+        CoreException e = assertThrows(CoreException.class,
+                () -> depositBatcher.execute(accountNo, 1_000L, UUID.randomUUID().toString()));
+
+        assertThat(e.getErrorType()).isEqualTo(ErrorType.DUPLICATE_TRANSACTION_REQUEST_ID);
+    }
+
+    @Test
+    @DisplayName("입금 금액이 올바르지 않으면 묶음에 넣지 않고 바로 실패한다")
+    void execute_fail_invalid_amount() {
+        // When & Then
+        CoreException e = assertThrows(CoreException.class,
+                () -> depositBatcher.execute(UUID.randomUUID().toString(), 0L, UUID.randomUUID().toString()));
+
+        assertThat(e.getErrorType()).isEqualTo(ErrorType.INVALID_REQUEST);
+        verifyNoInteractions(depositUseCase);
+    }
+}
@@ -20,12 +20,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 
 @SpringBootTest
@@ -71,7 +74,7 @@ public class DepositUseCaseIntegrationTest {
         );
 
         // Redis 락은 항상 성공했다고 가정
-        given(transactionRedisRepository.tryLock(transactionRequestId, 1)).willReturn(true);
+        given(transactionRedisRepository.claimOrRead(eq(transactionRequestId), any(Duration.class))).willReturn(null);
 
         // When
         TransactionResponse response = depositUseCase.execute(accountNo, amount, transactionRequestId);
@@ -106,7 +109,7 @@ public class DepositUseCaseIntegrationTest {
         Long amount = 10_000L;
         String transactionRequestId = UUID.randomUUID().toString();
 
-        given(transactionRedisRepository.tryLock(transactionRequestId, 1)).willReturn(true);
+        given(transactionRedisRepository.claimOrRead(eq(transactionRequestId), any(Duration.class))).willReturn(null);
 
         // When
         CoreException e = assertThrows(CoreException.class,
@@ -138,7 +141,7 @@ public class DepositUseCaseIntegrationTest {
                 now
         ));
 
-        given(transactionRedisRepository.tryLock(transactionRequestId, 1)).willReturn(true);
+        given(transactionRedisRepository.claimOrRead(eq(transactionRequestId), any(Duration.class))).willReturn(null);
 
         // When & Then
         CoreException e = assertThrows(CoreException.class,
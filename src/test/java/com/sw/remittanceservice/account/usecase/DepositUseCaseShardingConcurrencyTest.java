@@ -0,0 +1,84 @@
+package com.sw.remittanceservice.account.usecase;
+
+import com.sw.remittanceservice.account.dto.AccountResponse;
+import com.sw.remittanceservice.account.service.AccountBalanceSlotService;
+import com.sw.remittanceservice.account.service.AccountService;
+import com.sw.remittanceservice.account.service.ReactiveAccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class DepositUseCaseShardingConcurrencyTest {
+
+    @Autowired
+    private DepositUseCase depositUseCase;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountBalanceSlotService accountBalanceSlotService;
+
+    @Autowired
+    private ReactiveAccountService reactiveAccountService;
+
+    @ParameterizedTest(name = "slotCount={0}")
+    @ValueSource(ints = {0, 1, 4, 16})
+    @DisplayName("동시성: 슬롯 수에 따라 동일 계좌 입금 처리량이 늘어나고 합산 잔액은 정확하다")
+    void concurrent_deposit_tps_by_slot_count(int slotCount) throws Exception {
+        int threadCount = 32;
+        int requestCount = 2_000;
+        long depositAmount = 1_000L;
+
+        String accountNo = accountService.create().accountNo();
+        if (slotCount > 0) {
+            accountBalanceSlotService.enable(accountNo, slotCount);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    depositUseCase.execute(accountNo, depositAmount, UUID.randomUUID().toString());
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    System.err.println("Deposit failed: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executorService.shutdown();
+
+        AccountResponse result = reactiveAccountService.read(accountNo).block();
+
+        assertThat(successCount.get()).isEqualTo(requestCount);
+        assertThat(result.balance()).isEqualTo(requestCount * depositAmount);
+
+        System.out.println("========================================");
+        System.out.println("[DEPOSIT_SHARDING_BENCH]");
+        System.out.println("- slotCount=" + slotCount);
+        System.out.println("- threads=" + threadCount);
+        System.out.println("- requests=" + requestCount);
+        System.out.println("- elapsedMs=" + elapsedNanos / 1_000_000);
+        System.out.println("- tps=" + (long) (requestCount / (elapsedNanos / 1_000_000_000.0)));
+        System.out.println("========================================");
+    }
+}
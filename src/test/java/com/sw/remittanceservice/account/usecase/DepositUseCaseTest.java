@@ -8,7 +8,14 @@ import com.sw.remittanceservice.account.entity.enums.TransactionStatus;
 import com.sw.remittanceservice.account.entity.enums.TransactionType;
 import com.sw.remittanceservice.account.repository.AccountRepository;
 import com.sw.remittanceservice.account.repository.TransactionRepository;
-import com.sw.remittanceservice.account.repository.TransactionRedisRepository;
+import com.sw.remittanceservice.account.service.AccountBalanceSlotService;
+import com.sw.remittanceservice.account.service.AccountIdResolver;
+import com.sw.remittanceservice.account.service.OutboxEventRecorder;
+import com.sw.remittanceservice.account.service.TransactionCounter;
+import com.sw.remittanceservice.account.usecase.dto.DepositBatchResult;
+import com.sw.remittanceservice.account.usecase.dto.DepositCommand;
+import com.sw.remittanceservice.account.usecase.idempotency.TransactionIdempotencyManager;
+import com.sw.remittanceservice.account.usecase.metrics.UseCaseMetrics;
 import com.sw.remittanceservice.common.exception.CoreException;
 import com.sw.remittanceservice.common.exception.ErrorType;
 import org.junit.jupiter.api.DisplayName;
@@ -16,15 +23,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -34,11 +46,32 @@ class DepositUseCaseTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private AccountIdResolver accountIdResolver;
+
     @Mock
     private TransactionRepository accountTransactionRepository;
 
     @Mock
-    private TransactionRedisRepository transactionRedisRepository;
+    private TransactionIdempotencyManager transactionIdempotencyManager;
+
+    @Mock
+    private AccountBalanceSlotService accountBalanceSlotService;
+
+    @Spy
+    private BalanceUpdateProperties balanceUpdateProperties = new BalanceUpdateProperties();
+
+    @Mock
+    private OutboxEventRecorder outboxEventRecorder;
+
+    @Mock
+    private TransactionCounter transactionCounter;
+
+    @Mock
+    private UseCaseMetrics useCaseMetrics;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
 
     @InjectMocks
     private DepositUseCase depositUseCase;
@@ -75,8 +108,8 @@ class DepositUseCaseTest {
 
         Transaction savedTransaction = Transaction.create(savedAccount, transactionRequestId, amount, type);
 
-        given(transactionRedisRepository.tryLock(transactionRequestId, 1)).willReturn(true);
-        given(accountRepository.findLockedByAccountNo(accountNo)).willReturn(Optional.of(lockedAccount));
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.findLockedByAccountId(accountId)).willReturn(Optional.of(lockedAccount));
         given(accountRepository.save(any(Account.class))).willReturn(savedAccount);
         given(accountTransactionRepository.save(any(Transaction.class))).willReturn(savedTransaction);
 
@@ -90,37 +123,54 @@ class DepositUseCaseTest {
     }
 
     @Test
-    @DisplayName("입금 중복 요청 - 레디스에 이미 transactionId 존재")
-    void deposit_idempotent_lock_failed_and_tx_missing_returns_pending() {
+    @DisplayName("입금 중복 요청 - 레디스에 저장된 응답을 DB 조회 없이 반환")
+    void deposit_idempotent_returns_stored_response_without_db() {
         // Given
         String accountNo = UUID.randomUUID().toString();
-        Long accountId = 1L;
         Long amount = 10_000L;
         String transactionRequestId = UUID.randomUUID().toString();
         LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
 
-        Account account = new Account(
-                accountId,
-                accountNo,
-                0L,
-                AccountStatus.ACTIVE,
-                now,
-                now
+        TransactionResponse stored = new TransactionResponse(
+                10_000L, amount, TransactionType.DEPOSIT.name(), TransactionStatus.SUCCESS.name(), null, null, null, now
         );
 
-        given(transactionRedisRepository.tryLock(transactionRequestId, 1)).willReturn(false);
-        given(accountRepository.findByAccountNo(accountNo)).willReturn(Optional.of(account));
-        given(accountTransactionRepository.findByAccountIdAndTransactionRequestId(accountId, transactionRequestId))
-                .willReturn(Optional.empty());
+        given(transactionIdempotencyManager.claimOrGetResponse(eq(transactionRequestId), eq(TransactionResponse.class), any()))
+                .willReturn(Optional.of(stored));
 
         // When
         TransactionResponse response = depositUseCase.execute(accountNo, amount, transactionRequestId);
 
         // Then
-        assertThat(response.transactionStatus()).isEqualTo(TransactionStatus.PENDING.name());
+        assertThat(response).isEqualTo(stored);
 
-        verify(accountTransactionRepository, never()).save(any());
-        verify(accountRepository, never()).save(any());
+        verifyNoInteractions(accountRepository, accountTransactionRepository);
+        verify(transactionIdempotencyManager, never()).complete(any(), any());
+        verify(transactionOperations, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("입금 성공 - 처리 결과를 멱등성 응답으로 저장한다")
+    void deposit_success_completes_idempotent_response() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        Long accountId = 1L;
+        Long amount = 10_000L;
+        String transactionRequestId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        Account lockedAccount = new Account(accountId, accountNo, 0L, AccountStatus.ACTIVE, now, now);
+
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.findLockedByAccountId(accountId)).willReturn(Optional.of(lockedAccount));
+        given(accountRepository.save(any(Account.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(accountTransactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TransactionResponse response = depositUseCase.execute(accountNo, amount, transactionRequestId);
+
+        // Then
+        verify(transactionIdempotencyManager).complete(transactionRequestId, response);
     }
 
     @Test
@@ -131,14 +181,15 @@ class DepositUseCaseTest {
         Long amount = 10_000L;
         String transactionRequestId = UUID.randomUUID().toString();
 
-        given(transactionRedisRepository.tryLock(transactionRequestId, 1)).willReturn(true);
-        given(accountRepository.findLockedByAccountNo(accountNo)).willReturn(Optional.empty());
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.empty());
 
         // When/Then
         CoreException e = assertThrows(CoreException.class,
                 () -> depositUseCase.execute(accountNo, amount, transactionRequestId));
 
         assertThat(e.getErrorType()).isEqualTo(ErrorType.ACCOUNT_NOT_FOUND);
+        verify(transactionIdempotencyManager).abandon(transactionRequestId);
+        verify(transactionIdempotencyManager, never()).complete(any(), any());
     }
 
     @Test
@@ -160,8 +211,8 @@ class DepositUseCaseTest {
                 now
         );
 
-        given(transactionRedisRepository.tryLock(transactionRequestId, 1)).willReturn(true);
-        given(accountRepository.findLockedByAccountNo(accountNo)).willReturn(Optional.of(closedAccount));
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(1L));
+        given(accountRepository.findLockedByAccountId(1L)).willReturn(Optional.of(closedAccount));
 
         // When/Then
         CoreException e = assertThrows(CoreException.class,
@@ -174,4 +225,214 @@ class DepositUseCaseTest {
         verify(accountTransactionRepository, never()).save(any());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("입금 성공 - 분할 계좌는 계좌 행에 공유 락만 잡고 슬롯에 입금한다")
+    void deposit_success_sharded_account() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        Long accountId = 1L;
+        Long amount = 10_000L;
+        String transactionRequestId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        Account shardedAccount = new Account(accountId, accountNo, 5_000L, AccountStatus.ACTIVE, now, now, 4);
+        Transaction savedTransaction = Transaction.create(accountId, null, transactionRequestId, amount, TransactionType.DEPOSIT);
+
+        given(accountBalanceSlotService.isSharded(accountNo)).willReturn(true);
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.findSharedLockedByAccountId(accountId)).willReturn(Optional.of(shardedAccount));
+        given(accountTransactionRepository.save(any(Transaction.class))).willReturn(savedTransaction);
+
+        // When
+        TransactionResponse response = depositUseCase.execute(accountNo, amount, transactionRequestId);
+
+        // Then
+        assertThat(response.transactionStatus()).isEqualTo("SUCCESS");
+        assertThat(response.balanceAfterTransaction()).isNull();
+
+        verify(accountBalanceSlotService).deposit(shardedAccount, amount);
+        verify(accountRepository, never()).findLockedByAccountId(any());
+        verify(accountRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("묶음 입금 - 한 번의 락으로 잔액을 갱신하고 요청별 거래 후 잔액을 반환한다")
+    void executeBatch_success() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        Long accountId = 1L;
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        DepositCommand first = new DepositCommand(1_000L, UUID.randomUUID().toString());
+        DepositCommand second = new DepositCommand(2_000L, UUID.randomUUID().toString());
+        DepositCommand duplicated = new DepositCommand(3_000L, UUID.randomUUID().toString());
+
+        Account lockedAccount = new Account(accountId, accountNo, 10_000L, AccountStatus.ACTIVE, now, now);
+
+        given(transactionIdempotencyManager.claimAllOrGetResponses(
+                eq(List.of(first.transactionRequestId(), duplicated.transactionRequestId(), second.transactionRequestId())),
+                eq(TransactionResponse.class),
+                any()
+        )).willReturn(List.of(
+                Optional.empty(),
+                Optional.of(TransactionResponse.from(Transaction.init(duplicated.transactionRequestId(), duplicated.amount(), TransactionType.DEPOSIT))),
+                Optional.empty()
+        ));
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.findLockedByAccountId(accountId)).willReturn(Optional.of(lockedAccount));
+        given(accountTransactionRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<TransactionResponse> responses = depositUseCase.executeBatch(accountNo, List.of(first, duplicated, second)).stream()
+                .map(DepositBatchResult::response)
+                .toList();
+
+        // Then
+        assertThat(responses).hasSize(3);
+        assertThat(responses.get(0).balanceAfterTransaction()).isEqualTo(11_000L);
+        assertThat(responses.get(1).transactionStatus()).isEqualTo(TransactionStatus.PENDING.name());
+        assertThat(responses.get(2).balanceAfterTransaction()).isEqualTo(13_000L);
+
+        verify(accountRepository, times(1)).findLockedByAccountId(any());
+        verify(accountRepository, times(1)).save(any(Account.class));
+        verify(accountTransactionRepository, never()).save(any());
+        verify(transactionIdempotencyManager, times(2)).complete(any(), any());
+        verify(transactionIdempotencyManager, never()).claimOrGetResponse(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("묶음 입금 - 같은 묶음에서 거래 요청 아이디가 겹치면 첫 건만 처리하고 나머지는 실패로 채운다")
+    void executeBatch_rejects_duplicate_transaction_request_id() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        Long accountId = 1L;
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        String transactionRequestId = UUID.randomUUID().toString();
+        DepositCommand first = new DepositCommand(1_000L, transactionRequestId);
+        DepositCommand repeated = new DepositCommand(2_000L, transactionRequestId);
+
+        Account lockedAccount = new Account(accountId, accountNo, 10_000L, AccountStatus.ACTIVE, now, now);
+
+        given(transactionIdempotencyManager.claimAllOrGetResponses(eq(List.of(transactionRequestId)), eq(TransactionResponse.class), any()))
+                .willReturn(List.of(Optional.empty()));
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.findLockedByAccountId(accountId)).willReturn(Optional.of(lockedAccount));
+        given(accountTransactionRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<DepositBatchResult> results = depositUseCase.executeBatch(accountNo, List.of(first, repeated));
+
+        // Then
+        assertThat(results.get(0).response().balanceAfterTransaction()).isEqualTo(11_000L);
+        assertThat(results.get(1).response()).isNull();
+        assertThat(results.get(1).errorType()).isEqualTo(ErrorType.DUPLICATE_TRANSACTION_REQUEST_ID);
+        verify(transactionIdempotencyManager, times(1)).complete(eq(transactionRequestId), any());
+        verify(transactionIdempotencyManager, never()).abandon(any());
+    }
+
+
+    @Test
+    @DisplayName("입금 성공 - 조건부 갱신 모드는 잠금 조회 없이 UPDATE 한 문장으로 잔액을 더한다")
+    void deposit_conditional_success() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        Long accountId = 1L;
+        Long amount = 10_000L;
+        String transactionRequestId = UUID.randomUUID().toString();
+        balanceUpdateProperties.setDeposit(BalanceUpdateMode.CONDITIONAL);
+
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.depositIfActive(eq(accountId), eq(amount), any(LocalDateTime.class))).willReturn(1);
+        given(accountRepository.findBalanceByAccountId(accountId)).willReturn(Optional.of(60_000L));
+        given(accountTransactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TransactionResponse response = depositUseCase.execute(accountNo, amount, transactionRequestId);
+
+        // Then
+        assertThat(response.balanceAfterTransaction()).isEqualTo(60_000L);
+
+        verify(accountRepository, never()).findLockedByAccountId(any());
+        verify(accountRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("입금 실패 - 조건부 갱신 모드 해지된 계좌")
+    void deposit_conditional_fail_closed_account() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        Long accountId = 1L;
+        Long amount = 10_000L;
+        String transactionRequestId = UUID.randomUUID().toString();
+        balanceUpdateProperties.setDeposit(BalanceUpdateMode.CONDITIONAL);
+
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        Account closedAccount = new Account(accountId, accountNo, 0L, AccountStatus.CLOSED, now, now);
+
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.depositIfActive(eq(accountId), eq(amount), any(LocalDateTime.class))).willReturn(0);
+        given(accountRepository.findLockedByAccountId(accountId)).willReturn(Optional.of(closedAccount));
+
+        // When/Then
+        CoreException e = assertThrows(CoreException.class,
+                () -> depositUseCase.execute(accountNo, amount, transactionRequestId));
+
+        assertThat(e.getErrorType()).isEqualTo(ErrorType.ACCOUNT_NOT_ACTIVE);
+        verify(accountTransactionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("입금 성공 - 분할 여부 스냅샷에 없는 분할 계좌는 락을 잡은 행으로 판단해 슬롯 잔액을 합친 뒤 입금한다")
+    void deposit_stale_snapshot_consolidates_sharded_account() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        Long accountId = 1L;
+        Long amount = 10_000L;
+        String transactionRequestId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        Account shardedAccount = new Account(accountId, accountNo, 5_000L, AccountStatus.ACTIVE, now, now, 4);
+        Account consolidatedAccount = new Account(accountId, accountNo, 25_000L, AccountStatus.ACTIVE, now, now, 4);
+
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.findLockedByAccountId(accountId)).willReturn(Optional.of(shardedAccount));
+        given(accountBalanceSlotService.consolidate(shardedAccount)).willReturn(consolidatedAccount);
+        given(accountRepository.save(any(Account.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(accountTransactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TransactionResponse response = depositUseCase.execute(accountNo, amount, transactionRequestId);
+
+        // Then
+        assertThat(response.balanceAfterTransaction()).isEqualTo(35_000L);
+        verify(accountBalanceSlotService).consolidate(shardedAccount);
+    }
+
+    @Test
+    @DisplayName("입금 성공 - 조건부 갱신 모드에서 분할 계좌는 UPDATE 대상이 아니므로 비관적 락 경로로 처리한다")
+    void deposit_conditional_sharded_account_falls_back_to_pessimistic() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        Long accountId = 1L;
+        Long amount = 10_000L;
+        String transactionRequestId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        balanceUpdateProperties.setDeposit(BalanceUpdateMode.CONDITIONAL);
+
+        Account shardedAccount = new Account(accountId, accountNo, 5_000L, AccountStatus.ACTIVE, now, now, 4);
+        Account consolidatedAccount = new Account(accountId, accountNo, 25_000L, AccountStatus.ACTIVE, now, now, 4);
+
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.depositIfActive(eq(accountId), eq(amount), any(LocalDateTime.class))).willReturn(0);
+        given(accountRepository.findLockedByAccountId(accountId)).willReturn(Optional.of(shardedAccount));
+        given(accountBalanceSlotService.consolidate(shardedAccount)).willReturn(consolidatedAccount);
+        given(accountRepository.save(any(Account.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(accountTransactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TransactionResponse response = depositUseCase.execute(accountNo, amount, transactionRequestId);
+
+        // Then
+        assertThat(response.balanceAfterTransaction()).isEqualTo(35_000L);
+        verify(accountRepository, never()).findBalanceByAccountId(any());
+    }
+}
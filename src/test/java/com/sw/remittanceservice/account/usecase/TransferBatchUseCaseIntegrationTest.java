@@ -0,0 +1,102 @@
+package com.sw.remittanceservice.account.usecase;
+
+import com.sw.remittanceservice.account.dto.TransferBatchItemResponse;
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.entity.AccountDailyLimitUsage;
+import com.sw.remittanceservice.account.entity.AccountLimitSetting;
+import com.sw.remittanceservice.account.entity.enums.AccountStatus;
+import com.sw.remittanceservice.account.repository.*;
+import com.sw.remittanceservice.account.usecase.dto.TransferCommand;
+import com.sw.remittanceservice.account.usecase.policy.FeeCalculatorFinder;
+import com.sw.remittanceservice.account.usecase.policy.dto.FeeRequest;
+import com.sw.remittanceservice.account.usecase.policy.dto.FeeResponse;
+import com.sw.remittanceservice.account.usecase.policy.dto.enums.FeePolicyType;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest
+public class TransferBatchUseCaseIntegrationTest {
+
+    @Autowired
+    private TransferBatchUseCase transferBatchUseCase;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountLimitSettingRepository accountLimitSettingRepository;
+
+    @Autowired
+    private AccountDailyLimitUsageRepository accountDailyLimitUsageRepository;
+
+    @MockitoBean
+    private TransactionRedisRepository transactionRedisRepository;
+
+    @MockitoBean
+    private FeeCalculatorFinder feeCalculatorFinder;
+
+    @Test
+    @DisplayName("묶음 이체 - 성공 건은 잔액/한도/거래가 반영되고, 실패 건은 아무것도 남기지 않는다")
+    void transfer_batch_partial_failure_integration() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        Account a = accountRepository.save(new Account(null, UUID.randomUUID().toString(), 500_000L, AccountStatus.ACTIVE, now, now));
+        Account b = accountRepository.save(new Account(null, UUID.randomUUID().toString(), 10_000L, AccountStatus.ACTIVE, now, now));
+        Account c = accountRepository.save(new Account(null, UUID.randomUUID().toString(), 0L, AccountStatus.ACTIVE, now, now));
+        for (Account account : List.of(a, b, c)) {
+            accountLimitSettingRepository.save(AccountLimitSetting.defaultOf(account.getAccountId()));
+        }
+
+        given(transactionRedisRepository.claimOrReadAll(anyList(), any(Duration.class)))
+                .willAnswer(invocation -> Arrays.asList(new String[invocation.<List<String>>getArgument(0).size()]));
+        given(feeCalculatorFinder.calculate(any(FeeRequest.class)))
+                .willReturn(new FeeResponse(FeePolicyType.DEFAULT, 0.01, 1_000L, LocalDateTime.now()));
+
+        List<TransferCommand> commands = new ArrayList<>();
+        commands.add(new TransferCommand(a.getAccountNo(), c.getAccountNo(), 100_000L, UUID.randomUUID().toString()));
+        commands.add(new TransferCommand(b.getAccountNo(), c.getAccountNo(), 50_000L, UUID.randomUUID().toString())); // 잔액 부족
+        commands.add(new TransferCommand(c.getAccountNo(), b.getAccountNo(), 20_000L, UUID.randomUUID().toString()));
+        commands.add(new TransferCommand(a.getAccountNo(), UUID.randomUUID().toString(), 1_000L, UUID.randomUUID().toString())); // 없는 계좌
+
+        // When
+        List<TransferBatchItemResponse> results = transferBatchUseCase.execute(commands);
+
+        // Then
+        assertThat(results).extracting(TransferBatchItemResponse::success).containsExactly(true, false, true, false);
+        assertThat(results.get(1).errorType()).isEqualTo(ErrorType.INSUFFICIENT_BALANCE.name());
+        assertThat(results.get(3).errorType()).isEqualTo(ErrorType.ACCOUNT_NOT_FOUND.name());
+
+        assertThat(accountRepository.findById(a.getAccountId()).orElseThrow().getBalance()).isEqualTo(500_000L - 100_000L - 1_000L);
+        assertThat(accountRepository.findById(b.getAccountId()).orElseThrow().getBalance()).isEqualTo(10_000L + 20_000L);
+        assertThat(accountRepository.findById(c.getAccountId()).orElseThrow().getBalance()).isEqualTo(100_000L - 20_000L - 1_000L);
+
+        AccountDailyLimitUsage usageOfA = accountDailyLimitUsageRepository
+                .findByAccountIdAndLimitDate(a.getAccountId(), LocalDate.now())
+                .orElseThrow();
+        assertThat(usageOfA.getTransferUsed()).isEqualTo(100_000L);
+
+        assertThat(transactionRepository.findByTransactionRequestId(commands.get(0).transactionRequestId())).hasSize(2);
+        assertThat(transactionRepository.findByTransactionRequestId(commands.get(1).transactionRequestId())).isEmpty();
+        assertThat(transactionRepository.findByTransactionRequestId(commands.get(2).transactionRequestId())).hasSize(2);
+    }
+}
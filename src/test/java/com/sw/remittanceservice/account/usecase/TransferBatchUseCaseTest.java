@@ -0,0 +1,249 @@
+package com.sw.remittanceservice.account.usecase;
+
+import com.sw.remittanceservice.account.dto.TransferBatchItemResponse;
+import com.sw.remittanceservice.account.dto.TransferResponse;
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.entity.AccountDailyLimitUsage;
+import com.sw.remittanceservice.account.entity.AccountLimitSetting;
+import com.sw.remittanceservice.account.entity.Transaction;
+import com.sw.remittanceservice.account.entity.enums.AccountStatus;
+import com.sw.remittanceservice.account.repository.*;
+import com.sw.remittanceservice.account.service.AccountBalanceSlotService;
+import com.sw.remittanceservice.account.service.AccountIdResolver;
+import com.sw.remittanceservice.account.service.AccountLimitSettingCache;
+import com.sw.remittanceservice.account.service.DailyLimitCounter;
+import com.sw.remittanceservice.account.service.DailyLimitProperties;
+import com.sw.remittanceservice.account.service.OutboxEventRecorder;
+import com.sw.remittanceservice.account.service.TransactionCounter;
+import com.sw.remittanceservice.account.usecase.dto.TransferCommand;
+import com.sw.remittanceservice.account.usecase.idempotency.TransactionIdempotencyManager;
+import com.sw.remittanceservice.account.usecase.policy.FeeCalculatorFinder;
+import com.sw.remittanceservice.account.usecase.policy.dto.FeeRequest;
+import com.sw.remittanceservice.account.usecase.policy.dto.FeeResponse;
+import com.sw.remittanceservice.account.usecase.policy.dto.enums.FeePolicyType;
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferBatchUseCaseTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountIdResolver accountIdResolver;
+
+    @Mock
+    private TransactionRepository accountTransactionRepository;
+
+    @Mock
+    private TransactionIdempotencyManager transactionIdempotencyManager;
+
+    @Mock
+    private AccountLimitSettingCache accountLimitSettingCache;
+
+    @Mock
+    private AccountDailyLimitUsageRepository accountDailyLimitUsageRepository;
+
+    @Mock
+    private FeeCalculatorFinder feeCalculatorFinder;
+
+    @Mock
+    private AccountBalanceSlotService accountBalanceSlotService;
+
+    @Mock
+    private DailyLimitCounter dailyLimitCounter;
+
+    @Spy
+    private DailyLimitProperties dailyLimitProperties = new DailyLimitProperties();
+
+    @Spy
+    private TransferBatchProperties transferBatchProperties = new TransferBatchProperties();
+
+    @Mock
+    private OutboxEventRecorder outboxEventRecorder;
+
+    @Mock
+    private TransactionCounter transactionCounter;
+
+    @InjectMocks
+    private TransferBatchUseCase transferBatchUseCase;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final Account first = new Account(1L, "account-1", 0L, AccountStatus.ACTIVE, now, now);
+
+    private final Account second = new Account(2L, "account-2", 5_000L, AccountStatus.ACTIVE, now, now);
+
+    private final Account third = new Account(3L, "account-3", 100_000L, AccountStatus.ACTIVE, now, now);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(feeCalculatorFinder.calculate(any(FeeRequest.class)))
+                .thenReturn(new FeeResponse(FeePolicyType.DEFAULT, 0.0, 0L, now));
+        lenient().when(accountDailyLimitUsageRepository.findLockedByAccountIdAndLimitDate(anyLong(), any(LocalDate.class)))
+                .thenAnswer(invocation -> Optional.of(AccountDailyLimitUsage.init(invocation.getArgument(0), invocation.getArgument(1))));
+        for (Account account : List.of(first, second, third)) {
+            lenient().when(accountIdResolver.resolve(account.getAccountNo())).thenReturn(Optional.of(account.getAccountId()));
+            lenient().when(accountLimitSettingCache.findByAccountId(account.getAccountId()))
+                    .thenReturn(Optional.of(new AccountLimitSetting(null, account.getAccountId(), 1_000_000L, 15_000L, now, now)));
+        }
+    }
+
+    @Test
+    @DisplayName("묶음 이체 - 관련 계좌를 accountId 오름차순으로 한 번에 잠그고, 실패한 건만 실패로 응답한다")
+    void execute_locks_in_order_and_returns_partial_failure() {
+        // Given
+        List<TransferCommand> commands = List.of(
+                new TransferCommand("account-3", "account-1", 10_000L, "tx-1"),
+                new TransferCommand("account-2", "account-1", 10_000L, "tx-2"), // 잔액 5,000 -> 잔액 부족
+                new TransferCommand("account-1", "account-2", 5_000L, "tx-3")   // 첫 건으로 받은 금액에서 출금
+        );
+        given(transactionIdempotencyManager.claimAllOrGetResponses(eq(List.of("tx-1", "tx-2", "tx-3")), eq(TransferResponse.class), any()))
+                .willReturn(List.of(Optional.empty(), Optional.empty(), Optional.empty()));
+        given(accountRepository.findAllLockedByAccountIdIn(List.of(1L, 2L, 3L))).willReturn(List.of(first, second, third));
+
+        // When
+        List<TransferBatchItemResponse> results = transferBatchUseCase.execute(commands);
+
+        // Then
+        assertThat(results).extracting(TransferBatchItemResponse::success).containsExactly(true, false, true);
+        assertThat(results.get(0).transfer().balanceAfterTransaction()).isEqualTo(90_000L);
+        assertThat(results.get(1).errorType()).isEqualTo(ErrorType.INSUFFICIENT_BALANCE.name());
+        assertThat(results.get(2).transfer().balanceAfterTransaction()).isEqualTo(5_000L);
+
+        verify(accountRepository, times(1)).findAllLockedByAccountIdIn(List.of(1L, 2L, 3L));
+        verify(transactionIdempotencyManager).abandon("tx-2");
+        verify(transactionIdempotencyManager).complete(eq("tx-1"), any());
+        verify(transactionIdempotencyManager).complete(eq("tx-3"), any());
+        verify(transactionIdempotencyManager, never()).complete(eq("tx-2"), any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Transaction>> transactions = ArgumentCaptor.forClass(List.class);
+        verify(accountTransactionRepository).saveAll(transactions.capture());
+        assertThat(transactions.getValue()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("묶음 이체 - 같은 출금 계좌의 누적 이체액이 일 한도를 넘는 건만 실패한다")
+    void execute_fails_only_items_over_daily_limit() {
+        // Given
+        List<TransferCommand> commands = List.of(
+                new TransferCommand("account-3", "account-1", 10_000L, "tx-1"),
+                new TransferCommand("account-3", "account-2", 10_000L, "tx-2")
+        );
+        given(transactionIdempotencyManager.claimAllOrGetResponses(anyList(), eq(TransferResponse.class), any()))
+                .willReturn(List.of(Optional.empty(), Optional.empty()));
+        given(accountRepository.findAllLockedByAccountIdIn(List.of(1L, 2L, 3L))).willReturn(List.of(first, second, third));
+
+        // When
+        List<TransferBatchItemResponse> results = transferBatchUseCase.execute(commands);
+
+        // Then
+        assertThat(results.get(0).success()).isTrue();
+        assertThat(results.get(1).errorType()).isEqualTo(ErrorType.EXCEED_DAILY_TRANSFER_LIMIT.name());
+        verify(accountDailyLimitUsageRepository, times(1)).findLockedByAccountIdAndLimitDate(eq(3L), any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("묶음 이체 - 형식이 잘못된 건은 선점하지 않고 실패로 응답한다")
+    void execute_rejects_invalid_items_without_claim() {
+        // Given
+        List<TransferCommand> commands = List.of(
+                new TransferCommand("account-1", "account-1", 1_000L, "tx-same"),
+                new TransferCommand("account-1", "account-2", 0L, "tx-zero"),
+                new TransferCommand("account-3", "account-1", 1_000L, "tx-valid")
+        );
+        given(transactionIdempotencyManager.claimAllOrGetResponses(eq(List.of("tx-valid")), eq(TransferResponse.class), any()))
+                .willReturn(List.of(Optional.empty()));
+        given(accountRepository.findAllLockedByAccountIdIn(List.of(1L, 3L))).willReturn(List.of(first, third));
+
+        // When
+        List<TransferBatchItemResponse> results = transferBatchUseCase.execute(commands);
+
+        // Then
+        assertThat(results.get(0).errorType()).isEqualTo(ErrorType.SAME_ACCOUNT_TRANSFER.name());
+        assertThat(results.get(1).errorType()).isEqualTo(ErrorType.INVALID_REQUEST.name());
+        assertThat(results.get(2).success()).isTrue();
+        verify(transactionIdempotencyManager, never()).abandon(any());
+    }
+
+    @Test
+    @DisplayName("묶음 이체 - 같은 묶음에서 거래 요청 아이디가 겹치면 첫 건만 처리하고 나머지는 실패로 응답한다")
+    void execute_rejects_duplicate_transaction_request_id() {
+        // Given
+        List<TransferCommand> commands = List.of(
+                new TransferCommand("account-3", "account-1", 1_000L, "tx-1"),
+                new TransferCommand("account-3", "account-2", 2_000L, "tx-1")
+        );
+        given(transactionIdempotencyManager.claimAllOrGetResponses(eq(List.of("tx-1")), eq(TransferResponse.class), any()))
+                .willReturn(List.of(Optional.empty()));
+        given(accountRepository.findAllLockedByAccountIdIn(List.of(1L, 3L))).willReturn(List.of(first, third));
+
+        // When
+        List<TransferBatchItemResponse> results = transferBatchUseCase.execute(commands);
+
+        // Then
+        assertThat(results.get(0).success()).isTrue();
+        assertThat(results.get(1).success()).isFalse();
+        assertThat(results.get(1).errorType()).isEqualTo(ErrorType.DUPLICATE_TRANSACTION_REQUEST_ID.name());
+        assertThat(results.get(0).transfer().balanceAfterTransaction()).isEqualTo(99_000L);
+        verify(transactionIdempotencyManager).complete(eq("tx-1"), any());
+        verify(transactionIdempotencyManager, never()).abandon(any());
+    }
+
+    @Test
+    @DisplayName("묶음 이체 중복 요청 - 모두 처리된 요청이면 DB 조회 없이 저장된 응답을 반환한다")
+    void execute_returns_stored_responses_without_db() {
+        // Given
+        TransferResponse stored = new TransferResponse("account-1", 10_000L, 0L, 0.0, 90_000L, "SUCCESS");
+        given(transactionIdempotencyManager.claimAllOrGetResponses(eq(List.of("tx-1")), eq(TransferResponse.class), any()))
+                .willReturn(List.of(Optional.of(stored)));
+
+        // When
+        List<TransferBatchItemResponse> results = transferBatchUseCase.execute(
+                List.of(new TransferCommand("account-3", "account-1", 10_000L, "tx-1"))
+        );
+
+        // Then
+        assertThat(results.get(0).transfer()).isEqualTo(stored);
+        verifyNoInteractions(accountRepository, accountTransactionRepository);
+    }
+
+    @Test
+    @DisplayName("묶음 이체 실패 - 최대 건수를 넘으면 INVALID_REQUEST")
+    void execute_fail_exceeds_max_size() {
+        // Given
+        transferBatchProperties.setMaxSize(1);
+        List<TransferCommand> commands = Collections.nCopies(2, new TransferCommand("account-3", "account-1", 1_000L, "tx"));
+
+        // When & Then
+        CoreException e = assertThrows(CoreException.class, () -> transferBatchUseCase.execute(commands));
+        assertThat(e.getErrorType()).isEqualTo(ErrorType.INVALID_REQUEST);
+        verifyNoInteractions(transactionIdempotencyManager);
+    }
+}
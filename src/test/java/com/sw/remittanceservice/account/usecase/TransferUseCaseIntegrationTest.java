@@ -20,6 +20,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -28,6 +29,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 
 
@@ -92,7 +94,7 @@ public class TransferUseCaseIntegrationTest {
 
         accountLimitSettingRepository.save(AccountLimitSetting.defaultOf(savedFrom.getAccountId()));
 
-        given(transactionRedisRepository.tryLock(txRequestId, 1)).willReturn(true);
+        given(transactionRedisRepository.claimOrRead(eq(txRequestId), any(Duration.class))).willReturn(null);
 
         // 4. 수수료 계산 Mock
         FeeResponse feeResponse = new FeeResponse(FeePolicyType.DEFAULT, feeRate, feeAmount, requestedAt);
@@ -181,7 +183,7 @@ public class TransferUseCaseIntegrationTest {
         usage.addTransferUsed(2_900_000L); // 이미 290만 사용
         accountDailyLimitUsageRepository.save(usage);
 
-        given(transactionRedisRepository.tryLock(txRequestId, 1)).willReturn(true);
+        given(transactionRedisRepository.claimOrRead(eq(txRequestId), any(Duration.class))).willReturn(null);
 
         FeeResponse feeResponse = new FeeResponse(FeePolicyType.DEFAULT, feeRate, feeAmount, requestedAt);
         given(feeCalculatorFinder.calculate(any(FeeRequest.class))).willReturn(feeResponse);
@@ -226,7 +228,7 @@ public class TransferUseCaseIntegrationTest {
                 null, toAccountNo, 10_000L, AccountStatus.ACTIVE, now, now
         ));
 
-        given(transactionRedisRepository.tryLock(txRequestId, 1)).willReturn(true);
+        given(transactionRedisRepository.claimOrRead(eq(txRequestId), any(Duration.class))).willReturn(null);
 
         // When & Then
         CoreException e = assertThrows(CoreException.class,
@@ -266,7 +268,7 @@ public class TransferUseCaseIntegrationTest {
         // 한도 설정 (한도 체크 로직 통과를 위해 필요)
         accountLimitSettingRepository.save(AccountLimitSetting.defaultOf(fromAccount.getAccountId()));
 
-        given(transactionRedisRepository.tryLock(txRequestId, 1)).willReturn(true);
+        given(transactionRedisRepository.claimOrRead(eq(txRequestId), any(Duration.class))).willReturn(null);
 
         // When & Then
         CoreException e = assertThrows(CoreException.class,
@@ -7,9 +7,19 @@ import com.sw.remittanceservice.account.entity.AccountLimitSetting;
 import com.sw.remittanceservice.account.entity.Transaction;
 import com.sw.remittanceservice.account.entity.enums.AccountStatus;
 import com.sw.remittanceservice.account.repository.*;
+import com.sw.remittanceservice.account.service.AccountIdResolver;
+import com.sw.remittanceservice.account.service.AccountLimitSettingCache;
+import com.sw.remittanceservice.account.service.DailyLimitCounter;
+import com.sw.remittanceservice.account.service.DailyLimitProperties;
+import com.sw.remittanceservice.account.service.DailyLimitStore;
+import com.sw.remittanceservice.account.service.OutboxEventRecorder;
+import com.sw.remittanceservice.account.service.TransactionCounter;
 import com.sw.remittanceservice.account.usecase.policy.FeeCalculatorFinder;
 import com.sw.remittanceservice.account.usecase.policy.dto.FeeRequest;
 import com.sw.remittanceservice.account.usecase.policy.dto.FeeResponse;
+import com.sw.remittanceservice.account.usecase.idempotency.TransactionIdempotencyManager;
+import com.sw.remittanceservice.account.usecase.metrics.UseCaseMetrics;
+import com.sw.remittanceservice.account.usecase.metrics.UseCaseOperation;
 import com.sw.remittanceservice.common.exception.CoreException;
 import com.sw.remittanceservice.common.exception.ErrorType;
 import org.junit.jupiter.api.DisplayName;
@@ -17,7 +27,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -27,6 +39,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -37,14 +50,17 @@ class TransferUseCaseTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private AccountIdResolver accountIdResolver;
+
     @Mock
     private TransactionRepository accountTransactionRepository;
 
     @Mock
-    private TransactionRedisRepository transactionRedisRepository;
+    private TransactionIdempotencyManager transactionIdempotencyManager;
 
     @Mock
-    private AccountLimitSettingRepository accountLimitSettingRepository;
+    private AccountLimitSettingCache accountLimitSettingCache;
 
     @Mock
     private AccountDailyLimitUsageRepository accountDailyLimitUsageRepository;
@@ -52,6 +68,24 @@ class TransferUseCaseTest {
     @Mock
     private FeeCalculatorFinder feeCalculatorFinder;
 
+    @Mock
+    private DailyLimitCounter dailyLimitCounter;
+
+    @Spy
+    private DailyLimitProperties dailyLimitProperties = new DailyLimitProperties();
+
+    @Mock
+    private OutboxEventRecorder outboxEventRecorder;
+
+    @Mock
+    private TransactionCounter transactionCounter;
+
+    @Mock
+    private UseCaseMetrics useCaseMetrics;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
     @InjectMocks
     private TransferUseCase transferUseCase;
 
@@ -74,23 +108,29 @@ class TransferUseCaseTest {
 
 
     @Test
-    @DisplayName("이체 중복 요청 - 락 실패 + from 계좌 없음 -> ACCOUNT_NOT_FOUND")
-    void transfer_idempotent_lock_failed_account_not_found() {
+    @DisplayName("이체 중복 요청 - 레디스에 저장된 응답을 DB 조회 없이 반환")
+    void transfer_idempotent_returns_stored_response_without_db() {
         // Given
         String fromAccountNo = UUID.randomUUID().toString();
         String toAccountNo = UUID.randomUUID().toString();
         Long amount = 10_000L;
         String txRequestId = UUID.randomUUID().toString();
 
-        given(transactionRedisRepository.tryLock(txRequestId, 1)).willReturn(false);
-        given(accountRepository.findByAccountNo(fromAccountNo)).willReturn(Optional.empty());
+        TransferResponse stored = new TransferResponse(toAccountNo, amount, 50L, 0.005, 90_000L, "SUCCESS");
 
-        // When & Then
-        CoreException e = assertThrows(CoreException.class,
-                () -> transferUseCase.execute(fromAccountNo, toAccountNo, amount, txRequestId));
+        given(transactionIdempotencyManager.claimOrGetResponse(eq(txRequestId), eq(TransferResponse.class), any()))
+                .willReturn(Optional.of(stored));
 
-        assertThat(e.getErrorType()).isEqualTo(ErrorType.ACCOUNT_NOT_FOUND);
+        // When
+        TransferResponse response = transferUseCase.execute(fromAccountNo, toAccountNo, amount, txRequestId);
+
+        // Then
+        assertThat(response).isEqualTo(stored);
 
+        verifyNoInteractions(accountRepository, accountTransactionRepository);
+        verify(transactionIdempotencyManager, never()).complete(any(), any());
+        verify(useCaseMetrics).duplicate(UseCaseOperation.TRANSFER);
+        verify(useCaseMetrics, never()).success(any());
     }
 
     @Test
@@ -130,10 +170,9 @@ class TransferUseCaseTest {
         AccountLimitSetting setting = mock(AccountLimitSetting.class);
         FeeResponse feeResponse = mock(FeeResponse.class);
 
-        given(transactionRedisRepository.tryLock(txRequestId, 1)).willReturn(true);
 
-        given(accountRepository.findIdByAccountNo(fromAccountNo)).willReturn(Optional.of(fromAccountId));
-        given(accountRepository.findIdByAccountNo(toAccountNo)).willReturn(Optional.of(toAccountId));
+        given(accountIdResolver.resolve(fromAccountNo)).willReturn(Optional.of(fromAccountId));
+        given(accountIdResolver.resolve(toAccountNo)).willReturn(Optional.of(toAccountId));
 
         given(accountRepository.findLockedByAccountId(fromAccountId)).willReturn(Optional.of(firstLockedAccount));
         given(accountRepository.findLockedByAccountId(toAccountId)).willReturn(Optional.of(secondLockedAccount));
@@ -143,7 +182,7 @@ class TransferUseCaseTest {
                 .willReturn(Optional.of(usage));
         given(usage.getTransferUsed()).willReturn(0L);
 
-        given(accountLimitSettingRepository.findByAccountId(fromAccountId))
+        given(accountLimitSettingCache.findByAccountId(fromAccountId))
                 .willReturn(Optional.of(setting));
         given(setting.getDailyTransferLimit()).willReturn(100_000L);
 
@@ -205,10 +244,9 @@ class TransferUseCaseTest {
         AccountDailyLimitUsage usage = mock(AccountDailyLimitUsage.class);
         AccountLimitSetting setting = mock(AccountLimitSetting.class);
 
-        given(transactionRedisRepository.tryLock(txRequestId, 1)).willReturn(true);
 
-        given(accountRepository.findIdByAccountNo(fromAccountNo)).willReturn(Optional.of(fromAccountId));
-        given(accountRepository.findIdByAccountNo(toAccountNo)).willReturn(Optional.of(toAccountId));
+        given(accountIdResolver.resolve(fromAccountNo)).willReturn(Optional.of(fromAccountId));
+        given(accountIdResolver.resolve(toAccountNo)).willReturn(Optional.of(toAccountId));
 
         given(accountRepository.findLockedByAccountId(fromAccountId)).willReturn(Optional.of(firstLockedAccount));
         given(accountRepository.findLockedByAccountId(toAccountId)).willReturn(Optional.of(secondLockedAccount));
@@ -217,7 +255,7 @@ class TransferUseCaseTest {
                 .willReturn(Optional.of(usage));
         given(usage.getTransferUsed()).willReturn(90_000L); // 이미 9만 사용
 
-        given(accountLimitSettingRepository.findByAccountId(fromAccountId))
+        given(accountLimitSettingCache.findByAccountId(fromAccountId))
                 .willReturn(Optional.of(setting));
         given(setting.getDailyTransferLimit()).willReturn(100_000L); // 한도 10만
 
@@ -244,9 +282,8 @@ class TransferUseCaseTest {
         Account fromAccount = new Account(fromAccountId, fromAccountNo, 100_000L, AccountStatus.CLOSED, now, now);
         Account toAccount = new Account(toAccountId, toAccountNo, 50_000L, AccountStatus.ACTIVE, now, now);
 
-        given(transactionRedisRepository.tryLock(txRequestId, 1)).willReturn(true);
-        given(accountRepository.findIdByAccountNo(fromAccountNo)).willReturn(Optional.of(fromAccountId));
-        given(accountRepository.findIdByAccountNo(toAccountNo)).willReturn(Optional.of(toAccountId));
+        given(accountIdResolver.resolve(fromAccountNo)).willReturn(Optional.of(fromAccountId));
+        given(accountIdResolver.resolve(toAccountNo)).willReturn(Optional.of(toAccountId));
 
         given(accountRepository.findLockedByAccountId(fromAccountId)).willReturn(Optional.of(fromAccount));
         given(accountRepository.findLockedByAccountId(toAccountId)).willReturn(Optional.of(toAccount));
@@ -275,9 +312,8 @@ class TransferUseCaseTest {
         Account fromAccount = new Account(fromAccountId, fromAccountNo, 100_000L, AccountStatus.ACTIVE, now, now);
         Account toAccount = new Account(toAccountId, toAccountNo, 50_000L, AccountStatus.CLOSED, now, now);
 
-        given(transactionRedisRepository.tryLock(txRequestId, 1)).willReturn(true);
-        given(accountRepository.findIdByAccountNo(fromAccountNo)).willReturn(Optional.of(fromAccountId));
-        given(accountRepository.findIdByAccountNo(toAccountNo)).willReturn(Optional.of(toAccountId));
+        given(accountIdResolver.resolve(fromAccountNo)).willReturn(Optional.of(fromAccountId));
+        given(accountIdResolver.resolve(toAccountNo)).willReturn(Optional.of(toAccountId));
 
         given(accountRepository.findLockedByAccountId(fromAccountId)).willReturn(Optional.of(fromAccount));
         given(accountRepository.findLockedByAccountId(toAccountId)).willReturn(Optional.of(toAccount));
@@ -0,0 +1,109 @@
+package com.sw.remittanceservice.account.usecase;
+
+import com.sw.remittanceservice.account.entity.Account;
+import com.sw.remittanceservice.account.entity.AccountLimitSetting;
+import com.sw.remittanceservice.account.entity.enums.AccountStatus;
+import com.sw.remittanceservice.account.repository.AccountLimitSettingRepository;
+import com.sw.remittanceservice.account.repository.AccountRepository;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+public class TransferUseCaseVirtualThreadPinningTest {
+
+    /**
+     * JDBC 드라이버/커넥션 풀/Redis 클라이언트/JPA/서비스 코드에서 고정(pinning)이 생기면 실패한다.
+     */
+    private static final List<String> WATCHED_PACKAGES = List.of(
+            "com.mysql.", "com.zaxxer.hikari.", "io.lettuce.", "org.hibernate.", "com.github.benmanes.caffeine.", "com.sw."
+    );
+
+    @Autowired
+    private TransferUseCase transferUseCase;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountLimitSettingRepository accountLimitSettingRepository;
+
+    @Test
+    @DisplayName("가상 스레드: 같은 계좌에 이체가 몰려 행 락/커넥션 풀/Redis를 기다려도 캐리어 스레드에 고정되지 않는다")
+    void transfer_on_virtual_threads_not_pinned() throws Exception {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Account accountA = accountRepository.save(new Account(null, UUID.randomUUID().toString(), 10_000_000L, AccountStatus.ACTIVE, now, now));
+        Account accountB = accountRepository.save(new Account(null, UUID.randomUUID().toString(), 10_000_000L, AccountStatus.ACTIVE, now, now));
+        accountLimitSettingRepository.save(AccountLimitSetting.defaultOf(accountA.getAccountId()));
+        accountLimitSettingRepository.save(AccountLimitSetting.defaultOf(accountB.getAccountId()));
+
+        int requestCount = 200;
+        AtomicInteger successCount = new AtomicInteger();
+        List<String> pinnedStacks = new CopyOnWriteArrayList<>();
+
+        // When
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withStackTrace().withThreshold(Duration.ofMillis(5));
+            recording.onEvent("jdk.VirtualThreadPinned", event -> {
+                if (isWatched(event)) {
+                    pinnedStacks.add(event.getStackTrace().toString());
+                }
+            });
+            recording.startAsync();
+
+            try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < requestCount; i++) {
+                    boolean aToB = i % 2 == 0;
+                    executorService.submit(() -> {
+                        try {
+                            transferUseCase.execute(
+                                    aToB ? accountA.getAccountNo() : accountB.getAccountNo(),
+                                    aToB ? accountB.getAccountNo() : accountA.getAccountNo(),
+                                    1_000L,
+                                    UUID.randomUUID().toString()
+                            );
+                            successCount.incrementAndGet();
+                        } catch (Exception e) {
+                            System.err.println("Transfer failed: " + e.getMessage());
+                        }
+                    });
+                }
+            }
+
+            recording.stop();
+        }
+
+        // Then
+        assertThat(successCount.get()).isEqualTo(requestCount);
+        assertThat(pinnedStacks).isEmpty();
+    }
+
+    private static boolean isWatched(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return false;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String typeName = frame.getMethod().getType().getName();
+            if (WATCHED_PACKAGES.stream().anyMatch(typeName::startsWith)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
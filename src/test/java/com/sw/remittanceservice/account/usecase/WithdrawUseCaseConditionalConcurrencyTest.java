@@ -0,0 +1,10 @@
+package com.sw.remittanceservice.account.usecase;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 조건부 갱신 모드에서 {@link WithdrawUseCaseConcurrencyTest}와 같은 시나리오를 검증한다.
+ */
+@SpringBootTest(properties = "remittance.balance-update.withdraw=conditional")
+public class WithdrawUseCaseConditionalConcurrencyTest extends WithdrawUseCaseConcurrencyTest {
+}
@@ -17,6 +17,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,6 +25,8 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 
 @SpringBootTest
@@ -74,7 +77,7 @@ public class WithdrawUseCaseIntegrationTest {
         );
 
         // Redis 락 성공
-        given(transactionRedisRepository.tryLock(transactionRequestId, 1)).willReturn(true);
+        given(transactionRedisRepository.claimOrRead(eq(transactionRequestId), any(Duration.class))).willReturn(null);
 
         // When
         TransactionResponse response =
@@ -144,7 +147,7 @@ public class WithdrawUseCaseIntegrationTest {
         usage.addWithdrawUsed(alreadyUsed);
         accountDailyLimitUsageRepository.save(usage);
 
-        given(transactionRedisRepository.tryLock(txRequestId, 1)).willReturn(true);
+        given(transactionRedisRepository.claimOrRead(eq(txRequestId), any(Duration.class))).willReturn(null);
 
         Long beforeBalance = savedAccount.getBalance();
 
@@ -178,7 +181,7 @@ public class WithdrawUseCaseIntegrationTest {
         String txRequestId = UUID.randomUUID().toString();
 
         // Redis 락은 성공했다고 가정
-        given(transactionRedisRepository.tryLock(txRequestId, 1)).willReturn(true);
+        given(transactionRedisRepository.claimOrRead(eq(txRequestId), any(Duration.class))).willReturn(null);
 
         // When
         CoreException e = assertThrows(CoreException.class,
@@ -214,7 +217,7 @@ public class WithdrawUseCaseIntegrationTest {
                 AccountLimitSetting.defaultOf(closedAccount.getAccountId())
         );
 
-        given(transactionRedisRepository.tryLock(txRequestId, 1)).willReturn(true);
+        given(transactionRedisRepository.claimOrRead(eq(txRequestId), any(Duration.class))).willReturn(null);
 
         // When
         CoreException e = assertThrows(CoreException.class,
@@ -0,0 +1,22 @@
+package com.sw.remittanceservice.account.usecase;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Redis 한도 카운터 모드에서 {@link WithdrawUseCaseConcurrencyTest}와 같은 시나리오를 검증한다.
+ */
+@SpringBootTest(properties = "remittance.daily-limit.store=redis")
+public class WithdrawUseCaseRedisDailyLimitConcurrencyTest extends WithdrawUseCaseConcurrencyTest {
+
+    @Autowired
+    StringRedisTemplate redisTemplate;
+
+    // 테이블은 매번 새로 만들어져 계좌 아이디가 재사용되므로 이전 실행의 카운터를 지운다.
+    @BeforeEach
+    void clearDailyLimitCounters() {
+        redisTemplate.delete(redisTemplate.keys("daily-limit-usage*"));
+    }
+}
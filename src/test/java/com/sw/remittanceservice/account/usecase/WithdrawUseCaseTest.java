@@ -8,14 +8,27 @@ import com.sw.remittanceservice.account.entity.Transaction;
 import com.sw.remittanceservice.account.entity.enums.AccountStatus;
 import com.sw.remittanceservice.account.entity.enums.TransactionType;
 import com.sw.remittanceservice.account.repository.*;
+import com.sw.remittanceservice.account.service.AccountBalanceSlotService;
+import com.sw.remittanceservice.account.service.AccountIdResolver;
+import com.sw.remittanceservice.account.service.AccountLimitSettingCache;
+import com.sw.remittanceservice.account.service.DailyLimitCounter;
+import com.sw.remittanceservice.account.service.DailyLimitProperties;
+import com.sw.remittanceservice.account.service.DailyLimitStore;
+import com.sw.remittanceservice.account.service.OutboxEventRecorder;
+import com.sw.remittanceservice.account.service.TransactionCounter;
+import com.sw.remittanceservice.account.usecase.idempotency.TransactionIdempotencyManager;
+import com.sw.remittanceservice.account.usecase.metrics.UseCaseMetrics;
 import com.sw.remittanceservice.common.exception.CoreException;
 import com.sw.remittanceservice.common.exception.ErrorType;
+import com.sw.remittanceservice.common.id.TsidGenerator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -25,7 +38,10 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 
@@ -34,18 +50,48 @@ class WithdrawUseCaseTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private AccountIdResolver accountIdResolver;
+
     @Mock
     private TransactionRepository accountTransactionRepository;
 
     @Mock
-    private TransactionRedisRepository transactionRedisRepository;
+    private TransactionIdempotencyManager transactionIdempotencyManager;
 
     @Mock
-    private AccountLimitSettingRepository accountLimitSettingRepository;
+    private AccountLimitSettingCache accountLimitSettingCache;
 
     @Mock
     private AccountDailyLimitUsageRepository accountDailyLimitUsageRepository;
 
+    @Mock
+    private AccountBalanceSlotService accountBalanceSlotService;
+
+    @Spy
+    private BalanceUpdateProperties balanceUpdateProperties = new BalanceUpdateProperties();
+
+    @Mock
+    private DailyLimitCounter dailyLimitCounter;
+
+    @Spy
+    private DailyLimitProperties dailyLimitProperties = new DailyLimitProperties();
+
+    @Mock
+    private OutboxEventRecorder outboxEventRecorder;
+
+    @Mock
+    private TsidGenerator tsidGenerator;
+
+    @Mock
+    private TransactionCounter transactionCounter;
+
+    @Mock
+    private UseCaseMetrics useCaseMetrics;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
     @InjectMocks
     private WithdrawUseCase withdrawUseCase;
 
@@ -70,9 +116,9 @@ class WithdrawUseCaseTest {
         given(usage.getWithdrawUsed()).willReturn(0L);
 
         Transaction savedTransaction = Transaction.create(savedAccount, transactionRequestId, amount, TransactionType.WITHDRAW);
-        given(transactionRedisRepository.tryLock(transactionRequestId, 1)).willReturn(true);
-        given(accountRepository.findLockedByAccountNo(accountNo)).willReturn(Optional.of(lockedAccount));
-        given(accountLimitSettingRepository.findByAccountId(accountId)).willReturn(Optional.of(setting));
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.findLockedByAccountId(accountId)).willReturn(Optional.of(lockedAccount));
+        given(accountLimitSettingCache.findByAccountId(accountId)).willReturn(Optional.of(setting));
 
         // 존재한 경우
         given(accountDailyLimitUsageRepository.findLockedByAccountIdAndLimitDate(accountId, today)).willReturn(Optional.of(usage));
@@ -97,8 +143,7 @@ class WithdrawUseCaseTest {
         Long amount = 10_000L;
         String transactionRequestId = UUID.randomUUID().toString();
 
-        given(transactionRedisRepository.tryLock(transactionRequestId, 1)).willReturn(true);
-        given(accountRepository.findLockedByAccountNo(accountNo)).willReturn(Optional.empty());
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.empty());
 
         // When/Then
         CoreException e = assertThrows(CoreException.class,
@@ -120,9 +165,9 @@ class WithdrawUseCaseTest {
 
         Account lockedAccount = new Account(accountId, accountNo, 50_000L, AccountStatus.ACTIVE, now, now);
 
-        given(transactionRedisRepository.tryLock(transactionRequestId, 1)).willReturn(true);
-        given(accountRepository.findLockedByAccountNo(accountNo)).willReturn(Optional.of(lockedAccount));
-        given(accountLimitSettingRepository.findByAccountId(accountId)).willReturn(Optional.empty());
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.findLockedByAccountId(accountId)).willReturn(Optional.of(lockedAccount));
+        given(accountLimitSettingCache.findByAccountId(accountId)).willReturn(Optional.empty());
 
         // When/Then
         CoreException e = assertThrows(CoreException.class,
@@ -151,9 +196,9 @@ class WithdrawUseCaseTest {
         AccountDailyLimitUsage usage = mock(AccountDailyLimitUsage.class);
         given(usage.getWithdrawUsed()).willReturn(10_000L); // 이미 1만 사용
 
-        given(transactionRedisRepository.tryLock(transactionRequestId, 1)).willReturn(true);
-        given(accountRepository.findLockedByAccountNo(accountNo)).willReturn(Optional.of(lockedAccount));
-        given(accountLimitSettingRepository.findByAccountId(accountId)).willReturn(Optional.of(setting));
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.findLockedByAccountId(accountId)).willReturn(Optional.of(lockedAccount));
+        given(accountLimitSettingCache.findByAccountId(accountId)).willReturn(Optional.of(setting));
         given(accountDailyLimitUsageRepository.findLockedByAccountIdAndLimitDate(accountId, today)).willReturn(Optional.of(usage));
 
         // When/Then
@@ -202,9 +247,9 @@ class WithdrawUseCaseTest {
 
         Transaction savedTransaction = Transaction.create(savedAccount, transactionRequestId, amount, TransactionType.WITHDRAW);
 
-        given(transactionRedisRepository.tryLock(transactionRequestId, 1)).willReturn(true);
-        given(accountRepository.findLockedByAccountNo(accountNo)).willReturn(Optional.of(lockedAccount));
-        given(accountLimitSettingRepository.findByAccountId(accountId)).willReturn(Optional.of(setting));
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.findLockedByAccountId(accountId)).willReturn(Optional.of(lockedAccount));
+        given(accountLimitSettingCache.findByAccountId(accountId)).willReturn(Optional.of(setting));
 
         // 존재 하지 않음
         given(accountDailyLimitUsageRepository.findLockedByAccountIdAndLimitDate(accountId, today)).willReturn(Optional.empty());
@@ -244,8 +289,8 @@ class WithdrawUseCaseTest {
                 now
         );
 
-        given(transactionRedisRepository.tryLock(transactionRequestId, 1)).willReturn(true);
-        given(accountRepository.findLockedByAccountNo(accountNo)).willReturn(Optional.of(closedAccount));
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.findLockedByAccountId(accountId)).willReturn(Optional.of(closedAccount));
 
         // When/Then
         CoreException e = assertThrows(CoreException.class,
@@ -258,4 +303,158 @@ class WithdrawUseCaseTest {
         verify(accountTransactionRepository, never()).save(any());
         verify(accountDailyLimitUsageRepository, never()).save(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("출금 성공 - 조건부 갱신 모드는 잠금 조회 없이 UPDATE 한 문장으로 잔액을 차감한다")
+    void withdraw_conditional_success() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        Long accountId = 1L;
+        Long amount = 10_000L;
+        String transactionRequestId = UUID.randomUUID().toString();
+        balanceUpdateProperties.setWithdraw(BalanceUpdateMode.CONDITIONAL);
+
+        AccountLimitSetting setting = mock(AccountLimitSetting.class);
+        given(setting.getDailyWithdrawLimit()).willReturn(100_000L);
+
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountLimitSettingCache.findByAccountId(accountId)).willReturn(Optional.of(setting));
+        given(accountRepository.withdrawIfSufficient(eq(accountId), eq(amount), any(LocalDateTime.class))).willReturn(1);
+        given(accountDailyLimitUsageRepository.addWithdrawUsedWithinLimit(eq(accountId), any(LocalDate.class), eq(amount), eq(100_000L), any(LocalDateTime.class)))
+                .willReturn(1);
+        given(accountRepository.findBalanceByAccountId(accountId)).willReturn(Optional.of(40_000L));
+        given(accountTransactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TransactionResponse response = withdrawUseCase.execute(accountNo, amount, transactionRequestId);
+
+        // Then
+        assertThat(response.transactionStatus()).isEqualTo("SUCCESS");
+        assertThat(response.balanceAfterTransaction()).isEqualTo(40_000L);
+
+        verify(accountRepository, never()).findLockedByAccountId(any());
+        verify(accountRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("출금 실패 - 조건부 갱신 모드 잔액 부족")
+    void withdraw_conditional_fail_insufficient_balance() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        Long accountId = 1L;
+        Long amount = 10_000L;
+        String transactionRequestId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        balanceUpdateProperties.setWithdraw(BalanceUpdateMode.CONDITIONAL);
+
+        Account account = new Account(accountId, accountNo, 5_000L, AccountStatus.ACTIVE, now, now);
+
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountLimitSettingCache.findByAccountId(accountId)).willReturn(Optional.of(mock(AccountLimitSetting.class)));
+        given(accountRepository.withdrawIfSufficient(eq(accountId), eq(amount), any(LocalDateTime.class))).willReturn(0);
+        given(accountRepository.findLockedByAccountId(accountId)).willReturn(Optional.of(account));
+
+        // When/Then
+        CoreException e = assertThrows(CoreException.class,
+                () -> withdrawUseCase.execute(accountNo, amount, transactionRequestId));
+
+        assertThat(e.getErrorType()).isEqualTo(ErrorType.INSUFFICIENT_BALANCE);
+        verify(accountDailyLimitUsageRepository, never()).addWithdrawUsedWithinLimit(any(), any(), anyLong(), anyLong(), any());
+        verify(accountTransactionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("출금 성공 - 조건부 갱신 모드에서 분할 계좌는 비관적 락 경로로 넘어가 슬롯 잔액을 합친 뒤 출금한다")
+    void withdraw_conditional_sharded_account_falls_back_to_pessimistic() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        Long accountId = 1L;
+        Long amount = 10_000L;
+        String transactionRequestId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        balanceUpdateProperties.setWithdraw(BalanceUpdateMode.CONDITIONAL);
+        dailyLimitProperties.setStore(DailyLimitStore.REDIS);
+
+        Account shardedAccount = new Account(accountId, accountNo, 50_000L, AccountStatus.ACTIVE, now, now, 4);
+        Account consolidatedAccount = new Account(accountId, accountNo, 80_000L, AccountStatus.ACTIVE, now, now, 4);
+        AccountLimitSetting setting = mock(AccountLimitSetting.class);
+        given(setting.getDailyWithdrawLimit()).willReturn(100_000L);
+
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountLimitSettingCache.findByAccountId(accountId)).willReturn(Optional.of(setting));
+        given(accountRepository.withdrawIfSufficient(eq(accountId), eq(amount), any(LocalDateTime.class))).willReturn(0);
+        given(accountRepository.findLockedByAccountId(accountId)).willReturn(Optional.of(shardedAccount));
+        given(accountBalanceSlotService.consolidate(shardedAccount)).willReturn(consolidatedAccount);
+        given(accountRepository.save(any(Account.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(accountTransactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TransactionResponse response = withdrawUseCase.execute(accountNo, amount, transactionRequestId);
+
+        // Then
+        assertThat(response.balanceAfterTransaction()).isEqualTo(70_000L);
+        verify(dailyLimitCounter, times(1)).addWithdrawUsed(accountId, amount, 100_000L);
+        verify(accountRepository, never()).findBalanceByAccountId(any());
+    }
+
+    @Test
+    @DisplayName("출금 성공 - Redis 한도 카운터 모드는 한도 행을 잠그지 않는다")
+    void withdraw_success_redis_daily_limit() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        Long accountId = 1L;
+        Long amount = 10_000L;
+        String transactionRequestId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        dailyLimitProperties.setStore(DailyLimitStore.REDIS);
+
+        Account lockedAccount = new Account(accountId, accountNo, 50_000L, AccountStatus.ACTIVE, now, now);
+        AccountLimitSetting setting = mock(AccountLimitSetting.class);
+        given(setting.getDailyWithdrawLimit()).willReturn(100_000L);
+
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.findLockedByAccountId(accountId)).willReturn(Optional.of(lockedAccount));
+        given(accountLimitSettingCache.findByAccountId(accountId)).willReturn(Optional.of(setting));
+        given(accountRepository.save(any(Account.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(accountTransactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TransactionResponse response = withdrawUseCase.execute(accountNo, amount, transactionRequestId);
+
+        // Then
+        assertThat(response.balanceAfterTransaction()).isEqualTo(40_000L);
+
+        verify(dailyLimitCounter).addWithdrawUsed(accountId, amount, 100_000L);
+        verifyNoInteractions(accountDailyLimitUsageRepository);
+    }
+
+    @Test
+    @DisplayName("출금 실패 - Redis 한도 카운터 모드 한도 초과")
+    void withdraw_fail_redis_daily_limit_exceeded() {
+        // Given
+        String accountNo = UUID.randomUUID().toString();
+        Long accountId = 1L;
+        Long amount = 10_000L;
+        String transactionRequestId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        dailyLimitProperties.setStore(DailyLimitStore.REDIS);
+
+        Account lockedAccount = new Account(accountId, accountNo, 50_000L, AccountStatus.ACTIVE, now, now);
+        AccountLimitSetting setting = mock(AccountLimitSetting.class);
+        given(setting.getDailyWithdrawLimit()).willReturn(100_000L);
+
+        given(accountIdResolver.resolve(accountNo)).willReturn(Optional.of(accountId));
+        given(accountRepository.findLockedByAccountId(accountId)).willReturn(Optional.of(lockedAccount));
+        given(accountLimitSettingCache.findByAccountId(accountId)).willReturn(Optional.of(setting));
+        willThrow(new CoreException(ErrorType.EXCEED_DAILY_WITHDRAW_LIMIT, accountId))
+                .given(dailyLimitCounter).addWithdrawUsed(accountId, amount, 100_000L);
+
+        // When/Then
+        CoreException e = assertThrows(CoreException.class,
+                () -> withdrawUseCase.execute(accountNo, amount, transactionRequestId));
+
+        assertThat(e.getErrorType()).isEqualTo(ErrorType.EXCEED_DAILY_WITHDRAW_LIMIT);
+        verify(accountRepository, never()).save(any());
+        verify(accountTransactionRepository, never()).save(any());
+    }
+}
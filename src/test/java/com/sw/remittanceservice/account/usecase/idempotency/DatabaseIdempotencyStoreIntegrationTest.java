@@ -0,0 +1,122 @@
+package com.sw.remittanceservice.account.usecase.idempotency;
+
+import com.sw.remittanceservice.account.repository.IdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class DatabaseIdempotencyStoreIntegrationTest {
+
+    private static final Duration PENDING_TTL = Duration.ofSeconds(10);
+
+    private static final String RESPONSE = "{\"amount\":10000}";
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private IdempotencyProperties idempotencyProperties;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private DatabaseIdempotencyStore databaseIdempotencyStore;
+
+    private final String transactionRequestId = UUID.randomUUID().toString();
+
+    @BeforeEach
+    void setUp() {
+        databaseIdempotencyStore = new DatabaseIdempotencyStore(idempotencyKeyRepository, idempotencyProperties, Clock.systemDefaultZone());
+    }
+
+    @Test
+    @DisplayName("DB 멱등성 - 커밋된 응답은 재시도 간격과 상관없이 중복 요청에 반환된다")
+    void committed_response_is_returned() {
+        // Given
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(databaseIdempotencyStore.claimOrRead(transactionRequestId, PENDING_TTL)).isNull();
+            databaseIdempotencyStore.saveResponse(transactionRequestId, RESPONSE, idempotencyProperties.getResponseTtl());
+        });
+
+        // When
+        String stored = transactionTemplate.execute(status -> databaseIdempotencyStore.claimOrRead(transactionRequestId, PENDING_TTL));
+
+        // Then
+        assertThat(stored).isEqualTo(RESPONSE);
+    }
+
+    @Test
+    @DisplayName("DB 멱등성 - 원 요청이 롤백되면 선점도 사라져 재시도가 다시 선점한다")
+    void rollback_releases_claim() {
+        // Given
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(databaseIdempotencyStore.claimOrRead(transactionRequestId, PENDING_TTL)).isNull();
+            status.setRollbackOnly();
+        });
+
+        // When
+        String stored = transactionTemplate.execute(status -> databaseIdempotencyStore.claimOrRead(transactionRequestId, PENDING_TTL));
+
+        // Then
+        assertThat(stored).isNull();
+    }
+
+    @Test
+    @DisplayName("DB 멱등성 - 처리하지 못하고 포기한 요청은 커밋된 뒤에도 다시 선점할 수 있다")
+    void released_claim_can_be_reclaimed() {
+        // Given
+        transactionTemplate.executeWithoutResult(status -> {
+            databaseIdempotencyStore.claimOrRead(transactionRequestId, PENDING_TTL);
+            databaseIdempotencyStore.release(transactionRequestId);
+        });
+
+        // When
+        String stored = transactionTemplate.execute(status -> databaseIdempotencyStore.claimOrRead(transactionRequestId, PENDING_TTL));
+
+        // Then
+        assertThat(stored).isNull();
+    }
+
+    @Test
+    @DisplayName("DB 멱등성 - 묶음 선점은 처리 중인 요청을 PENDING으로, 같은 묶음 안의 중복 요청도 PENDING으로 반환한다")
+    void claim_all_marks_pending_and_duplicates() {
+        // Given: 트랜잭션 밖에서 선점해 커밋된 처리 중 요청
+        String inFlight = UUID.randomUUID().toString();
+        databaseIdempotencyStore.claimOrRead(inFlight, PENDING_TTL);
+
+        // When
+        List<String> storedValues = transactionTemplate.execute(status ->
+                databaseIdempotencyStore.claimOrReadAll(List.of(transactionRequestId, inFlight, transactionRequestId), PENDING_TTL)
+        );
+
+        // Then
+        assertThat(storedValues).containsExactly(null, IdempotencyStore.PENDING, IdempotencyStore.PENDING);
+    }
+
+    @Test
+    @DisplayName("DB 멱등성 - 처리 중 만료된 요청은 다시 선점할 수 있고, 만료된 키는 정리된다")
+    void expired_pending_is_reclaimed_and_purged() {
+        // Given
+        databaseIdempotencyStore.claimOrRead(transactionRequestId, Duration.ofMillis(-1));
+
+        // When
+        String stored = databaseIdempotencyStore.claimOrRead(transactionRequestId, Duration.ofMillis(-1));
+        idempotencyKeyRepository.deleteExpired(LocalDateTime.now(), 1_000);
+
+        // Then
+        assertThat(stored).isNull();
+        assertThat(idempotencyKeyRepository.findAll(List.of(transactionRequestId))).isEmpty();
+    }
+}
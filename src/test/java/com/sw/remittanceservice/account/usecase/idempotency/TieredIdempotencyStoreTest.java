@@ -0,0 +1,120 @@
+package com.sw.remittanceservice.account.usecase.idempotency;
+
+import com.sw.remittanceservice.account.repository.TransactionRedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TieredIdempotencyStoreTest {
+
+    private static final Duration PENDING_TTL = Duration.ofSeconds(10);
+
+    private static final String RESPONSE = "{\"amount\":10000}";
+
+    @Mock
+    private TransactionRedisRepository transactionRedisRepository;
+
+    @Mock
+    private DatabaseIdempotencyStore databaseIdempotencyStore;
+
+    private final IdempotencyProperties idempotencyProperties = new IdempotencyProperties();
+
+    private TieredIdempotencyStore tieredIdempotencyStore;
+
+    @BeforeEach
+    void setUp() {
+        tieredIdempotencyStore = new TieredIdempotencyStore(
+                new RedisIdempotencyStore(transactionRedisRepository),
+                databaseIdempotencyStore,
+                idempotencyProperties
+        );
+    }
+
+    @Test
+    @DisplayName("Redis에 응답이 있으면 DB에 접근하지 않고 반환한다")
+    void redis_hit_skips_database() {
+        // Given
+        given(transactionRedisRepository.claimOrRead(eq("tx-1"), any(Duration.class))).willReturn(RESPONSE);
+
+        // When
+        String stored = tieredIdempotencyStore.claimOrRead("tx-1", PENDING_TTL);
+
+        // Then
+        assertThat(stored).isEqualTo(RESPONSE);
+        verifyNoInteractions(databaseIdempotencyStore);
+    }
+
+    @Test
+    @DisplayName("Redis 키가 만료된 뒤의 재시도 - DB에 남은 응답을 반환하고 Redis에 다시 채운다")
+    void database_response_refills_redis() {
+        // Given
+        given(transactionRedisRepository.claimOrRead(eq("tx-1"), any(Duration.class))).willReturn(null);
+        given(databaseIdempotencyStore.claimOrRead("tx-1", PENDING_TTL)).willReturn(RESPONSE);
+
+        // When
+        String stored = tieredIdempotencyStore.claimOrRead("tx-1", PENDING_TTL);
+
+        // Then
+        assertThat(stored).isEqualTo(RESPONSE);
+        verify(transactionRedisRepository).saveResponse("tx-1", RESPONSE, idempotencyProperties.getResponseTtl());
+    }
+
+    @Test
+    @DisplayName("DB에서 다른 요청이 처리 중이면 PENDING을 반환하고 Redis 선점을 바로 푼다")
+    void database_pending_evicts_redis_claim() {
+        // Given
+        given(transactionRedisRepository.claimOrRead(eq("tx-1"), any(Duration.class))).willReturn(null);
+        given(databaseIdempotencyStore.claimOrRead("tx-1", PENDING_TTL)).willReturn(IdempotencyStore.PENDING);
+
+        // When
+        String stored = tieredIdempotencyStore.claimOrRead("tx-1", PENDING_TTL);
+
+        // Then
+        assertThat(stored).isEqualTo(IdempotencyStore.PENDING);
+        verify(transactionRedisRepository).release("tx-1");
+    }
+
+    @Test
+    @DisplayName("묶음 선점 - Redis에서 선점한 요청만 DB에서 다시 선점하고, 결과를 요청 순서대로 합친다")
+    void claim_all_merges_in_order() {
+        // Given
+        List<String> transactionRequestIds = List.of("tx-claimed", "tx-cached", "tx-durable");
+        given(transactionRedisRepository.claimOrReadAll(eq(transactionRequestIds), any(Duration.class)))
+                .willReturn(Arrays.asList(null, RESPONSE, null));
+        given(databaseIdempotencyStore.claimOrReadAll(List.of("tx-claimed", "tx-durable"), PENDING_TTL))
+                .willReturn(Arrays.asList(null, RESPONSE));
+
+        // When
+        List<String> storedValues = tieredIdempotencyStore.claimOrReadAll(transactionRequestIds, PENDING_TTL);
+
+        // Then
+        assertThat(storedValues).containsExactly(null, RESPONSE, RESPONSE);
+        verify(transactionRedisRepository).saveResponse("tx-durable", RESPONSE, idempotencyProperties.getResponseTtl());
+        verify(transactionRedisRepository, never()).saveResponse(eq("tx-claimed"), any(), any());
+    }
+
+    @Test
+    @DisplayName("응답 저장 - DB와 Redis에 모두 저장한다")
+    void save_response_writes_both() {
+        // When
+        tieredIdempotencyStore.saveResponse("tx-1", RESPONSE, idempotencyProperties.getResponseTtl());
+
+        // Then
+        verify(databaseIdempotencyStore).saveResponse("tx-1", RESPONSE, idempotencyProperties.getResponseTtl());
+        verify(transactionRedisRepository).saveResponse("tx-1", RESPONSE, idempotencyProperties.getResponseTtl());
+    }
+}
@@ -0,0 +1,197 @@
+package com.sw.remittanceservice.account.usecase.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sw.remittanceservice.account.dto.TransactionResponse;
+import com.sw.remittanceservice.account.repository.TransactionRedisRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionIdempotencyManagerTest {
+
+    @Mock
+    private TransactionRedisRepository transactionRedisRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private TransactionIdempotencyManager transactionIdempotencyManager;
+
+    private final String transactionRequestId = UUID.randomUUID().toString();
+
+    private final TransactionResponse pending = new TransactionResponse(0L, 10_000L, "DEPOSIT", "PENDING", null, null, null, null);
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setInFlightWait(Duration.ofMillis(50));
+        properties.setPollInterval(Duration.ofMillis(10));
+
+        transactionIdempotencyManager = new TransactionIdempotencyManager(new RedisIdempotencyStore(transactionRedisRepository), objectMapper, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("선점 성공 - 빈 값을 반환한다")
+    void claim_success() {
+        // Given
+        given(transactionRedisRepository.claimOrRead(eq(transactionRequestId), any(Duration.class))).willReturn(null);
+
+        // When
+        Optional<TransactionResponse> response = transactionIdempotencyManager.claimOrGetResponse(transactionRequestId, TransactionResponse.class, () -> pending);
+
+        // Then
+        assertThat(response).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중복 요청 - 저장된 응답을 역직렬화해 반환한다")
+    void duplicated_returns_stored_response() throws Exception {
+        // Given
+        TransactionResponse stored = new TransactionResponse(
+                10_000L, 10_000L, "DEPOSIT", "SUCCESS", null, null, null, LocalDateTime.of(2026, 1, 1, 0, 0)
+        );
+        given(transactionRedisRepository.claimOrRead(eq(transactionRequestId), any(Duration.class)))
+                .willReturn(objectMapper.writeValueAsString(stored));
+
+        // When
+        Optional<TransactionResponse> response = transactionIdempotencyManager.claimOrGetResponse(transactionRequestId, TransactionResponse.class, () -> pending);
+
+        // Then
+        assertThat(response).contains(stored);
+    }
+
+    @Test
+    @DisplayName("중복 요청 - 원 요청이 처리 중이면 완료될 때까지 기다렸다가 응답을 반환한다")
+    void duplicated_waits_in_flight_request() throws Exception {
+        // Given
+        TransactionResponse stored = new TransactionResponse(10_000L, 10_000L, "DEPOSIT", "SUCCESS", null, null, null, null);
+        given(transactionRedisRepository.claimOrRead(eq(transactionRequestId), any(Duration.class)))
+                .willReturn(TransactionRedisRepository.PENDING, objectMapper.writeValueAsString(stored));
+
+        // When
+        Optional<TransactionResponse> response = transactionIdempotencyManager.claimOrGetResponse(transactionRequestId, TransactionResponse.class, () -> pending);
+
+        // Then
+        assertThat(response).contains(stored);
+        verify(transactionRedisRepository, times(2)).claimOrRead(eq(transactionRequestId), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("중복 요청 - 대기 시간 안에 끝나지 않으면 PENDING 응답을 반환한다")
+    void duplicated_returns_pending_after_wait() {
+        // Given
+        given(transactionRedisRepository.claimOrRead(eq(transactionRequestId), any(Duration.class)))
+                .willReturn(TransactionRedisRepository.PENDING);
+
+        // When
+        Optional<TransactionResponse> response = transactionIdempotencyManager.claimOrGetResponse(transactionRequestId, TransactionResponse.class, () -> pending);
+
+        // Then
+        assertThat(response).contains(pending);
+    }
+
+    @Test
+    @DisplayName("완료 - 트랜잭션 밖에서는 즉시 응답을 저장한다")
+    void complete_without_transaction() {
+        // When
+        transactionIdempotencyManager.complete(transactionRequestId, pending);
+
+        // Then
+        verify(transactionRedisRepository).saveResponse(eq(transactionRequestId), anyString(), eq(Duration.ofHours(24)));
+    }
+
+    @Test
+    @DisplayName("완료 - 트랜잭션 안에서는 커밋 이후에 응답을 저장한다")
+    void complete_after_commit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        transactionIdempotencyManager.complete(transactionRequestId, pending);
+
+        // Then
+        verify(transactionRedisRepository, never()).saveResponse(any(), any(), any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(transactionRedisRepository).saveResponse(eq(transactionRequestId), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("롤백 - 선점한 키를 삭제해 재시도가 다시 처리될 수 있도록 한다")
+    void release_on_rollback() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        given(transactionRedisRepository.claimOrRead(eq(transactionRequestId), any(Duration.class))).willReturn(null);
+
+        // When
+        transactionIdempotencyManager.claimOrGetResponse(transactionRequestId, TransactionResponse.class, () -> pending);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        verify(transactionRedisRepository).release(transactionRequestId);
+    }
+
+    @Test
+    @DisplayName("묶음 선점 - 요청 순서대로 선점/저장된 응답/PENDING 응답을 반환한다")
+    void claim_all_returns_in_order() throws Exception {
+        // Given
+        TransactionResponse stored = new TransactionResponse(10_000L, 10_000L, "DEPOSIT", "SUCCESS", null, null, null, null);
+        List<String> transactionRequestIds = List.of("tx-claimed", "tx-stored", "tx-pending");
+        given(transactionRedisRepository.claimOrReadAll(eq(transactionRequestIds), any(Duration.class)))
+                .willReturn(Arrays.asList(null, objectMapper.writeValueAsString(stored), TransactionRedisRepository.PENDING));
+
+        // When
+        List<Optional<TransactionResponse>> responses = transactionIdempotencyManager.claimAllOrGetResponses(
+                transactionRequestIds, TransactionResponse.class, i -> pending
+        );
+
+        // Then
+        assertThat(responses).containsExactly(Optional.empty(), Optional.of(stored), Optional.of(pending));
+        verify(transactionRedisRepository, never()).claimOrRead(any(), any());
+    }
+
+    @Test
+    @DisplayName("포기 - 커밋되더라도 트랜잭션 종료 후 선점한 키를 삭제한다")
+    void abandon_releases_after_commit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        transactionIdempotencyManager.abandon(transactionRequestId);
+
+        // Then
+        verify(transactionRedisRepository, never()).release(any());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        verify(transactionRedisRepository).release(transactionRequestId);
+    }
+}
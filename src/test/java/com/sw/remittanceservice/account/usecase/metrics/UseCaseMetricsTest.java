@@ -0,0 +1,65 @@
+package com.sw.remittanceservice.account.usecase.metrics;
+
+import com.sw.remittanceservice.common.exception.CoreException;
+import com.sw.remittanceservice.common.exception.ErrorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UseCaseMetricsTest {
+
+    @Test
+    @DisplayName("유스케이스 계측 - 구간 타이머와 결과/오류 유형별 카운터를 태그로 구분해 기록한다")
+    void records_phase_and_outcome() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UseCaseMetrics useCaseMetrics = new UseCaseMetrics(meterRegistry, new UseCaseMetricsProperties());
+
+        // When
+        useCaseMetrics.record(UseCaseOperation.TRANSFER, UseCasePhase.ACCOUNT_LOCK, useCaseMetrics.start());
+        useCaseMetrics.success(UseCaseOperation.TRANSFER);
+        useCaseMetrics.duplicate(UseCaseOperation.TRANSFER);
+        useCaseMetrics.failure(UseCaseOperation.TRANSFER, new CoreException(ErrorType.INSUFFICIENT_BALANCE, 1L));
+        useCaseMetrics.failure(UseCaseOperation.TRANSFER, new IllegalStateException());
+
+        // Then
+        assertThat(meterRegistry.get(UseCaseMetrics.PHASE_TIMER)
+                .tags("operation", "transfer", "phase", "account_lock").timer().count()).isEqualTo(1L);
+        assertThat(meterRegistry.get(UseCaseMetrics.PHASE_TIMER)
+                .tags("operation", "deposit", "phase", "account_lock").timer().count()).isZero();
+        assertThat(outcome(meterRegistry, "success", "none")).isEqualTo(1.0);
+        assertThat(outcome(meterRegistry, "duplicate", "none")).isEqualTo(1.0);
+        assertThat(outcome(meterRegistry, "error", ErrorType.INSUFFICIENT_BALANCE.name())).isEqualTo(1.0);
+        assertThat(outcome(meterRegistry, "error", "UNEXPECTED")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("유스케이스 계측 - 꺼져 있으면 시계를 읽지 않고 아무것도 기록하지 않는다")
+    void disabled_records_nothing() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UseCaseMetricsProperties properties = new UseCaseMetricsProperties();
+        properties.setEnabled(false);
+        UseCaseMetrics useCaseMetrics = new UseCaseMetrics(meterRegistry, properties);
+
+        // When
+        long startedAt = useCaseMetrics.start();
+        useCaseMetrics.record(UseCaseOperation.TRANSFER, UseCasePhase.EXECUTE, startedAt);
+        useCaseMetrics.success(UseCaseOperation.TRANSFER);
+
+        // Then
+        assertThat(startedAt).isZero();
+        assertThat(meterRegistry.get(UseCaseMetrics.PHASE_TIMER)
+                .tags("operation", "transfer", "phase", "execute").timer().count()).isZero();
+        assertThat(outcome(meterRegistry, "success", "none")).isZero();
+    }
+
+    private static double outcome(SimpleMeterRegistry meterRegistry, String outcome, String errorType) {
+        return meterRegistry.get(UseCaseMetrics.OUTCOME_COUNTER)
+                .tags("operation", "transfer", "outcome", outcome, "error_type", errorType)
+                .counter()
+                .count();
+    }
+}
@@ -12,7 +12,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,99 +28,137 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class FeeCalculatorFinderTest {
 
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
     @Mock
     private FeeCalculator nightCalculator;
 
     @Mock
     private FeeCalculator defaultCalculator;
 
-    private FeeCalculatorFinder finder;
+    @Mock
+    private FeeRuleStore feeRuleStore;
 
     @BeforeEach
     void setUp() {
-        finder = new FeeCalculatorFinder(List.of(nightCalculator, defaultCalculator));
+        lenient().when(nightCalculator.type()).thenReturn(FeePolicyType.NIGHT);
+        lenient().when(nightCalculator.windows()).thenReturn(List.of(new FeeWindow(LocalTime.of(23, 0), LocalTime.of(6, 0))));
+        lenient().when(nightCalculator.ratePpm()).thenReturn(20_000L);
+        lenient().when(defaultCalculator.type()).thenReturn(FeePolicyType.DEFAULT);
+        lenient().when(defaultCalculator.windows()).thenReturn(List.of());
+        lenient().when(defaultCalculator.ratePpm()).thenReturn(10_000L);
+        lenient().when(feeRuleStore.current()).thenReturn(FeeRuleSet.EMPTY);
     }
 
-
     @Test
-    @DisplayName("적용 가능한 특수 정책(야간)이 있으면 해당 계산기를 실행한다")
+    @DisplayName("적용 가능한 특수 정책(야간) 시간대면 해당 정책의 율로 계산하고, 요청 시각은 같은 시계 값을 쓴다")
     void should_return_night_fee_when_applicable() {
         // Given
-        given(nightCalculator.type()).willReturn(FeePolicyType.NIGHT);
-        FeeRequest request = new FeeRequest(10000L);
-        FeeResponse expectedResponse = new FeeResponse(FeePolicyType.NIGHT, 0.02, 200L, LocalDateTime.now());
-
-        given(nightCalculator.applicable(request)).willReturn(true);
-        given(nightCalculator.calculate(request)).willReturn(expectedResponse);
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 23, 30);
+        FeeCalculatorFinder finder = new FeeCalculatorFinder(List.of(nightCalculator, defaultCalculator), feeRuleStore, clockAt(now));
 
         // When
-        FeeResponse result = finder.calculate(request);
+        FeeResponse result = finder.calculate(new FeeRequest(10000L));
 
         // Then
         assertThat(result.type()).isEqualTo(FeePolicyType.NIGHT);
+        assertThat(result.rate()).isEqualTo(0.02);
         assertThat(result.feeAmount()).isEqualTo(200L);
-        then(nightCalculator).should(times(1)).calculate(request);
-        then(defaultCalculator).should(never()).calculate(any());
+        assertThat(result.requestedAt()).isEqualTo(now);
+        then(nightCalculator).should(never()).calculate(any());
+        then(nightCalculator).should(never()).applicable(any());
     }
 
     @Test
-    @DisplayName("특수 정책이 적용 불가능하면 기본(DEFAULT) 정책을 실행한다")
+    @DisplayName("특수 정책 시간대가 아니면 기본(DEFAULT) 정책을 실행한다")
     void should_return_default_fee_when_no_others_applicable() {
         // Given
-        given(defaultCalculator.type()).willReturn(FeePolicyType.DEFAULT);
-        FeeRequest request = new FeeRequest(10000L);
-        FeeResponse defaultResponse = new FeeResponse(FeePolicyType.DEFAULT, 0.01, 100L, LocalDateTime.now());
-
-        given(nightCalculator.applicable(request)).willReturn(false);
-        given(defaultCalculator.calculate(request)).willReturn(defaultResponse);
+        FeeCalculatorFinder finder = new FeeCalculatorFinder(
+                List.of(nightCalculator, defaultCalculator),
+                feeRuleStore,
+                clockAt(LocalDateTime.of(2026, 1, 1, 12, 0))
+        );
 
         // When
-        FeeResponse result = finder.calculate(request);
+        FeeResponse result = finder.calculate(new FeeRequest(10000L));
 
         // Then
         assertThat(result.type()).isEqualTo(FeePolicyType.DEFAULT);
         assertThat(result.feeAmount()).isEqualTo(100L);
-
-        then(defaultCalculator).should(times(1)).calculate(request);
     }
 
     @Test
-    @DisplayName("기본 정책(DEFAULT)이 리스트에 없으면 예외가 발생한다")
+    @DisplayName("기본 정책(DEFAULT)이 리스트에 없으면 특수 정책 시간대 밖에서 예외가 발생한다")
     void should_throw_exception_when_default_calculator_is_missing() {
         // Given
-        given(nightCalculator.type()).willReturn(FeePolicyType.NIGHT);
-        FeeCalculatorFinder brokenFinder = new FeeCalculatorFinder(List.of(nightCalculator));
-
-        FeeRequest request = new FeeRequest(10000L);
-        given(nightCalculator.applicable(request)).willReturn(false);
+        FeeCalculatorFinder brokenFinder = new FeeCalculatorFinder(
+                List.of(nightCalculator),
+                feeRuleStore,
+                clockAt(LocalDateTime.of(2026, 1, 1, 12, 0))
+        );
 
         // When & Then
         CoreException e = assertThrows(CoreException.class,
-                () -> brokenFinder.calculate(request));
+                () -> brokenFinder.calculate(new FeeRequest(10000L)));
         assertThat(e.getErrorType()).isEqualTo(ErrorType.CALCULATOR_NOT_FOUND);
     }
 
-
     @Test
-    @DisplayName("여러 특수 정책 중 첫 번째가 불가능하면 다음 정책을 탐색한다")
+    @DisplayName("특수 정책 시간대가 겹치면 목록에서 앞선 정책이 적용되고, 앞선 정책 시간대 밖에서는 다음 정책을 탐색한다")
     void should_try_next_policy_when_first_one_is_not_applicable() {
-        // Given: 또 다른 특수 정책(예: VIP)이 있다고 가정 (Mock 하나 더 추가 필요)
+        // Given: 또 다른 특수 정책(예: VIP)이 새벽 시간대에만 있다고 가정
         FeeCalculator vipCalculator = mock(FeeCalculator.class);
         given(vipCalculator.type()).willReturn(FeePolicyType.NIGHT); // 편의상 NIGHT 타입으로 설정
+        given(vipCalculator.windows()).willReturn(List.of(new FeeWindow(LocalTime.of(0, 0), LocalTime.of(1, 0))));
+        given(vipCalculator.ratePpm()).willReturn(5_000L);
+
+        List<FeeCalculator> calculators = List.of(vipCalculator, nightCalculator, defaultCalculator);
+
+        // When
+        FeeResponse inVipWindow = new FeeCalculatorFinder(calculators, feeRuleStore, clockAt(LocalDateTime.of(2026, 1, 1, 0, 30)))
+                .calculate(new FeeRequest(10000L));
+        FeeResponse afterVipWindow = new FeeCalculatorFinder(calculators, feeRuleStore, clockAt(LocalDateTime.of(2026, 1, 1, 1, 0)))
+                .calculate(new FeeRequest(10000L));
 
-        FeeCalculatorFinder multiFinder = new FeeCalculatorFinder(List.of(vipCalculator, nightCalculator, defaultCalculator));
+        // Then
+        assertThat(inVipWindow.feeAmount()).isEqualTo(50L);
+        assertThat(afterVipWindow.feeAmount()).isEqualTo(200L);
+    }
 
-        FeeRequest request = new FeeRequest(10000L);
-        given(vipCalculator.applicable(request)).willReturn(false);
-        given(nightCalculator.applicable(request)).willReturn(true);
-        given(nightCalculator.calculate(request)).willReturn(new FeeResponse(FeePolicyType.NIGHT, 0.02, 200L, LocalDateTime.now()));
+    @Test
+    @DisplayName("DB 수수료 규칙이 맞으면 코드 정책보다 먼저 적용하고, 맞지 않으면 코드 정책을 따른다")
+    void should_apply_db_rule_before_code_policy() {
+        // Given: 100만 원 이상 이체는 0.5%
+        FeeRuleSet ruleSet = FeeRuleSet.compile(
+                List.of(new FeeRuleSet.Rule(1L, 0, null, 1_000_000L, Long.MAX_VALUE, null, true, true, 5_000L)),
+                List.of()
+        );
+        given(feeRuleStore.current()).willReturn(ruleSet);
+        FeeCalculatorFinder finder = new FeeCalculatorFinder(
+                List.of(nightCalculator, defaultCalculator),
+                feeRuleStore,
+                clockAt(LocalDateTime.of(2026, 1, 2, 23, 30))
+        );
 
         // When
-        FeeResponse result = multiFinder.calculate(request);
+        FeeResponse large = finder.calculate(new FeeRequest(2_000_000L, 1L));
+        FeeResponse small = finder.calculate(new FeeRequest(10_000L, 1L));
 
         // Then
-        assertThat(result.type()).isEqualTo(FeePolicyType.NIGHT);
-        then(vipCalculator).should().applicable(request); // 첫 번째 시도함
-        then(nightCalculator).should().calculate(request); // 두 번째에서 성공함
+        assertThat(large.type()).isEqualTo(FeePolicyType.RULE);
+        assertThat(large.rate()).isEqualTo(0.005);
+        assertThat(large.feeAmount()).isEqualTo(10_000L);
+        assertThat(small.type()).isEqualTo(FeePolicyType.NIGHT);
+        assertThat(small.feeAmount()).isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("수수료 시간대 경계가 분 단위가 아니면 일정표를 만들 수 없다")
+    void window_must_be_minute_aligned() {
+        assertThrows(IllegalArgumentException.class, () -> new FeeWindow(LocalTime.of(23, 0, 30), LocalTime.of(6, 0)));
+    }
+
+    private static Clock clockAt(LocalDateTime dateTime) {
+        return Clock.fixed(dateTime.atZone(ZONE).toInstant(), ZONE);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,142 @@
+package com.sw.remittanceservice.account.usecase.policy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeeRuleSetTest {
+
+    // 2026-01-02 금요일(평일), 2026-01-03 토요일
+    private static final LocalDateTime WEEKDAY_NOON = LocalDateTime.of(2026, 1, 2, 12, 0);
+
+    private static final LocalDateTime SATURDAY_NOON = LocalDateTime.of(2026, 1, 3, 12, 0);
+
+    @Test
+    @DisplayName("금액 구간은 최소 포함, 최대 미포함으로 적용하고 맞는 구간이 없으면 null")
+    void amount_tiers() {
+        // Given
+        FeeRuleSet ruleSet = FeeRuleSet.compile(List.of(
+                rule(1, 0, null, 0L, 100_000L, null, 10_000L),
+                rule(2, 0, null, 100_000L, 1_000_000L, null, 5_000L)
+        ), List.of());
+
+        // When & Then
+        assertThat(ruleSet.match(null, 99_999L, WEEKDAY_NOON).feeRuleId()).isEqualTo(1L);
+        assertThat(ruleSet.match(null, 100_000L, WEEKDAY_NOON).feeRuleId()).isEqualTo(2L);
+        assertThat(ruleSet.match(null, 1_000_000L, WEEKDAY_NOON)).isNull();
+    }
+
+    @Test
+    @DisplayName("조건이 겹치면 우선순위가 작은 규칙, 같으면 아이디가 작은 규칙을 적용한다")
+    void priority_order() {
+        // Given
+        FeeRuleSet ruleSet = FeeRuleSet.compile(List.of(
+                rule(3, 1, null, 0L, Long.MAX_VALUE, null, 10_000L),
+                rule(2, 0, null, 50_000L, Long.MAX_VALUE, null, 3_000L),
+                rule(1, 0, null, 50_000L, 60_000L, null, 1_000L)
+        ), List.of());
+
+        // When & Then
+        assertThat(ruleSet.match(null, 10_000L, WEEKDAY_NOON).feeRuleId()).isEqualTo(3L);
+        assertThat(ruleSet.match(null, 55_000L, WEEKDAY_NOON).feeRuleId()).isEqualTo(1L);
+        assertThat(ruleSet.match(null, 70_000L, WEEKDAY_NOON).feeRuleId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("시간대는 자정을 넘을 수 있고, 주말과 등록된 공휴일은 휴일 규칙을 적용한다")
+    void window_and_holiday() {
+        // Given
+        FeeWindow night = new FeeWindow(LocalTime.of(23, 0), LocalTime.of(6, 0));
+        FeeRuleSet ruleSet = FeeRuleSet.compile(List.of(
+                new FeeRuleSet.Rule(1, 0, null, 0L, Long.MAX_VALUE, night, true, false, 20_000L),
+                new FeeRuleSet.Rule(2, 1, null, 0L, Long.MAX_VALUE, null, true, false, 10_000L),
+                new FeeRuleSet.Rule(3, 1, null, 0L, Long.MAX_VALUE, null, false, true, 0L)
+        ), List.of(LocalDate.of(2026, 1, 1)));
+
+        // When & Then
+        assertThat(ruleSet.match(null, 1_000L, WEEKDAY_NOON).feeRuleId()).isEqualTo(2L);
+        assertThat(ruleSet.match(null, 1_000L, LocalDateTime.of(2026, 1, 2, 23, 0)).feeRuleId()).isEqualTo(1L);
+        assertThat(ruleSet.match(null, 1_000L, LocalDateTime.of(2026, 1, 2, 5, 59)).feeRuleId()).isEqualTo(1L);
+        assertThat(ruleSet.match(null, 1_000L, LocalDateTime.of(2026, 1, 2, 6, 0)).feeRuleId()).isEqualTo(2L);
+        assertThat(ruleSet.match(null, 1_000L, SATURDAY_NOON).feeRuleId()).isEqualTo(3L);
+        assertThat(ruleSet.match(null, 1_000L, LocalDateTime.of(2026, 1, 1, 23, 30)).feeRuleId()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("계좌별 규칙은 해당 계좌에만, 전체 규칙보다 먼저 적용하고 맞지 않으면 전체 규칙을 따른다")
+    void account_override() {
+        // Given
+        FeeRuleSet ruleSet = FeeRuleSet.compile(List.of(
+                rule(1, 0, null, 0L, Long.MAX_VALUE, null, 10_000L),
+                rule(2, 5, 100L, 1_000_000L, Long.MAX_VALUE, null, 0L)
+        ), List.of());
+
+        // When & Then
+        assertThat(ruleSet.match(100L, 2_000_000L, WEEKDAY_NOON).feeRuleId()).isEqualTo(2L);
+        assertThat(ruleSet.match(100L, 10_000L, WEEKDAY_NOON).feeRuleId()).isEqualTo(1L);
+        assertThat(ruleSet.match(200L, 2_000_000L, WEEKDAY_NOON).feeRuleId()).isEqualTo(1L);
+        assertThat(ruleSet.match(null, 2_000_000L, WEEKDAY_NOON).feeRuleId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("컴파일한 구조의 결과가 규칙을 우선순위 순으로 하나씩 확인한 결과와 같다")
+    void same_as_linear_scan() {
+        // Given
+        SplittableRandom random = new SplittableRandom(23);
+        List<FeeRuleSet.Rule> rules = new ArrayList<>();
+        for (int i = 1; i <= 40; i++) {
+            long min = random.nextLong(0, 1_000_000L);
+            long max = random.nextBoolean() ? Long.MAX_VALUE : min + random.nextLong(1, 1_000_000L);
+            FeeWindow window = null;
+            if (random.nextBoolean()) {
+                int start = random.nextInt(24 * 60);
+                int end = (start + 1 + random.nextInt(24 * 60 - 1)) % (24 * 60);
+                window = new FeeWindow(LocalTime.ofSecondOfDay(start * 60L), LocalTime.ofSecondOfDay(end * 60L));
+            }
+            Long accountId = random.nextInt(4) == 0 ? (long) random.nextInt(1, 5) : null;
+            rules.add(new FeeRuleSet.Rule(i, random.nextInt(5), accountId, min, max, window,
+                    random.nextBoolean(), random.nextBoolean(), random.nextLong(0, 30_000L)));
+        }
+        List<LocalDate> holidays = List.of(LocalDate.of(2026, 3, 2));
+        FeeRuleSet ruleSet = FeeRuleSet.compile(rules, holidays);
+
+        // When & Then
+        for (int i = 0; i < 200_000; i++) {
+            LocalDateTime now = LocalDateTime.of(2026, 3, 1, 0, 0).plusMinutes(random.nextInt(7 * 24 * 60));
+            long amount = random.nextLong(0, 2_000_000L);
+            Long accountId = random.nextBoolean() ? (long) random.nextInt(1, 6) : null;
+
+            assertThat(ruleSet.match(accountId, amount, now))
+                    .as("account=%s amount=%d at %s", accountId, amount, now)
+                    .isEqualTo(linearScan(rules, holidays, accountId, amount, now));
+        }
+    }
+
+    private static FeeRuleSet.Rule linearScan(List<FeeRuleSet.Rule> rules, List<LocalDate> holidays, Long accountId, long amount, LocalDateTime now) {
+        boolean holiday = now.getDayOfWeek().getValue() >= 6 || holidays.contains(now.toLocalDate());
+        Comparator<FeeRuleSet.Rule> order = Comparator
+                .comparing((FeeRuleSet.Rule rule) -> rule.accountId() == null)
+                .thenComparingInt(FeeRuleSet.Rule::priority)
+                .thenComparingLong(FeeRuleSet.Rule::feeRuleId);
+        return rules.stream()
+                .filter(rule -> rule.accountId() == null || rule.accountId().equals(accountId))
+                .filter(rule -> holiday ? rule.holiday() : rule.weekday())
+                .filter(rule -> rule.window() == null || rule.window().contains(now.toLocalTime()))
+                .filter(rule -> amount >= rule.minAmount() && amount < rule.maxAmount())
+                .min(order)
+                .orElse(null);
+    }
+
+    private static FeeRuleSet.Rule rule(long id, int priority, Long accountId, long min, long max, FeeWindow window, long ratePpm) {
+        return new FeeRuleSet.Rule(id, priority, accountId, min, max, window, true, true, ratePpm);
+    }
+}
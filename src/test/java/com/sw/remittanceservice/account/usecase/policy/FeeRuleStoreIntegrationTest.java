@@ -0,0 +1,87 @@
+package com.sw.remittanceservice.account.usecase.policy;
+
+import com.sw.remittanceservice.account.entity.FeeRule;
+import com.sw.remittanceservice.account.repository.FeeRuleRepository;
+import com.sw.remittanceservice.account.usecase.policy.dto.FeeRequest;
+import com.sw.remittanceservice.account.usecase.policy.dto.FeeResponse;
+import com.sw.remittanceservice.account.usecase.policy.dto.enums.FeePolicyType;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+@SpringBootTest
+public class FeeRuleStoreIntegrationTest {
+
+    @Autowired
+    private FeeRuleRepository feeRuleRepository;
+
+    @Autowired
+    private FeeRuleStore feeRuleStore;
+
+    @Autowired
+    private FeeCalculatorFinder feeCalculatorFinder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("DB 수수료 규칙 - 추가한 규칙은 다시 읽은 뒤부터 적용되고, 끄면 코드 정책으로 돌아간다")
+    void rule_is_hot_swapped() {
+        // Given: 다른 테스트에 영향이 없도록 이 테스트에서만 쓰는 계좌 아이디에 한정한 규칙
+        long accountId = ThreadLocalRandom.current().nextLong(1L << 40, 1L << 50);
+        LocalDateTime now = LocalDateTime.now();
+        FeeRule rule = feeRuleRepository.save(new FeeRule(null, 0, accountId, null, null, null, null, true, true, 1_000L, true, now, now));
+        FeeRequest request = new FeeRequest(1_000_000L, accountId);
+
+        // When
+        feeRuleStore.refresh();
+        FeeResponse withRule = feeCalculatorFinder.calculate(request);
+
+        feeRuleRepository.save(new FeeRule(rule.getFeeRuleId(), 0, accountId, null, null, null, null, true, true, 1_000L, false, now, now));
+        feeRuleStore.refresh();
+        FeeResponse withoutRule = feeCalculatorFinder.calculate(request);
+
+        // Then
+        assertThat(withRule.type()).isEqualTo(FeePolicyType.RULE);
+        assertThat(withRule.feeAmount()).isEqualTo(1_000L);
+        assertThat(withoutRule.type()).isNotEqualTo(FeePolicyType.RULE);
+        assertThat(feeRuleStore.current().match(accountId, 1_000_000L, now)).isNull();
+    }
+
+    @Test
+    @DisplayName("DB 수수료 규칙 - 잘못된 규칙이 추가되면 예외 없이 기존 규칙을 유지하고 횟수를 남긴다")
+    void invalid_rule_keeps_previous_rules() {
+        // Given
+        long accountId = ThreadLocalRandom.current().nextLong(1L << 40, 1L << 50);
+        LocalDateTime now = LocalDateTime.now();
+        FeeRule rule = feeRuleRepository.save(new FeeRule(null, 0, accountId, null, null, null, null, true, true, 1_000L, true, now, now));
+        FeeRule invalidRule = null;
+        try {
+            feeRuleStore.refresh();
+            double before = meterRegistry.counter("remittance.fee-rule.invalid").count();
+
+            // When: 최대 금액이 최소 금액보다 작은 규칙
+            invalidRule = feeRuleRepository.save(new FeeRule(null, 1, accountId, 2_000L, 1_000L, null, null, true, true, 2_000L, true, now, now));
+
+            // Then
+            assertThatCode(() -> feeRuleStore.refresh()).doesNotThrowAnyException();
+            assertThat(feeRuleStore.current().match(accountId, 1_000_000L, now)).isNotNull();
+            assertThat(feeCalculatorFinder.calculate(new FeeRequest(1_000_000L, accountId)).feeAmount()).isEqualTo(1_000L);
+            assertThat(meterRegistry.counter("remittance.fee-rule.invalid").count()).isEqualTo(before + 1);
+        } finally {
+            feeRuleRepository.delete(rule);
+            if (invalidRule != null) {
+                feeRuleRepository.delete(invalidRule);
+            }
+            feeRuleStore.refresh();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.sw.remittanceservice.account.usecase.policy;
+
+import com.sw.remittanceservice.account.repository.FeeHolidayRepository;
+import com.sw.remittanceservice.account.repository.FeeRuleRepository;
+import com.sw.remittanceservice.account.usecase.policy.dto.FeeRequest;
+import com.sw.remittanceservice.account.usecase.policy.dto.FeeResponse;
+import com.sw.remittanceservice.account.usecase.policy.dto.enums.FeePolicyType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 일정표 기반 계산이 기존 방식(야간 여부 판단 후 double 율 곱셈 절삭)과 같은 결과를 내는지 확인한다.
+ */
+class FeeScheduleEquivalenceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final double LEGACY_DEFAULT_RATE = 0.01;
+
+    private static final double LEGACY_NIGHT_RATE = 0.02;
+
+    private final NightFeeCalculator nightFeeCalculator = new NightFeeCalculator();
+
+    private final List<FeeCalculator> calculators = List.of(nightFeeCalculator, new DefaultFeeCalculator());
+
+    // 적재하지 않은 규칙 저장소는 빈 규칙을 돌려주므로 코드 정책만 비교한다.
+    private final FeeRuleStore feeRuleStore = new FeeRuleStore(mock(FeeRuleRepository.class), mock(FeeHolidayRepository.class), new FeeRuleProperties(), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("하루의 모든 분(경계 전후 초 포함)에서 기존 야간 판단과 같은 정책을 고른다")
+    void same_policy_for_every_minute_of_day() {
+        LocalDateTime day = LocalDateTime.of(2026, 3, 1, 0, 0);
+
+        for (int minute = 0; minute < FeeSchedule.MINUTES_PER_DAY; minute++) {
+            for (int second : new int[]{0, 59}) {
+                LocalDateTime now = day.plusMinutes(minute).plusSeconds(second);
+                FeeCalculatorFinder finder = new FeeCalculatorFinder(calculators, feeRuleStore, Clock.fixed(now.atZone(ZONE).toInstant(), ZONE));
+
+                FeeResponse response = finder.calculate(new FeeRequest(10_000L));
+
+                FeePolicyType expected = nightFeeCalculator.isNight(now.toLocalTime()) ? FeePolicyType.NIGHT : FeePolicyType.DEFAULT;
+                assertThat(response.type()).as("at %s", now).isEqualTo(expected);
+                assertThat(response.rate()).isEqualTo(expected == FeePolicyType.NIGHT ? LEGACY_NIGHT_RATE : LEGACY_DEFAULT_RATE);
+                assertThat(response.requestedAt()).isEqualTo(now);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("정수 연산 수수료가 기존 double 곱셈 후 절삭 결과와 같다")
+    void same_fee_amount_as_double_arithmetic() {
+        FeeSchedule schedule = FeeSchedule.compile(calculators);
+        FeeSchedule.FeePolicy night = schedule.policyAt(LocalTime.of(23, 0).toSecondOfDay() / 60);
+        FeeSchedule.FeePolicy day = schedule.policyAt(LocalTime.of(12, 0).toSecondOfDay() / 60);
+
+        for (long amount = 0; amount <= 200_000L; amount++) {
+            assertSameFee(night, day, amount);
+        }
+
+        SplittableRandom random = new SplittableRandom(20260301L);
+        for (int i = 0; i < 200_000; i++) {
+            assertSameFee(night, day, random.nextLong(1_000_000_000_000L));
+        }
+    }
+
+    private static void assertSameFee(FeeSchedule.FeePolicy night, FeeSchedule.FeePolicy day, long amount) {
+        assertThat(night.fee(amount)).as("night %d", amount).isEqualTo((long) (amount * LEGACY_NIGHT_RATE));
+        assertThat(day.fee(amount)).as("default %d", amount).isEqualTo((long) (amount * LEGACY_DEFAULT_RATE));
+    }
+}
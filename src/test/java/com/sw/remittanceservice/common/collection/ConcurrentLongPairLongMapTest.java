@@ -0,0 +1,113 @@
+package com.sw.remittanceservice.common.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConcurrentLongPairLongMapTest {
+
+    @Test
+    @DisplayName("저장한 키는 재배치(resize) 이후에도 조회되고 없는 키는 MISSING을 반환한다")
+    void put_and_get_across_resize() {
+        // Given
+        ConcurrentLongPairLongMap map = new ConcurrentLongPairLongMap(4, 1_000_000);
+
+        // When
+        for (long i = 1; i <= 100_000; i++) {
+            map.putIfAbsent(i, -i, i * 10);
+        }
+
+        // Then
+        assertThat(map.size()).isEqualTo(100_000);
+        assertThat(map.get(1, -1)).isEqualTo(10);
+        assertThat(map.get(100_000, -100_000)).isEqualTo(1_000_000);
+        assertThat(map.get(100_001, -100_001)).isEqualTo(ConcurrentLongPairLongMap.MISSING);
+        assertThat(map.get(1, 1)).isEqualTo(ConcurrentLongPairLongMap.MISSING);
+    }
+
+    @Test
+    @DisplayName("이미 있는 키는 덮어쓰지 않는다")
+    void putIfAbsent_keeps_existing_value() {
+        // Given
+        ConcurrentLongPairLongMap map = new ConcurrentLongPairLongMap(1, 10);
+        map.putIfAbsent(1, 2, 3);
+
+        // When
+        boolean stored = map.putIfAbsent(1, 2, 4);
+
+        // Then
+        assertThat(stored).isFalse();
+        assertThat(map.get(1, 2)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("최대 엔트리 수에 도달하면 더 이상 저장하지 않는다")
+    void putIfAbsent_stops_at_max_entries() {
+        // Given
+        ConcurrentLongPairLongMap map = new ConcurrentLongPairLongMap(1, 2);
+        map.putIfAbsent(1, 1, 1);
+        map.putIfAbsent(2, 2, 2);
+
+        // When
+        boolean stored = map.putIfAbsent(3, 3, 3);
+
+        // Then
+        assertThat(stored).isFalse();
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(3, 3)).isEqualTo(ConcurrentLongPairLongMap.MISSING);
+    }
+
+    @Test
+    @DisplayName("0은 빈 슬롯 표시이므로 값으로 저장할 수 없다")
+    void putIfAbsent_rejects_zero_value() {
+        ConcurrentLongPairLongMap map = new ConcurrentLongPairLongMap(1, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> map.putIfAbsent(1, 1, 0));
+    }
+
+    @Test
+    @DisplayName("동시에 저장하고 조회해도 저장된 값만 보이고 누락이 없다")
+    void concurrent_put_and_get() throws InterruptedException {
+        // Given
+        int threadCount = 8;
+        int perThread = 20_000;
+        ConcurrentLongPairLongMap map = new ConcurrentLongPairLongMap(16, 1_000_000);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger mismatchCount = new AtomicInteger();
+
+        // When
+        for (int t = 0; t < threadCount; t++) {
+            long base = (long) t * perThread;
+            executorService.submit(() -> {
+                try {
+                    for (long i = base + 1; i <= base + perThread; i++) {
+                        map.putIfAbsent(i, i, i);
+                        long other = map.get(i - base, i - base);
+                        if (other != ConcurrentLongPairLongMap.MISSING && other != i - base) {
+                            mismatchCount.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        assertThat(mismatchCount.get()).isZero();
+        assertThat(map.size()).isEqualTo((long) threadCount * perThread);
+        for (long i = 1; i <= (long) threadCount * perThread; i++) {
+            assertThat(map.get(i, i)).isEqualTo(i);
+        }
+    }
+}
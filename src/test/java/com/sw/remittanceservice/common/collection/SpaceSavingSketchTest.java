@@ -0,0 +1,63 @@
+package com.sw.remittanceservice.common.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingSketchTest {
+
+    @Test
+    @DisplayName("용량보다 많은 키가 들어와도 가중치가 큰 키는 남고, 슬롯 수는 용량을 넘지 않는다")
+    void heavy_hitters_survive_with_fixed_capacity() {
+        // Given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(16);
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add(1_000_000L + ThreadLocalRandom.current().nextInt(50_000), 1L);
+            if (i % 10 == 0) {
+                sketch.add(7L, 50L);
+            }
+        }
+
+        // Then
+        assertThat(sketch.size()).isEqualTo(16);
+        int hot = slotOf(sketch, 7L);
+        assertThat(hot).isNotNegative();
+        assertThat(sketch.weightAt(hot) - sketch.errorAt(hot)).isLessThanOrEqualTo(10_000L * 50L);
+        assertThat(sketch.weightAt(hot)).isGreaterThanOrEqualTo(10_000L * 50L);
+    }
+
+    @Test
+    @DisplayName("값 분포를 2의 거듭제곱 구간 히스토그램으로 기록하고, 넘겨받은 슬롯은 과대 추정 상한을 남긴다")
+    void records_histogram_and_error() {
+        // Given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(1);
+
+        // When
+        sketch.add(1L, 3L);
+        sketch.add(2L, 100L);
+
+        // Then
+        assertThat(sketch.size()).isEqualTo(1);
+        assertThat(sketch.keyAt(0)).isEqualTo(2L);
+        assertThat(sketch.weightAt(0)).isEqualTo(103L);
+        assertThat(sketch.errorAt(0)).isEqualTo(3L);
+        assertThat(sketch.countAt(0)).isEqualTo(1L);
+        assertThat(sketch.bucketAt(0, SpaceSavingSketch.bucketOf(100L))).isEqualTo(1);
+        assertThat(sketch.bucketAt(0, SpaceSavingSketch.bucketOf(3L))).isZero();
+        assertThat(SpaceSavingSketch.bucketUpperBound(SpaceSavingSketch.bucketOf(100L))).isEqualTo(128L);
+    }
+
+    private static int slotOf(SpaceSavingSketch sketch, long key) {
+        for (int slot = 0; slot < sketch.size(); slot++) {
+            if (sketch.keyAt(slot) == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+}
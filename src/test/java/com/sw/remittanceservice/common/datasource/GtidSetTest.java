@@ -0,0 +1,65 @@
+package com.sw.remittanceservice.common.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GtidSetTest {
+
+    private static final String SOURCE_A = "3e11fa47-71ca-11e1-9e33-c80aa9429562";
+
+    private static final String SOURCE_B = "4f22ab58-82db-22f2-af44-d91bb0530673";
+
+    @Test
+    @DisplayName("gtid_executed 형식을 읽고 구간을 정렬, 병합해 같은 형식으로 쓴다")
+    void parse_merges_and_formats() {
+        // Given
+        String text = SOURCE_B + ":1-5,\n" + SOURCE_A.toUpperCase() + ":7:1-3:4-6:10";
+
+        // When
+        GtidSet gtidSet = GtidSet.parse(text);
+
+        // Then
+        assertThat(gtidSet.toString()).isEqualTo(SOURCE_A + ":1-7:10," + SOURCE_B + ":1-5");
+        assertThat(GtidSet.parse(gtidSet.toString()).toString()).isEqualTo(gtidSet.toString());
+    }
+
+    @Test
+    @DisplayName("모든 소스의 모든 구간을 덮어야 포함한다")
+    void contains_requires_every_interval() {
+        // Given
+        GtidSet replica = GtidSet.parse(SOURCE_A + ":1-100:200-300," + SOURCE_B + ":1-10");
+
+        // When & Then
+        assertThat(replica.contains(GtidSet.parse(SOURCE_A + ":1-50:250"))).isTrue();
+        assertThat(replica.contains(GtidSet.parse(SOURCE_A + ":1-101"))).isFalse();
+        assertThat(replica.contains(GtidSet.parse(SOURCE_A + ":150"))).isFalse();
+        assertThat(replica.contains(GtidSet.parse(SOURCE_A + ":1-10,4f22ab58-82db-22f2-af44-d91bb0530674:1"))).isFalse();
+        assertThat(replica.contains(GtidSet.EMPTY)).isTrue();
+        assertThat(GtidSet.EMPTY.contains(replica)).isFalse();
+    }
+
+    @Test
+    @DisplayName("태그가 붙은 GTID는 같은 uuid라도 태그별로 따로 비교한다")
+    void tagged_gtids_are_separate_sources() {
+        // Given
+        GtidSet replica = GtidSet.parse(SOURCE_A + ":1-10:batch:1-3");
+
+        // When & Then
+        assertThat(replica.contains(GtidSet.parse(SOURCE_A + ":batch:2-3"))).isTrue();
+        assertThat(replica.contains(GtidSet.parse(SOURCE_A + ":batch:4"))).isFalse();
+        assertThat(replica.toString()).isEqualTo(SOURCE_A + ":1-10," + SOURCE_A + ":batch:1-3");
+    }
+
+    @Test
+    @DisplayName("비어 있으면 EMPTY, 형식이 잘못되면 IllegalArgumentException")
+    void parse_empty_and_invalid() {
+        assertThat(GtidSet.parse("")).isSameAs(GtidSet.EMPTY);
+        assertThat(GtidSet.parse(null)).isSameAs(GtidSet.EMPTY);
+        assertThrows(IllegalArgumentException.class, () -> GtidSet.parse(SOURCE_A));
+        assertThrows(IllegalArgumentException.class, () -> GtidSet.parse(SOURCE_A + ":5-3"));
+        assertThrows(IllegalArgumentException.class, () -> GtidSet.parse(SOURCE_A + ":1-x"));
+    }
+}
@@ -0,0 +1,133 @@
+package com.sw.remittanceservice.common.datasource;
+
+import com.sw.remittanceservice.account.dto.AccountResponse;
+import com.sw.remittanceservice.account.service.AccountService;
+import com.sw.remittanceservice.account.service.ReactiveAccountService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * docker-compose 의 mysql(원본, server_id=1)과 mysql-replica(복제, server_id=2, 3307 포트)가 떠 있어야 한다.
+ */
+@SpringBootTest(properties = {
+        "remittance.read-replica.enabled=true",
+        "remittance.read-replica.replicas[0].url=jdbc:mysql://localhost:3307/remittance?serverTimezone=Asia/Seoul",
+        "remittance.read-replica.replicas[0].r2dbc-url=r2dbc:mysql://localhost:3307/remittance?serverZoneId=Asia/Seoul"
+})
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String SERVER_ID_SQL = "select @@server_id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private ReactiveAccountService reactiveAccountService;
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistency.clear();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 원본 DB, 읽기 전용 트랜잭션은 복제 DB에서 실행된다")
+    void routes_by_transaction_read_only() {
+        // Given
+        long primaryServerId = serverIdIn(false);
+        replicaRoutingDataSource.checkReplicas();
+
+        // When
+        long readOnlyServerId = serverIdIn(true);
+
+        // Then
+        assertThat(readOnlyServerId).isNotEqualTo(primaryServerId);
+    }
+
+    @Test
+    @DisplayName("방금 개설한 계좌도 일관성 토큰을 보내면 조회된다(복제 DB가 따라오기 전이면 원본 DB에서 읽는다)")
+    void read_your_writes_with_consistency_token() throws Exception {
+        // Given
+        AccountResponse created = accountService.create();
+        GtidSet position = replicaRoutingDataSource.primaryPosition();
+
+        // When
+        ReadConsistency.require(position);
+        AccountResponse read = reactiveAccountService.read(created.accountNo()).block();
+
+        // Then
+        assertThat(read.accountNo()).isEqualTo(created.accountNo());
+    }
+
+    @Test
+    @DisplayName("복제 DB가 토큰 위치를 따라오면 다시 복제 DB에서 읽는다")
+    void routes_to_replica_after_catch_up() throws Exception {
+        // Given
+        long primaryServerId = serverIdIn(false);
+        accountService.create();
+        ReadConsistency.require(replicaRoutingDataSource.primaryPosition());
+
+        // When
+        long readOnlyServerId = primaryServerId;
+        for (int i = 0; i < 50 && readOnlyServerId == primaryServerId; i++) {
+            Thread.sleep(100);
+            replicaRoutingDataSource.checkReplicas();
+            readOnlyServerId = serverIdIn(true);
+        }
+
+        // Then
+        assertThat(readOnlyServerId).isNotEqualTo(primaryServerId);
+    }
+
+    @Test
+    @DisplayName("R2DBC 조회는 복제 DB에서 실행되고, 복제 DB가 따라오지 못한 토큰이면 원본 DB에서 실행된다")
+    void routes_r2dbc_reads() {
+        // Given
+        long primaryServerId = serverIdIn(false);
+        replicaRoutingDataSource.checkReplicas();
+
+        // When
+        long replicaServerId = r2dbcServerId();
+        ReadConsistency.require(GtidSet.parse("3e11fa47-71ca-11e1-9e33-c80aa9429562:1"));
+        long unreachableServerId = r2dbcServerId();
+
+        // Then
+        assertThat(replicaServerId).isNotEqualTo(primaryServerId);
+        assertThat(unreachableServerId).isEqualTo(primaryServerId);
+    }
+
+    private long r2dbcServerId() {
+        return databaseClient.sql(SERVER_ID_SQL)
+                .map(row -> ((Number) row.get(0)).longValue())
+                .one()
+                .contextWrite(ReadConsistency.context())
+                .block();
+    }
+
+    private long serverIdIn(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        Long serverId = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(SERVER_ID_SQL, Long.class));
+        return serverId;
+    }
+}
@@ -0,0 +1,160 @@
+package com.sw.remittanceservice.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.test.StepVerifier;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final String SOURCE = "3e11fa47-71ca-11e1-9e33-c80aa9429562";
+
+    private final DataSource primary = mock(DataSource.class);
+
+    private final DataSource replica0 = mock(DataSource.class);
+
+    private final DataSource replica1 = mock(DataSource.class);
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        positionOf(primary, SOURCE + ":1-100");
+        positionOf(replica0, SOURCE + ":1-100");
+        positionOf(replica1, SOURCE + ":1-90");
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica0);
+        replicas.put("replica-1", replica1);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, Duration.ofSeconds(1), new SimpleMeterRegistry());
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadConsistency.clear();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션이 아니면 원본 DB를 쓴다")
+    void routes_writes_to_primary() {
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제 DB를 번갈아 쓴다")
+    void routes_reads_round_robin() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When & Then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-0");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-0");
+    }
+
+    @Test
+    @DisplayName("상태 확인에 실패한 복제 DB는 건너뛰고, 모두 실패하면 원본 DB를 쓴다")
+    void skips_unhealthy_replicas() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(replica0.getConnection()).willThrow(new SQLException("down"));
+        routingDataSource.checkReplicas();
+
+        // When & Then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+
+        given(replica1.getConnection()).willThrow(new SQLException("down"));
+        routingDataSource.checkReplicas();
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("일관성 토큰이 있으면 그 위치까지 적용한 복제 DB만 쓰고, 없으면 원본 DB를 쓴다")
+    void routes_by_consistency_token() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadConsistency.require(routingDataSource.primaryPosition());
+
+        // When & Then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-0");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-0");
+
+        ReadConsistency.require(GtidSet.parse(SOURCE + ":1-101"));
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        positionOf(replica1, SOURCE + ":1-101");
+        routingDataSource.checkReplicas();
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    @Test
+    @DisplayName("R2DBC 조회는 읽기 전용 트랜잭션이 아니어도 복제 DB를 쓰고, Reactor Context 로 받은 일관성 토큰을 따른다")
+    void routes_r2dbc_reads_by_context_token() {
+        // Given
+        Map<String, ConnectionFactory> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", mock(ConnectionFactory.class));
+        replicas.put("replica-1", mock(ConnectionFactory.class));
+        ReplicaRoutingConnectionFactory connectionFactory = new ReplicaRoutingConnectionFactory(mock(ConnectionFactory.class), replicas, routingDataSource);
+        connectionFactory.afterPropertiesSet();
+
+        // When & Then
+        StepVerifier.create(connectionFactory.determineCurrentLookupKey())
+                .expectNext("replica-0")
+                .verifyComplete();
+
+        ReadConsistency.require(GtidSet.parse(SOURCE + ":1-95"));
+        StepVerifier.create(connectionFactory.determineCurrentLookupKey().contextWrite(ReadConsistency.context()))
+                .expectNext("replica-0")
+                .verifyComplete();
+
+        ReadConsistency.require(GtidSet.parse(SOURCE + ":1-101"));
+        StepVerifier.create(connectionFactory.determineCurrentLookupKey().contextWrite(ReadConsistency.context()))
+                .expectNext(ReplicaRoutingDataSource.PRIMARY)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("일관성 토큰은 인코딩한 뒤 다시 읽어도 같은 위치다")
+    void consistency_token_round_trip() {
+        // Given
+        GtidSet position = GtidSet.parse(SOURCE + ":1-100:120");
+
+        // When
+        GtidSet decoded = ReadConsistency.decode(ReadConsistency.encode(position));
+
+        // Then
+        assertThat(decoded.toString()).isEqualTo(position.toString());
+    }
+
+    private static void positionOf(DataSource dataSource, String gtidExecuted) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.executeQuery(anyString())).willReturn(resultSet);
+        given(resultSet.next()).willReturn(true);
+        given(resultSet.getString(1)).willReturn(gtidExecuted);
+    }
+}
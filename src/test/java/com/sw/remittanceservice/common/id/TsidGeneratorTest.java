@@ -0,0 +1,106 @@
+package com.sw.remittanceservice.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TsidGeneratorTest {
+
+    private static final long NOW = TsidGenerator.EPOCH_MILLIS + 1_000L;
+
+    @Test
+    @DisplayName("아이디 생성 - 생성 시각과 노드 번호를 아이디에서 다시 꺼낼 수 있다")
+    void next_id_contains_time_and_node() {
+        // Given
+        TsidGenerator generator = new TsidGenerator(7, () -> NOW);
+
+        // When
+        long id = generator.nextId();
+
+        // Then
+        assertThat(id).isPositive();
+        assertThat(TsidGenerator.epochMillisOf(id)).isEqualTo(NOW);
+        assertThat(TsidGenerator.nodeIdOf(id)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("아이디 생성 - 시계가 뒤로 가도 아이디는 계속 증가한다")
+    void next_id_monotonic_when_clock_goes_backwards() {
+        // Given
+        AtomicLong clock = new AtomicLong(NOW);
+        TsidGenerator generator = new TsidGenerator(1, clock::get);
+        long first = generator.nextId();
+
+        // When
+        clock.set(NOW - 5_000L);
+        long second = generator.nextId();
+        clock.set(NOW + 1L);
+        long third = generator.nextId();
+
+        // Then
+        assertThat(second).isGreaterThan(first);
+        assertThat(third).isGreaterThan(second);
+    }
+
+    @Test
+    @DisplayName("아이디 생성 - 한 밀리초에 시퀀스를 다 쓰면 다음 밀리초로 넘어가며 증가한다")
+    void next_id_sequence_overflow_moves_to_next_millis() {
+        // Given
+        TsidGenerator generator = new TsidGenerator(1, () -> NOW);
+        int perMillis = 1 << TsidGenerator.SEQUENCE_BITS;
+
+        // When
+        long prev = generator.nextId();
+        for (int i = 1; i < perMillis; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(prev);
+            prev = next;
+        }
+        long overflow = generator.nextId();
+
+        // Then
+        assertThat(overflow).isGreaterThan(prev);
+        assertThat(TsidGenerator.epochMillisOf(overflow)).isEqualTo(NOW + 1);
+        assertThat(TsidGenerator.nodeIdOf(overflow)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("아이디 생성 - 여러 스레드가 동시에 만들어도 중복되지 않는다")
+    void next_id_unique_under_concurrency() throws Exception {
+        // Given
+        TsidGenerator generator = new TsidGenerator(3, System::currentTimeMillis);
+        int threadCount = 8;
+        int perThread = 50_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        // When
+        try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+            for (int t = 0; t < threadCount; t++) {
+                executorService.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.nextId());
+                    }
+                });
+            }
+        }
+
+        // Then
+        assertThat(ids).hasSize(threadCount * perThread);
+    }
+
+    @Test
+    @DisplayName("노드별 생성기 - 같은 노드 번호는 같은 생성기를 공유하고, 범위를 벗어나면 예외")
+    void for_node() {
+        assertThat(TsidGenerator.forNode(5)).isSameAs(TsidGenerator.forNode(5));
+        assertThrows(IllegalArgumentException.class, () -> TsidGenerator.forNode(TsidGenerator.MAX_NODE_ID + 1));
+        assertThrows(IllegalArgumentException.class, () -> TsidGenerator.forNode(-1));
+    }
+}